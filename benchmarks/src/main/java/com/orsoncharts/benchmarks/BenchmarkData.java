@@ -0,0 +1,184 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.benchmarks;
+
+import java.util.Random;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.Chart3DFactory;
+import com.orsoncharts.axis.ValueAxis3D;
+import com.orsoncharts.data.StandardPieDataset3D;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.data.function.Function3D;
+import com.orsoncharts.data.xyz.XYZSeries;
+import com.orsoncharts.data.xyz.XYZSeriesCollection;
+import com.orsoncharts.plot.XYZPlot;
+import com.orsoncharts.renderer.xyz.SurfaceRenderer;
+
+/**
+ * Creates the charts and datasets used by the benchmarks.  All data is 
+ * generated from a fixed random seed so that runs are comparable.
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+        // no need to instantiate this
+    }
+    
+    /**
+     * Creates a chart of the specified type using the corresponding method
+     * in {@link Chart3DFactory}.
+     * 
+     * @param type  the chart type, one of {@code "PIE"}, {@code "BAR"}, 
+     *     {@code "STACKED_BAR"}, {@code "AREA"}, {@code "LINE"}, 
+     *     {@code "SCATTER"}, {@code "SURFACE"}, {@code "XYZ_BAR"} and 
+     *     {@code "XYZ_LINE"}.
+     * @param size  the number of data items (for a surface chart, the 
+     *     approximate number of function samples).
+     * 
+     * @return A chart.
+     */
+    public static Chart3D createChart(String type, int size) {
+        if ("PIE".equals(type)) {
+            return Chart3DFactory.createPieChart("Pie", null, 
+                    createPieDataset(size));
+        } else if ("BAR".equals(type)) {
+            return Chart3DFactory.createBarChart("Bar", null, 
+                    createCategoryDataset(size), "Row", "Column", "Value");
+        } else if ("STACKED_BAR".equals(type)) {
+            return Chart3DFactory.createStackedBarChart("Stacked Bar", null, 
+                    createCategoryDataset(size), "Row", "Column", "Value");
+        } else if ("AREA".equals(type)) {
+            return Chart3DFactory.createAreaChart("Area", null, 
+                    createCategoryDataset(size), "Row", "Column", "Value");
+        } else if ("LINE".equals(type)) {
+            return Chart3DFactory.createLineChart("Line", null, 
+                    createCategoryDataset(size), "Row", "Column", "Value");
+        } else if ("SCATTER".equals(type)) {
+            return Chart3DFactory.createScatterChart("Scatter", null, 
+                    createXYZDataset(size), "X", "Y", "Z");
+        } else if ("SURFACE".equals(type)) {
+            return createSurfaceChart(size);
+        } else if ("XYZ_BAR".equals(type)) {
+            return Chart3DFactory.createXYZBarChart("XYZ Bar", null, 
+                    createXYZDataset(size), "X", "Y", "Z");
+        } else if ("XYZ_LINE".equals(type)) {
+            return Chart3DFactory.createXYZLineChart("XYZ Line", null, 
+                    createXYZDataset(size), "X", "Y", "Z");
+        }
+        throw new IllegalArgumentException("Unknown chart type: " + type);
+    }
+    
+    /**
+     * Creates a pie dataset with {@code size} sections.
+     * 
+     * @param size  the number of sections.
+     * 
+     * @return A dataset. 
+     */
+    public static StandardPieDataset3D<String> createPieDataset(int size) {
+        Random random = new Random(1L);
+        StandardPieDataset3D<String> dataset 
+                = new StandardPieDataset3D<String>();
+        for (int i = 0; i < size; i++) {
+            dataset.add("S" + i, 1.0 + random.nextDouble() * 10.0);
+        }
+        return dataset;
+    }
+    
+    /**
+     * Creates a category dataset with three series, one row and enough 
+     * columns to give approximately {@code size} values.
+     * 
+     * @param size  the number of values.
+     * 
+     * @return A dataset. 
+     */
+    public static StandardCategoryDataset3D<String, String, String> 
+            createCategoryDataset(int size) {
+        Random random = new Random(1L);
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        int columns = Math.max(1, size / 3);
+        for (int s = 0; s < 3; s++) {
+            for (int c = 0; c < columns; c++) {
+                dataset.addValue(random.nextDouble() * 100.0, "Series " + s, 
+                        "Row", "C" + c);
+            }
+        }
+        return dataset;
+    }
+    
+    /**
+     * Creates an XYZ dataset with a single series containing {@code size}
+     * items.
+     * 
+     * @param size  the number of items.
+     * 
+     * @return A dataset. 
+     */
+    public static XYZSeriesCollection<String> createXYZDataset(int size) {
+        Random random = new Random(1L);
+        XYZSeries<String> series = new XYZSeries<String>("Series 1");
+        for (int i = 0; i < size; i++) {
+            series.add(random.nextDouble() * 100.0, random.nextDouble() * 50.0,
+                    random.nextDouble() * 100.0);
+        }
+        XYZSeriesCollection<String> dataset 
+                = new XYZSeriesCollection<String>();
+        dataset.add(series);
+        return dataset;
+    }
+    
+    private static Chart3D createSurfaceChart(int size) {
+        Function3D function = new Function3D() {
+            @Override
+            public double getValue(double x, double z) {
+                return Math.cos(x) * Math.sin(z);
+            }
+        };
+        Chart3D chart = Chart3DFactory.createSurfaceChart("Surface", null, 
+                function, "X", "Y", "Z");
+        XYZPlot plot = (XYZPlot) chart.getPlot();
+        ValueAxis3D xAxis = plot.getXAxis();
+        xAxis.setRange(-Math.PI, Math.PI);
+        ValueAxis3D zAxis = plot.getZAxis();
+        zAxis.setRange(-Math.PI, Math.PI);
+        int samples = Math.max(4, (int) Math.sqrt(size) * 3);
+        SurfaceRenderer renderer = (SurfaceRenderer) plot.getRenderer();
+        renderer.setXSamples(samples);
+        renderer.setZSamples(samples);
+        return chart;
+    }
+    
+}
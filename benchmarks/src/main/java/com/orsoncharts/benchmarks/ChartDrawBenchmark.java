@@ -0,0 +1,121 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.graphics3d.RenderingInfo;
+
+/**
+ * Benchmarks for {@link Chart3D#draw(Graphics2D, java.awt.geom.Rectangle2D)}
+ * covering each chart type created by {@code Chart3DFactory} at several 
+ * data sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChartDrawBenchmark {
+    
+    @Param({"PIE", "BAR", "STACKED_BAR", "AREA", "LINE", "SCATTER", "SURFACE",
+            "XYZ_BAR", "XYZ_LINE"})
+    public String chartType;
+    
+    @Param({"10", "100", "1000"})
+    public int size;
+    
+    private Chart3D chart;
+    
+    private BufferedImage image;
+    
+    private Graphics2D g2;
+    
+    private Rectangle bounds;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        this.chart = BenchmarkData.createChart(this.chartType, this.size);
+        this.image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.bounds = new Rectangle(800, 600);
+        // the first draw composes the world, which is then cached
+        this.chart.draw(this.g2, this.bounds);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.g2.dispose();
+    }
+    
+    /**
+     * Draws the chart with an unchanged view point (the world is cached).
+     * 
+     * @return The rendering info. 
+     */
+    @Benchmark
+    public RenderingInfo draw() {
+        return this.chart.draw(this.g2, this.bounds);
+    }
+    
+    /**
+     * Rotates the view point slightly before each draw, as happens when a 
+     * user drags the chart in a panel.
+     * 
+     * @return The rendering info. 
+     */
+    @Benchmark
+    public RenderingInfo drawRotating() {
+        this.chart.getViewPoint().panLeftRight(0.01);
+        return this.chart.draw(this.g2, this.bounds);
+    }
+    
+}
@@ -0,0 +1,100 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.orsoncharts.data.JSONUtils;
+import com.orsoncharts.data.KeyedValues;
+import com.orsoncharts.data.KeyedValues3D;
+import com.orsoncharts.data.xyz.XYZDataset;
+
+/**
+ * Benchmarks for reading datasets with {@link JSONUtils}.  The JSON input 
+ * is created by writing the benchmark datasets with {@code JSONUtils}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSONReadBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    public int size;
+    
+    private String keyedValuesJSON;
+    
+    private String keyedValues3DJSON;
+    
+    private String xyzJSON;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        this.keyedValuesJSON = JSONUtils.writeKeyedValues(
+                BenchmarkData.createPieDataset(this.size));
+        this.keyedValues3DJSON = JSONUtils.writeKeyedValues3D(
+                BenchmarkData.createCategoryDataset(this.size));
+        this.xyzJSON = JSONUtils.writeXYZDataset(
+                BenchmarkData.createXYZDataset(this.size));
+    }
+    
+    @Benchmark
+    public KeyedValues<String, Number> readKeyedValues() {
+        return JSONUtils.readKeyedValues(this.keyedValuesJSON);
+    }
+    
+    @Benchmark
+    public KeyedValues3D<String, String, String, Number> readKeyedValues3D() {
+        return JSONUtils.readKeyedValues3D(this.keyedValues3DJSON);
+    }
+    
+    @Benchmark
+    public XYZDataset<String> readXYZDataset() {
+        return JSONUtils.readXYZDataset(this.xyzJSON);
+    }
+    
+}
@@ -0,0 +1,153 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.orsoncharts.graphics3d.DefaultDrawable3D;
+import com.orsoncharts.graphics3d.Face;
+import com.orsoncharts.graphics3d.FaceSorter;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.Point3D;
+import com.orsoncharts.graphics3d.RenderingInfo;
+import com.orsoncharts.graphics3d.StandardFaceSorter;
+import com.orsoncharts.graphics3d.ViewPoint3D;
+import com.orsoncharts.graphics3d.World;
+
+/**
+ * Micro-benchmarks for the individual stages of the 3D rendering pipeline:
+ * the eye coordinate transform, face sorting and hit testing.  The world 
+ * contains {@code objectCount} randomly placed cubes (six faces each).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+    
+    @Param({"100", "1000", "10000"})
+    public int objectCount;
+    
+    private World world;
+    
+    private ViewPoint3D viewPoint;
+    
+    private List<Face> faces;
+    
+    private Point3D[] eyePts;
+    
+    private FaceSorter sorter;
+    
+    private RenderingInfo info;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(1L);
+        this.world = new World();
+        for (int i = 0; i < this.objectCount; i++) {
+            this.world.add(Object3D.createCube(0.5, 
+                    random.nextDouble() * 20.0 - 10.0, 
+                    random.nextDouble() * 20.0 - 10.0, 
+                    random.nextDouble() * 20.0 - 10.0, Color.RED));
+        }
+        DefaultDrawable3D drawable = new DefaultDrawable3D(this.world);
+        this.viewPoint = drawable.getViewPoint();
+        this.faces = this.world.getFaces();
+        this.eyePts = this.world.calculateEyeCoordinates(this.viewPoint);
+        this.sorter = new StandardFaceSorter();
+        BufferedImage image = new BufferedImage(800, 600, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        this.info = drawable.draw(g2, new Rectangle(800, 600));
+        g2.dispose();
+    }
+    
+    @Benchmark
+    public Point3D[] calculateEyeCoordinates() {
+        return this.world.calculateEyeCoordinates(this.viewPoint);
+    }
+    
+    /**
+     * Sorts a copy of the face list (the sorter works in place, so the copy
+     * is included in the measurement).
+     * 
+     * @return The sorted faces. 
+     */
+    @Benchmark
+    public List<Face> sortFaces() {
+        return this.sorter.sort(new ArrayList<Face>(this.faces), this.eyePts);
+    }
+    
+    /**
+     * Looks up the object at the center of the drawing area (usually a hit).
+     * 
+     * @return The object found, if any. 
+     */
+    @Benchmark
+    public Object3D fetchObjectAtCenter() {
+        return this.info.fetchObjectAt(400, 300);
+    }
+    
+    /**
+     * Looks up an object at a corner of the drawing area where there is
+     * nothing drawn, so every face is tested.
+     * 
+     * @return {@code null}. 
+     */
+    @Benchmark
+    public Object3D fetchObjectAtMiss() {
+        return this.info.fetchObjectAt(1, 1);
+    }
+    
+}
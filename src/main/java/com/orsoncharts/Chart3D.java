@@ -37,10 +37,13 @@ import java.awt.Stroke;
 import java.awt.geom.Line2D;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
 import java.awt.Font;
 import java.awt.Paint;
 import java.awt.RenderingHints;
 import java.awt.Shape;
+import java.awt.font.FontRenderContext;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
@@ -53,21 +56,32 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import javax.swing.event.EventListenerList;
 
 import com.orsoncharts.ChartBox3D.ChartBoxFace;
 import com.orsoncharts.axis.Axis3D;
 import com.orsoncharts.axis.TickData;
+import com.orsoncharts.axis.TickSelection;
+import com.orsoncharts.axis.TickSelectionSupport;
 import com.orsoncharts.axis.ValueAxis3D;
 import com.orsoncharts.data.ItemKey;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.DoubleSidedFace;
 import com.orsoncharts.graphics3d.Drawable3D;
 import com.orsoncharts.graphics3d.Face;
+import com.orsoncharts.graphics3d.FaceCuller;
+import com.orsoncharts.graphics3d.FaceDecimator;
+import com.orsoncharts.graphics3d.FaceRasterizer;
+import com.orsoncharts.graphics3d.FaceShader;
 import com.orsoncharts.graphics3d.FaceSorter;
 import com.orsoncharts.graphics3d.LabelFace;
+import com.orsoncharts.graphics3d.LabelOverlapGrid;
+import com.orsoncharts.graphics3d.LightingModel;
 import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.Point3D;
 import com.orsoncharts.graphics3d.Utils2D;
@@ -81,9 +95,13 @@ import com.orsoncharts.plot.Plot3DChangeListener;
 import com.orsoncharts.plot.Plot3D;
 import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.graphics3d.Offset2D;
+import com.orsoncharts.graphics3d.RenderPhase;
+import com.orsoncharts.graphics3d.RenderStats;
 import com.orsoncharts.graphics3d.RenderingInfo;
 import com.orsoncharts.graphics3d.StandardFaceSorter;
+import com.orsoncharts.graphics3d.StandardLightingModel;
 import com.orsoncharts.graphics3d.RenderedElement;
+import com.orsoncharts.graphics3d.ShadedColorCache;
 import com.orsoncharts.interaction.InteractiveElementType;
 import com.orsoncharts.legend.LegendBuilder;
 import com.orsoncharts.legend.StandardLegendBuilder;
@@ -93,6 +111,7 @@ import com.orsoncharts.style.ChartStyle;
 import com.orsoncharts.style.ChartStyleChangeEvent;
 import com.orsoncharts.style.ChartStyleChangeListener;
 import com.orsoncharts.style.ChartStyler;
+import com.orsoncharts.table.AbstractTableElement;
 import com.orsoncharts.table.GradientRectanglePainter;
 import com.orsoncharts.table.GridElement;
 import com.orsoncharts.table.HAlign;
@@ -241,9 +260,26 @@ public class Chart3D implements Drawable3D, ChartElement,
     
     /** A 3D model of the world (represents the chart). */
     private transient World world;
+    
+    /** 
+     * The pie segment count used to compose {@code world} (zero if the 
+     * plot's own segment count was used).
+     */
+    private transient int worldSegmentCount;
+    
+    /** 
+     * For a pie chart with an adaptive segment count, the worlds composed 
+     * earlier for other segment counts (so that drawing the chart at 
+     * different sizes doesn't rebuild the world each time).  This is 
+     * cleared whenever {@code world} is invalidated.
+     */
+    private transient Map<Integer, World> segmentWorlds;
 
     /** An object that sorts faces for rendering (painter's algorithm). */
     private FaceSorter faceSorter;
+    
+    /** The lighting model used to shade the faces. */
+    private LightingModel lightingModel;
 
     /**
      * A flag that controls whether or not element hints are added to the
@@ -251,6 +287,67 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     private boolean elementHinting;
     
+    /**
+     * A flag that controls whether or not item labels that overlap a label
+     * in front of them are skipped when the chart is drawn.
+     */
+    private boolean labelOverlapCulling;
+    
+    /**
+     * The projected area (in device pixels) below which faces are drawn as 
+     * pixel fills rather than paths (zero disables this).
+     */
+    private double minFaceArea;
+    
+    /** 
+     * The rasterizer used to fill faces, for bitmap targets only 
+     * ({@code null} permitted, in which case faces are filled via the
+     * {@code Graphics2D} target).
+     */
+    private transient FaceRasterizer faceRasterizer;
+    
+    /** 
+     * The legend built for the most recent drawing, reused until the plot,
+     * style or legend attributes change (only valid if 
+     * {@code legendCached} is {@code true}).
+     */
+    private transient TableElement legend;
+    
+    /** A flag that indicates whether the {@code legend} field is valid. */
+    private transient boolean legendCached;
+    
+    /** 
+     * A copy of the legend builder taken when the cached legend was built, 
+     * used to detect changes made to the builder in place (only for a 
+     * {@link StandardLegendBuilder}, otherwise {@code null}).
+     */
+    private transient StandardLegendBuilder legendBuilderState;
+    
+    /** The layout of the legend for the most recent drawing. */
+    private transient ElementLayout legendLayout;
+    
+    /** The layout of the title for the most recent drawing. */
+    private transient ElementLayout titleLayout;
+    
+    /** The shaded colors used to fill faces, reused between frames. */
+    private transient ShadedColorCache shadedColors;
+    
+    /** 
+     * The number of updates in progress (see {@link #beginUpdate()}).  While
+     * this is greater than zero, change events are collected instead of 
+     * being passed on to listeners.
+     */
+    private transient int updateDepth;
+    
+    /** Set when a change is made while an update is in progress. */
+    private transient boolean deferredChange;
+    
+    /** 
+     * Set when an event that requires the world to be updated is received
+     * while an update is in progress.
+     */
+    private transient boolean deferredWorldUpdate;
+    
     /**
      * Creates a 3D chart for the specified plot using the default chart
      * style.  Note that a plot instance must be used in one chart instance
@@ -298,12 +395,15 @@ public class Chart3D implements Drawable3D, ChartElement,
         this.chartBoxColor = new Color(255, 255, 255, 100);
         this.translate2D = new Offset2D();
         this.faceSorter = new StandardFaceSorter();
+        this.lightingModel = new StandardLightingModel();
         this.renderingHints = new RenderingHints(
                 RenderingHints.KEY_ANTIALIASING,
                 RenderingHints.VALUE_ANTIALIAS_ON);
         this.renderingHints.put(RenderingHints.KEY_TEXT_ANTIALIASING,
                 RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         this.elementHinting = false;
+        this.labelOverlapCulling = false;
+        this.minFaceArea = 0.0;
         this.notify = true;
         this.listenerList = new EventListenerList();
         this.style = style;
@@ -420,6 +520,7 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     public void setTitle(TableElement title) {
         this.title = title;
+        this.titleLayout = null;
         fireChangeEvent();
     }
 
@@ -580,7 +681,12 @@ public class Chart3D implements Drawable3D, ChartElement,
     /**
      * Returns the legend builder.  The default value is an instance of
      * {@link StandardLegendBuilder}.  If the legend builder is {@code null}, 
-     * no legend will be displayed for the chart.
+     * no legend will be displayed for the chart.  The legend is built once
+     * and reused until the plot, the chart style or the legend attributes
+     * change.  Changes made directly to a {@link StandardLegendBuilder} are
+     * detected the next time the chart is drawn, but if you modify a 
+     * custom legend builder you should pass it to 
+     * {@link #setLegendBuilder(com.orsoncharts.legend.LegendBuilder)} again.
      * 
      * @return The legend builder (possibly {@code null}).
      * 
@@ -602,6 +708,7 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     public void setLegendBuilder(LegendBuilder legendBuilder) {
         this.legendBuilder = legendBuilder;
+        clearLegendCache();
         fireChangeEvent();
     }
     
@@ -628,6 +735,7 @@ public class Chart3D implements Drawable3D, ChartElement,
     public void setLegendAnchor(Anchor2D anchor) {
         ArgChecks.nullNotPermitted(anchor, "anchor");
         this.legendAnchor = anchor;
+        clearLegendCache();
         fireChangeEvent();
     }
     
@@ -653,6 +761,7 @@ public class Chart3D implements Drawable3D, ChartElement,
     public void setLegendOrientation(Orientation orientation) {
         ArgChecks.nullNotPermitted(orientation, "orientation");
         this.legendOrientation = orientation;
+        clearLegendCache();
         fireChangeEvent();
     }
     
@@ -771,6 +880,140 @@ public class Chart3D implements Drawable3D, ChartElement,
         fireChangeEvent();
     }
     
+    /**
+     * Returns the flag that controls whether or not item labels that would 
+     * overlap another item label are skipped when the chart is drawn.  The 
+     * default value is {@code false}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    public boolean getLabelOverlapCulling() {
+        return this.labelOverlapCulling;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not item labels that would 
+     * overlap another item label are skipped when the chart is drawn, and
+     * sends a change event to all registered listeners.  When the flag is
+     * set, labels nearer to the viewer take priority over labels further
+     * away.  Tick labels are controlled separately via the axis attribute
+     * {@link com.orsoncharts.axis.AbstractAxis3D#setTickLabelOverlapCulling(boolean)}.
+     * 
+     * @param culling  the new flag value.
+     * 
+     * @since 1.8
+     */
+    public void setLabelOverlapCulling(boolean culling) {
+        this.labelOverlapCulling = culling;
+        fireChangeEvent();
+    }
+    
+    /**
+     * Returns the projected area (in device pixels) below which faces are
+     * decimated when the chart is drawn.  The default value is 
+     * {@code 0.0} (no decimation).
+     * 
+     * @return The minimum face area.
+     * 
+     * @since 1.8
+     */
+    public double getMinFaceArea() {
+        return this.minFaceArea;
+    }
+    
+    /**
+     * Sets the projected area (in device pixels) below which faces are
+     * decimated when the chart is drawn, and sends a change event to all 
+     * registered listeners.  A decimated face is filled as a single pixel 
+     * and, where several decimated faces fall in the same pixel, only the 
+     * one nearest to the viewer is filled (see {@link FaceDecimator}).  
+     * This greatly reduces the drawing time for charts containing many 
+     * faces when they are rendered at a small size (thumbnails, for 
+     * example), at the cost of some accuracy.  A value around {@code 1.0} 
+     * is a reasonable choice, {@code 0.0} disables decimation.
+     * 
+     * @param area  the area (must be zero or positive).
+     * 
+     * @since 1.8
+     */
+    public void setMinFaceArea(double area) {
+        ArgChecks.negativeNotPermitted(area, "area");
+        this.minFaceArea = area;
+        fireChangeEvent();
+    }
+    
+    /**
+     * Returns the rasterizer used to fill faces when the chart is drawn.  
+     * The default value is {@code null}.
+     * 
+     * @return The rasterizer (possibly {@code null}).
+     * 
+     * @since 1.8
+     */
+    public FaceRasterizer getFaceRasterizer() {
+        return this.faceRasterizer;
+    }
+    
+    /**
+     * Sets the rasterizer used to fill faces when the chart is drawn, and 
+     * sends a change event to all registered listeners.  If {@code null} 
+     * (the default), faces are filled via the {@code Graphics2D} target.
+     * A rasterizer is much faster for charts with many faces, but it always
+     * produces bitmap output, so it is only used when the device for the 
+     * {@code Graphics2D} target is an image buffer (for PNG or JPEG 
+     * export, for example).  For other targets (SVG, PDF or a printer) 
+     * faces are filled via the {@code Graphics2D} target as usual.  Labels,
+     * gridlines, the legend and the title are always drawn via the 
+     * {@code Graphics2D} target.
+     * <br><br>
+     * Faces filled by the rasterizer differ from faces filled via the 
+     * {@code Graphics2D} target in three ways: face outlines are not drawn
+     * (they are drawn in the fill color to hide seams between adjacent 
+     * faces, and the rasterizer leaves no seams), faces below the minimum
+     * face area are filled as polygons rather than as single pixels (so 
+     * {@link RenderStats#getFacesFilledAsPixels()} is zero), and no element
+     * hints are emitted for them.  This attribute is not serialized.
+     * 
+     * @param rasterizer  the rasterizer ({@code null} permitted).
+     * 
+     * @since 1.8
+     */
+    public void setFaceRasterizer(FaceRasterizer rasterizer) {
+        this.faceRasterizer = rasterizer;
+        fireChangeEvent();
+    }
+    
+    /**
+     * Returns the lighting model that calculates the shade for each face 
+     * when the chart is drawn.  The default is a 
+     * {@link StandardLightingModel} with the default settings (which is 
+     * immutable, to change the lighting call 
+     * {@link #setLightingModel(LightingModel)} with a new model).
+     * 
+     * @return The lighting model (never {@code null}).
+     * 
+     * @since 1.8
+     */
+    public LightingModel getLightingModel() {
+        return this.lightingModel;
+    }
+    
+    /**
+     * Sets the lighting model and sends a change event to all registered 
+     * listeners.
+     * 
+     * @param model  the lighting model ({@code null} not permitted).
+     * 
+     * @since 1.8
+     */
+    public void setLightingModel(LightingModel model) {
+        ArgChecks.nullNotPermitted(model, "model");
+        this.lightingModel = model;
+        fireChangeEvent();
+    }
+    
     /**
      * Returns the chart style.
      * 
@@ -783,7 +1026,9 @@ public class Chart3D implements Drawable3D, ChartElement,
     }
     
     /**
-     * Sets (and applies) the specified chart style.
+     * Sets (and applies) the specified chart style.  The style is applied 
+     * to all the chart components as a single change, so registered 
+     * listeners receive exactly one {@link Chart3DChangeEvent}.
      * 
      * @param style  the chart style ({@code null} not permitted).
      * 
@@ -794,17 +1039,54 @@ public class Chart3D implements Drawable3D, ChartElement,
         this.style.removeChangeListener(this);
         this.style = style;
         this.style.addChangeListener(this);
-        setNotify(false);
-        receive(new ChartStyler(this.style));
-        setNotify(true);
+        applyStyle(this.style, this);
+    }
+    
+    /**
+     * Applies a chart style to this chart and all its components as a 
+     * single change.  The change events generated by the individual 
+     * property changes are collected rather than passed on, the world is 
+     * rebuilt only if the style changed a property that is part of the 
+     * world, and exactly one {@link Chart3DChangeEvent} is sent to the
+     * registered listeners afterwards.
+     * 
+     * @param style  the style ({@code null} not permitted).
+     * @param source  the source for the change event ({@code null} not 
+     *     permitted).
+     */
+    private void applyStyle(ChartStyle style, Object source) {
+        ChartStyler styler = new ChartStyler(style);
+        this.updateDepth++;
+        try {
+            receive(styler);
+            this.deferredWorldUpdate |= styler.requiresWorldUpdate();
+            this.deferredChange = true;
+            this.titleLayout = null;
+        } finally {
+            endUpdate(source);
+        }
     }
 
+    /**
+     * Discards the 3D model of the chart (including any models kept for 
+     * other pie segment counts), so that it is composed again on the next
+     * draw.
+     */
+    private void invalidateWorld() {
+        this.world = null;
+        if (this.segmentWorlds != null) {
+            this.segmentWorlds.clear();
+        }
+    }
+    
     /**
      * Creates a world containing the chart and the supplied chart box.
      * 
      * @param chartBox  the chart box ({@code null} permitted).
+     * @param segmentCount  the pie segment count (zero to use the plot's 
+     *     own segment count).
      */
-    private World createWorld(ChartBox3D chartBox) {
+    private World createWorld(ChartBox3D chartBox, int segmentCount) {
         World result = new World();      
         Dimension3D dim = this.plot.getDimensions();
         double w = dim.getWidth();
@@ -813,7 +1095,12 @@ public class Chart3D implements Drawable3D, ChartElement,
         if (chartBox != null) {
             result.add("chartbox", chartBox.createObject3D());
         }
-        this.plot.compose(result, -w / 2, -h / 2, -d / 2);
+        if (segmentCount > 0 && this.plot instanceof PiePlot3D) {
+            ((PiePlot3D) this.plot).compose(result, -w / 2, -h / 2, -d / 2, 
+                    segmentCount);
+        } else {
+            this.plot.compose(result, -w / 2, -h / 2, -d / 2);
+        }
         return result;
     }
     
@@ -826,6 +1113,8 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     @Override
     public RenderingInfo draw(Graphics2D g2, Rectangle2D bounds) {
+        long drawStart = System.nanoTime();
+        RenderStats stats = new RenderStats();
         beginElement(g2, this.id, "ORSON_CHART_TOP_LEVEL");
         Shape savedClip = g2.getClip();
         g2.clip(bounds);
@@ -837,24 +1126,48 @@ public class Chart3D implements Drawable3D, ChartElement,
         double h = dim3D.getHeight();
         double depth = dim3D.getDepth();
         ChartBox3D chartBox = null;
+        long t0 = System.nanoTime();
         if (this.plot instanceof XYZPlot 
                 || this.plot instanceof CategoryPlot3D) {
-            double[] tickUnits = findAxisTickUnits(g2, w, h, depth);
+            TickSelection[] ticks = findAxisTickUnits(g2, w, h, depth);
+            long t1 = System.nanoTime();
+            stats.addPhaseNanos(RenderPhase.TICK_SEARCH, t1 - t0);
+            t0 = t1;
             chartBox = new ChartBox3D(w, h, depth, -w / 2, -h / 2, -depth / 2, 
                     this.chartBoxColor);
-            chartBox.setXTicks(fetchXTickData(this.plot, tickUnits[0]));
-            chartBox.setYTicks(fetchYTickData(this.plot, tickUnits[1]));
-            chartBox.setZTicks(fetchZTickData(this.plot, tickUnits[2]));
+            chartBox.setXTicks(fetchXTickData(this.plot, ticks[0]));
+            chartBox.setYTicks(fetchYTickData(this.plot, ticks[1]));
+            chartBox.setZTicks(fetchZTickData(this.plot, ticks[2]));
             chartBox.setXMarkers(fetchXMarkerData(this.plot));
             chartBox.setYMarkers(fetchYMarkerData(this.plot));
             chartBox.setZMarkers(fetchZMarkerData(this.plot));
         }
+        int segmentCount = 0;
+        if (this.plot instanceof PiePlot3D 
+                && ((PiePlot3D) this.plot).getAdaptiveSegmentCount()) {
+            // the pie can adapt its number of segments to its size on screen
+            PiePlot3D pp = (PiePlot3D) this.plot;
+            double scale = Math.sqrt(Math.abs(
+                    g2.getTransform().getDeterminant()));
+            double screenRadius = pp.getRadius() * this.projDist 
+                    / this.viewPoint.getRho() * scale;
+            segmentCount = PiePlot3D.calculateSegmentCount(screenRadius);
+        }
+        if (this.world != null && segmentCount != this.worldSegmentCount) {
+            if (this.segmentWorlds == null) {
+                this.segmentWorlds = new HashMap<Integer, World>();
+            }
+            this.segmentWorlds.put(this.worldSegmentCount, this.world);
+            this.world = this.segmentWorlds.remove(segmentCount);
+        }
+        this.worldSegmentCount = segmentCount;
         if (this.world == null) {
-            this.world = createWorld(chartBox);
+            this.world = createWorld(chartBox, segmentCount);
         } else if (chartBox != null) {
             this.world.clear("chartbox");
             this.world.add("chartbox", chartBox.createObject3D());
         }
+        t0 = recordPhase(stats, RenderPhase.WORLD_COMPOSITION, t0);
         if (this.background != null) {
             this.background.fill(g2, bounds);
         }
@@ -867,16 +1180,71 @@ public class Chart3D implements Drawable3D, ChartElement,
         Point3D[] eyePts = this.world.calculateEyeCoordinates(this.viewPoint);
         Point2D[] pts = this.world.calculateProjectedPoints(this.viewPoint, 
                 this.projDist);
+        stats.setVertexCount(eyePts.length);
+        t0 = recordPhase(stats, RenderPhase.TRANSFORM, t0);
         
-        // sort faces by z-order
-        List<Face> facesInPaintOrder = new ArrayList<Face>(world.getFaces());
+        // drop the faces that cannot be seen, then sort the rest by z-order
+        List<Face> faces = this.world.getFaces();
+        Rectangle2D clip = new Rectangle2D.Double(bounds.getX() - dx, 
+                bounds.getY() - dy, bounds.getWidth(), bounds.getHeight());
+        List<Face> facesInPaintOrder = FaceCuller.cull(faces, eyePts, pts, 
+                clip);
+        stats.setFacesCulled(faces.size() - facesInPaintOrder.size());
+        t0 = recordPhase(stats, RenderPhase.CULL, t0);
         facesInPaintOrder = this.faceSorter.sort(facesInPaintOrder, eyePts);
+        t0 = recordPhase(stats, RenderPhase.SORT, t0);
+        
+        // faces smaller than minFaceArea are filled as single device pixels
+        AffineTransform toDevice = g2.getTransform();
+        Rectangle2D cell = null;
+        Set<Face> smallFaces = null;
+        int facesFilledAsPixels = 0;
+        if (this.minFaceArea > 0.0 && toDevice.getDeterminant() != 0.0) {
+            double minArea = this.minFaceArea 
+                    / Math.abs(toDevice.getDeterminant());
+            cell = new Rectangle2D.Double();
+            smallFaces = new HashSet<Face>();
+            int count = facesInPaintOrder.size();
+            facesInPaintOrder = FaceDecimator.decimate(facesInPaintOrder, pts, 
+                    minArea, toDevice, smallFaces);
+            stats.setFacesMerged(count - facesInPaintOrder.size());
+            t0 = recordPhase(stats, RenderPhase.DECIMATE, t0);
+        }
+        
+        // polygons are queued in the rasterizer (if there is one, and the
+        // target is an image) and flushed before anything else is drawn 
+        // over them
+        FaceRasterizer rasterizer = null;
+        if (this.faceRasterizer != null && isImageTarget(g2)) {
+            rasterizer = this.faceRasterizer;
+            rasterizer.begin(g2, clip, eyePts, pts);
+        }
+        int facesDrawn = 0;
+        int labelsDrawn = 0;
+        Set<Face> visibleLabels = null;
+        if (this.labelOverlapCulling) {
+            visibleLabels = findVisibleLabelFaces(g2, facesInPaintOrder, pts);
+        }
         Line2D line = null;
         Stroke stroke = new BasicStroke(1.0f);
+        if (this.shadedColors == null) {
+            this.shadedColors = new ShadedColorCache();
+        }
+        FaceShader shader = this.lightingModel.createShader(this.world, 
+                this.viewPoint);
+        // the paint last set on g2 by this loop, so that setPaint() calls 
+        // can be skipped while consecutive faces share the same color
+        Paint currentPaint = null;
         for (Face f : facesInPaintOrder) {
             // check for the special case where the face is just a line
             if (f.getVertexCount() == 2) {
-                g2.setPaint(f.getColor());
+                if (rasterizer != null) {
+                    rasterizer.flush(g2);
+                }
+                if (f.getColor() != currentPaint) {
+                    currentPaint = f.getColor();
+                    g2.setPaint(currentPaint);
+                }
                 if (line == null) {
                     line = new Line2D.Float();
                 }
@@ -886,21 +1254,37 @@ public class Chart3D implements Drawable3D, ChartElement,
                         pts[v1].getY());
                 g2.setStroke(stroke);
                 g2.draw(line);
+                facesDrawn++;
                 continue;
             }
-            boolean drawOutline = f.getOutline();
-            double[] plane = f.calculateNormal(eyePts);
-            double inprod = plane[0] * world.getSunX() + plane[1]
-                    * world.getSunY() + plane[2] * world.getSunZ();
-            double shade = (inprod + 1) / 2.0;
             if (f instanceof DoubleSidedFace 
                     || Utils2D.area2(pts[f.getVertexIndex(0)],
                     pts[f.getVertexIndex(1)], pts[f.getVertexIndex(2)]) > 0.0) {
-                Color c = f.getColor();
-                Path2D p = f.createPath(pts);
-                g2.setPaint(new Color((int) (c.getRed() * shade),
-                        (int) (c.getGreen() * shade),
-                        (int) (c.getBlue() * shade), c.getAlpha()));
+                boolean drawOutline = f.getOutline();
+                double[] n = f.getNormal();
+                double shade = shader.calculateShade(n[0], n[1], n[2]);
+                Color c = this.shadedColors.getShadedColor(f.getColor(), 
+                        shade);
+                if (rasterizer != null) {
+                    if (!(f instanceof ChartBoxFace)) {
+                        rasterizer.add(f, c);
+                        facesDrawn++;
+                        continue;
+                    }
+                    rasterizer.flush(g2);
+                }
+                Shape p;
+                if (smallFaces != null && smallFaces.contains(f)) {
+                    p = FaceDecimator.calculateCell(f, pts, toDevice, cell);
+                    drawOutline = false;
+                    facesFilledAsPixels++;
+                } else {
+                    p = f.createPath(pts);
+                }
+                if (c != currentPaint) {
+                    currentPaint = c;
+                    g2.setPaint(c);
+                }
                 if (this.elementHinting) {
                     beginElementGroup(f, g2);
                 }
@@ -911,6 +1295,7 @@ public class Chart3D implements Drawable3D, ChartElement,
                 if (this.elementHinting) {
                     endElementGroup(f, g2);
                 }
+                facesDrawn++;
                 
                 if (f instanceof ChartBoxFace 
                         && (this.plot instanceof CategoryPlot3D 
@@ -920,8 +1305,18 @@ public class Chart3D implements Drawable3D, ChartElement,
                     drawGridlines(g2, cbf, pts);
                     drawMarkers(g2, cbf, pts);
                     g2.setStroke(savedStroke);
+                    currentPaint = null;
                 }
             } else if (f instanceof LabelFace) {
+                if (visibleLabels != null && !visibleLabels.contains(f)) {
+                    // clear the bounds from an earlier frame, so that the 
+                    // hidden label is not found by fetchObjectAt()
+                    f.getOwner().setProperty("labelBounds", null);
+                    continue;
+                }
+                if (rasterizer != null) {
+                    rasterizer.flush(g2);
+                }
                 LabelFace lf = (LabelFace) f;
                 Path2D p = lf.createPath(pts);
                 Rectangle2D lb = p.getBounds2D();
@@ -937,9 +1332,18 @@ public class Chart3D implements Drawable3D, ChartElement,
                         (float) lb.getCenterX(), (float) lb.getCenterY(), 
                         TextAnchor.CENTER);
                 lf.getOwner().setProperty("labelBounds", r);
-            } 
+                labelsDrawn++;
+                currentPaint = null;
+            }
         }
+        if (rasterizer != null) {
+            rasterizer.end(g2);
+        }
+        stats.setFacesDrawn(facesDrawn);
+        stats.setFacesFilledAsPixels(facesFilledAsPixels);
+        t0 = recordPhase(stats, RenderPhase.FACE_FILL, t0);
         RenderingInfo info = new RenderingInfo(facesInPaintOrder, pts, dx, dy);
+        info.setRenderStats(stats);
         OnDrawHandler onDrawHandler = new OnDrawHandler(info, 
                 this.elementHinting);
    
@@ -953,33 +1357,167 @@ public class Chart3D implements Drawable3D, ChartElement,
                 CategoryPlot3D) {
             drawAxes(g2, chartBox, pts, info);
         }    
+        stats.setLabelCount(labelsDrawn + info.getOffsetElementCount());
+        t0 = recordPhase(stats, RenderPhase.AXES, t0);
 
         g2.setTransform(saved);
         
-        // generate and draw the legend...
+        // generate and draw the legend (reusing the previous one if nothing
+        // has changed)...
         if (this.legendBuilder != null) {
-            TableElement legend = this.legendBuilder.createLegend(this.plot,
-                    this.legendAnchor, this.legendOrientation, this.style);
-            if (legend != null) {
-                Dimension2D legendSize = legend.preferredSize(g2, bounds);
-                Rectangle2D legendArea = calculateDrawArea(legendSize, 
-                        this.legendAnchor, bounds);
-                legend.draw(g2, legendArea, onDrawHandler);
+            if (this.legendCached && this.legendBuilderState != null 
+                    && !this.legendBuilderState.equals(this.legendBuilder)) {
+                clearLegendCache();
+            }
+            if (!this.legendCached) {
+                this.legend = this.legendBuilder.createLegend(this.plot,
+                        this.legendAnchor, this.legendOrientation, this.style);
+                if (this.legendBuilder instanceof StandardLegendBuilder) {
+                    this.legendBuilderState 
+                            = ((StandardLegendBuilder) this.legendBuilder)
+                            .clone();
+                }
+                this.legendCached = true;
+            }
+            TableElement legendElement = this.legend;
+            if (legendElement != null) {
+                this.legendLayout = layoutElement(legendElement, 
+                        this.legendAnchor, g2, bounds, this.legendLayout);
+                legendElement.draw(g2, this.legendLayout.getArea(), 
+                        onDrawHandler);
             }
         }
+        t0 = recordPhase(stats, RenderPhase.LEGEND, t0);
 
         // draw the title...
         if (this.title != null) {
-            Dimension2D titleSize = this.title.preferredSize(g2, bounds);
-            Rectangle2D titleArea = calculateDrawArea(titleSize, 
-                    this.titleAnchor, bounds);
-            this.title.draw(g2, titleArea, onDrawHandler);
+            this.titleLayout = layoutElement(this.title, this.titleAnchor, g2, 
+                    bounds, this.titleLayout);
+            this.title.draw(g2, this.titleLayout.getArea(), onDrawHandler);
         }
+        recordPhase(stats, RenderPhase.TITLE, t0);
         g2.setClip(savedClip);
         endElement(g2);
+        stats.setTotalNanos(System.nanoTime() - drawStart);
         return info;
     }
     
+    /**
+     * Returns {@code true} if {@code g2} draws to an image, and 
+     * {@code false} otherwise (for vector targets such as SVG, PDF or a 
+     * printer, or if the target does not report a device).
+     * 
+     * @param g2  the graphics target.
+     * 
+     * @return A boolean. 
+     */
+    private static boolean isImageTarget(Graphics2D g2) {
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        return gc != null && gc.getDevice().getType() 
+                == GraphicsDevice.TYPE_IMAGE_BUFFER;
+    }
+    
+    /**
+     * Discards the cached legend so that it is rebuilt the next time the 
+     * chart is drawn.
+     */
+    private void clearLegendCache() {
+        this.legendCached = false;
+        this.legend = null;
+        this.legendBuilderState = null;
+        this.legendLayout = null;
+    }
+    
+    /**
+     * Returns the layout for a table element (the title or the legend) 
+     * within the specified bounds.  If {@code cached} was calculated for 
+     * the same element, anchor, bounds and font render context it is 
+     * returned as is, otherwise the element's preferred size is measured
+     * again.
+     * 
+     * @param element  the element ({@code null} not permitted).
+     * @param anchor  the anchor ({@code null} not permitted).
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param bounds  the chart bounds ({@code null} not permitted).
+     * @param cached  the layout from the previous drawing ({@code null}
+     *     permitted).
+     * 
+     * @return The layout (never {@code null}). 
+     */
+    private ElementLayout layoutElement(TableElement element, Anchor2D anchor, 
+            Graphics2D g2, Rectangle2D bounds, ElementLayout cached) {
+        FontRenderContext frc = g2.getFontRenderContext();
+        long version = AbstractTableElement.getLayoutVersion(element);
+        if (cached != null && cached.isValidFor(element, anchor, bounds, 
+                frc, version)) {
+            return cached;
+        }
+        Dimension2D size = element.preferredSize(g2, bounds);
+        return new ElementLayout(element, anchor, bounds, frc, version,
+                calculateDrawArea(size, anchor, bounds));
+    }
+    
+    /**
+     * Returns the set of label faces that can be drawn without overlapping
+     * another label.  Faces are visited front-to-back so that labels nearer
+     * to the viewer take priority.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param facesInPaintOrder  the faces in paint order ({@code null} not 
+     *     permitted).
+     * @param pts  the projected points ({@code null} not permitted).
+     * 
+     * @return The set of visible label faces (compared by identity).
+     */
+    private Set<Face> findVisibleLabelFaces(Graphics2D g2, 
+            List<Face> facesInPaintOrder, Point2D[] pts) {
+        Set<Face> result = Collections.newSetFromMap(
+                new IdentityHashMap<Face, Boolean>());
+        LabelOverlapGrid grid = null;
+        Font savedFont = g2.getFont();
+        for (int i = facesInPaintOrder.size() - 1; i >= 0; i--) {
+            Face f = facesInPaintOrder.get(i);
+            if (!(f instanceof LabelFace) || f.getVertexCount() == 2 
+                    || Utils2D.area2(pts[f.getVertexIndex(0)],
+                    pts[f.getVertexIndex(1)], pts[f.getVertexIndex(2)]) > 0.0) {
+                continue;
+            }
+            LabelFace lf = (LabelFace) f;
+            Rectangle2D lb = lf.createPath(pts).getBounds2D();
+            g2.setFont(lf.getFont());
+            if (grid == null) {
+                grid = new LabelOverlapGrid(
+                        2.0 * g2.getFontMetrics().getHeight());
+            }
+            Rectangle2D bb = TextUtils.calcAlignedStringBounds(lf.getLabel(), 
+                    g2, (float) lb.getCenterX(), (float) lb.getCenterY(), 
+                    TextAnchor.CENTER);
+            if (grid.add(bb)) {
+                result.add(f);
+            }
+        }
+        g2.setFont(savedFont);
+        return result;
+    }
+    
+    /**
+     * Adds the time elapsed since {@code start} to the specified phase and
+     * returns the current time (to be used as the start of the next phase).
+     * 
+     * @param stats  the render stats ({@code null} not permitted).
+     * @param phase  the phase ({@code null} not permitted).
+     * @param start  the start time for the phase (from 
+     *     {@code System.nanoTime()}).
+     * 
+     * @return The current time. 
+     */
+    private static long recordPhase(RenderStats stats, RenderPhase phase, 
+            long start) {
+        long now = System.nanoTime();
+        stats.addPhaseNanos(phase, now - start);
+        return now;
+    }
+    
     private void beginElementGroup(Face face, Graphics2D g2) {
         Object3D owner = face.getOwner();
         ItemKey itemKey = (ItemKey) owner.getProperty(Object3D.ITEM_KEY);
@@ -1005,12 +1543,12 @@ public class Chart3D implements Drawable3D, ChartElement,
      * ignored).
      * 
      * @param plot  the plot.
-     * @param tickUnit  the tick unit.
+     * @param ticks  the tick selection ({@code null} permitted).
      * 
      * @return A list of tick data instances representing the tick marks and
      *     values along the x-axis.
      */
-    private List<TickData> fetchXTickData(Plot3D plot, double tickUnit) {
+    private List<TickData> fetchXTickData(Plot3D plot, TickSelection ticks) {
         if (plot instanceof CategoryPlot3D) {
             CategoryPlot3D cp = (CategoryPlot3D) plot;
             return cp.getColumnAxis().generateTickDataForColumns(
@@ -1018,7 +1556,7 @@ public class Chart3D implements Drawable3D, ChartElement,
         }
         if (plot instanceof XYZPlot) {
             XYZPlot xp = (XYZPlot) plot;
-            return xp.getXAxis().generateTickData(tickUnit);
+            return generateTickData(xp.getXAxis(), ticks);
         }
         return Collections.emptyList();
     }
@@ -1029,19 +1567,19 @@ public class Chart3D implements Drawable3D, ChartElement,
      * On a category plot, the y-axis is the value axis.
      * 
      * @param plot  the plot.
-     * @param tickUnit  the tick unit.
+     * @param ticks  the tick selection ({@code null} permitted).
      * 
      * @return A list of tick data instances representing the tick marks and
      *     values along the y-axis.
      */
-    private List<TickData> fetchYTickData(Plot3D plot, double tickUnit) {
+    private List<TickData> fetchYTickData(Plot3D plot, TickSelection ticks) {
         if (plot instanceof CategoryPlot3D) {
             CategoryPlot3D cp = (CategoryPlot3D) plot;
-            return cp.getValueAxis().generateTickData(tickUnit);
+            return generateTickData(cp.getValueAxis(), ticks);
         }
         if (plot instanceof XYZPlot) {
             XYZPlot xp = (XYZPlot) plot;
-            return xp.getYAxis().generateTickData(tickUnit);
+            return generateTickData(xp.getYAxis(), ticks);
         }
         return Collections.emptyList(); 
     }
@@ -1053,23 +1591,45 @@ public class Chart3D implements Drawable3D, ChartElement,
      * ignored).
      * 
      * @param plot  the plot.
-     * @param tickUnit  the tick unit.
+     * @param ticks  the tick selection ({@code null} permitted).
      * 
      * @return A list of tick data instances representing the tick marks and
      *     values along the y-axis.
      */
-    private List<TickData> fetchZTickData(Plot3D plot, double tickUnit) {
+    private List<TickData> fetchZTickData(Plot3D plot, TickSelection ticks) {
         if (plot instanceof CategoryPlot3D) {
             CategoryPlot3D cp = (CategoryPlot3D) plot;
             return cp.getRowAxis().generateTickDataForRows(cp.getDataset());
         }
         if (plot instanceof XYZPlot) {
             XYZPlot xp = (XYZPlot) plot;
-            return xp.getZAxis().generateTickData(tickUnit);
+            return generateTickData(xp.getZAxis(), ticks);
         }
         return Collections.emptyList(); 
     }
     
+    /**
+     * Generates tick data for a value axis using the tick selection made for
+     * the current rendering.
+     * 
+     * @param axis  the axis ({@code null} not permitted).
+     * @param ticks  the tick selection ({@code null} if no tick size was 
+     *     selected for the axis).
+     * 
+     * @return A list of tick data. 
+     */
+    private static List<TickData> generateTickData(ValueAxis3D axis, 
+            TickSelection ticks) {
+        if (ticks == null) {
+            // no axis edge was found, there will be no ticks
+            return axis.generateTickData(0.0);
+        }
+        if (axis instanceof TickSelectionSupport) {
+            return ((TickSelectionSupport) axis).generateTickData(ticks);
+        }
+        return axis.generateTickData(ticks.getTickSize());
+    }
+    
     /**
      * Fetches marker data for the plot's x-axis.
      * 
@@ -1442,9 +2002,11 @@ public class Chart3D implements Drawable3D, ChartElement,
      * @param h  the height.
      * @param depth  the depth.
      * 
-     * @return The tick sizes. 
+     * @return The tick selections for the x, y and z axes (an item is 
+     *     {@code null} if the axis is not a value axis or no tick size was 
+     *     selected). 
      */
-    private double[] findAxisTickUnits(Graphics2D g2, double w, double h, 
+    private TickSelection[] findAxisTickUnits(Graphics2D g2, double w, double h, 
             double depth) {
         World tempWorld = new World();
         ChartBox3D chartBox = new ChartBox3D(w, h, depth, -w / 2.0, -h / 2.0, 
@@ -1471,7 +2033,7 @@ public class Chart3D implements Drawable3D, ChartElement,
         boolean e = chartBox.faceE().isFrontFacing(axisPts2D);
         boolean f = chartBox.faceF().isFrontFacing(axisPts2D);
 
-        double xtick = 0, ytick = 0, ztick = 0;
+        TickSelection xtick = null, ytick = null, ztick = null;
         Axis3D xAxis = null;
         ValueAxis3D yAxis = null;
         Axis3D zAxis = null;
@@ -1503,60 +2065,94 @@ public class Chart3D implements Drawable3D, ChartElement,
 
             if (count(a, b) == 1 && longest(ab, bc, cd, da)) {
                 if (xAxis instanceof ValueAxis3D) {
-                    xtick = ((ValueAxis3D) xAxis).selectTick(g2, v0, v1, v7);
+                    xtick = findTickSelection((ValueAxis3D) xAxis, 
+                            g2, v0, v1, v7);
                 }
             }
             if (count(b, c) == 1 && longest(bc, ab, cd, da)) {
                 if (xAxis instanceof ValueAxis3D) {
-                    xtick = ((ValueAxis3D) xAxis).selectTick(g2, v3, v2, v6);
+                    xtick = findTickSelection((ValueAxis3D) xAxis, 
+                            g2, v3, v2, v6);
                 }
             }
             if (count(c, d) == 1 && longest(cd, ab, bc, da)) {
                 if (xAxis instanceof ValueAxis3D) {
-                    xtick = ((ValueAxis3D) xAxis).selectTick(g2, v4, v7, v1);
+                    xtick = findTickSelection((ValueAxis3D) xAxis, 
+                            g2, v4, v7, v1);
                 }
             }
             if (count(d, a) == 1 && longest(da, ab, bc, cd)) {
                 if (xAxis instanceof ValueAxis3D) {
-                    xtick = ((ValueAxis3D) xAxis).selectTick(g2, v5, v6, v3);
+                    xtick = findTickSelection((ValueAxis3D) xAxis, 
+                            g2, v5, v6, v3);
                 }
             }
 
             if (count(b, e) == 1 && longest(be, bf, df, de)) {
-                ytick = yAxis.selectTick(g2, v0, v3, v7);
+                ytick = findTickSelection(yAxis, g2, v0, v3, v7);
             }
             if (count(b, f) == 1 && longest(bf, be, df, de)) {
-                ytick = yAxis.selectTick(g2, v1, v2, v4);
+                ytick = findTickSelection(yAxis, g2, v1, v2, v4);
             }
             if (count(d, f) == 1 && longest(df, be, bf, de)) {
-                ytick = yAxis.selectTick(g2, v6, v7, v0);
+                ytick = findTickSelection(yAxis, g2, v6, v7, v0);
             }
             if (count(d, e) == 1 && longest(de, be, bf, df)) {
-                ytick = yAxis.selectTick(g2, v5, v4, v1);
+                ytick = findTickSelection(yAxis, g2, v5, v4, v1);
             }
 
             if (count(a, e) == 1 && longest(ae, af, cf, ce)) {
                 if (zAxis instanceof ValueAxis3D) {
-                    ztick = ((ValueAxis3D) zAxis).selectTick(g2, v0, v5, v2);
+                    ztick = findTickSelection((ValueAxis3D) zAxis, 
+                            g2, v0, v5, v2);
                 }
             }
             if (count(a, f) == 1 && longest(af, ae, cf, ce)) {
                 if (zAxis instanceof ValueAxis3D) {
-                    ztick = ((ValueAxis3D) zAxis).selectTick(g2, v1, v6, v3);
+                    ztick = findTickSelection((ValueAxis3D) zAxis, 
+                            g2, v1, v6, v3);
                 }
             }
             if (count(c, f) == 1 && longest(cf, ae, af, ce)) {
                 if (zAxis instanceof ValueAxis3D) {
-                    ztick = ((ValueAxis3D) zAxis).selectTick(g2, v2, v7, v5);
+                    ztick = findTickSelection((ValueAxis3D) zAxis, 
+                            g2, v2, v7, v5);
                 }
             }
             if (count(c, e) == 1 && longest(ce, ae, af, cf)) {
                 if (zAxis instanceof ValueAxis3D) {
-                    ztick = ((ValueAxis3D) zAxis).selectTick(g2, v3, v4, v6);
+                    ztick = findTickSelection((ValueAxis3D) zAxis, 
+                            g2, v3, v4, v6);
                 }
             }
         }
-        return new double[] { xtick, ytick, ztick };
+        return new TickSelection[] { xtick, ytick, ztick };
+    }
+    
+    /**
+     * Selects the ticks for a value axis.  If the axis does not implement
+     * {@link TickSelectionSupport}, the tick size is selected with 
+     * {@link ValueAxis3D#selectTick(Graphics2D, Point2D, Point2D, Point2D)}
+     * (which updates the axis state, including the tick label formatter).
+     * 
+     * @param axis  the axis ({@code null} not permitted).
+     * @param g2  the graphics target.
+     * @param pt0  the starting point.
+     * @param pt1  the ending point.
+     * @param opposingPt  a point on the opposite side of the axis from the 
+     *     labels.
+     * 
+     * @return The tick selection (never {@code null}). 
+     */
+    private static TickSelection findTickSelection(ValueAxis3D axis, 
+            Graphics2D g2, Point2D pt0, Point2D pt1, Point2D opposingPt) {
+        if (axis instanceof TickSelectionSupport) {
+            return ((TickSelectionSupport) axis).findTickSelection(g2, pt0, 
+                    pt1, opposingPt);
+        }
+        double tickSize = axis.selectTick(g2, pt0, pt1, opposingPt);
+        // no formatter, the axis formats its own tick labels
+        return new TickSelection(tickSize, null);
     }
     
     private void populateAnchorPoints(List<TickData> tickData, Point2D[] pts) {
@@ -1844,6 +2440,15 @@ public class Chart3D implements Drawable3D, ChartElement,
         if (this.projDist != that.projDist) {
             return false;
         }
+        if (!this.lightingModel.equals(that.lightingModel)) {
+            return false;
+        }
+        if (this.labelOverlapCulling != that.labelOverlapCulling) {
+            return false;
+        }
+        if (this.minFaceArea != that.minFaceArea) {
+            return false;
+        }
         return true;
     }
 
@@ -1946,19 +2551,30 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     @Override
     public void plotChanged(Plot3DChangeEvent event) {
+        if (this.updateDepth > 0) {
+            this.deferredWorldUpdate |= event.requiresWorldUpdate();
+            this.deferredChange = true;
+            return;
+        }
         if (event.requiresWorldUpdate()) {
-            this.world = null;
+            invalidateWorld();
         }
+        clearLegendCache();
         notifyListeners(new Chart3DChangeEvent(event, this));
     }
 
+    /**
+     * Receives notification that the chart style has changed, and applies
+     * the style to the chart and all its components.  Registered listeners
+     * receive a single {@link Chart3DChangeEvent} for the whole update.
+     * 
+     * @param event  the style change event.
+     */
     @Override
     public void styleChanged(ChartStyleChangeEvent event) {
-        ChartStyler styler = new ChartStyler(event.getChartStyle());
-        receive(styler);
-        // create a visitor that will visit all chart components and apply the
-        // style
-        notifyListeners(new Chart3DChangeEvent(event, this));
+        // apply the style to all chart components, with a single change 
+        // event at the end
+        applyStyle(event.getChartStyle(), event);
     }
     
     /**
@@ -1986,7 +2602,12 @@ public class Chart3D implements Drawable3D, ChartElement,
      * @param event  information about the change event.
      */
     public void notifyListeners(Chart3DChangeEvent event) {
-        // if the 'notify' flag has been switched to false, we don't notify
+        // during an update the event is held back until endUpdate()
+        if (this.updateDepth > 0) {
+            this.deferredChange = true;
+            return;
+        }
+        // if the 'notify' flag has been switched to false, we don't notify 
         // the listeners
         if (!this.notify) {
             return;
@@ -2023,11 +2644,86 @@ public class Chart3D implements Drawable3D, ChartElement,
         this.notify = notify;
         // if the flag is being set to true, there may be queued up changes...
         if (notify) {
-            this.world = null;
+            invalidateWorld();
             fireChangeEvent();
         }
     }
   
+    /**
+     * Starts an update, so that a series of changes to the chart and its
+     * components (plot, axes, renderer, datasets and so on) is treated as a 
+     * single change.  Until the matching call to {@link #endUpdate()}, the 
+     * change events generated by the individual changes are collected 
+     * instead of being passed on to listeners.  Calls can be nested, only 
+     * the outermost {@code endUpdate()} completes the update.  Always call
+     * {@code endUpdate()} in a {@code finally} block:
+     * <pre>
+     * chart.beginUpdate();
+     * try {
+     *     // make changes to the chart and its components
+     * } finally {
+     *     chart.endUpdate();
+     * }</pre>
+     * 
+     * @see #endUpdate()
+     * @see #isUpdating() 
+     * 
+     * @since 1.8
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+    
+    /**
+     * Ends an update started with {@link #beginUpdate()}.  When the 
+     * outermost update ends and changes were made during the update, the
+     * 3D model of the chart is refreshed (only if one of the changes 
+     * requires it) and a single {@link Chart3DChangeEvent} is sent to all 
+     * registered listeners.
+     * 
+     * @throws IllegalStateException if there is no update in progress.
+     * 
+     * @since 1.8
+     */
+    public void endUpdate() {
+        endUpdate(this);
+    }
+    
+    /**
+     * Ends an update, using the specified source for the change event.
+     * 
+     * @param source  the event source ({@code null} not permitted).
+     */
+    private void endUpdate(Object source) {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException("No update in progress.");
+        }
+        this.updateDepth--;
+        if (this.updateDepth > 0 || !this.deferredChange) {
+            return;
+        }
+        if (this.deferredWorldUpdate) {
+            invalidateWorld();
+        }
+        this.deferredChange = false;
+        this.deferredWorldUpdate = false;
+        clearLegendCache();
+        notifyListeners(new Chart3DChangeEvent(source, this));
+    }
+    
+    /**
+     * Returns {@code true} if an update is in progress (that is, 
+     * {@link #beginUpdate()} has been called more often than
+     * {@link #endUpdate()}), and {@code false} otherwise.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    public boolean isUpdating() {
+        return this.updateDepth > 0;
+    }
+    
     /**
      * Sends a {@link Chart3DChangeEvent} to all registered listeners.
      */
@@ -2116,4 +2812,84 @@ public class Chart3D implements Drawable3D, ChartElement,
         }
     }
 
+    /**
+     * The position of a title or legend element calculated for a given 
+     * chart area, so that it can be reused when the chart is redrawn with 
+     * the same bounds (for example while the view is being rotated).  A 
+     * layout is only reused while the layout version of the element (see
+     * {@link AbstractTableElement#getLayoutVersion(TableElement)}) is 
+     * unchanged, so that in-place changes to the element (a new font for a
+     * text element, for example) are picked up.
+     */
+    private static final class ElementLayout {
+        
+        /** The element. */
+        private final TableElement element;
+        
+        /** The anchor used to position the element. */
+        private final Anchor2D anchor;
+        
+        /** The chart bounds. */
+        private final Rectangle2D bounds;
+        
+        /** The font render context used to measure the element. */
+        private final FontRenderContext frc;
+        
+        /** The layout version of the element when it was measured. */
+        private final long version;
+        
+        /** The area that the element is drawn into. */
+        private final Rectangle2D area;
+        
+        /**
+         * Creates a new layout.
+         * 
+         * @param element  the element.
+         * @param anchor  the anchor.
+         * @param bounds  the chart bounds (a copy is stored).
+         * @param frc  the font render context.
+         * @param version  the layout version of the element (-1 if the 
+         *     layout cannot be reused).
+         * @param area  the draw area.
+         */
+        ElementLayout(TableElement element, Anchor2D anchor, 
+                Rectangle2D bounds, FontRenderContext frc, long version,
+                Rectangle2D area) {
+            this.element = element;
+            this.anchor = anchor;
+            this.bounds = bounds.getFrame();
+            this.frc = frc;
+            this.version = version;
+            this.area = area;
+        }
+        
+        /**
+         * Returns {@code true} if this layout can be reused for the 
+         * specified arguments, and {@code false} otherwise.
+         * 
+         * @param element  the element.
+         * @param anchor  the anchor.
+         * @param bounds  the chart bounds.
+         * @param frc  the font render context.
+         * @param version  the current layout version of the element.
+         * 
+         * @return A boolean. 
+         */
+        boolean isValidFor(TableElement element, Anchor2D anchor, 
+                Rectangle2D bounds, FontRenderContext frc, long version) {
+            return this.element == element && version >= 0L 
+                    && this.version == version && this.anchor.equals(anchor)
+                    && this.bounds.equals(bounds) && this.frc.equals(frc);
+        }
+        
+        /**
+         * Returns the area that the element is drawn into.
+         * 
+         * @return The area (a copy, never {@code null}). 
+         */
+        Rectangle2D getArea() {
+            return this.area.getFrame();
+        }
+    }
+    
 }
@@ -32,12 +32,17 @@
 
 package com.orsoncharts;
 
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.event.MouseEvent;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.util.EventListener;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.Timer;
 import javax.swing.event.EventListenerList;
 
 import com.orsoncharts.data.ItemKey;
@@ -54,7 +59,10 @@ import com.orsoncharts.util.ArgChecks;
  * A panel designed to display a {@link Chart3D} in a Swing-based desktop
  * application.  The panel registers with the chart to receive change 
  * notifications, and when these are received the chart is automatically 
- * repainted.
+ * repainted.  For charts that change very often (for example, charts 
+ * showing live data), the number of repaints per second can be capped with
+ * {@link #setMaxRepaintRate(int)}: change events received in between are
+ * coalesced and the chart is repainted once, in its latest state.
  * <br><br>
  * This panel will display the chart, but does not include additional features
  * such as the view toolbar and popup menu (these are provided by the 
@@ -79,6 +87,24 @@ public class Chart3DPanel extends Panel3D implements Chart3DChangeListener,
     /** Storage for registered (chart) mouse listeners. */
     private transient EventListenerList chartMouseListeners;
 
+    /** 
+     * The maximum number of repaints per second triggered by chart change
+     * events (zero for no limit).
+     */
+    private int maxRepaintRate;
+    
+    /** 
+     * A timer that performs the coalesced repaint when the repaint rate is 
+     * capped. 
+     */
+    private transient Timer repaintTimer;
+    
+    /** A flag that is set while a coalesced repaint is waiting to run. */
+    private transient AtomicBoolean repaintPending;
+    
+    /** The time ({@code System.nanoTime()}) of the last coalesced repaint. */
+    private transient volatile long lastRepaintTime;
+
     /**
      * Creates a new chart panel to display the specified chart.
      *
@@ -91,9 +117,29 @@ public class Chart3DPanel extends Panel3D implements Chart3DChangeListener,
         this.chart.addChangeListener(this);
         addComponentListener(this);
         this.autoFitOnPanelResize = false;
+        this.maxRepaintRate = 0;
+        initRepaintTimer();
         registerForTooltips();
     }
 
+    /**
+     * Creates the timer and flag used for coalesced repaints.
+     */
+    private void initRepaintTimer() {
+        this.repaintPending = new AtomicBoolean();
+        this.repaintTimer = new Timer(0, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                // clear the flag before repainting, so that a change arriving
+                // from now on schedules another repaint
+                repaintPending.set(false);
+                lastRepaintTime = System.nanoTime();
+                repaint();
+            }
+        });
+        this.repaintTimer.setRepeats(false);
+    }
+
     /**
      * Returns the chart being displayed in this panel.
      * 
@@ -105,15 +151,65 @@ public class Chart3DPanel extends Panel3D implements Chart3DChangeListener,
         return this.chart;
     }
     
+    /**
+     * Returns the maximum number of times per second that the panel is 
+     * repainted in response to chart change events, or zero if there is no
+     * limit.  The default value is {@code 0}.
+     * 
+     * @return The maximum repaint rate (in repaints per second).
+     * 
+     * @since 1.8
+     */
+    public int getMaxRepaintRate() {
+        return this.maxRepaintRate;
+    }
+    
+    /**
+     * Sets the maximum number of times per second that the panel is 
+     * repainted in response to chart change events.  When a limit is set,
+     * the change events received between two repaints are coalesced into a 
+     * single repaint that draws the latest state of the chart, which keeps
+     * the event dispatch thread responsive when the chart data changes at a
+     * high rate.  Repaints caused by other means (for example, rotating the
+     * chart with the mouse) are not affected.
+     * 
+     * @param rate  the maximum repaint rate (in repaints per second), or 
+     *     zero to repaint on every change event (must not be negative).
+     * 
+     * @since 1.8
+     */
+    public void setMaxRepaintRate(int rate) {
+        ArgChecks.negativeNotPermitted(rate, "rate");
+        this.maxRepaintRate = rate;
+    }
+    
     /**
      * Receives notification when the chart has been modified, and responds
-     * by completely repainting the panel and chart.
+     * by completely repainting the panel and chart.  If a maximum repaint
+     * rate is set, the repaint is scheduled to respect that rate, and
+     * further change events received before it is performed do not trigger
+     * additional repaints.  This method can be called on any thread.
      * 
      * @param event  the event. 
+     * 
+     * @see #setMaxRepaintRate(int) 
      */
     @Override
     public void chartChanged(Chart3DChangeEvent event) {
-        repaint();
+        int rate = this.maxRepaintRate;
+        if (rate <= 0) {
+            repaint();
+            return;
+        }
+        if (!this.repaintPending.compareAndSet(false, true)) {
+            return;  // a repaint is already scheduled
+        }
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long wait = this.lastRepaintTime + interval - System.nanoTime();
+        wait = Math.max(0L, Math.min(wait, interval));
+        int delay = (int) TimeUnit.NANOSECONDS.toMillis(wait);
+        this.repaintTimer.setInitialDelay(delay);
+        this.repaintTimer.restart();
     }
 
     @Override
@@ -265,6 +361,7 @@ public class Chart3DPanel extends Panel3D implements Chart3DChangeListener,
         stream.defaultReadObject();
         // we create a new but empty chartMouseListeners list
         this.chartMouseListeners = new EventListenerList();
+        initRepaintTimer();
         // register as a listener with sub-components...
         if (this.chart != null) {
             this.chart.addChangeListener(this);
@@ -52,6 +52,7 @@ import javax.swing.event.EventListenerList;
 
 import com.orsoncharts.Chart3DHints;
 import com.orsoncharts.ChartElementVisitor;
+import com.orsoncharts.graphics3d.LabelOverlapGrid;
 import com.orsoncharts.graphics3d.RenderedElement;
 import com.orsoncharts.graphics3d.RenderingInfo;
 import com.orsoncharts.graphics3d.Utils2D;
@@ -162,6 +163,12 @@ public abstract class AbstractAxis3D implements Axis3D, MarkerChangeListener,
     
     /** The tick label paint (never {@code null}). */
     private Color tickLabelColor;
+    
+    /** 
+     * A flag that controls whether or not tick labels that would overlap
+     * an earlier tick label are skipped.
+     */
+    private boolean tickLabelOverlapCulling;
 
     /** Storage for registered change listeners. */
     private final transient EventListenerList listenerList;
@@ -183,6 +190,7 @@ public abstract class AbstractAxis3D implements Axis3D, MarkerChangeListener,
         this.tickLabelsVisible = true;
         this.tickLabelFont = DEFAULT_TICK_LABEL_FONT;
         this.tickLabelColor = DEFAULT_TICK_LABEL_COLOR;
+        this.tickLabelOverlapCulling = false;
         this.listenerList = new EventListenerList();
     }
 
@@ -424,6 +432,53 @@ public abstract class AbstractAxis3D implements Axis3D, MarkerChangeListener,
         this.tickLabelColor = color;
         fireChangeEvent(false);
     }
+    
+    /**
+     * Returns the flag that controls whether or not tick labels that would
+     * overlap a tick label drawn earlier (in tick order) are skipped.  The 
+     * default value is {@code false}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    public boolean getTickLabelOverlapCulling() {
+        return this.tickLabelOverlapCulling;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not tick labels that would 
+     * overlap a tick label drawn earlier are skipped, and sends an 
+     * {@link Axis3DChangeEvent} to all registered listeners.  Setting this 
+     * to {@code true} keeps axes with many (for example, category) labels 
+     * readable and saves the time spent drawing labels that cannot be read.
+     * 
+     * @param culling  the new flag value.
+     * 
+     * @since 1.8
+     */
+    public void setTickLabelOverlapCulling(boolean culling) {
+        this.tickLabelOverlapCulling = culling;
+        fireChangeEvent(false);
+    }
+    
+    /**
+     * Creates the grid used to skip overlapping tick labels while the axis 
+     * is drawn, or returns {@code null} if overlapping tick labels are not 
+     * skipped.  The tick label font should be set on {@code g2} first.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * 
+     * @return A new grid, or {@code null}.
+     * 
+     * @since 1.8
+     */
+    protected LabelOverlapGrid createTickLabelOverlapGrid(Graphics2D g2) {
+        if (!this.tickLabelOverlapCulling) {
+            return null;
+        }
+        return new LabelOverlapGrid(2.0 * g2.getFontMetrics().getHeight());
+    }
 
     /**
      * Receives a {@link ChartElementVisitor}.  This method is part of a general
@@ -571,6 +626,9 @@ public abstract class AbstractAxis3D implements Axis3D, MarkerChangeListener,
         if (!this.tickLabelColor.equals(that.tickLabelColor)) {
             return false;
         }
+        if (this.tickLabelOverlapCulling != that.tickLabelOverlapCulling) {
+            return false;
+        }
         return true;
     }
 
@@ -34,12 +34,14 @@ package com.orsoncharts.axis;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Stroke;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.text.Format;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -123,6 +125,12 @@ public abstract class AbstractValueAxis3D extends AbstractAxis3D
     /** Storage for value markers for the axis (empty by default). */
     private Map<String, ValueMarker> valueMarkers;
     
+    /** 
+     * Recent tick selections for the axis (created when first required and 
+     * cleared whenever the axis changes). 
+     */
+    private transient volatile TickSelectionCache tickSelectionCache;
+    
     /**
      * Creates a new axis instance.
      * 
@@ -148,6 +156,101 @@ public abstract class AbstractValueAxis3D extends AbstractAxis3D
         this.valueMarkers = new LinkedHashMap<String, ValueMarker>();
     }
     
+    /**
+     * Returns the cache of recent tick selections for this axis.
+     * 
+     * @return The cache (never {@code null}). 
+     */
+    TickSelectionCache getTickSelectionCache() {
+        TickSelectionCache cache = this.tickSelectionCache;
+        if (cache == null) {
+            cache = new TickSelectionCache();
+            this.tickSelectionCache = cache;
+        }
+        return cache;
+    }
+    
+    /**
+     * Creates the key used to look up a tick selection for this axis in the
+     * tick selection cache.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param length  the projected axis length (already bucketed).
+     * 
+     * @return The key. 
+     */
+    TickSelectionCache.Key createTickSelectionKey(Graphics2D g2, 
+            double length) {
+        return new TickSelectionCache.Key(this.range, length, 
+                getTickLabelFont(), g2.getFontRenderContext(), 
+                this.tickLabelOrientation, this.tickLabelFactor);
+    }
+    
+    /**
+     * Returns a copy of the tick selector that can be used for a tick search 
+     * without disturbing the original, or {@code null} if the selector cannot 
+     * be copied (in which case the caller should synchronize on the original
+     * selector while it searches).
+     * 
+     * @param selector  the selector ({@code null} not permitted).
+     * 
+     * @return A copy of the selector (possibly {@code null}). 
+     */
+    static TickSelector copyTickSelector(TickSelector selector) {
+        if (selector instanceof NumberTickSelector) {
+            return ((NumberTickSelector) selector).clone();
+        }
+        if (selector instanceof IntegerTickSelector) {
+            return ((IntegerTickSelector) selector).clone();
+        }
+        return null;
+    }
+    
+    /**
+     * Generates tick data for the specified tick selection.  Each tick 
+     * carries a copy of the selected formatter (shared by the ticks in the
+     * returned list only, since {@code Format} instances are not 
+     * thread-safe).  If the selection has no formatter, the ticks are 
+     * labelled with the axis formatter.
+     * 
+     * @param selection  the tick selection ({@code null} not permitted).
+     * 
+     * @return A list of tick data (never {@code null}). 
+     * 
+     * @since 1.8
+     * 
+     * @see TickSelectionSupport
+     */
+    public List<TickData> generateTickData(TickSelection selection) {
+        ArgChecks.nullNotPermitted(selection, "selection");
+        List<TickData> result = generateTickData(selection.getTickSize());
+        if (selection.getTickLabelFormatter() == null) {
+            return result;
+        }
+        Format formatter = (Format) selection.getTickLabelFormatter().clone();
+        for (TickData t : result) {
+            t.setTickLabelFormatter(formatter);
+        }
+        return result;
+    }
+    
+    /**
+     * Clears the tick selection cache (since the cached selections may no
+     * longer be valid) and then sends an {@link Axis3DChangeEvent} to all
+     * registered listeners.
+     * 
+     * @param requiresWorldUpdate   a flag indicating whether or not this change
+     *     requires the 3D world to be updated.
+     */
+    @Override
+    protected void fireChangeEvent(boolean requiresWorldUpdate) {
+        TickSelectionCache cache = this.tickSelectionCache;
+        if (cache != null) {
+            cache.clear();
+        }
+        super.fireChangeEvent(requiresWorldUpdate);
+    }
+    
     /**
      * Returns the configured type for the axis.
      * 
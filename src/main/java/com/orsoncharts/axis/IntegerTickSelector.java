@@ -48,7 +48,8 @@ import com.orsoncharts.util.ArgChecks;
  * @since 1.5
  */
 @SuppressWarnings("serial")
-public class IntegerTickSelector implements TickSelector, Serializable {
+public class IntegerTickSelector implements TickSelector, Cloneable, 
+        Serializable {
 
     private int power = 0;
     
@@ -151,6 +152,28 @@ public class IntegerTickSelector implements TickSelector, Serializable {
         return new DecimalFormat("0.0000E0");
     }
     
+    /**
+     * Returns a clone of the selector, including the current cursor 
+     * position.  The formatter is also cloned so that the clone can be 
+     * used on a different thread to the original.
+     * 
+     * @return A clone (never {@code null}).
+     * 
+     * @since 1.8
+     */
+    @Override
+    public IntegerTickSelector clone() {
+        IntegerTickSelector clone;
+        try {
+            clone = (IntegerTickSelector) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(
+                    "If we get here, a bug needs fixing.");
+        }
+        clone.df0 = (DecimalFormat) this.df0.clone();
+        return clone;
+    }
+    
     /**
      * Tests this instance for equality with an arbitrary object.
      * 
@@ -32,7 +32,6 @@
 
 package com.orsoncharts.axis;
 
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Shape;
 import java.awt.font.TextAttribute;
@@ -51,6 +50,7 @@ import java.util.Map;
 
 import com.orsoncharts.Chart3DHints;
 import com.orsoncharts.Range;
+import com.orsoncharts.graphics3d.LabelOverlapGrid;
 import com.orsoncharts.graphics3d.RenderingInfo;
 import com.orsoncharts.graphics3d.Utils2D;
 import com.orsoncharts.util.ArgChecks;
@@ -68,7 +68,8 @@ import com.orsoncharts.util.TextUtils;
  * @since 1.2
  */
 @SuppressWarnings("serial")
-public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
+public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
+        TickSelectionSupport {
     
     /** The default value for the smallest value attribute. */
     public static final double DEFAULT_SMALLEST_VALUE = 1E-100;
@@ -442,6 +443,7 @@ public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
     private double drawPerpendicularTickLabels(Graphics2D g2, Line2D axisLine,
             Point2D opposingPt, List<TickData> tickData, boolean hinting) {
         double result = 0.0;
+        LabelOverlapGrid grid = createTickLabelOverlapGrid(g2);
         for (TickData t : tickData) {
             double theta = Utils2D.calculateTheta(axisLine);
             double thetaAdj = theta + Math.PI / 2.0;
@@ -461,7 +463,12 @@ public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
             } 
             double logy = calculateLog(t.getDataValue());
             AttributedString as = createTickLabelAttributedString(logy,
-                    this.tickLabelFormatter);
+                    tickLabelFormatter(t));
+            if (grid != null && !grid.add(TextUtils.calcRotatedStringBounds(
+                    as, g2, (float) perpLine.getX2(), (float) perpLine.getY2(),
+                    textAnchor, thetaAdj, textAnchor))) {
+                continue;
+            }
             Rectangle2D nonRotatedBounds = new Rectangle2D.Double();
             if (hinting) {
                 Map<String, String> m = new HashMap<String, String>();
@@ -485,6 +492,7 @@ public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
             Point2D opposingPt, List<TickData> tickData, double adj, 
             boolean hinting) {
         
+        LabelOverlapGrid grid = createTickLabelOverlapGrid(g2);
         for (TickData t : tickData) {
             double theta = Utils2D.calculateTheta(axisLine);
             TextAnchor anchor = TextAnchor.CENTER;
@@ -501,7 +509,12 @@ public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
                     + getTickLabelOffset() + adj, opposingPt);
             double logy = calculateLog(t.getDataValue());
             AttributedString as = createTickLabelAttributedString(logy, 
-                    this.tickSelector.getCurrentTickLabelFormat());
+                    tickLabelFormatter(t));
+            if (grid != null && !grid.add(TextUtils.calcRotatedStringBounds(
+                    as, g2, (float) perpLine.getX2(), (float) perpLine.getY2(),
+                    anchor, theta, anchor))) {
+                continue;
+            }
             if (hinting) {
                 Map<String, String> m = new HashMap<String, String>();
                 m.put("ref", "{\"type\": \"valueTickLabel\", \"axis\": " 
@@ -518,11 +531,28 @@ public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
         }
     }
 
+    /**
+     * Returns the formatter for a tick label, which is the formatter carried 
+     * by the tick data if there is one, otherwise the axis formatter.
+     * 
+     * @param t  the tick data ({@code null} not permitted).
+     * 
+     * @return The formatter (never {@code null}). 
+     */
+    private Format tickLabelFormatter(TickData t) {
+        Format f = t.getTickLabelFormatter();
+        return f != null ? f : this.tickLabelFormatter;
+    }
+    
     private AttributedString createTickLabelAttributedString(double logy, 
             Format exponentFormatter) {
         String baseStr = this.baseSymbol;
         if (baseStr == null) {
-            baseStr = this.baseFormatter.format(this.base);
+            // the formatter may be shared by threads drawing the axis
+            NumberFormat f = this.baseFormatter;
+            synchronized (f) {
+                baseStr = f.format(this.base);
+            }
         }
         String exponentStr = exponentFormatter.format(logy);
         AttributedString as = new AttributedString(baseStr + exponentStr);
@@ -557,7 +587,10 @@ public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
     }
     
     /**
-     * Selects a standard tick unit on the logarithmic range.
+     * Selects a standard tick unit on the logarithmic range and records it
+     * (along with the tick label formatter) in the axis.  The tick unit and
+     * formatter are the same as those returned by 
+     * {@link #findTickSelection(Graphics2D, Point2D, Point2D, Point2D)}.
      * 
      * @param g2  the graphics target ({@code null} not permitted).
      * @param pt0  the starting point.
@@ -569,76 +602,122 @@ public class LogAxis3D extends AbstractValueAxis3D implements ValueAxis3D {
     @Override
     public double selectTick(Graphics2D g2, Point2D pt0, Point2D pt1, 
             Point2D opposingPt) {
- 
-        if (this.tickSelector == null) {
-            return this.tickSize;
+        TickSelection selection = findTickSelection(g2, pt0, pt1, opposingPt);
+        this.tickSize = selection.getTickSize();
+        this.tickLabelFormatter = selection.getTickLabelFormatter();
+        return this.tickSize;
+    }
+    
+    /**
+     * Selects a standard tick unit (log increment) and formatter on the 
+     * logarithmic range, without modifying the axis.  The result is cached 
+     * for the current range, font and (approximate) axis length, so repeated
+     * calls while a chart is rotated do not repeat the search.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param pt0  the starting point.
+     * @param pt1  the ending point.
+     * @param opposingPt  an opposing point.
+     * 
+     * @return The tick selection (never {@code null}).
+     * 
+     * @since 1.8
+     */
+    @Override
+    public TickSelection findTickSelection(Graphics2D g2, Point2D pt0, 
+            Point2D pt1, Point2D opposingPt) {
+        TickSelector selector = this.tickSelector;
+        if (selector == null) {
+            return new TickSelection(this.tickSize, this.tickLabelFormatter);
         }
-        g2.setFont(getTickLabelFont());
-        FontMetrics fm = g2.getFontMetrics();
-        double length = pt0.distance(pt1);
-        double rangeLength = this.logRange.getLength();
-        
+        double length = TickSelectionCache.bucketLength(pt0.distance(pt1));
+        TickSelectionCache cache = getTickSelectionCache();
+        TickSelectionCache.Key key = createTickSelectionKey(g2, length);
+        TickSelection result = cache.get(key);
+        if (result != null) {
+            return result;
+        }
+        TickSelector copy = copyTickSelector(selector);
+        if (copy != null) {
+            result = searchTicks(copy, g2, length);
+        } else {
+            synchronized (selector) {
+                result = searchTicks(selector, g2, length);
+            }
+        }
+        cache.put(key, result);
+        return result;
+    }
+    
+    /**
+     * Searches for a tick unit using the supplied selector (which is 
+     * modified by the search).
+     * 
+     * @param selector  the tick selector ({@code null} not permitted).
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param length  the projected length of the axis.
+     * 
+     * @return The tick selection. 
+     */
+    private TickSelection searchTicks(TickSelector selector, Graphics2D g2,
+            double length) {
+        Range lr = this.logRange;
+        double rangeLength = lr.getLength();
         LabelOrientation orientation = getTickLabelOrientation();
         if (orientation.equals(LabelOrientation.PERPENDICULAR)) {
             // based on the font height, we can determine roughly how many tick
             // labels will fit in the length available
-            int height = fm.getHeight();
+            int height = g2.getFontMetrics(getTickLabelFont()).getHeight();
             // the tickLabelFactor allows some control over how dense the labels
             // will be
             int maxTicks = (int) (length / (height * getTickLabelFactor()));
-            if (maxTicks > 2 && this.tickSelector != null) {
-                this.tickSelector.select(rangeLength / 2.0);
+            if (maxTicks > 2) {
+                selector.select(rangeLength / 2.0);
                 // step through until we have too many ticks OR we run out of 
                 // tick sizes
                 int tickCount = (int) (rangeLength 
-                        / this.tickSelector.getCurrentTickSize());
+                        / selector.getCurrentTickSize());
                 while (tickCount < maxTicks) {
-                    this.tickSelector.previous();
+                    selector.previous();
                     tickCount = (int) (rangeLength
-                            / this.tickSelector.getCurrentTickSize());
+                            / selector.getCurrentTickSize());
                 }
-                this.tickSelector.next();
-                this.tickSize = this.tickSelector.getCurrentTickSize();
-                this.tickLabelFormatter 
-                        = this.tickSelector.getCurrentTickLabelFormat();
-            } else { 
-                this.tickSize = Double.NaN;
-            }
-        } else if (orientation.equals(LabelOrientation.PARALLEL)) {
-            // choose a unit that is at least as large as the length of the axis
-            this.tickSelector.select(rangeLength);
-            boolean done = false;
-            while (!done) {
-                if (this.tickSelector.previous()) {
-                    // estimate the label widths, and do they overlap?
-                    AttributedString s0 = createTickLabelAttributedString(
-                            this.logRange.getMax() + this.logRange.getMin(), 
-                            this.tickSelector.getCurrentTickLabelFormat());
-                    TextLayout layout0 = new TextLayout(s0.getIterator(), 
-                            g2.getFontRenderContext());
-                    double w0 = layout0.getAdvance();
-                    AttributedString s1 = createTickLabelAttributedString(
-                            this.logRange.getMax() + this.logRange.getMin(), 
-                            this.tickSelector.getCurrentTickLabelFormat());
-                    TextLayout layout1 = new TextLayout(s1.getIterator(), 
-                            g2.getFontRenderContext());
-                    double w1 = layout1.getAdvance();
-                    double w = Math.max(w0, w1);
-                    int n = (int) (length / (w * this.getTickLabelFactor()));
-                    if (n < rangeLength 
-                            / tickSelector.getCurrentTickSize()) {
-                        tickSelector.next();
-                        done = true;
-                    }
-                } else {
+                selector.next();
+                return new TickSelection(selector.getCurrentTickSize(), 
+                        selector.getCurrentTickLabelFormat());
+            } 
+            return new TickSelection(Double.NaN, this.tickLabelFormatter);
+        }
+        // choose a unit that is at least as large as the length of the axis
+        selector.select(rangeLength);
+        boolean done = false;
+        while (!done) {
+            if (selector.previous()) {
+                // estimate the label widths, and do they overlap?
+                AttributedString s0 = createTickLabelAttributedString(
+                        lr.getMax() + lr.getMin(), 
+                        selector.getCurrentTickLabelFormat());
+                TextLayout layout0 = new TextLayout(s0.getIterator(), 
+                        g2.getFontRenderContext());
+                double w0 = layout0.getAdvance();
+                AttributedString s1 = createTickLabelAttributedString(
+                        lr.getMax() + lr.getMin(), 
+                        selector.getCurrentTickLabelFormat());
+                TextLayout layout1 = new TextLayout(s1.getIterator(), 
+                        g2.getFontRenderContext());
+                double w1 = layout1.getAdvance();
+                double w = Math.max(w0, w1);
+                int n = (int) (length / (w * this.getTickLabelFactor()));
+                if (n < rangeLength / selector.getCurrentTickSize()) {
+                    selector.next();
                     done = true;
                 }
+            } else {
+                done = true;
             }
-            this.tickSize = this.tickSelector.getCurrentTickSize();
-            this.tickLabelFormatter 
-                    = this.tickSelector.getCurrentTickLabelFormat();
         }
-        return this.tickSize;
+        return new TickSelection(selector.getCurrentTickSize(), 
+                selector.getCurrentTickLabelFormat());
     }
 
     /**
@@ -48,6 +48,7 @@ import java.util.List;
 
 import com.orsoncharts.Chart3DHints;
 import com.orsoncharts.Range;
+import com.orsoncharts.graphics3d.LabelOverlapGrid;
 import com.orsoncharts.graphics3d.RenderedElement;
 import com.orsoncharts.graphics3d.RenderingInfo;
 import com.orsoncharts.graphics3d.Utils2D;
@@ -71,7 +72,7 @@ import com.orsoncharts.util.ObjectUtils;
  */
 @SuppressWarnings("serial")
 public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
-        Serializable {
+        TickSelectionSupport, Serializable {
 
     /** 
      * A flag indicating whether or not the auto-range calculation should
@@ -328,11 +329,11 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
                        t.getAnchorPt(), tickMarkLength, opposingPt);
                 g2.draw(tickLine);
             }
-            String tickLabel = this.tickLabelFormatter.format(t.getDataValue());
+            String tickLabel = tickLabelFormatter(t).format(t.getDataValue());
             if (getTickLabelOrientation().equals(
                     LabelOrientation.PERPENDICULAR)) {
                 maxTickLabelDim = Math.max(maxTickLabelDim, 
-                        g2.getFontMetrics().stringWidth(tickLabel));
+                        TextUtils.getTextBounds(tickLabel, g2).getWidth());
             }
         }
             
@@ -358,6 +359,19 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
         }
     }
     
+    /**
+     * Returns the formatter for a tick label, which is the formatter carried 
+     * by the tick data if there is one, otherwise the axis formatter.
+     * 
+     * @param t  the tick data ({@code null} not permitted).
+     * 
+     * @return The formatter (never {@code null}). 
+     */
+    private Format tickLabelFormatter(TickData t) {
+        Format f = t.getTickLabelFormatter();
+        return f != null ? f : this.tickLabelFormatter;
+    }
+    
     /**
      * Draws tick labels parallel to the axis.
      * 
@@ -375,6 +389,7 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
         
         g2.setFont(getTickLabelFont());
         double halfAscent = g2.getFontMetrics().getAscent() / 2.0;
+        LabelOverlapGrid grid = createTickLabelOverlapGrid(g2);
         for (TickData t : tickData) {
             Line2D perpLine = Utils2D.createPerpendicularLine(axisLine, 
                     t.getAnchorPt(), getTickMarkLength()
@@ -386,8 +401,14 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
             } else if (axisTheta <= -Math.PI / 2) {
                 axisTheta = axisTheta + Math.PI;  
             }
-            String tickLabel = this.tickLabelFormatter.format(
+            String tickLabel = tickLabelFormatter(t).format(
                     t.getDataValue());
+            if (grid != null && !grid.add(TextUtils.calcRotatedStringBounds(
+                    tickLabel, g2, (float) perpLine.getX2(), 
+                    (float) perpLine.getY2(), textAnchor, axisTheta, 
+                    textAnchor))) {
+                continue;
+            }
             if (hinting) {
                 Map<String, String> m = new HashMap<String, String>();
                 m.put("ref", "{\"type\": \"valueTickLabel\", \"axis\": \"" 
@@ -426,6 +447,7 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
     private void drawPerpendicularTickLabels(Graphics2D g2, Line2D axisLine,
             Point2D opposingPt, List<TickData> tickData, RenderingInfo info,
             boolean hinting) {
+        LabelOverlapGrid grid = createTickLabelOverlapGrid(g2);
         for (TickData t : tickData) {
             double theta = Utils2D.calculateTheta(axisLine);
             double thetaAdj = theta + Math.PI / 2.0;
@@ -444,8 +466,14 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
             if (Math.abs(perpTheta) > Math.PI / 2.0) {
                 textAnchor = TextAnchor.CENTER_RIGHT;
             } 
-            String tickLabel = this.tickLabelFormatter.format(
+            String tickLabel = tickLabelFormatter(t).format(
                     t.getDataValue());
+            if (grid != null && !grid.add(TextUtils.calcRotatedStringBounds(
+                    tickLabel, g2, (float) perpLine.getX2(), 
+                    (float) perpLine.getY2(), textAnchor, thetaAdj, 
+                    textAnchor))) {
+                continue;
+            }
             if (hinting) {
                 Map<String, String> m = new HashMap<String, String>();
                 m.put("ref", "{\"type\": \"valueTickLabel\", \"axis\": \"" 
@@ -488,24 +516,85 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
   
     /**
      * Selects a tick size that is appropriate for drawing the axis from
-     * {@code pt0} to {@code pt1}.
+     * {@code pt0} to {@code pt1} and records it (along with the tick label
+     * formatter) in the axis.  The tick size and formatter are the same as
+     * those returned by {@link #findTickSelection(Graphics2D, Point2D, 
+     * Point2D, Point2D)}.
      * 
      * @param g2  the graphics target ({@code null} not permitted).
      * @param pt0  the starting point for the axis.
      * @param pt1  the ending point for the axis.
      * @param opposingPt  a point on the opposite side of the line from where
      *     the labels should be drawn.
+     * 
+     * @return The tick size.
      */
     @Override
     public double selectTick(Graphics2D g2, Point2D pt0, Point2D pt1, 
             Point2D opposingPt) {
-        
-        if (this.tickSelector == null) {
-            return this.tickSize;
+        TickSelection selection = findTickSelection(g2, pt0, pt1, opposingPt);
+        this.tickSize = selection.getTickSize();
+        this.tickLabelFormatter = selection.getTickLabelFormatter();
+        return this.tickSize;
+    }
+
+    /**
+     * Selects a tick size and formatter that are appropriate for drawing the 
+     * axis from {@code pt0} to {@code pt1}, without modifying the axis.  The
+     * result is cached for the current range, font and (approximate) axis 
+     * length, so repeated calls while a chart is rotated do not repeat the 
+     * search.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param pt0  the starting point for the axis.
+     * @param pt1  the ending point for the axis.
+     * @param opposingPt  a point on the opposite side of the line from where
+     *     the labels should be drawn.
+     * 
+     * @return The tick selection (never {@code null}).
+     * 
+     * @since 1.8
+     */
+    @Override
+    public TickSelection findTickSelection(Graphics2D g2, Point2D pt0, 
+            Point2D pt1, Point2D opposingPt) {
+        TickSelector selector = this.tickSelector;
+        if (selector == null) {
+            return new TickSelection(this.tickSize, this.tickLabelFormatter);
+        }
+        double length = TickSelectionCache.bucketLength(pt0.distance(pt1));
+        TickSelectionCache cache = getTickSelectionCache();
+        TickSelectionCache.Key key = createTickSelectionKey(g2, length);
+        TickSelection result = cache.get(key);
+        if (result != null) {
+            return result;
         }
-        g2.setFont(getTickLabelFont()); 
-        FontMetrics fm = g2.getFontMetrics(getTickLabelFont());        
-        double length = pt0.distance(pt1);
+        FontMetrics fm = g2.getFontMetrics(getTickLabelFont());
+        TickSelector copy = copyTickSelector(selector);
+        if (copy != null) {
+            result = searchTicks(copy, fm, length);
+        } else {
+            synchronized (selector) {
+                result = searchTicks(selector, fm, length);
+            }
+        }
+        cache.put(key, result);
+        return result;
+    }
+    
+    /**
+     * Searches for a tick size using the supplied selector (which is 
+     * modified by the search).
+     * 
+     * @param selector  the tick selector ({@code null} not permitted).
+     * @param fm  the font metrics for the tick label font.
+     * @param length  the projected length of the axis.
+     * 
+     * @return The tick selection. 
+     */
+    private TickSelection searchTicks(TickSelector selector, FontMetrics fm,
+            double length) {
+        Range r = getRange();
         LabelOrientation orientation = getTickLabelOrientation();
         if (orientation.equals(LabelOrientation.PERPENDICULAR)) {
             // based on the font height, we can determine roughly how many tick
@@ -514,53 +603,47 @@ public class NumberAxis3D extends AbstractValueAxis3D implements ValueAxis3D,
             // the tickLabelFactor allows some control over how dense the labels
             // will be
             int maxTicks = (int) (length / (height * getTickLabelFactor()));
-            if (maxTicks > 2 && this.tickSelector != null) {
-                double rangeLength = getRange().getLength();
-                this.tickSelector.select(rangeLength / 2.0);
+            if (maxTicks > 2) {
+                double rangeLength = r.getLength();
+                selector.select(rangeLength / 2.0);
                 // step through until we have too many ticks OR we run out of 
                 // tick sizes
                 int tickCount = (int) (rangeLength 
-                        / this.tickSelector.getCurrentTickSize());
+                        / selector.getCurrentTickSize());
                 while (tickCount < maxTicks) {
-                    this.tickSelector.previous();
+                    selector.previous();
                     tickCount = (int) (rangeLength
-                            / this.tickSelector.getCurrentTickSize());
+                            / selector.getCurrentTickSize());
                 }
-                this.tickSelector.next();
-                this.tickSize = this.tickSelector.getCurrentTickSize();
-                this.tickLabelFormatter 
-                        = this.tickSelector.getCurrentTickLabelFormat();
-            } else {
-                this.tickSize = Double.NaN;
-            }
-        } else if (orientation.equals(LabelOrientation.PARALLEL)) {
-            // choose a unit that is at least as large as the length of the axis
-            this.tickSelector.select(getRange().getLength());
-            boolean done = false;
-            while (!done) {
-                if (this.tickSelector.previous()) {
-                    // estimate the label widths, and do they overlap?
-                    Format f = this.tickSelector.getCurrentTickLabelFormat();
-                    String s0 = f.format(this.range.getMin());
-                    String s1 = f.format(this.range.getMax());
-                    double w0 = fm.stringWidth(s0);
-                    double w1 = fm.stringWidth(s1);
-                    double w = Math.max(w0, w1);
-                    int n = (int) (length / (w * this.getTickLabelFactor()));
-                    if (n < getRange().getLength() 
-                            / tickSelector.getCurrentTickSize()) {
-                        tickSelector.next();
-                        done = true;
-                    }
-                } else {
+                selector.next();
+                return new TickSelection(selector.getCurrentTickSize(), 
+                        selector.getCurrentTickLabelFormat());
+            } 
+            return new TickSelection(Double.NaN, this.tickLabelFormatter);
+        } 
+        // choose a unit that is at least as large as the length of the axis
+        selector.select(r.getLength());
+        boolean done = false;
+        while (!done) {
+            if (selector.previous()) {
+                // estimate the label widths, and do they overlap?
+                Format f = selector.getCurrentTickLabelFormat();
+                String s0 = f.format(r.getMin());
+                String s1 = f.format(r.getMax());
+                double w0 = fm.stringWidth(s0);
+                double w1 = fm.stringWidth(s1);
+                double w = Math.max(w0, w1);
+                int n = (int) (length / (w * this.getTickLabelFactor()));
+                if (n < r.getLength() / selector.getCurrentTickSize()) {
+                    selector.next();
                     done = true;
                 }
+            } else {
+                done = true;
             }
-            this.tickSize = this.tickSelector.getCurrentTickSize();
-            this.tickLabelFormatter 
-                    = this.tickSelector.getCurrentTickLabelFormat();
         }
-        return this.tickSize;
+        return new TickSelection(selector.getCurrentTickSize(), 
+                selector.getCurrentTickLabelFormat());
     }
 
     /**
@@ -46,7 +46,8 @@ import com.orsoncharts.util.ArgChecks;
  * instances of this class. 
  */
 @SuppressWarnings("serial")
-public class NumberTickSelector implements TickSelector, Serializable {
+public class NumberTickSelector implements TickSelector, Cloneable, 
+        Serializable {
 
     private int power = 0;
     
@@ -186,6 +187,37 @@ public class NumberTickSelector implements TickSelector, Serializable {
                 : new DecimalFormat("0.0000E0");
     }
     
+    /**
+     * Returns a clone of the selector, including the current cursor 
+     * position.  The formatters are also cloned so that the clone can be 
+     * used on a different thread to the original.
+     * 
+     * @return A clone (never {@code null}).
+     * 
+     * @since 1.8
+     */
+    @Override
+    public NumberTickSelector clone() {
+        NumberTickSelector clone;
+        try {
+            clone = (NumberTickSelector) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(
+                    "If we get here, a bug needs fixing.");
+        }
+        clone.dfNeg4 = (DecimalFormat) this.dfNeg4.clone();
+        clone.dfNeg3 = (DecimalFormat) this.dfNeg3.clone();
+        clone.dfNeg2 = (DecimalFormat) this.dfNeg2.clone();
+        clone.dfNeg1 = (DecimalFormat) this.dfNeg1.clone();
+        clone.df0 = (DecimalFormat) this.df0.clone();
+        clone.dfNeg4P = (DecimalFormat) this.dfNeg4P.clone();
+        clone.dfNeg3P = (DecimalFormat) this.dfNeg3P.clone();
+        clone.dfNeg2P = (DecimalFormat) this.dfNeg2P.clone();
+        clone.dfNeg1P = (DecimalFormat) this.dfNeg1P.clone();
+        clone.df0P = (DecimalFormat) this.df0P.clone();
+        return clone;
+    }
+    
     /**
      * Tests this instance for equality with an arbitrary object.
      * 
@@ -55,6 +55,7 @@ import com.orsoncharts.Chart3DHints;
 import com.orsoncharts.ChartElementVisitor;
 import com.orsoncharts.Range;
 import com.orsoncharts.data.category.CategoryDataset3D;
+import com.orsoncharts.graphics3d.LabelOverlapGrid;
 import com.orsoncharts.graphics3d.RenderedElement;
 import com.orsoncharts.graphics3d.RenderingInfo;
 import com.orsoncharts.graphics3d.Utils2D;
@@ -747,7 +748,7 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
             }
             String tickLabel = t.getKeyLabel();
             maxTickLabelWidth = Math.max(maxTickLabelWidth, 
-                    g2.getFontMetrics().stringWidth(tickLabel));
+                    TextUtils.getTextBounds(tickLabel, g2).getWidth());
         }
 
         double maxTickLabelDim = maxTickLabelWidth;
@@ -817,6 +818,7 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
             levels = Math.min(levelsRequired, this.maxTickLabelLevels);
         }
         
+        LabelOverlapGrid grid = createTickLabelOverlapGrid(g2);
         int index = 0;
         for (TickData t : tickData) {
             int level = index % levels;
@@ -832,6 +834,13 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
                 axisTheta = axisTheta + Math.PI;  
             }
             String tickLabel = t.getKeyLabel();
+            if (grid != null && !grid.add(TextUtils.calcRotatedStringBounds(
+                    tickLabel, g2, (float) perpLine.getX2(), 
+                    (float) perpLine.getY2(), textAnchor, axisTheta, 
+                    textAnchor))) {
+                index++;
+                continue;
+            }
             if (hinting) {
                 Map<String, String> m = new HashMap<String, String>();
                 m.put("ref", "{\"type\": \"categoryTickLabel\", \"axis\": \"" 
@@ -875,6 +884,7 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
             Point2D opposingPt, List<TickData> tickData, RenderingInfo info,
             boolean hinting) {
         
+        LabelOverlapGrid grid = createTickLabelOverlapGrid(g2);
         for (TickData t : tickData) {
             Line2D perpLine = Utils2D.createPerpendicularLine(axisLine, 
                     t.getAnchorPt(), this.tickMarkLength 
@@ -889,6 +899,12 @@ public class StandardCategoryAxis3D extends AbstractAxis3D
                 textAnchor = TextAnchor.CENTER_RIGHT;   
             }
             String tickLabel = t.getKeyLabel();
+            if (grid != null && !grid.add(TextUtils.calcRotatedStringBounds(
+                    tickLabel, g2, (float) perpLine.getX2(), 
+                    (float) perpLine.getY2(), textAnchor, perpTheta, 
+                    textAnchor))) {
+                continue;
+            }
             if (hinting) {
                 Map m = new HashMap<String, String>();
                 m.put("ref", "{\"type\": \"categoryAxisLabel\", \"axis\": \"" 
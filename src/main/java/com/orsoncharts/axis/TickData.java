@@ -33,6 +33,7 @@
 package com.orsoncharts.axis;
 
 import java.awt.geom.Point2D;
+import java.text.Format;
 import com.orsoncharts.util.ArgChecks;
 
 /**
@@ -61,6 +62,12 @@ public class TickData {
     /** The anchor point. */
     private Point2D anchorPt;
     
+    /** 
+     * The formatter for the tick label (used for ValueAxis3D, if 
+     * {@code null} the axis uses its own formatter). 
+     */
+    private Format tickLabelFormatter;
+    
     /**
      * Creates a new instance.  This constructor is used for category axes.
      * 
@@ -106,6 +113,7 @@ public class TickData {
         this.key = source.key;
         this.keyLabel = source.keyLabel;
         this.anchorPt = source.anchorPt;
+        this.tickLabelFormatter = source.tickLabelFormatter;
         this.vertexIndex = vertexIndex;
     }
     
@@ -188,4 +196,29 @@ public class TickData {
     public void setAnchorPt(Point2D anchorPt) {
         this.anchorPt = anchorPt;
     }
+    
+    /**
+     * Returns the formatter for the tick label.  This is set by
+     * {@link TickSelectionSupport#generateTickData(TickSelection)} so that 
+     * the tick labels are formatted with the formatter selected for the 
+     * current rendering rather than state held by the axis.
+     * 
+     * @return The formatter (possibly {@code null}).
+     * 
+     * @since 1.8
+     */
+    public Format getTickLabelFormatter() {
+        return this.tickLabelFormatter;
+    }
+    
+    /**
+     * Sets the formatter for the tick label.
+     * 
+     * @param formatter  the formatter ({@code null} permitted).
+     * 
+     * @since 1.8
+     */
+    public void setTickLabelFormatter(Format formatter) {
+        this.tickLabelFormatter = formatter;
+    }
 }
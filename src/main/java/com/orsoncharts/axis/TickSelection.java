@@ -0,0 +1,83 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.axis;
+
+import java.text.Format;
+
+/**
+ * The tick size and tick label formatter selected for a value axis.  
+ * Instances of this class are immutable.
+ * 
+ * @since 1.8
+ */
+public final class TickSelection {
+    
+    /** The tick size ({@code Double.NaN} if only the bounds are labelled). */
+    private final double tickSize;
+    
+    /** The tick label formatter ({@code null} to use the axis formatter). */
+    private final Format tickLabelFormatter;
+    
+    /**
+     * Creates a new instance.
+     * 
+     * @param tickSize  the tick size ({@code Double.NaN} permitted).
+     * @param tickLabelFormatter  the tick label formatter ({@code null} 
+     *     permitted, in which case the ticks are labelled with the axis 
+     *     formatter).
+     */
+    public TickSelection(double tickSize, Format tickLabelFormatter) {
+        this.tickSize = tickSize;
+        this.tickLabelFormatter = tickLabelFormatter;
+    }
+    
+    /**
+     * Returns the tick size.
+     * 
+     * @return The tick size (possibly {@code Double.NaN}). 
+     */
+    public double getTickSize() {
+        return this.tickSize;
+    }
+    
+    /**
+     * Returns the tick label formatter.
+     * 
+     * @return The tick label formatter (possibly {@code null}). 
+     */
+    public Format getTickLabelFormatter() {
+        return this.tickLabelFormatter;
+    }
+    
+}
@@ -0,0 +1,203 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.axis;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.orsoncharts.Range;
+import com.orsoncharts.util.ObjectUtils;
+
+/**
+ * A small least-recently-used cache of {@link TickSelection} results for a
+ * value axis.  When a chart is rotated the projected length of an axis
+ * changes a little from frame to frame but the selected tick size almost 
+ * never does, so the axes round the length to a bucket (see 
+ * {@link #bucketLength(double)}) and look up the result here before 
+ * searching for a tick size.  The entries depend on the axis attributes, 
+ * so the owning axis clears the cache whenever it changes.
+ */
+final class TickSelectionCache {
+    
+    /** The width (in Java2D units) of each projected axis length bucket. */
+    static final double LENGTH_BUCKET = 4.0;
+    
+    /** The maximum number of entries retained. */
+    private static final int MAX_ENTRIES = 16;
+    
+    /** The cached selections, in access order. */
+    private final Map<Key, TickSelection> entries;
+    
+    /**
+     * Creates a new empty cache.
+     */
+    @SuppressWarnings("serial")
+    TickSelectionCache() {
+        this.entries = new LinkedHashMap<Key, TickSelection>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<Key, TickSelection> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+    
+    /**
+     * Rounds an axis length to the middle of its bucket.  Tick selection is
+     * performed using the rounded length so that the cached result is the
+     * same as the result that would be calculated.
+     * 
+     * @param length  the projected axis length.
+     * 
+     * @return The rounded length. 
+     */
+    static double bucketLength(double length) {
+        return (Math.floor(length / LENGTH_BUCKET) + 0.5) * LENGTH_BUCKET;
+    }
+    
+    /**
+     * Returns the cached selection for the key, or {@code null}.
+     * 
+     * @param key  the key.
+     * 
+     * @return The selection (possibly {@code null}). 
+     */
+    synchronized TickSelection get(Key key) {
+        return this.entries.get(key);
+    }
+    
+    /**
+     * Adds a selection to the cache.
+     * 
+     * @param key  the key.
+     * @param selection  the selection.
+     */
+    synchronized void put(Key key, TickSelection selection) {
+        this.entries.put(key, selection);
+    }
+    
+    /**
+     * Removes all entries from the cache.
+     */
+    synchronized void clear() {
+        this.entries.clear();
+    }
+    
+    /**
+     * Returns the number of entries in the cache.
+     * 
+     * @return The number of entries. 
+     */
+    synchronized int size() {
+        return this.entries.size();
+    }
+    
+    /**
+     * The inputs to a tick selection.
+     */
+    static final class Key {
+        
+        private final Range range;
+        
+        private final double length;
+        
+        private final Font font;
+        
+        private final FontRenderContext frc;
+        
+        private final LabelOrientation orientation;
+        
+        private final double tickLabelFactor;
+        
+        /**
+         * Creates a new key.
+         * 
+         * @param range  the axis range.
+         * @param length  the projected axis length (already bucketed).
+         * @param font  the tick label font.
+         * @param frc  the font render context.
+         * @param orientation  the tick label orientation.
+         * @param tickLabelFactor  the tick label factor.
+         */
+        Key(Range range, double length, Font font, FontRenderContext frc,
+                LabelOrientation orientation, double tickLabelFactor) {
+            this.range = range;
+            this.length = length;
+            this.font = font;
+            this.frc = frc;
+            this.orientation = orientation;
+            this.tickLabelFactor = tickLabelFactor;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            if (this.length != that.length) {
+                return false;
+            }
+            if (this.tickLabelFactor != that.tickLabelFactor) {
+                return false;
+            }
+            if (this.orientation != that.orientation) {
+                return false;
+            }
+            if (!ObjectUtils.equals(this.range, that.range)) {
+                return false;
+            }
+            if (!ObjectUtils.equals(this.font, that.font)) {
+                return false;
+            }
+            return ObjectUtils.equals(this.frc, that.frc);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 7;
+            long bits = Double.doubleToLongBits(this.length);
+            hash = 37 * hash + (int) (bits ^ (bits >>> 32));
+            hash = 37 * hash + ObjectUtils.hashCode(this.range);
+            hash = 37 * hash + ObjectUtils.hashCode(this.font);
+            hash = 37 * hash + ObjectUtils.hashCode(this.orientation);
+            return hash;
+        }
+    }
+    
+}
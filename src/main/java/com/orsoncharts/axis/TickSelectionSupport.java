@@ -0,0 +1,89 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.axis;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.util.List;
+
+/**
+ * An optional interface for a {@link ValueAxis3D} that can select ticks 
+ * without modifying its own state, so that the axis can be drawn by more 
+ * than one thread at the same time.  The chart uses these methods when an 
+ * axis implements this interface, and otherwise falls back to 
+ * {@link ValueAxis3D#selectTick(Graphics2D, Point2D, Point2D, Point2D)} and
+ * {@link ValueAxis3D#generateTickData(double)}.  
+ * <br><br>
+ * Only the tick selection is thread-safe.  Drawing the same {@code Chart3D}
+ * from more than one thread at the same time is not supported (the chart 
+ * caches its 3D model, legend and layout, and the view point reuses a
+ * workspace while projecting), so use a separate chart instance for each
+ * thread.
+ * <br><br>
+ * This interface is implemented by {@link NumberAxis3D} and 
+ * {@link LogAxis3D}.
+ * 
+ * @since 1.8
+ */
+public interface TickSelectionSupport {
+    
+    /**
+     * Selects an appropriate tick size and format for the axis based on
+     * the axis being rendered from {@code pt0} to {@code pt1}, without 
+     * modifying the state of the axis.
+     * 
+     * @param g2  the graphics target.
+     * @param pt0  the starting point.
+     * @param pt1  the ending point.
+     * @param opposingPt  a point on the opposite side of the axis from the 
+     *     labels.
+     * 
+     * @return The tick selection (never {@code null}).
+     */
+    TickSelection findTickSelection(Graphics2D g2, Point2D pt0, Point2D pt1, 
+            Point2D opposingPt);
+    
+    /**
+     * Generates a list of tick data items for the specified tick selection.
+     * Each item carries a tick label formatter that is private to the 
+     * returned list, and this is used in preference to the axis formatter
+     * when the axis is drawn.
+     * 
+     * @param selection  the tick selection ({@code null} not permitted).
+     * 
+     * @return A list of tick data (never {@code null}). 
+     */
+    List<TickData> generateTickData(TickSelection selection);
+
+}
@@ -0,0 +1,129 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.util.Collections;
+import java.util.List;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * The results for a batch of jobs executed by a {@link BatchRenderer}, 
+ * together with summary statistics for the batch.
+ * 
+ * @since 1.8
+ */
+public final class BatchRenderResult {
+    
+    /** The job results, in the same order as the submitted jobs. */
+    private final List<RenderJobResult> results;
+    
+    /** The elapsed (wall clock) time for the batch in nanoseconds. */
+    private final long elapsedNanos;
+    
+    /**
+     * Creates a new instance.
+     * 
+     * @param results  the job results ({@code null} not permitted).
+     * @param elapsedNanos  the elapsed time for the batch (in nanoseconds).
+     */
+    public BatchRenderResult(List<RenderJobResult> results, 
+            long elapsedNanos) {
+        ArgChecks.nullNotPermitted(results, "results");
+        this.results = Collections.unmodifiableList(results);
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    /**
+     * Returns the job results, in the order that the jobs were submitted.
+     * 
+     * @return An unmodifiable list of results (never {@code null}). 
+     */
+    public List<RenderJobResult> getResults() {
+        return this.results;
+    }
+    
+    /**
+     * Returns the elapsed (wall clock) time for the batch in nanoseconds.
+     * 
+     * @return The elapsed time. 
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+    
+    /**
+     * Returns the number of jobs that failed.
+     * 
+     * @return The failure count. 
+     */
+    public int getFailureCount() {
+        int count = 0;
+        for (RenderJobResult r : this.results) {
+            if (!r.isSuccess()) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Returns the throughput for the batch, in jobs per second.
+     * 
+     * @return The throughput. 
+     */
+    public double getThroughput() {
+        if (this.elapsedNanos <= 0L) {
+            return 0.0;
+        }
+        return this.results.size() / (this.elapsedNanos / 1.0e9);
+    }
+    
+    /**
+     * Returns the mean latency (queue time plus render time) for the jobs 
+     * in the batch, in nanoseconds.
+     * 
+     * @return The mean latency. 
+     */
+    public double getMeanLatencyNanos() {
+        if (this.results.isEmpty()) {
+            return 0.0;
+        }
+        long total = 0L;
+        for (RenderJobResult r : this.results) {
+            total += r.getLatencyNanos();
+        }
+        return (double) total / this.results.size();
+    }
+    
+}
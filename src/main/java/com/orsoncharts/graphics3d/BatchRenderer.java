@@ -0,0 +1,297 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.util.ExportFormat;
+
+/**
+ * Renders batches of {@link RenderJob} instances on a fixed-size pool of 
+ * worker threads.  For the bitmap formats (PNG and JPEG) the image buffers
+ * are taken from an {@link ImagePool} and returned after use, so that a
+ * steady stream of similarly sized jobs does not allocate a new image for 
+ * every chart.  PDF and SVG jobs are delegated to {@link ExportUtils}.
+ * <br><br>
+ * Each job is timed, and the results (see {@link BatchRenderResult}) report
+ * the latency for every job as well as the throughput for the batch.  Call 
+ * {@link #shutdown()} when the renderer is no longer required.
+ * 
+ * @since 1.8
+ */
+public class BatchRenderer {
+    
+    /** The number of worker threads. */
+    private final int threadCount;
+    
+    /** The worker pool. */
+    private final ExecutorService executor;
+    
+    /** The image pool. */
+    private final ImagePool imagePool;
+    
+    /** The PNG encoder ({@code null} to use {@code ImageIO}). */
+    private volatile PNGEncoder pngEncoder;
+    
+    /**
+     * Creates a new renderer with one worker thread per available processor.
+     */
+    public BatchRenderer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Creates a new renderer with the specified number of worker threads.
+     * The image pool retains up to {@code threadCount} idle images per 
+     * image size.
+     * 
+     * @param threadCount  the number of worker threads (must be positive). 
+     */
+    public BatchRenderer(int threadCount) {
+        this(threadCount, new ImagePool(Math.max(threadCount, 1)));
+    }
+    
+    /**
+     * Creates a new renderer with the specified number of worker threads and
+     * image pool.
+     * 
+     * @param threadCount  the number of worker threads (must be positive).
+     * @param imagePool  the image pool ({@code null} not permitted).
+     */
+    public BatchRenderer(int threadCount, ImagePool imagePool) {
+        ArgChecks.positiveRequired(threadCount, "threadCount");
+        ArgChecks.nullNotPermitted(imagePool, "imagePool");
+        this.threadCount = threadCount;
+        this.imagePool = imagePool;
+        this.executor = Executors.newFixedThreadPool(threadCount, 
+                new WorkerThreadFactory());
+    }
+    
+    /**
+     * Returns the number of worker threads.
+     * 
+     * @return The number of worker threads. 
+     */
+    public int getThreadCount() {
+        return this.threadCount;
+    }
+    
+    /**
+     * Returns the image pool used for bitmap output.
+     * 
+     * @return The image pool (never {@code null}). 
+     */
+    public ImagePool getImagePool() {
+        return this.imagePool;
+    }
+    
+    /**
+     * Returns the encoder used for PNG output.
+     * 
+     * @return The encoder (possibly {@code null}).
+     */
+    public PNGEncoder getPNGEncoder() {
+        return this.pngEncoder;
+    }
+    
+    /**
+     * Sets the encoder used for PNG output.  If {@code null} (the default),
+     * PNG files are written using {@code ImageIO}.
+     * 
+     * @param encoder  the encoder ({@code null} permitted).
+     */
+    public void setPNGEncoder(PNGEncoder encoder) {
+        this.pngEncoder = encoder;
+    }
+    
+    /**
+     * Renders all the jobs in the list and waits for them to complete.  A
+     * failure in one job does not prevent the other jobs from running; the
+     * exception is recorded in the result for the failed job.
+     * 
+     * @param jobs  the jobs ({@code null} not permitted).
+     * 
+     * @return The results (never {@code null}).
+     * 
+     * @throws InterruptedException if the calling thread is interrupted 
+     *     while waiting for the jobs to complete.
+     */
+    public BatchRenderResult render(List<RenderJob> jobs) 
+            throws InterruptedException {
+        ArgChecks.nullNotPermitted(jobs, "jobs");
+        long start = System.nanoTime();
+        List<Future<RenderJobResult>> futures 
+                = new ArrayList<Future<RenderJobResult>>(jobs.size());
+        for (RenderJob job : jobs) {
+            futures.add(this.executor.submit(new JobTask(job, start)));
+        }
+        List<RenderJobResult> results 
+                = new ArrayList<RenderJobResult>(jobs.size());
+        for (Future<RenderJobResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException ex) {
+                // JobTask catches all exceptions, so this is unexpected
+                throw new RuntimeException(ex.getCause());
+            }
+        }
+        return new BatchRenderResult(results, System.nanoTime() - start);
+    }
+    
+    /**
+     * Renders a single job on the calling thread.
+     * 
+     * @param job  the job ({@code null} not permitted).
+     * 
+     * @return The rendering info.
+     * 
+     * @throws IOException if there is an I/O problem writing the output.
+     */
+    protected RenderingInfo renderJob(RenderJob job) throws IOException {
+        ExportFormat format = job.getFormat();
+        if (format == ExportFormat.PDF) {
+            return ExportUtils.writeAsPDF(job.getDrawable(), job.getWidth(), 
+                    job.getHeight(), job.getFile());
+        }
+        if (format == ExportFormat.SVG) {
+            return ExportUtils.writeAsSVG(job.getDrawable(), job.getWidth(), 
+                    job.getHeight(), job.getFile());
+        }
+        int imageType = (format == ExportFormat.JPEG 
+                ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        BufferedImage image = this.imagePool.acquire(job.getWidth(), 
+                job.getHeight(), imageType);
+        try {
+            Graphics2D g2 = image.createGraphics();
+            RenderingInfo info;
+            try {
+                info = job.getDrawable().draw(g2, 
+                        new Rectangle(job.getWidth(), job.getHeight()));
+            } finally {
+                g2.dispose();
+            }
+            OutputStream out = new BufferedOutputStream(
+                    new FileOutputStream(job.getFile()));
+            try {
+                PNGEncoder encoder = this.pngEncoder;
+                if (format == ExportFormat.PNG && encoder != null) {
+                    encoder.encode(image, out);
+                } else {
+                    ImageIO.write(image, format == ExportFormat.JPEG ? "jpg" 
+                            : "png", out);
+                }
+            } finally {
+                out.close();
+            }
+            return info;
+        } finally {
+            this.imagePool.release(image);
+        }
+    }
+    
+    /**
+     * Shuts down the worker threads.  Jobs already submitted will run to
+     * completion, but no further batches can be rendered.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+    
+    /**
+     * A task that runs one job and records the timing.
+     */
+    private class JobTask implements Callable<RenderJobResult> {
+        
+        private final RenderJob job;
+        
+        private final long submitTime;
+        
+        JobTask(RenderJob job, long submitTime) {
+            this.job = job;
+            this.submitTime = submitTime;
+        }
+
+        @Override
+        public RenderJobResult call() {
+            long start = System.nanoTime();
+            RenderingInfo info = null;
+            Exception exception = null;
+            try {
+                info = renderJob(this.job);
+            } catch (Exception ex) {
+                exception = ex;
+            }
+            long end = System.nanoTime();
+            return new RenderJobResult(this.job, info, exception, 
+                    start - this.submitTime, end - start);
+        }
+    }
+    
+    /**
+     * Creates daemon worker threads with recognisable names.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+        
+        private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+        
+        private final int poolNumber = POOL_NUMBER.incrementAndGet();
+        
+        private final AtomicInteger threadNumber = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "orson-batch-" + this.poolNumber + "-" 
+                    + this.threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+
+}
@@ -40,7 +40,6 @@ import java.awt.geom.Rectangle2D;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Point2D;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import com.orsoncharts.util.ArgChecks;
@@ -72,6 +71,12 @@ public class DefaultDrawable3D implements Drawable3D {
     private World world;
 
     private Offset2D offset;
+    
+    /** The lighting model used to shade the faces. */
+    private final LightingModel lightingModel;
+    
+    /** The shaded colors used to fill faces, reused between frames. */
+    private final ShadedColorCache shadedColors;
 
     /**
      * Creates a new instance to display the content of the specified
@@ -86,6 +91,8 @@ public class DefaultDrawable3D implements Drawable3D {
         this.projDist = DEFAULT_PROJ_DIST;
         this.world = world;
         this.offset = new Offset2D();
+        this.lightingModel = new StandardLightingModel();
+        this.shadedColors = new ShadedColorCache();
     }
     
     /**
@@ -182,17 +189,16 @@ public class DefaultDrawable3D implements Drawable3D {
 
         Point2D[] pts = this.world.calculateProjectedPoints(this.viewPoint,
                     this.projDist);
-        List<Face> facesInPaintOrder = new ArrayList<Face>(
-                this.world.getFaces());
+        List<Face> facesInPaintOrder = FaceCuller.cull(this.world.getFaces(), 
+                eyePts, pts, new Rectangle2D.Double(bounds.getX() - dx, 
+                bounds.getY() - dy, bounds.getWidth(), bounds.getHeight()));
 
         // sort faces by z-order
         Collections.sort(facesInPaintOrder, new ZOrderComparator(eyePts));
 
+        FaceShader shader = this.lightingModel.createShader(this.world, 
+                this.viewPoint);
         for (Face f : facesInPaintOrder) {
-            double[] plane = f.calculateNormal(eyePts);
-            double inprod = plane[0] * this.world.getSunX() + plane[1]
-                    * this.world.getSunY() + plane[2] * this.world.getSunZ();
-            double shade = (inprod + 1) / 2.0;
             if (Utils2D.area2(pts[f.getVertexIndex(0)],
                     pts[f.getVertexIndex(1)], pts[f.getVertexIndex(2)]) > 0) {
                 Color c = f.getColor();
@@ -209,9 +215,9 @@ public class DefaultDrawable3D implements Drawable3D {
                         }
                     }
                     p.closePath();
-                    g2.setPaint(new Color((int) (c.getRed() * shade),
-                        (int) (c.getGreen() * shade),
-                        (int) (c.getBlue() * shade), c.getAlpha()));
+                    double[] n = f.getNormal();
+                    double shade = shader.calculateShade(n[0], n[1], n[2]);
+                    g2.setPaint(this.shadedColors.getShadedColor(c, shade));
                     g2.fill(p);
                     g2.draw(p);
                 }
@@ -191,6 +191,44 @@ public class ExportUtils {
         return result;
     }
 
+    /**
+     * Writes the current content to the specified file in PNG format, using
+     * the supplied encoder rather than {@code ImageIO}.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param w  the chart width.
+     * @param h  the chart height.
+     * @param file  the output file ({@code null} not permitted).
+     * @param encoder  the PNG encoder ({@code null} not permitted).
+     * 
+     * @return The rendering info.
+     * 
+     * @throws FileNotFoundException if the file is not found.
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.8
+     */
+    public static RenderingInfo writeAsPNG(Drawable3D drawable, int w, int h, 
+            File file, PNGEncoder encoder) throws FileNotFoundException, 
+            IOException {
+        ArgChecks.nullNotPermitted(drawable, "drawable");
+        ArgChecks.nullNotPermitted(file, "file");
+        ArgChecks.nullNotPermitted(encoder, "encoder");
+        BufferedImage image = new BufferedImage(w, h, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        RenderingInfo result = drawable.draw(g2, new Rectangle(w, h));
+        g2.dispose();
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            encoder.encode(image, out);
+        }
+        finally {
+            out.close();
+        }
+        return result;
+    }
+
     /**
      * Writes the current content to the specified file in JPEG format.
      * 
@@ -60,6 +60,12 @@ public class Face {
      * case with just two vertices to represent a line.
      */
     private int[] vertices;
+    
+    /** 
+     * The unit normal in world coordinates (calculated on first use, or 
+     * specified via {@link #setNormal(double, double, double)}).
+     */
+    private double[] normal;
 
     /**
      * Creates a new face with the specified vertices that is part of the 3D
@@ -201,6 +207,61 @@ public class Face {
         return new double[] {a, b, c};
     }
 
+    /**
+     * Returns the unit normal for this face in world coordinates, which is 
+     * used to shade the face (see {@link LightingModel}).  Unless a normal 
+     * has been set with {@link #setNormal(double, double, double)}, it is
+     * calculated from the first three vertices of the face the first time 
+     * this method is called, and reused after that (the vertices of an 
+     * object do not move once the object has been added to a world).  The
+     * array returned is the internal storage for the normal and must not be
+     * modified.
+     * 
+     * @return The normal (an array with the x, y and z components).
+     * 
+     * @since 1.8
+     */
+    public double[] getNormal() {
+        if (this.normal == null) {
+            this.normal = calculateGeometricNormal();
+        }
+        return this.normal;
+    }
+    
+    /**
+     * Sets the normal used to shade this face, for example an average of
+     * the surface normals at the vertices to give a smooth appearance to a
+     * surface made up of many small faces.  The vector is normalised, and
+     * reversed if necessary so that it points to the same side of the face
+     * as the normal calculated from the vertices (so the face is lit from the
+     * same side).  The vertices of the face must be added to the owner 
+     * before this method is called.
+     * 
+     * @param x  the x-component.
+     * @param y  the y-component.
+     * @param z  the z-component.
+     * 
+     * @since 1.8
+     */
+    public void setNormal(double x, double y, double z) {
+        double[] n = calculateGeometricNormal();
+        double len = Math.sqrt(x * x + y * y + z * z);
+        if (x * n[0] + y * n[1] + z * n[2] < 0.0) {
+            len = -len;
+        }
+        this.normal = new double[] {x / len, y / len, z / len};
+    }
+    
+    /**
+     * Calculates the unit normal for this face from the first three 
+     * vertices (in world coordinates).
+     * 
+     * @return The normal. 
+     */
+    private double[] calculateGeometricNormal() {
+        return this.owner.calculateNormal(this.vertices);
+    }
+
     /**
      * Returns the average z-value.
      *
@@ -229,6 +290,29 @@ public class Face {
                 projPts[getVertexIndex(1)], projPts[getVertexIndex(2)]) > 0;  
     }
 
+    /**
+     * Returns the area of this face after projection to 2D.  The result 
+     * is always positive (or zero), whichever way the face is facing.
+     * 
+     * @param projPts  the projected points for the world ({@code null} not 
+     *     permitted).
+     * 
+     * @return The projected area.
+     * 
+     * @since 1.8
+     */
+    public double calculateProjectedArea(Point2D[] projPts) {
+        int count = getVertexCount();
+        double total = 0.0;
+        Point2D p0 = projPts[getVertexIndex(count - 1)];
+        for (int v = 0; v < count; v++) {
+            Point2D p1 = projPts[getVertexIndex(v)];
+            total += p0.getX() * p1.getY() - p1.getX() * p0.getY();
+            p0 = p1;
+        }
+        return Math.abs(total) / 2.0;
+    }
+
     /**
      * Creates and returns a path for the outline of this face.
      * 
@@ -0,0 +1,140 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * Removes the faces that cannot contribute to the rendered image before 
+ * they are sorted into paint order.  A face is culled if:
+ * <ul>
+ * <li>it is a single-sided polygon facing away from the viewer (see 
+ * {@link Face#isFrontFacing(Point2D[])});</li>
+ * <li>any of its vertices is at or behind the eye (eye coordinates with 
+ * {@code z >= 0}), since the projection of such a vertex is not 
+ * meaningful;</li>
+ * <li>the bounds of its projected vertices lie entirely outside the clip
+ * rectangle.</li>
+ * </ul>
+ * {@link DoubleSidedFace} instances are never culled as back-facing, and 
+ * {@link LabelFace} instances (which are drawn as text that can extend 
+ * beyond the face) are only culled when they are behind the eye.
+ * 
+ * @since 1.8
+ */
+public class FaceCuller {
+    
+    private FaceCuller() {
+        // no need to instantiate
+    }
+    
+    /**
+     * Returns a new list containing the faces that survive culling, in their
+     * original order.
+     * 
+     * @param faces  the faces ({@code null} not permitted).
+     * @param eyePts  the eye coordinates for the vertices in the world 
+     *     ({@code null} not permitted).
+     * @param pts  the projected points for the vertices in the world 
+     *     ({@code null} not permitted).
+     * @param clip  the clip rectangle in the same coordinate space as 
+     *     {@code pts} ({@code null} permitted, in which case no faces are 
+     *     culled for lying outside the clip).
+     * 
+     * @return The faces that are not culled (never {@code null}).
+     */
+    public static List<Face> cull(List<Face> faces, Point3D[] eyePts, 
+            Point2D[] pts, Rectangle2D clip) {
+        ArgChecks.nullNotPermitted(faces, "faces");
+        ArgChecks.nullNotPermitted(eyePts, "eyePts");
+        ArgChecks.nullNotPermitted(pts, "pts");
+        List<Face> result = new ArrayList<Face>(faces.size());
+        for (Face f : faces) {
+            if (isVisible(f, eyePts, pts, clip)) {
+                result.add(f);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Returns {@code true} if the face survives culling, and 
+     * {@code false} otherwise.
+     * 
+     * @param f  the face.
+     * @param eyePts  the eye coordinates.
+     * @param pts  the projected points.
+     * @param clip  the clip rectangle ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    private static boolean isVisible(Face f, Point3D[] eyePts, Point2D[] pts,
+            Rectangle2D clip) {
+        int count = f.getVertexCount();
+        for (int i = 0; i < count; i++) {
+            if (eyePts[f.getVertexIndex(i)].z >= 0.0) {
+                return false;
+            }
+        }
+        if (f instanceof LabelFace) {
+            return true;
+        }
+        if (count > 2 && !(f instanceof DoubleSidedFace) 
+                && !f.isFrontFacing(pts)) {
+            return false;
+        }
+        if (clip == null) {
+            return true;
+        }
+        Point2D p = pts[f.getVertexIndex(0)];
+        double minX = p.getX();
+        double maxX = minX;
+        double minY = p.getY();
+        double maxY = minY;
+        for (int i = 1; i < count; i++) {
+            p = pts[f.getVertexIndex(i)];
+            minX = Math.min(minX, p.getX());
+            maxX = Math.max(maxX, p.getX());
+            minY = Math.min(minY, p.getY());
+            maxY = Math.max(maxY, p.getY());
+        }
+        return maxX >= clip.getMinX() && minX <= clip.getMaxX() 
+                && maxY >= clip.getMinY() && minY <= clip.getMaxY();
+    }
+    
+}
@@ -0,0 +1,233 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * Reduces the number of tiny faces that must be filled when a chart is 
+ * drawn at a small size (for example, as a thumbnail).  A polygon face 
+ * whose projected area is below a threshold is "small": it is filled as the
+ * device pixel containing its centre (see 
+ * {@link #calculateCell(Face, Point2D[], AffineTransform, Rectangle2D)})
+ * rather than as a path, and when several small faces have their centres 
+ * in the same device pixel only the last one in paint order (the one 
+ * nearest to the viewer) is kept.
+ * <br><br>
+ * The projected points are in user space, and the transform passed to 
+ * the methods of this class maps them to device space (normally the 
+ * current transform of the {@code Graphics2D} target).
+ * <br><br>
+ * Lines (faces with two vertices) and {@link LabelFace} instances are 
+ * never treated as small.
+ * 
+ * @since 1.8
+ */
+public class FaceDecimator {
+    
+    private FaceDecimator() {
+        // no need to instantiate
+    }
+    
+    /**
+     * Returns {@code true} if the face is a polygon with a projected area
+     * less than {@code minArea}, and {@code false} otherwise.
+     * 
+     * @param f  the face ({@code null} not permitted).
+     * @param pts  the projected points for the vertices in the world 
+     *     ({@code null} not permitted).
+     * @param minArea  the minimum area (in user space) for a face to be 
+     *     drawn as a path.
+     * 
+     * @return A boolean. 
+     */
+    public static boolean isSmall(Face f, Point2D[] pts, double minArea) {
+        if (f.getVertexCount() < 3 || f instanceof LabelFace) {
+            return false;
+        }
+        return f.calculateProjectedArea(pts) < minArea;
+    }
+    
+    /**
+     * Returns a new list containing the faces in paint order, with all but
+     * the last small face in each device pixel removed.  Faces that are not
+     * small are always retained.
+     * 
+     * @param faces  the faces in paint order ({@code null} not permitted).
+     * @param pts  the projected points for the vertices in the world 
+     *     ({@code null} not permitted).
+     * @param minArea  the minimum area (in user space) for a face to be 
+     *     drawn as a path.
+     * @param toDevice  the transform from user space to device space 
+     *     ({@code null} not permitted).
+     * 
+     * @return The decimated faces (never {@code null}).
+     */
+    public static List<Face> decimate(List<Face> faces, Point2D[] pts, 
+            double minArea, AffineTransform toDevice) {
+        return decimate(faces, pts, minArea, toDevice, null);
+    }
+    
+    /**
+     * Returns a new list containing the faces in paint order, with all but
+     * the last small face in each device pixel removed, and adds the small
+     * faces that are retained to {@code smallFaces} (if it is not 
+     * {@code null}).  The caller can then check that set rather than 
+     * calling {@link #isSmall(Face, Point2D[], double)} again for each face.
+     * 
+     * @param faces  the faces in paint order ({@code null} not permitted).
+     * @param pts  the projected points for the vertices in the world 
+     *     ({@code null} not permitted).
+     * @param minArea  the minimum area (in user space) for a face to be 
+     *     drawn as a path.
+     * @param toDevice  the transform from user space to device space 
+     *     ({@code null} not permitted).
+     * @param smallFaces  a set to receive the small faces that are 
+     *     retained ({@code null} permitted).
+     * 
+     * @return The decimated faces (never {@code null}).
+     */
+    public static List<Face> decimate(List<Face> faces, Point2D[] pts, 
+            double minArea, AffineTransform toDevice, Set<Face> smallFaces) {
+        ArgChecks.nullNotPermitted(faces, "faces");
+        ArgChecks.nullNotPermitted(pts, "pts");
+        ArgChecks.nullNotPermitted(toDevice, "toDevice");
+        Map<Long, Integer> lastInPixel = new HashMap<Long, Integer>();
+        long[] keys = new long[faces.size()];
+        boolean[] small = new boolean[faces.size()];
+        double[] c = new double[2];
+        for (int i = 0; i < faces.size(); i++) {
+            Face f = faces.get(i);
+            if (isSmall(f, pts, minArea)) {
+                small[i] = true;
+                calculateDeviceCentre(f, pts, toDevice, c);
+                long col = (long) Math.floor(c[0]);
+                long row = (long) Math.floor(c[1]);
+                keys[i] = (col << 32) ^ (row & 0xFFFFFFFFL);
+                lastInPixel.put(keys[i], i);
+            }
+        }
+        if (lastInPixel.isEmpty()) {
+            return new ArrayList<Face>(faces);
+        }
+        List<Face> result = new ArrayList<Face>(faces.size());
+        for (int i = 0; i < faces.size(); i++) {
+            if (!small[i]) {
+                result.add(faces.get(i));
+            } else if (lastInPixel.get(keys[i]) == i) {
+                result.add(faces.get(i));
+                if (smallFaces != null) {
+                    smallFaces.add(faces.get(i));
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the device pixel containing the centre of the face, as a 
+     * shape in user space.  If the transform has no rotation or shear the
+     * pixel is a rectangle and the {@code result} rectangle is updated and
+     * returned, otherwise a new shape is returned.
+     * 
+     * @param f  the face ({@code null} not permitted).
+     * @param pts  the projected points for the vertices in the world 
+     *     ({@code null} not permitted).
+     * @param toDevice  the transform from user space to device space (must
+     *     be invertible, {@code null} not permitted).
+     * @param result  the rectangle to update ({@code null} not permitted).
+     * 
+     * @return The pixel, in user space.
+     */
+    public static Shape calculateCell(Face f, Point2D[] pts, 
+            AffineTransform toDevice, Rectangle2D result) {
+        double[] c = new double[2];
+        calculateDeviceCentre(f, pts, toDevice, c);
+        double px = Math.floor(c[0]);
+        double py = Math.floor(c[1]);
+        if (toDevice.getShearX() == 0.0 && toDevice.getShearY() == 0.0) {
+            double sx = toDevice.getScaleX();
+            double sy = toDevice.getScaleY();
+            double x0 = (px - toDevice.getTranslateX()) / sx;
+            double x1 = (px + 1.0 - toDevice.getTranslateX()) / sx;
+            double y0 = (py - toDevice.getTranslateY()) / sy;
+            double y1 = (py + 1.0 - toDevice.getTranslateY()) / sy;
+            result.setRect(Math.min(x0, x1), Math.min(y0, y1), 
+                    Math.abs(x1 - x0), Math.abs(y1 - y0));
+            return result;
+        }
+        try {
+            return toDevice.createInverse().createTransformedShape(
+                    new Rectangle2D.Double(px, py, 1.0, 1.0));
+        } catch (NoninvertibleTransformException e) {
+            throw new IllegalArgumentException(
+                    "Requires 'toDevice' to be invertible.", e);
+        }
+    }
+    
+    /**
+     * Calculates the average of the projected vertices of the face, in 
+     * device space.
+     * 
+     * @param f  the face.
+     * @param pts  the projected points.
+     * @param toDevice  the transform to device space.
+     * @param result  an array to hold the result (x, y).
+     */
+    private static void calculateDeviceCentre(Face f, Point2D[] pts, 
+            AffineTransform toDevice, double[] result) {
+        int count = f.getVertexCount();
+        double x = 0.0;
+        double y = 0.0;
+        for (int v = 0; v < count; v++) {
+            Point2D p = pts[f.getVertexIndex(v)];
+            x += p.getX();
+            y += p.getY();
+        }
+        result[0] = x / count;
+        result[1] = y / count;
+        toDevice.transform(result, 0, result, 0, 1);
+    }
+    
+}
@@ -0,0 +1,634 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A software rasterizer that fills polygon faces directly into an 
+ * {@code int[]} pixel buffer, as a faster alternative to 
+ * {@code Graphics2D.fill()} when a chart with a large number of faces is 
+ * drawn to a bitmap (for example, for PNG or JPEG export).  Faces are 
+ * scan-converted with a depth buffer (so that intersecting faces are 
+ * resolved per pixel rather than per face), then the pixels are drawn to 
+ * the {@code Graphics2D} target as an image each time the caller needs to 
+ * draw something else (a label, for example) via {@link #flush(Graphics2D)}.
+ * <br><br>
+ * Anti-aliasing is supported by taking several samples per pixel (see 
+ * {@link #setSamplesPerPixel(int)}) and, if an executor is supplied (see 
+ * {@link #setExecutor(java.util.concurrent.ExecutorService)}), the pixel 
+ * rows are split into tiles that are filled in parallel.
+ * <br><br>
+ * The output is always a bitmap, so the rasterizer should not be used for
+ * vector targets (SVG or PDF), and {@code Chart3D} only uses it when the 
+ * target draws to an image.  An instance holds buffers that are reused 
+ * from one drawing to the next, so it should not be used by more than one
+ * thread at a time.
+ * 
+ * @since 1.8
+ */
+public class FaceRasterizer {
+    
+    /** 
+     * The relative tolerance for the depth test, so that a face painted 
+     * later wins over a face at (almost) the same depth.
+     */
+    private static final float DEPTH_TOLERANCE = 1.0e-4f;
+    
+    /** The number of samples per pixel (1, 4, 9 or 16). */
+    private int samplesPerPixel;
+    
+    /** The executor for filling tiles in parallel ({@code null} permitted). */
+    private ExecutorService executor;
+    
+    /** The number of pixel rows in each tile. */
+    private int rowsPerTile;
+    
+    /** The number of samples along each side of a pixel. */
+    private int scale;
+    
+    /** The x-coordinate (in device space) of the area being drawn. */
+    private int x0;
+    
+    /** The y-coordinate (in device space) of the area being drawn. */
+    private int y0;
+    
+    /** The width (in pixels) of the area being drawn. */
+    private int width;
+    
+    /** The height (in pixels) of the area being drawn. */
+    private int height;
+    
+    /** The x-coordinates of the vertices in sample space. */
+    private double[] vx;
+    
+    /** The y-coordinates of the vertices in sample space. */
+    private double[] vy;
+    
+    /** The inverse depth of the vertices ({@code -1 / z} in eye space). */
+    private double[] vz;
+    
+    /** The sample colors (ARGB, zero where nothing has been drawn). */
+    private int[] samples;
+    
+    /** The inverse depth of each sample (zero where nothing was drawn). */
+    private float[] depth;
+    
+    /** The image that samples are resolved to before drawing. */
+    private BufferedImage image;
+    
+    /** The faces waiting to be filled. */
+    private Face[] pending;
+    
+    /** The colors (ARGB) for the faces waiting to be filled. */
+    private int[] pendingColors;
+    
+    /** The number of faces waiting to be filled. */
+    private int pendingCount;
+    
+    /** The bounds (in sample space) of the faces waiting to be filled. */
+    private double minX, minY, maxX, maxY;
+    
+    /**
+     * Creates a new rasterizer with one sample per pixel (no 
+     * anti-aliasing), 64 rows per tile and no executor.
+     */
+    public FaceRasterizer() {
+        this.samplesPerPixel = 1;
+        this.executor = null;
+        this.rowsPerTile = 64;
+    }
+    
+    /**
+     * Returns the number of samples taken for each pixel.  The default is 
+     * {@code 1}.
+     * 
+     * @return The number of samples per pixel. 
+     */
+    public int getSamplesPerPixel() {
+        return this.samplesPerPixel;
+    }
+    
+    /**
+     * Sets the number of samples taken for each pixel.  Values greater than
+     * {@code 1} give anti-aliased edges, at the cost of a larger buffer and
+     * more time spent filling.
+     * 
+     * @param samples  the number of samples (1, 4, 9 or 16).
+     */
+    public void setSamplesPerPixel(int samples) {
+        if (samples != 1 && samples != 4 && samples != 9 && samples != 16) {
+            throw new IllegalArgumentException(
+                    "Requires 'samples' to be 1, 4, 9 or 16.");
+        }
+        this.samplesPerPixel = samples;
+    }
+    
+    /**
+     * Returns the executor used to fill tiles in parallel (possibly 
+     * {@code null}).
+     * 
+     * @return The executor (possibly {@code null}). 
+     */
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+    
+    /**
+     * Sets the executor used to fill tiles in parallel.  If {@code null}, 
+     * all the work is done on the calling thread.  The rasterizer does not 
+     * shut down the executor.
+     * 
+     * @param executor  the executor ({@code null} permitted). 
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+    
+    /**
+     * Returns the number of pixel rows in each tile when filling in 
+     * parallel.
+     * 
+     * @return The number of rows per tile. 
+     */
+    public int getRowsPerTile() {
+        return this.rowsPerTile;
+    }
+    
+    /**
+     * Sets the number of pixel rows in each tile when filling in parallel.
+     * 
+     * @param rows  the number of rows (must be positive). 
+     */
+    public void setRowsPerTile(int rows) {
+        ArgChecks.positiveRequired(rows, "rows");
+        this.rowsPerTile = rows;
+    }
+    
+    /**
+     * Prepares to fill faces for the world with the specified vertices.  
+     * The area and the vertices are mapped to device space using the 
+     * current transform of {@code g2}, which should not change until 
+     * {@link #end(Graphics2D)} is called.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param area  the area to fill, in the same coordinate space as 
+     *     {@code pts} ({@code null} not permitted).  Nothing is drawn 
+     *     outside the current clip of {@code g2} in any case.
+     * @param eyePts  the eye coordinates for the vertices in the world 
+     *     ({@code null} not permitted).
+     * @param pts  the projected points for the vertices in the world 
+     *     ({@code null} not permitted).
+     */
+    public void begin(Graphics2D g2, Rectangle2D area, Point3D[] eyePts, 
+            Point2D[] pts) {
+        ArgChecks.nullNotPermitted(g2, "g2");
+        ArgChecks.nullNotPermitted(area, "area");
+        ArgChecks.nullNotPermitted(eyePts, "eyePts");
+        ArgChecks.nullNotPermitted(pts, "pts");
+        AffineTransform tx = g2.getTransform();
+        Rectangle device = tx.createTransformedShape(area).getBounds();
+        Shape clip = g2.getClip();
+        if (clip != null) {
+            device = device.intersection(tx.createTransformedShape(clip)
+                    .getBounds());
+        }
+        this.scale = (int) Math.round(Math.sqrt(this.samplesPerPixel));
+        this.x0 = device.x;
+        this.y0 = device.y;
+        this.width = Math.max(device.width, 0);
+        this.height = Math.max(device.height, 0);
+        int sampleCount = this.width * this.scale * this.height * this.scale;
+        if (this.samples == null || this.samples.length < sampleCount) {
+            this.samples = new int[sampleCount];
+            this.depth = new float[sampleCount];
+        } else {
+            Arrays.fill(this.samples, 0, sampleCount, 0);
+            Arrays.fill(this.depth, 0, sampleCount, 0.0f);
+        }
+        if (this.image == null || this.image.getWidth() < this.width 
+                || this.image.getHeight() < this.height) {
+            this.image = new BufferedImage(Math.max(this.width, 1), 
+                    Math.max(this.height, 1), BufferedImage.TYPE_INT_ARGB);
+        }
+        if (this.vx == null || this.vx.length < pts.length) {
+            this.vx = new double[pts.length];
+            this.vy = new double[pts.length];
+            this.vz = new double[pts.length];
+        }
+        double m00 = tx.getScaleX();
+        double m01 = tx.getShearX();
+        double m02 = tx.getTranslateX() - this.x0;
+        double m10 = tx.getShearY();
+        double m11 = tx.getScaleY();
+        double m12 = tx.getTranslateY() - this.y0;
+        for (int i = 0; i < pts.length; i++) {
+            double x = pts[i].getX();
+            double y = pts[i].getY();
+            this.vx[i] = (m00 * x + m01 * y + m02) * this.scale;
+            this.vy[i] = (m10 * x + m11 * y + m12) * this.scale;
+            this.vz[i] = -1.0 / eyePts[i].z;
+        }
+        if (this.pending == null) {
+            this.pending = new Face[256];
+            this.pendingColors = new int[256];
+        }
+        this.pendingCount = 0;
+        resetBounds();
+    }
+    
+    /**
+     * Adds a face to be filled with the specified color.  Faces should be 
+     * added in paint order (back to front), the depth buffer takes care of
+     * any overlaps that the paint order gets wrong.  Faces that lie 
+     * entirely outside the area being drawn are ignored.
+     * 
+     * @param f  the face, with at least 3 vertices ({@code null} not 
+     *     permitted).
+     * @param color  the color ({@code null} not permitted).
+     */
+    public void add(Face f, Color color) {
+        ArgChecks.nullNotPermitted(f, "f");
+        ArgChecks.nullNotPermitted(color, "color");
+        double fMinX = Double.POSITIVE_INFINITY;
+        double fMinY = Double.POSITIVE_INFINITY;
+        double fMaxX = Double.NEGATIVE_INFINITY;
+        double fMaxY = Double.NEGATIVE_INFINITY;
+        for (int v = 0; v < f.getVertexCount(); v++) {
+            int i = f.getVertexIndex(v);
+            fMinX = Math.min(fMinX, this.vx[i]);
+            fMaxX = Math.max(fMaxX, this.vx[i]);
+            fMinY = Math.min(fMinY, this.vy[i]);
+            fMaxY = Math.max(fMaxY, this.vy[i]);
+        }
+        if (fMaxX < 0.0 || fMaxY < 0.0 || fMinX >= this.width * this.scale 
+                || fMinY >= this.height * this.scale) {
+            return;
+        }
+        if (this.pendingCount == this.pending.length) {
+            this.pending = Arrays.copyOf(this.pending, this.pendingCount * 2);
+            this.pendingColors = Arrays.copyOf(this.pendingColors, 
+                    this.pendingCount * 2);
+        }
+        this.pending[this.pendingCount] = f;
+        this.pendingColors[this.pendingCount] = color.getRGB();
+        this.pendingCount++;
+        this.minX = Math.min(this.minX, fMinX);
+        this.minY = Math.min(this.minY, fMinY);
+        this.maxX = Math.max(this.maxX, fMaxX);
+        this.maxY = Math.max(this.maxY, fMaxY);
+    }
+    
+    /**
+     * Fills the faces added since the last flush and draws the result to 
+     * {@code g2}.  Call this before drawing anything else to {@code g2} 
+     * that should appear in front of the faces added so far.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     */
+    public void flush(Graphics2D g2) {
+        ArgChecks.nullNotPermitted(g2, "g2");
+        if (this.pendingCount == 0) {
+            return;
+        }
+        final int px0 = Math.max(0, (int) Math.floor(this.minX / this.scale));
+        final int px1 = Math.min(this.width, 
+                (int) Math.ceil(this.maxX / this.scale) + 1);
+        int py0 = Math.max(0, (int) Math.floor(this.minY / this.scale));
+        int py1 = Math.min(this.height, 
+                (int) Math.ceil(this.maxY / this.scale) + 1);
+        if (this.executor == null || py1 - py0 <= this.rowsPerTile) {
+            fillTile(py0, py1, px0, px1);
+        } else {
+            fillTilesInParallel(py0, py1, px0, px1);
+        }
+        AffineTransform saved = g2.getTransform();
+        g2.setTransform(new AffineTransform());
+        g2.drawImage(this.image, this.x0 + px0, this.y0 + py0, 
+                this.x0 + px1, this.y0 + py1, px0, py0, px1, py1, null);
+        g2.setTransform(saved);
+        Arrays.fill(this.pending, 0, this.pendingCount, null);
+        this.pendingCount = 0;
+        resetBounds();
+    }
+    
+    /**
+     * Flushes any remaining faces to {@code g2} and releases the references
+     * to the faces of the world.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     */
+    public void end(Graphics2D g2) {
+        flush(g2);
+    }
+    
+    /**
+     * Resets the bounds of the pending faces.
+     */
+    private void resetBounds() {
+        this.minX = Double.POSITIVE_INFINITY;
+        this.minY = Double.POSITIVE_INFINITY;
+        this.maxX = Double.NEGATIVE_INFINITY;
+        this.maxY = Double.NEGATIVE_INFINITY;
+    }
+    
+    /**
+     * Splits the rows into tiles that are filled by the executor, and waits
+     * for them all to finish.
+     * 
+     * @param py0  the first pixel row.
+     * @param py1  the pixel row after the last.
+     * @param px0  the first pixel column.
+     * @param px1  the pixel column after the last.
+     */
+    private void fillTilesInParallel(int py0, int py1, final int px0, 
+            final int px1) {
+        List<Future<Object>> futures = new ArrayList<Future<Object>>();
+        try {
+            for (int row = py0; row < py1; row += this.rowsPerTile) {
+                final int start = row;
+                final int end = Math.min(row + this.rowsPerTile, py1);
+                futures.add(this.executor.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() {
+                        fillTile(start, end, px0, px1);
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while filling faces.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            for (Future<Object> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+    
+    /**
+     * Fills the pending faces within a range of pixel rows, then resolves 
+     * the samples to the image and clears them.  Tiles do not share any 
+     * samples or pixels, so they can be filled concurrently.
+     * 
+     * @param py0  the first pixel row.
+     * @param py1  the pixel row after the last.
+     * @param px0  the first pixel column.
+     * @param px1  the pixel column after the last.
+     */
+    private void fillTile(int py0, int py1, int px0, int px1) {
+        int r0 = py0 * this.scale;
+        int r1 = py1 * this.scale;
+        double[] xs = new double[16];
+        for (int i = 0; i < this.pendingCount; i++) {
+            xs = fillFace(this.pending[i], this.pendingColors[i], r0, r1, xs);
+        }
+        resolve(py0, py1, px0, px1);
+    }
+    
+    /**
+     * Scan-converts a face within a range of sample rows.  A sample is 
+     * covered if its centre is inside the polygon (even-odd rule), with 
+     * samples on a shared edge going to exactly one of the faces, so that 
+     * adjacent faces leave no gaps.
+     * 
+     * @param f  the face.
+     * @param argb  the color.
+     * @param r0  the first sample row.
+     * @param r1  the sample row after the last.
+     * @param xs  a work array for the edge crossings.
+     * 
+     * @return The work array (a new one if {@code xs} was too small).
+     */
+    private double[] fillFace(Face f, int argb, int r0, int r1, double[] xs) {
+        int n = f.getVertexCount();
+        if (xs.length < n) {
+            xs = new double[n];
+        }
+        double fMinY = Double.POSITIVE_INFINITY;
+        double fMaxY = Double.NEGATIVE_INFINITY;
+        for (int v = 0; v < n; v++) {
+            double y = this.vy[f.getVertexIndex(v)];
+            fMinY = Math.min(fMinY, y);
+            fMaxY = Math.max(fMaxY, y);
+        }
+        int first = Math.max(r0, (int) Math.ceil(fMinY - 0.5));
+        int last = Math.min(r1, (int) Math.ceil(fMaxY - 0.5));
+        if (first >= last) {
+            return xs;
+        }
+        
+        // the inverse depth is linear in screen space over a planar face,
+        // use the triangle (from a fan) with the largest area to find it
+        int i0 = f.getVertexIndex(0);
+        double a = 0.0;
+        double b = 0.0;
+        double c = this.vz[i0];
+        double best = 0.0;
+        for (int v = 1; v < n - 1; v++) {
+            int i1 = f.getVertexIndex(v);
+            int i2 = f.getVertexIndex(v + 1);
+            double dx1 = this.vx[i1] - this.vx[i0];
+            double dy1 = this.vy[i1] - this.vy[i0];
+            double dz1 = this.vz[i1] - this.vz[i0];
+            double dx2 = this.vx[i2] - this.vx[i0];
+            double dy2 = this.vy[i2] - this.vy[i0];
+            double dz2 = this.vz[i2] - this.vz[i0];
+            double d = dx1 * dy2 - dx2 * dy1;
+            if (Math.abs(d) > best) {
+                best = Math.abs(d);
+                a = (dz1 * dy2 - dz2 * dy1) / d;
+                b = (dx1 * dz2 - dx2 * dz1) / d;
+            }
+        }
+        c = c - a * this.vx[i0] - b * this.vy[i0];
+        
+        int sampleWidth = this.width * this.scale;
+        int alpha = argb >>> 24;
+        for (int row = first; row < last; row++) {
+            double yc = row + 0.5;
+            int count = 0;
+            for (int v = 0; v < n; v++) {
+                int i = f.getVertexIndex(v);
+                int j = f.getVertexIndex(v + 1 < n ? v + 1 : 0);
+                double ya = this.vy[i];
+                double yb = this.vy[j];
+                if ((ya <= yc && yc < yb) || (yb <= yc && yc < ya)) {
+                    xs[count++] = this.vx[i] + (yc - ya) 
+                            * (this.vx[j] - this.vx[i]) / (yb - ya);
+                }
+            }
+            // insertion sort, there are only a few crossings
+            for (int k = 1; k < count; k++) {
+                double x = xs[k];
+                int m = k - 1;
+                while (m >= 0 && xs[m] > x) {
+                    xs[m + 1] = xs[m];
+                    m--;
+                }
+                xs[m + 1] = x;
+            }
+            int offset = row * sampleWidth;
+            double rowZ = b * yc + c;
+            for (int k = 0; k + 1 < count; k += 2) {
+                int xa = Math.max(0, (int) Math.ceil(xs[k] - 0.5));
+                int xb = Math.min(sampleWidth, 
+                        (int) Math.ceil(xs[k + 1] - 0.5));
+                for (int x = xa; x < xb; x++) {
+                    float z = (float) (a * (x + 0.5) + rowZ);
+                    int index = offset + x;
+                    if (z < this.depth[index] * (1.0f - DEPTH_TOLERANCE)) {
+                        continue;
+                    }
+                    this.depth[index] = z;
+                    if (alpha == 255) {
+                        this.samples[index] = argb;
+                    } else {
+                        this.samples[index] = blend(argb, 
+                                this.samples[index]);
+                    }
+                }
+            }
+        }
+        return xs;
+    }
+    
+    /**
+     * Returns the result of drawing the source color over the destination
+     * color (both non-premultiplied ARGB).
+     * 
+     * @param src  the source color.
+     * @param dst  the destination color.
+     * 
+     * @return The blended color. 
+     */
+    private static int blend(int src, int dst) {
+        double sa = (src >>> 24) / 255.0;
+        double da = (dst >>> 24) / 255.0 * (1.0 - sa);
+        double oa = sa + da;
+        if (oa <= 0.0) {
+            return 0;
+        }
+        int r = (int) Math.round((((src >> 16) & 0xFF) * sa 
+                + ((dst >> 16) & 0xFF) * da) / oa);
+        int g = (int) Math.round((((src >> 8) & 0xFF) * sa 
+                + ((dst >> 8) & 0xFF) * da) / oa);
+        int b = (int) Math.round(((src & 0xFF) * sa + (dst & 0xFF) * da) 
+                / oa);
+        return ((int) Math.round(oa * 255.0) << 24) | (r << 16) | (g << 8) 
+                | b;
+    }
+    
+    /**
+     * Resolves the samples for a block of pixels into the image (averaging 
+     * the samples for each pixel), and clears the samples.
+     * 
+     * @param py0  the first pixel row.
+     * @param py1  the pixel row after the last.
+     * @param px0  the first pixel column.
+     * @param px1  the pixel column after the last.
+     */
+    private void resolve(int py0, int py1, int px0, int px1) {
+        int[] pixels = ((DataBufferInt) this.image.getRaster()
+                .getDataBuffer()).getData();
+        int imageWidth = this.image.getWidth();
+        int sampleWidth = this.width * this.scale;
+        int n = this.scale * this.scale;
+        for (int py = py0; py < py1; py++) {
+            for (int px = px0; px < px1; px++) {
+                int pixel;
+                if (this.scale == 1) {
+                    int index = py * sampleWidth + px;
+                    pixel = this.samples[index];
+                    this.samples[index] = 0;
+                } else {
+                    int sumA = 0;
+                    int sumR = 0;
+                    int sumG = 0;
+                    int sumB = 0;
+                    for (int sy = 0; sy < this.scale; sy++) {
+                        int index = (py * this.scale + sy) * sampleWidth 
+                                + px * this.scale;
+                        for (int sx = 0; sx < this.scale; sx++) {
+                            int s = this.samples[index + sx];
+                            int alpha = s >>> 24;
+                            sumA += alpha;
+                            sumR += ((s >> 16) & 0xFF) * alpha;
+                            sumG += ((s >> 8) & 0xFF) * alpha;
+                            sumB += (s & 0xFF) * alpha;
+                            this.samples[index + sx] = 0;
+                        }
+                    }
+                    if (sumA == 0) {
+                        pixel = 0;
+                    } else {
+                        pixel = ((sumA + n / 2) / n) << 24 
+                                | (sumR / sumA) << 16 | (sumG / sumA) << 8 
+                                | (sumB / sumA);
+                    }
+                }
+                pixels[py * imageWidth + px] = pixel;
+            }
+        }
+    }
+    
+}
@@ -0,0 +1,58 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+/**
+ * Calculates the shade for faces, for one view point (see 
+ * {@link LightingModel#createShader(World, ViewPoint3D)}).
+ * 
+ * @since 1.8
+ */
+public interface FaceShader {
+
+    /**
+     * Returns the shade for a face with the specified unit normal (in world
+     * coordinates).  The shade is a multiplier (in the range {@code 0.0} to
+     * {@code 1.0}) applied to the red, green and blue components of the face
+     * color.
+     * 
+     * @param nx  the x-component of the normal.
+     * @param ny  the y-component of the normal.
+     * @param nz  the z-component of the normal.
+     * 
+     * @return The shade.
+     */
+    double calculateShade(double nx, double ny, double nz);
+    
+}
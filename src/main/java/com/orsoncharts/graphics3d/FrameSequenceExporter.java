@@ -0,0 +1,481 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * Exports a sequence of views of a {@link Drawable3D} (for example, a chart
+ * rotating about its vertical axis) either as numbered PNG files or as a 
+ * single animated PNG (APNG) file.
+ * <br><br>
+ * The drawable is not modified between frames other than by changing its 
+ * view point, so a {@link com.orsoncharts.Chart3D} keeps its cached 3D 
+ * world for the whole sequence.  Drawing is done on the calling thread (a 
+ * drawable is not safe for concurrent use) while the frames are encoded 
+ * and written on a pool of worker threads, overlapping with the drawing of
+ * later frames.  At most {@code maxFramesInFlight} frames are held in 
+ * memory at any time, and the image buffers are reused via an 
+ * {@link ImagePool}, so memory use does not grow with the number of frames.
+ * <br><br>
+ * The drawable's original view point is restored when the export finishes.
+ * 
+ * @since 1.8
+ */
+public class FrameSequenceExporter {
+    
+    /** The drawable. */
+    private final Drawable3D drawable;
+    
+    /** The frame width. */
+    private final int width;
+    
+    /** The frame height. */
+    private final int height;
+    
+    /** The encoder used to write the frames. */
+    private PNGEncoder encoder;
+    
+    /** The number of worker threads used to encode frames. */
+    private int threadCount;
+    
+    /** The maximum number of frames held in memory at one time. */
+    private int maxFramesInFlight;
+    
+    /**
+     * Creates a new exporter for the specified drawable.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param width  the frame width (must be positive).
+     * @param height  the frame height (must be positive).
+     */
+    public FrameSequenceExporter(Drawable3D drawable, int width, int height) {
+        ArgChecks.nullNotPermitted(drawable, "drawable");
+        ArgChecks.positiveRequired(width, "width");
+        ArgChecks.positiveRequired(height, "height");
+        this.drawable = drawable;
+        this.width = width;
+        this.height = height;
+        this.encoder = new PNGEncoder();
+        this.threadCount = Runtime.getRuntime().availableProcessors();
+        this.maxFramesInFlight = this.threadCount * 2;
+    }
+    
+    /**
+     * Returns the encoder used to write the frames.
+     * 
+     * @return The encoder (never {@code null}). 
+     */
+    public PNGEncoder getEncoder() {
+        return this.encoder;
+    }
+    
+    /**
+     * Sets the encoder used to write the frames.
+     * 
+     * @param encoder  the encoder ({@code null} not permitted). 
+     */
+    public void setEncoder(PNGEncoder encoder) {
+        ArgChecks.nullNotPermitted(encoder, "encoder");
+        this.encoder = encoder;
+    }
+    
+    /**
+     * Returns the number of worker threads used to encode frames.  The 
+     * default is the number of available processors.
+     * 
+     * @return The thread count. 
+     */
+    public int getThreadCount() {
+        return this.threadCount;
+    }
+    
+    /**
+     * Sets the number of worker threads used to encode frames.
+     * 
+     * @param count  the thread count (must be positive). 
+     */
+    public void setThreadCount(int count) {
+        ArgChecks.positiveRequired(count, "count");
+        this.threadCount = count;
+    }
+    
+    /**
+     * Returns the maximum number of frames that are held in memory (drawn but
+     * not yet written) at any one time.  The default is twice the number of 
+     * available processors.
+     * 
+     * @return The maximum number of frames in flight. 
+     */
+    public int getMaxFramesInFlight() {
+        return this.maxFramesInFlight;
+    }
+    
+    /**
+     * Sets the maximum number of frames that are held in memory (drawn but
+     * not yet written) at any one time.
+     * 
+     * @param max  the maximum (must be positive). 
+     */
+    public void setMaxFramesInFlight(int max) {
+        ArgChecks.positiveRequired(max, "max");
+        this.maxFramesInFlight = max;
+    }
+    
+    /**
+     * Creates a sequence of view points that pan around the scene, starting
+     * at {@code start} and turning by {@code totalAngle} in equal steps 
+     * (the last frame stops one step short of the total, so that a full 
+     * turn of {@code 2 * Math.PI} loops smoothly).
+     * 
+     * @param start  the starting view point ({@code null} not permitted).
+     * @param frameCount  the number of frames (must be positive).
+     * @param totalAngle  the total angle (in radians).
+     * 
+     * @return A list of new view point instances.
+     */
+    public static List<ViewPoint3D> createPanSequence(ViewPoint3D start, 
+            int frameCount, double totalAngle) {
+        ArgChecks.nullNotPermitted(start, "start");
+        ArgChecks.positiveRequired(frameCount, "frameCount");
+        List<ViewPoint3D> result = new ArrayList<ViewPoint3D>(frameCount);
+        double step = totalAngle / frameCount;
+        for (int i = 0; i < frameCount; i++) {
+            ViewPoint3D vp = new ViewPoint3D(start);
+            vp.panLeftRight(i * step);
+            result.add(vp);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes one PNG file per view point to the specified directory.  The 
+     * file names are created from {@code filePattern} using 
+     * {@code String.format()} with the frame index (starting at zero), for 
+     * example {@code "frame-%04d.png"}.
+     * 
+     * @param viewPoints  the view points ({@code null} not permitted).
+     * @param dir  the output directory ({@code null} not permitted).
+     * @param filePattern  the file name pattern ({@code null} not 
+     *     permitted).
+     * 
+     * @return A list of the files written.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public List<File> writeNumberedPNGs(List<ViewPoint3D> viewPoints, 
+            File dir, String filePattern) throws IOException {
+        ArgChecks.nullNotPermitted(viewPoints, "viewPoints");
+        ArgChecks.nullNotPermitted(dir, "dir");
+        ArgChecks.nullNotPermitted(filePattern, "filePattern");
+        List<File> files = new ArrayList<File>(viewPoints.size());
+        for (int i = 0; i < viewPoints.size(); i++) {
+            files.add(new File(dir, String.format(filePattern, i)));
+        }
+        export(viewPoints, new NumberedPNGSink(files));
+        return files;
+    }
+    
+    /**
+     * Writes an animated PNG (APNG) file containing one frame per view 
+     * point.  Viewers that do not support APNG will display the first frame
+     * only.
+     * 
+     * @param viewPoints  the view points ({@code null} not permitted, must
+     *     not be empty).
+     * @param file  the output file ({@code null} not permitted).
+     * @param frameDelayMillis  the display time for each frame in 
+     *     milliseconds (0 to 65535).
+     * @param loopCount  the number of times to play the animation, where 
+     *     zero means loop forever.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeAPNG(List<ViewPoint3D> viewPoints, File file, 
+            int frameDelayMillis, int loopCount) throws IOException {
+        ArgChecks.nullNotPermitted(viewPoints, "viewPoints");
+        ArgChecks.nullNotPermitted(file, "file");
+        if (viewPoints.isEmpty()) {
+            throw new IllegalArgumentException("No view points.");
+        }
+        if (frameDelayMillis < 0 || frameDelayMillis > 65535) {
+            throw new IllegalArgumentException(
+                    "Requires 'frameDelayMillis' in the range 0 to 65535.");
+        }
+        ArgChecks.negativeNotPermitted(loopCount, "loopCount");
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            PNGEncoder.writeHeader(out, this.width, this.height, true);
+            byte[] actl = new byte[8];
+            PNGEncoder.putInt(actl, 0, viewPoints.size());
+            PNGEncoder.putInt(actl, 4, loopCount);
+            PNGEncoder.writeChunk(out, "acTL", actl, actl.length);
+            export(viewPoints, new APNGSink(out, frameDelayMillis));
+            PNGEncoder.writeChunk(out, "IEND", new byte[0], 0);
+        } finally {
+            out.close();
+        }
+    }
+    
+    /**
+     * Draws each frame on the calling thread and hands it to the sink for 
+     * encoding on a worker thread.  Completed frames are passed back to the 
+     * sink in order.
+     * 
+     * @param viewPoints  the view points.
+     * @param sink  the sink.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private void export(List<ViewPoint3D> viewPoints, FrameSink sink) 
+            throws IOException {
+        ViewPoint3D savedViewPoint = this.drawable.getViewPoint();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                this.threadCount, new DaemonThreadFactory());
+        ImagePool pool = new ImagePool(this.maxFramesInFlight);
+        LinkedList<Future<byte[]>> pending = new LinkedList<Future<byte[]>>();
+        try {
+            for (int i = 0; i < viewPoints.size(); i++) {
+                if (pending.size() >= this.maxFramesInFlight) {
+                    sink.frameCompleted(waitFor(pending.removeFirst()));
+                }
+                BufferedImage image = pool.acquire(this.width, this.height, 
+                        BufferedImage.TYPE_INT_ARGB);
+                this.drawable.setViewPoint(viewPoints.get(i));
+                Graphics2D g2 = image.createGraphics();
+                try {
+                    this.drawable.draw(g2, new Rectangle(this.width, 
+                            this.height));
+                } finally {
+                    g2.dispose();
+                }
+                pending.add(executor.submit(new EncodeTask(sink, i, image, 
+                        pool)));
+            }
+            while (!pending.isEmpty()) {
+                sink.frameCompleted(waitFor(pending.removeFirst()));
+            }
+        } finally {
+            executor.shutdownNow();
+            this.drawable.setViewPoint(savedViewPoint);
+        }
+    }
+    
+    private static byte[] waitFor(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while exporting frames.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+    
+    /**
+     * Encodes the frames for a particular output type.
+     */
+    private interface FrameSink {
+        
+        /**
+         * Encodes a frame (called on a worker thread) and returns data to be
+         * passed to {@link #frameCompleted(byte[])}, if any.
+         */
+        byte[] encode(int index, BufferedImage image) throws IOException;
+        
+        /**
+         * Receives the encoded frames in order (called on the exporting 
+         * thread).
+         */
+        void frameCompleted(byte[] data) throws IOException;
+    }
+    
+    /**
+     * A task that encodes one frame then returns the image to the pool.
+     */
+    private static class EncodeTask implements Callable<byte[]> {
+        
+        private final FrameSink sink;
+        
+        private final int index;
+        
+        private final BufferedImage image;
+        
+        private final ImagePool pool;
+        
+        EncodeTask(FrameSink sink, int index, BufferedImage image, 
+                ImagePool pool) {
+            this.sink = sink;
+            this.index = index;
+            this.image = image;
+            this.pool = pool;
+        }
+
+        @Override
+        public byte[] call() throws IOException {
+            try {
+                return this.sink.encode(this.index, this.image);
+            } finally {
+                this.pool.release(this.image);
+            }
+        }
+    }
+    
+    /**
+     * Writes each frame to its own PNG file.
+     */
+    private class NumberedPNGSink implements FrameSink {
+        
+        private final List<File> files;
+        
+        NumberedPNGSink(List<File> files) {
+            this.files = files;
+        }
+
+        @Override
+        public byte[] encode(int index, BufferedImage image) 
+                throws IOException {
+            OutputStream out = new BufferedOutputStream(new FileOutputStream(
+                    this.files.get(index)));
+            try {
+                encoder.encode(image, out);
+            } finally {
+                out.close();
+            }
+            return null;
+        }
+
+        @Override
+        public void frameCompleted(byte[] data) {
+            // the file has already been written
+        }
+    }
+    
+    /**
+     * Compresses each frame on a worker thread and writes the frame control
+     * and data chunks to an APNG stream in order.
+     */
+    private class APNGSink implements FrameSink {
+        
+        private final OutputStream out;
+        
+        private final int delay;
+        
+        /** The APNG sequence number (shared by fcTL and fdAT chunks). */
+        private int sequence;
+        
+        APNGSink(OutputStream out, int delay) {
+            this.out = out;
+            this.delay = delay;
+            this.sequence = 0;
+        }
+
+        @Override
+        public byte[] encode(int index, BufferedImage image) 
+                throws IOException {
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            encoder.compress(image, true, data);
+            return data.toByteArray();
+        }
+
+        @Override
+        public void frameCompleted(byte[] data) throws IOException {
+            boolean first = (this.sequence == 0);
+            byte[] fctl = new byte[26];
+            PNGEncoder.putInt(fctl, 0, this.sequence++);
+            PNGEncoder.putInt(fctl, 4, width);
+            PNGEncoder.putInt(fctl, 8, height);
+            PNGEncoder.putInt(fctl, 12, 0); // x-offset
+            PNGEncoder.putInt(fctl, 16, 0); // y-offset
+            fctl[20] = (byte) (this.delay >> 8);
+            fctl[21] = (byte) this.delay;
+            fctl[22] = (byte) (1000 >> 8);
+            fctl[23] = (byte) 1000;
+            fctl[24] = 0; // dispose op: none
+            fctl[25] = 0; // blend op: source
+            PNGEncoder.writeChunk(this.out, "fcTL", fctl, fctl.length);
+            PNGEncoder.ChunkOutputStream chunks;
+            if (first) {
+                // the first frame is also the default image
+                chunks = new PNGEncoder.ChunkOutputStream(this.out, "IDAT");
+            } else {
+                chunks = new PNGEncoder.ChunkOutputStream(this.out, "fdAT", 
+                        4) {
+                    @Override
+                    void beginChunk(byte[] buffer) {
+                        PNGEncoder.putInt(buffer, 0, sequence++);
+                    }
+                };
+            }
+            chunks.write(data, 0, data.length);
+            chunks.flushChunk();
+        }
+    }
+    
+    /**
+     * Creates daemon threads for encoding.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "orson-frame-export");
+            t.setDaemon(true);
+            return t;
+        }
+    }
+    
+}
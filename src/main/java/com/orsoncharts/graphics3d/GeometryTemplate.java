@@ -0,0 +1,278 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * The geometry for a unit shape (a box, a bar or a sphere) that is shared 
+ * by many 3D objects.  The template holds the vertex coordinates of the 
+ * unit shape and the vertex indices for its faces, while each object 
+ * created by {@link #createInstance(double, double, double, double, double, 
+ * double, Color)} stores only an offset and a scale (see 
+ * {@link TemplateObject3D}).  For charts with many bars or points this 
+ * avoids allocating a new set of vertices and face index arrays for every
+ * item.  Instances are immutable.
+ * 
+ * @since 1.8
+ */
+public final class GeometryTemplate {
+    
+    /** 
+     * A box with sides of length 1 centered on the origin (the faces are 
+     * the same as for {@link Object3D#createBox(double, double, double, 
+     * double, double, double, Color)}).
+     */
+    public static final GeometryTemplate BOX = new GeometryTemplate(
+            new double[] {
+                -0.5, -0.5, -0.5,   0.5, -0.5, -0.5,   
+                0.5, -0.5, 0.5,   -0.5, -0.5, 0.5,
+                -0.5, 0.5, -0.5,   0.5, 0.5, -0.5,   
+                0.5, 0.5, 0.5,   -0.5, 0.5, 0.5}, 
+            new int[][] {{4, 5, 1, 0}, {5, 6, 2, 1}, {6, 7, 3, 2}, 
+                {3, 7, 4, 0}, {7, 6, 5, 4}, {0, 1, 2, 3}}, 
+            new String[6]);
+    
+    /**
+     * A bar with unit width and depth centered on the origin in the x-z 
+     * plane, extending from 0 to 1 along the y-axis (the faces are the same
+     * as for {@link Object3D#createBar(double, double, double, double, 
+     * double, double, Color, Color, Color, boolean)}, with the top tagged 
+     * "c1" and the base tagged "c0").
+     */
+    public static final GeometryTemplate BAR = new GeometryTemplate(
+            new double[] {
+                -0.5, 0.0, -0.5,   0.5, 0.0, -0.5,   
+                0.5, 0.0, 0.5,   -0.5, 0.0, 0.5,
+                -0.5, 1.0, -0.5,   0.5, 1.0, -0.5,   
+                0.5, 1.0, 0.5,   -0.5, 1.0, 0.5}, 
+            new int[][] {{0, 1, 5, 4}, {4, 5, 1, 0}, {1, 2, 6, 5}, 
+                {5, 6, 2, 1}, {2, 3, 7, 6}, {6, 7, 3, 2}, {0, 4, 7, 3}, 
+                {3, 7, 4, 0}, {4, 5, 6, 7}, {3, 2, 1, 0}, {7, 6, 5, 4}, 
+                {0, 1, 2, 3}}, 
+            new String[] {null, null, null, null, null, null, null, null, 
+                null, null, "c1", "c0"});
+
+    /** 
+     * The maximum number of sphere templates retained (the cache is cleared 
+     * when it grows beyond this).
+     */
+    private static final int MAX_CACHED_SPHERES = 32;
+    
+    /** The shared sphere templates, keyed by the number of layers. */
+    private static final Map<Integer, GeometryTemplate> SPHERES 
+            = new HashMap<Integer, GeometryTemplate>();
+    
+    /**
+     * Returns a template for a sphere with radius 1 centered on the origin
+     * (the faces are the same as for {@link Object3D#createSphere(double, 
+     * int, double, double, double, Color, Color)}, with the inside faces 
+     * tagged "interior").
+     * 
+     * @param n  the number of layers (must be positive).
+     * 
+     * @return The template (never {@code null}). 
+     */
+    public static synchronized GeometryTemplate getSphere(int n) {
+        ArgChecks.positiveRequired(n, "n");
+        GeometryTemplate result = SPHERES.get(n);
+        if (result == null) {
+            if (SPHERES.size() >= MAX_CACHED_SPHERES) {
+                SPHERES.clear();
+            }
+            result = createSphere(n);
+            SPHERES.put(n, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Creates the template for a unit sphere.
+     * 
+     * @param n  the number of layers.
+     * 
+     * @return The template. 
+     */
+    private static GeometryTemplate createSphere(int n) {
+        int m = n * 2;  // vertices per layer
+        double theta = Math.PI / n;
+        double[] coords = new double[n * m * 3];
+        for (int i = 0; i < m; i++) {
+            coords[i * 3 + 1] = 1.0;  // the top of the sphere
+        }
+        List<int[]> faces = new ArrayList<int[]>();
+        List<String> tags = new ArrayList<String>();
+        for (int layer = 1; layer < n; layer++) {
+            for (int i = 0; i < m; i++) {
+                int v = (layer * m + i) * 3;
+                coords[v] = Math.cos(i * theta) * Math.sin(layer * theta);
+                coords[v + 1] = Math.cos(layer * theta);
+                coords[v + 2] = Math.sin(i * theta) * Math.sin(layer * theta);
+            }
+            if (layer > 1) {
+                for (int i = 1; i <= m; i++) {
+                    int a = (layer - 1) * m + i - 1;
+                    int b = (layer - 1) * m + (i % m);
+                    int c = layer * m + (i % m);
+                    int d = layer * m + i - 1;
+                    faces.add(new int[] {a, b, c, d});
+                    tags.add(null);
+                    faces.add(new int[] {d, c, b, a});
+                    tags.add("interior");
+                }
+            }
+        }
+        return new GeometryTemplate(coords, 
+                faces.toArray(new int[faces.size()][]), 
+                tags.toArray(new String[tags.size()]));
+    }
+    
+    /** The vertex coordinates (x, y and z for each vertex in turn). */
+    private final double[] coords;
+    
+    /** The vertex indices for each face. */
+    private final int[][] faces;
+    
+    /** The tag for each face ({@code null} for an untagged face). */
+    private final String[] tags;
+    
+    /**
+     * Creates a new template.
+     * 
+     * @param coords  the vertex coordinates.
+     * @param faces  the vertex indices for the faces.
+     * @param tags  the face tags.
+     */
+    private GeometryTemplate(double[] coords, int[][] faces, String[] tags) {
+        this.coords = coords;
+        this.faces = faces;
+        this.tags = tags;
+    }
+    
+    /**
+     * Returns the number of vertices in the template.
+     * 
+     * @return The number of vertices. 
+     */
+    public int getVertexCount() {
+        return this.coords.length / 3;
+    }
+    
+    /**
+     * Returns the x-coordinate of a vertex in the unit shape.
+     * 
+     * @param i  the vertex index.
+     * 
+     * @return The x-coordinate. 
+     */
+    public double getX(int i) {
+        return this.coords[i * 3];
+    }
+    
+    /**
+     * Returns the y-coordinate of a vertex in the unit shape.
+     * 
+     * @param i  the vertex index.
+     * 
+     * @return The y-coordinate. 
+     */
+    public double getY(int i) {
+        return this.coords[i * 3 + 1];
+    }
+    
+    /**
+     * Returns the z-coordinate of a vertex in the unit shape.
+     * 
+     * @param i  the vertex index.
+     * 
+     * @return The z-coordinate. 
+     */
+    public double getZ(int i) {
+        return this.coords[i * 3 + 2];
+    }
+    
+    /**
+     * Returns the number of faces in the template.
+     * 
+     * @return The number of faces. 
+     */
+    public int getFaceCount() {
+        return this.faces.length;
+    }
+    
+    /**
+     * Adds faces to {@code owner} matching the faces of this template.  The
+     * faces share the vertex index arrays held by the template.
+     * 
+     * @param owner  the owner. 
+     */
+    void addFaces(Object3D owner) {
+        for (int i = 0; i < this.faces.length; i++) {
+            if (this.tags[i] != null) {
+                owner.addFace(new TaggedFace(owner, this.faces[i], 
+                        this.tags[i]));
+            } else {
+                owner.addFace(new Face(owner, this.faces[i]));
+            }
+        }
+    }
+    
+    /**
+     * Creates a new 3D object that is an instance of this template.  Each 
+     * vertex of the object is {@code (x + u * xScale, y + v * yScale, 
+     * z + w * zScale)} where {@code (u, v, w)} is the corresponding vertex 
+     * of the template.
+     * 
+     * @param x  the x-offset.
+     * @param y  the y-offset.
+     * @param z  the z-offset.
+     * @param xScale  the scale factor along the x-axis.
+     * @param yScale  the scale factor along the y-axis.
+     * @param zScale  the scale factor along the z-axis.
+     * @param color  the color ({@code null} not permitted).
+     * 
+     * @return The new object (never {@code null}). 
+     */
+    public TemplateObject3D createInstance(double x, double y, double z, 
+            double xScale, double yScale, double zScale, Color color) {
+        return new TemplateObject3D(this, x, y, z, xScale, yScale, zScale, 
+                color);
+    }
+    
+}
@@ -0,0 +1,244 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A pool of {@code BufferedImage} instances that can be reused for 
+ * rendering charts to bitmap formats.  Images are grouped by width, height 
+ * and image type, and at most {@code maxImagesPerSize} idle images are 
+ * retained for any one combination.  At most {@code maxSizes} combinations
+ * are retained; when an image of a new size is released and the limit is 
+ * reached, the idle images for the least recently used size are discarded.
+ * Images obtained from the pool are cleared (all pixels set to zero) 
+ * before they are handed out.
+ * <br><br>
+ * Instances of this class are thread-safe.
+ * 
+ * @since 1.8
+ */
+public class ImagePool {
+
+    /** The maximum number of idle images retained for each size and type. */
+    private final int maxImagesPerSize;
+    
+    /** The maximum number of distinct sizes and types retained. */
+    private final int maxSizes;
+    
+    /** 
+     * Storage for the idle images (in least recently used order, with the
+     * eldest entry removed when there are more than {@code maxSizes}).
+     */
+    private final Map<String, List<BufferedImage>> idleImages;
+    
+    /**
+     * Creates a new pool that retains at most {@code maxImagesPerSize}
+     * idle images for each of up to 16 distinct combinations of width, 
+     * height and type.
+     * 
+     * @param maxImagesPerSize  the maximum number of idle images per size
+     *     (must be positive).
+     */
+    public ImagePool(int maxImagesPerSize) {
+        this(maxImagesPerSize, 16);
+    }
+    
+    /**
+     * Creates a new pool that retains at most {@code maxImagesPerSize}
+     * idle images for each of up to {@code maxSizes} distinct combinations
+     * of width, height and type.
+     * 
+     * @param maxImagesPerSize  the maximum number of idle images per size
+     *     (must be positive).
+     * @param maxSizes  the maximum number of sizes (must be positive).
+     */
+    public ImagePool(int maxImagesPerSize, int maxSizes) {
+        ArgChecks.positiveRequired(maxImagesPerSize, "maxImagesPerSize");
+        ArgChecks.positiveRequired(maxSizes, "maxSizes");
+        this.maxImagesPerSize = maxImagesPerSize;
+        this.maxSizes = maxSizes;
+        this.idleImages = new LRUMap(maxSizes);
+    }
+    
+    /**
+     * Returns the maximum number of idle images that are retained for each
+     * distinct combination of width, height and type.
+     * 
+     * @return The maximum number of idle images per size. 
+     */
+    public int getMaxImagesPerSize() {
+        return this.maxImagesPerSize;
+    }
+    
+    /**
+     * Returns the maximum number of distinct combinations of width, height
+     * and type for which idle images are retained.
+     * 
+     * @return The maximum number of sizes. 
+     */
+    public int getMaxSizes() {
+        return this.maxSizes;
+    }
+    
+    /**
+     * Returns an image with the specified size and type, taken from the pool
+     * if one is available or otherwise newly created.  The image content is
+     * cleared before it is returned.  When the caller has finished with the
+     * image it should be returned to the pool via the 
+     * {@link #release(java.awt.image.BufferedImage)} method.
+     * 
+     * @param width  the image width (must be positive).
+     * @param height  the image height (must be positive).
+     * @param imageType  the image type (for example 
+     *     {@code BufferedImage.TYPE_INT_ARGB}).
+     * 
+     * @return An image (never {@code null}). 
+     */
+    public BufferedImage acquire(int width, int height, int imageType) {
+        ArgChecks.positiveRequired(width, "width");
+        ArgChecks.positiveRequired(height, "height");
+        BufferedImage image = null;
+        String key = key(width, height, imageType);
+        synchronized (this.idleImages) {
+            List<BufferedImage> images = this.idleImages.get(key);
+            if (images != null && !images.isEmpty()) {
+                image = images.remove(images.size() - 1);
+            }
+        }
+        if (image == null) {
+            return new BufferedImage(width, height, imageType);
+        }
+        clear(image);
+        return image;
+    }
+    
+    /**
+     * Returns an image to the pool so that it can be reused.  If the pool
+     * already holds the maximum number of idle images for the size and type,
+     * the image is discarded.
+     * 
+     * @param image  the image ({@code null} not permitted).
+     */
+    public void release(BufferedImage image) {
+        ArgChecks.nullNotPermitted(image, "image");
+        String key = key(image.getWidth(), image.getHeight(), image.getType());
+        synchronized (this.idleImages) {
+            List<BufferedImage> images = this.idleImages.get(key);
+            if (images == null) {
+                images = new ArrayList<BufferedImage>(this.maxImagesPerSize);
+                this.idleImages.put(key, images);
+            }
+            if (images.size() < this.maxImagesPerSize) {
+                images.add(image);
+            }
+        }
+    }
+    
+    /**
+     * Returns the total number of idle images currently held by the pool.
+     * 
+     * @return The number of idle images. 
+     */
+    public int getIdleImageCount() {
+        int count = 0;
+        synchronized (this.idleImages) {
+            for (List<BufferedImage> images : this.idleImages.values()) {
+                count += images.size();
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Discards all idle images held by the pool.
+     */
+    public void clear() {
+        synchronized (this.idleImages) {
+            this.idleImages.clear();
+        }
+    }
+    
+    /**
+     * Sets all the pixels in the image to zero.  This is done through a
+     * {@code Graphics2D} rather than via the data array, since taking the
+     * data array would stop Java2D from accelerating the image.
+     * 
+     * @param image  the image ({@code null} not permitted). 
+     */
+    private static void clear(BufferedImage image) {
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fillRect(0, 0, image.getWidth(), image.getHeight());
+        } finally {
+            g2.dispose();
+        }
+    }
+    
+    private static String key(int width, int height, int imageType) {
+        return width + "x" + height + ":" + imageType;
+    }
+    
+    /**
+     * A map that keeps its entries in access order and removes the least 
+     * recently used entry when it holds more than a maximum number.
+     */
+    @SuppressWarnings("serial")
+    private static final class LRUMap 
+            extends LinkedHashMap<String, List<BufferedImage>> {
+        
+        /** The maximum number of entries. */
+        private final int maxEntries;
+        
+        LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+        
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<String, List<BufferedImage>> eldest) {
+            return size() > this.maxEntries;
+        }
+    }
+    
+}
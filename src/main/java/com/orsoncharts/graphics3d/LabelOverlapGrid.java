@@ -0,0 +1,255 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A screen-space grid that records the bounds of the labels drawn so far 
+ * and rejects new labels that would overlap them.  Labels are offered in
+ * priority order, so the first label in a cluster is drawn and the others
+ * are skipped.  Each label only needs to be tested against the labels in 
+ * the grid cells that it covers, so the cost stays close to linear even 
+ * with thousands of labels.
+ * <br><br>
+ * The bounds are treated as convex polygons (text bounds are rectangles, 
+ * possibly rotated) and tested for overlap with the separating axis test.
+ * 
+ * @since 1.8
+ */
+public class LabelOverlapGrid {
+    
+    /** The width and height of each grid cell (in Java2D units). */
+    private final double cellSize;
+    
+    /** 
+     * The labels that touch each cell.  Each label is an array containing
+     * its bounding box (minX, minY, maxX, maxY) followed by the (x, y) 
+     * coordinates of its vertices.
+     */
+    private final Map<Long, List<double[]>> cells;
+    
+    /** The number of labels added. */
+    private int count;
+    
+    /**
+     * Creates a new empty grid.  A cell size of about twice the typical 
+     * label height works well.
+     * 
+     * @param cellSize  the cell size (must be positive).
+     */
+    public LabelOverlapGrid(double cellSize) {
+        ArgChecks.positiveRequired(cellSize, "cellSize");
+        this.cellSize = cellSize;
+        this.cells = new HashMap<Long, List<double[]>>();
+    }
+    
+    /**
+     * Returns the number of labels that have been added to the grid.
+     * 
+     * @return The number of labels. 
+     */
+    public int getCount() {
+        return this.count;
+    }
+    
+    /**
+     * Adds the bounds for a label to the grid, unless they overlap the 
+     * bounds of a label that has already been added.  Bounds that only 
+     * touch are not considered to overlap.
+     * 
+     * @param bounds  the label bounds ({@code null} not permitted).
+     * 
+     * @return A boolean indicating whether or not the label was added (and 
+     *     should be drawn).
+     */
+    public boolean add(Shape bounds) {
+        ArgChecks.nullNotPermitted(bounds, "bounds");
+        double[] poly = toPolygon(bounds);
+        int cx0 = (int) Math.floor(poly[0] / this.cellSize);
+        int cy0 = (int) Math.floor(poly[1] / this.cellSize);
+        int cx1 = (int) Math.floor(poly[2] / this.cellSize);
+        int cy1 = (int) Math.floor(poly[3] / this.cellSize);
+        for (int cx = cx0; cx <= cx1; cx++) {
+            for (int cy = cy0; cy <= cy1; cy++) {
+                List<double[]> labels = this.cells.get(key(cx, cy));
+                if (labels == null) {
+                    continue;
+                }
+                for (double[] other : labels) {
+                    if (overlaps(poly, other)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        for (int cx = cx0; cx <= cx1; cx++) {
+            for (int cy = cy0; cy <= cy1; cy++) {
+                Long key = key(cx, cy);
+                List<double[]> labels = this.cells.get(key);
+                if (labels == null) {
+                    labels = new ArrayList<double[]>(4);
+                    this.cells.put(key, labels);
+                }
+                labels.add(poly);
+            }
+        }
+        this.count++;
+        return true;
+    }
+    
+    /**
+     * Removes all labels from the grid.
+     */
+    public void clear() {
+        this.cells.clear();
+        this.count = 0;
+    }
+    
+    private static Long key(int cx, int cy) {
+        return Long.valueOf(((long) cx << 32) | (cy & 0xFFFFFFFFL));
+    }
+    
+    /**
+     * Converts a shape to the polygon format used by this class (the 
+     * bounding box followed by the vertices).
+     * 
+     * @param shape  the shape.
+     * 
+     * @return The polygon. 
+     */
+    private static double[] toPolygon(Shape shape) {
+        if (shape instanceof Rectangle2D) {
+            Rectangle2D r = (Rectangle2D) shape;
+            return new double[] { r.getMinX(), r.getMinY(), r.getMaxX(), 
+                    r.getMaxY(), r.getMinX(), r.getMinY(), r.getMaxX(), 
+                    r.getMinY(), r.getMaxX(), r.getMaxY(), r.getMinX(), 
+                    r.getMaxY() };
+        }
+        Rectangle2D b = shape.getBounds2D();
+        double[] result = new double[4 + 16];
+        result[0] = b.getMinX();
+        result[1] = b.getMinY();
+        result[2] = b.getMaxX();
+        result[3] = b.getMaxY();
+        int n = 4;
+        double[] coords = new double[6];
+        PathIterator iterator = shape.getPathIterator(null, 0.5);
+        while (!iterator.isDone()) {
+            int type = iterator.currentSegment(coords);
+            if (type == PathIterator.SEG_MOVETO 
+                    || type == PathIterator.SEG_LINETO) {
+                if (n + 2 > result.length) {
+                    double[] bigger = new double[result.length * 2];
+                    System.arraycopy(result, 0, bigger, 0, n);
+                    result = bigger;
+                }
+                result[n++] = coords[0];
+                result[n++] = coords[1];
+            }
+            iterator.next();
+        }
+        if (n == 4) {
+            // an empty path, use the bounding box
+            return toPolygon(b);
+        }
+        double[] trimmed = new double[n];
+        System.arraycopy(result, 0, trimmed, 0, n);
+        return trimmed;
+    }
+    
+    /**
+     * Returns {@code true} if the two polygons overlap.
+     * 
+     * @param p1  polygon 1.
+     * @param p2  polygon 2.
+     * 
+     * @return A boolean. 
+     */
+    private static boolean overlaps(double[] p1, double[] p2) {
+        if (p1[2] <= p2[0] || p2[2] <= p1[0] || p1[3] <= p2[1] 
+                || p2[3] <= p1[1]) {
+            return false;
+        }
+        return !separated(p1, p2) && !separated(p2, p1);
+    }
+    
+    /**
+     * Returns {@code true} if one of the edges of {@code p1} defines an
+     * axis on which the projections of the two polygons do not overlap.
+     * 
+     * @param p1  polygon 1.
+     * @param p2  polygon 2.
+     * 
+     * @return A boolean.
+     */
+    private static boolean separated(double[] p1, double[] p2) {
+        int n = p1.length;
+        for (int i = 4; i < n; i += 2) {
+            int j = (i + 2 < n) ? i + 2 : 4;
+            double nx = p1[j + 1] - p1[i + 1];
+            double ny = p1[i] - p1[j];
+            if (nx == 0.0 && ny == 0.0) {
+                continue;
+            }
+            double min1 = Double.POSITIVE_INFINITY;
+            double max1 = Double.NEGATIVE_INFINITY;
+            for (int k = 4; k < n; k += 2) {
+                double d = nx * p1[k] + ny * p1[k + 1];
+                min1 = Math.min(min1, d);
+                max1 = Math.max(max1, d);
+            }
+            double min2 = Double.POSITIVE_INFINITY;
+            double max2 = Double.NEGATIVE_INFINITY;
+            for (int k = 4; k < p2.length; k += 2) {
+                double d = nx * p2[k] + ny * p2[k + 1];
+                min2 = Math.min(min2, d);
+                max2 = Math.max(max2, d);
+            }
+            if (max1 <= min2 || max2 <= min1) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+}
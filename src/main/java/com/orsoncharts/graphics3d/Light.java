@@ -0,0 +1,168 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.io.Serializable;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A directional light for a {@link StandardLightingModel}.  The direction
+ * is specified in eye coordinates (relative to the viewer, so the light
+ * moves with the viewer as the chart is rotated) and points towards the 
+ * light, following the same convention as {@link World#setSunSource(Point3D)}.
+ * Instances of this class are immutable.
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class. 
+ * 
+ * @since 1.8
+ */
+@SuppressWarnings("serial")
+public final class Light implements Serializable {
+    
+    /** The x-component of the (unit) direction vector. */
+    private final double x;
+    
+    /** The y-component of the (unit) direction vector. */
+    private final double y;
+    
+    /** The z-component of the (unit) direction vector. */
+    private final double z;
+    
+    /** The intensity. */
+    private final double intensity;
+    
+    /**
+     * Creates a new light.  The direction vector is normalised, so only its
+     * direction matters.
+     * 
+     * @param x  the x-component of the direction towards the light.
+     * @param y  the y-component of the direction towards the light.
+     * @param z  the z-component of the direction towards the light.
+     * @param intensity  the intensity (must not be negative, {@code 1.0} is
+     *     the intensity of the default light).
+     */
+    public Light(double x, double y, double z, double intensity) {
+        ArgChecks.negativeNotPermitted(intensity, "intensity");
+        double len = Math.sqrt(x * x + y * y + z * z);
+        ArgChecks.positiveRequired(len, "len");
+        this.x = x / len;
+        this.y = y / len;
+        this.z = z / len;
+        this.intensity = intensity;
+    }
+    
+    /**
+     * Returns the x-component of the unit vector pointing towards the light.
+     * 
+     * @return The x-component. 
+     */
+    public double getX() {
+        return this.x;
+    }
+    
+    /**
+     * Returns the y-component of the unit vector pointing towards the light.
+     * 
+     * @return The y-component. 
+     */
+    public double getY() {
+        return this.y;
+    }
+    
+    /**
+     * Returns the z-component of the unit vector pointing towards the light.
+     * 
+     * @return The z-component. 
+     */
+    public double getZ() {
+        return this.z;
+    }
+    
+    /**
+     * Returns the intensity of the light.
+     * 
+     * @return The intensity. 
+     */
+    public double getIntensity() {
+        return this.intensity;
+    }
+    
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     * 
+     * @param obj  the object ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof Light)) {
+            return false;
+        }
+        Light that = (Light) obj;
+        if (this.x != that.x || this.y != that.y || this.z != that.z) {
+            return false;
+        }
+        if (this.intensity != that.intensity) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     * 
+     * @return A hash code. 
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 41 * hash + hashCode(this.x);
+        hash = 41 * hash + hashCode(this.y);
+        hash = 41 * hash + hashCode(this.z);
+        hash = 41 * hash + hashCode(this.intensity);
+        return hash;
+    }
+    
+    private static int hashCode(double d) {
+        long bits = Double.doubleToLongBits(d);
+        return (int) (bits ^ (bits >>> 32));
+    }
+    
+}
@@ -0,0 +1,61 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+/**
+ * A lighting model calculates the shade for each face when a 3D model is 
+ * drawn.  For each frame, the model creates a {@link FaceShader} for the 
+ * current view point, so that any work that depends only on the view point
+ * (such as transforming the light directions) is done once per frame rather
+ * than once per face.  The shader then works with the face normals in world
+ * coordinates (see {@link Face#getNormal()}), which are calculated once and
+ * reused until the world changes.
+ * 
+ * @see StandardLightingModel
+ * @since 1.8
+ */
+public interface LightingModel {
+
+    /**
+     * Creates a shader for drawing the specified world from the specified
+     * view point.
+     * 
+     * @param world  the world ({@code null} not permitted).
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * 
+     * @return The shader (never {@code null}). 
+     */
+    FaceShader createShader(World world, ViewPoint3D viewPoint);
+    
+}
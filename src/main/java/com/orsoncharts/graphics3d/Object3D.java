@@ -242,6 +242,19 @@ public class Object3D {
         return this.vertices.size();
     }
 
+    /**
+     * Returns a vertex for this object (in world coordinates).
+     * 
+     * @param index  the vertex index.
+     * 
+     * @return The vertex (never {@code null}).
+     * 
+     * @since 1.8
+     */
+    public Point3D getVertex(int index) {
+        return this.vertices.get(index);
+    }
+    
     /**
      * Adds a new object vertex with the specified coordinates.
      * 
@@ -263,6 +276,48 @@ public class Object3D {
         this.vertices.add(vertex);
     }
 
+    /**
+     * Calculates the unit normal for a face from its first three vertices 
+     * (in world coordinates).
+     * 
+     * @param face  the vertex indices for the face (at least three).
+     * 
+     * @return The normal. 
+     */
+    double[] calculateNormal(int[] face) {
+        Point3D a = this.vertices.get(face[0]);
+        Point3D b = this.vertices.get(face[1]);
+        Point3D c = this.vertices.get(face[2]);
+        return unitNormal(a.x, a.y, a.z, b.x, b.y, b.z, c.x, c.y, c.z);
+    }
+    
+    /**
+     * Returns the unit normal for the plane through the points a, b and c
+     * (following the right hand rule for the order a, b, c).
+     * 
+     * @param ax  the x-coordinate of a.
+     * @param ay  the y-coordinate of a.
+     * @param az  the z-coordinate of a.
+     * @param bx  the x-coordinate of b.
+     * @param by  the y-coordinate of b.
+     * @param bz  the z-coordinate of b.
+     * @param cx  the x-coordinate of c.
+     * @param cy  the y-coordinate of c.
+     * @param cz  the z-coordinate of c.
+     * 
+     * @return The normal. 
+     */
+    static double[] unitNormal(double ax, double ay, double az, double bx, 
+            double by, double bz, double cx, double cy, double cz) {
+        double u1 = bx - ax, u2 = by - ay, u3 = bz - az;
+        double v1 = cx - ax, v2 = cy - ay, v3 = cz - az;
+        double nx = u2 * v3 - u3 * v2;
+        double ny = u3 * v1 - u1 * v3;
+        double nz = u1 * v2 - u2 * v1;
+        double len = Math.sqrt(nx * nx + ny * ny + nz * nz);
+        return new double[] {nx / len, ny / len, nz / len};
+    }
+
     /**
      * Returns the number of faces.
      *
@@ -440,7 +495,8 @@ public class Object3D {
 
     /**  
      * Creates a box centered on {@code (x, y, z)} with the specified 
-     * dimensions.  
+     * dimensions.  The box is an instance of {@link GeometryTemplate#BOX}, 
+     * so it shares its face topology with all other boxes.
      *
      * @param x  the x-coordinate.
      * @param xdim  the length of the box in the x-dimension.
@@ -458,25 +514,8 @@ public class Object3D {
             double y, double ydim, double z, double zdim, 
             Color color) {
         ArgChecks.nullNotPermitted(color, "color");
-        Object3D box = new Object3D(color);
-        double xdelta = xdim / 2.0;
-        double ydelta = ydim / 2.0;
-        double zdelta = zdim / 2.0;
-        box.addVertex(new Point3D(x - xdelta, y - ydelta, z - zdelta));
-        box.addVertex(new Point3D(x + xdelta, y - ydelta, z - zdelta));
-        box.addVertex(new Point3D(x + xdelta, y - ydelta, z + zdelta));
-        box.addVertex(new Point3D(x - xdelta, y - ydelta, z + zdelta));
-        box.addVertex(new Point3D(x - xdelta, y + ydelta, z - zdelta));
-        box.addVertex(new Point3D(x + xdelta, y + ydelta, z - zdelta));
-        box.addVertex(new Point3D(x + xdelta, y + ydelta, z + zdelta));
-        box.addVertex(new Point3D(x - xdelta, y + ydelta, z + zdelta));
-        box.addFace(new Face(box, new int[] {4, 5, 1, 0}));
-        box.addFace(new Face(box, new int[] {5, 6, 2, 1}));
-        box.addFace(new Face(box, new int[] {6, 7, 3, 2}));
-        box.addFace(new Face(box, new int[] {3, 7, 4, 0}));
-        box.addFace(new Face(box, new int[] {7, 6, 5, 4}));
-        box.addFace(new Face(box, new int[] {0, 1, 2, 3}));
-        return box;
+        return GeometryTemplate.BOX.createInstance(x, y, z, xdim, ydim, zdim,
+                color);
     }
 
     /**
@@ -543,7 +582,8 @@ public class Object3D {
     }
 
     /**
-     * Creates an approximation of a sphere.
+     * Creates an approximation of a sphere.  The sphere is an instance of 
+     * a shared {@link GeometryTemplate} for the number of layers.
      * 
      * @param radius  the radius of the sphere (in world units).
      * @param n  the number of layers.
@@ -557,53 +597,9 @@ public class Object3D {
      */
     public static Object3D createSphere(double radius, int n,
             double x, double y, double z, Color extColor, Color intColor) {
-        Object3D sphere = new Object3D(extColor);
+        Object3D sphere = GeometryTemplate.getSphere(n).createInstance(x, y, 
+                z, radius, radius, radius, extColor);
         sphere.setProperty(COLOR_PREFIX + "interior", intColor);
-        double theta = Math.PI / n;
-        Point3D[] prevLayer = new Point3D[n * 2 + 1];
-        for (int i = 0; i <= n * 2; i++) {
-            prevLayer[i] = new Point3D(x, y + radius, z);
-            if (i != n * 2) {
-                sphere.addVertex(prevLayer[i]);
-            }
-        }
-
-        for (int layer = 1; layer < n; layer++) {
-            Point3D[] currLayer = new Point3D[n * 2 + 1];
-            for (int i = 0; i <= n * 2; i++) {
-                double xx = radius * Math.cos(i * theta) 
-                        * Math.sin(layer * theta);
-                double yy = radius * Math.cos(layer * theta);
-                double zz = radius * Math.sin(i * theta) 
-                        * Math.sin(layer * theta);
-                currLayer[i] = new Point3D(x + xx, y + yy, z + zz);
-                if (i != n * 2) {
-                    sphere.addVertex(currLayer[i]);
-                }
-                if (i > 0 && layer > 1) {
-                    if (i != n * 2) {
-                        Face f = new Face(sphere, new int[] {
-                            (layer - 1) * n * 2 + i - 1, 
-                            (layer - 1) * n * 2 + i, layer * n * 2 + i, 
-                            layer * n * 2 + i - 1});
-                        sphere.addFace(f);
-                        f = new TaggedFace(sphere, new int[] {
-                            layer * n * 2 + i - 1, layer * n * 2 + i, 
-                            (layer - 1) * n * 2 + i, 
-                            (layer - 1) * n * 2 + i - 1}, "interior");
-                        sphere.addFace(f);
-                    } else {
-                        sphere.addFace(new Face(sphere, new int[] {
-                            (layer - 1) * n * 2 + i - 1, (layer - 1) * n * 2, 
-                            layer * n * 2, layer * n * 2 + i - 1}));
-                        sphere.addFace(new TaggedFace(sphere, new int[] {
-                            layer * n * 2 + i - 1, layer * n * 2, 
-                            (layer - 1) * n * 2, (layer - 1) * n * 2 + i - 1}, 
-                            "interior"));
-                    }
-                }
-            }
-        }
         return sphere;
     }
  
@@ -681,6 +677,93 @@ public class Object3D {
         return segment;
     }
 
+    /**
+     * Creates a pie segment with the specified attributes, taking the 
+     * sines and cosines for the arc from a table.  The vertices along the 
+     * arc lie on the steps of the table (except for the start and end
+     * vertices, which are at the exact angles), so the segments for all the
+     * sections of a pie share the same table values.  Steps that fall within
+     * a quarter of a step of the start or end angle are skipped, to avoid 
+     * very narrow faces.
+     * 
+     * @param radius  the radius.
+     * @param explodeRadius  the explode radius (0.0 if not exploded).
+     * @param base  the base.
+     * @param height  the height.
+     * @param angle1  the start angle (radians).
+     * @param angle2  the end angle (radians).
+     * @param table  the sine and cosine table ({@code null} not permitted).
+     * @param color  the color ({@code null} not permitted).
+     * 
+     * @return  A pie segment object. 
+     * 
+     * @since 1.8
+     */
+    public static Object3D createPieSegment(double radius, double explodeRadius, 
+            double base, double height, double angle1, double angle2, 
+            UnitCircleTable table, Color color) {
+        ArgChecks.nullNotPermitted(table, "table");
+        ArgChecks.nullNotPermitted(color, "color");
+        Object3D segment = new Object3D(color, true);
+        double angleCentre = (angle1 + angle2) / 2.0;
+        float cx = (float) (explodeRadius * Math.cos(angleCentre));
+        float cz = (float) (explodeRadius * Math.sin(angleCentre));
+        segment.addVertex(new Point3D(cx + 0.0, base, cz + 0.0));
+        segment.addVertex(new Point3D(cx + 0.0, base + height, cz + 0.0));
+        addArcVertices(segment, cx, cz, radius, base, height, 
+                Math.cos(angle1), Math.sin(angle1));
+        segment.addFace(new Face(segment, new int[] {1, 3, 2, 0}));
+        int vc = 4; // vertex count
+        double step = table.getStep();
+        double margin = step / 4.0;
+        int kEnd = (int) Math.ceil((angle2 - margin) / step) - 1;
+        for (int k = (int) Math.floor((angle1 + margin) / step) + 1; 
+                k <= kEnd; k++) {
+            addArcVertices(segment, cx, cz, radius, base, height, 
+                    table.cos(k), table.sin(k));
+            vc = vc + 2;
+            addArcFaces(segment, vc);
+        }
+        addArcVertices(segment, cx, cz, radius, base, height, 
+                Math.cos(angle2), Math.sin(angle2));
+        vc = vc + 2;
+        addArcFaces(segment, vc);
+
+        // closing side
+        segment.addFace(new Face(segment, new int[] {1, 0, vc-2, vc-1}));
+        return segment;
+    }
+    
+    /**
+     * Adds the bottom and top vertices for a point on the arc of a pie 
+     * segment.
+     */
+    private static void addArcVertices(Object3D segment, double cx, double cz,
+            double radius, double base, double height, double cos, 
+            double sin) {
+        double x = cx + radius * cos;
+        double z = cz + radius * sin;
+        segment.addVertex(new Point3D(x, base, z));
+        segment.addVertex(new Point3D(x, base + height, z));
+    }
+    
+    /**
+     * Adds the faces between the last two pairs of arc vertices of a pie
+     * segment.
+     * 
+     * @param segment  the segment.
+     * @param vc  the vertex count.
+     */
+    private static void addArcFaces(Object3D segment, int vc) {
+        // outside edge
+        segment.addFace(new Face(segment, 
+                new int[] {vc - 2, vc - 4, vc - 3, vc - 1}));
+
+        // top and bottom
+        segment.addFace(new Face(segment, new int[] {0,  vc - 4, vc - 2, 0}));
+        segment.addFace(new Face(segment, new int[] {1,  vc - 1, vc - 3, 1}));
+    }
+
     /**
      * Returns two 3D objects (sheets in the y-plane) that can be used as
      * alignment anchors for the labels of a pie segment.  One sheet is on the
@@ -720,7 +803,9 @@ public class Object3D {
     }
  
     /**
-     * Creates a bar with the specified dimensions and color.
+     * Creates a bar with the specified dimensions and color.  The bar is an
+     * instance of {@link GeometryTemplate#BAR}, so it shares its face 
+     * topology with all other bars.
      * 
      * @param xWidth  the x-width of the bar.
      * @param zWidth  the z-width (or depth) of the bar.
@@ -749,46 +834,15 @@ public class Object3D {
             c1 = c0;
             c0 = cc;
         }
-        Object3D bar = new Object3D(barColor);
+        Object3D bar = GeometryTemplate.BAR.createInstance(x, zero, z, xWidth,
+                y - zero, zWidth, barColor);
         if (c0 != null) {
             bar.setProperty(COLOR_PREFIX + "c0", c0);
         }
         if (c1 != null) {
             bar.setProperty(COLOR_PREFIX + "c1", c1);
         }
-        double xdelta = xWidth / 2.0;
-        double zdelta = zWidth / 2.0;
-        bar.addVertex(new Point3D(x - xdelta, zero, z - zdelta));
-        bar.addVertex(new Point3D(x + xdelta, zero, z - zdelta));
-        bar.addVertex(new Point3D(x + xdelta, zero, z + zdelta));
-        bar.addVertex(new Point3D(x - xdelta, zero, z + zdelta));
-        bar.addVertex(new Point3D(x - xdelta, y, z - zdelta));
-        bar.addVertex(new Point3D(x + xdelta, y, z - zdelta));
-        bar.addVertex(new Point3D(x + xdelta, y, z + zdelta));
-        bar.addVertex(new Point3D(x - xdelta, y, z + zdelta));
-
-        bar.addFace(new Face(bar, new int[] {0, 1, 5, 4}));
-        bar.addFace(new Face(bar, new int[] {4, 5, 1, 0}));
-        bar.addFace(new Face(bar, new int[] {1, 2, 6, 5}));
-        bar.addFace(new Face(bar, new int[] {5, 6, 2, 1}));
-        bar.addFace(new Face(bar, new int[] {2, 3, 7, 6}));
-        bar.addFace(new Face(bar, new int[] {6, 7, 3, 2}));
-        bar.addFace(new Face(bar, new int[] {0, 4, 7, 3}));
-        bar.addFace(new Face(bar, new int[] {3, 7, 4, 0}));
-        bar.addFace(new Face(bar, new int[] {4, 5, 6, 7}));
-        bar.addFace(new Face(bar, new int[] {3, 2, 1, 0}));
-        if (c1 != null) {
-            bar.addFace(new TaggedFace(bar, new int[] {7, 6, 5, 4}, "c1"));
-        } else {
-            bar.addFace(new Face(bar, new int[] {7, 6, 5, 4}));
-        }
-        if (c0 != null) {
-            bar.addFace(new TaggedFace(bar, new int[] {0, 1, 2, 3}, "c0"));    
-        } else {
-            bar.addFace(new Face(bar, new int[] {0, 1, 2, 3}));                
-        }
-        
-        return bar;      
+        return bar;
     }
     
     /**
@@ -0,0 +1,838 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A PNG encoder that writes directly from the pixel data of a 
+ * {@code BufferedImage}.  Compared to {@code ImageIO.write()} this avoids 
+ * the general purpose image I/O machinery and lets the caller trade 
+ * compression ratio for speed via the compression level and the row filter 
+ * strategy.  Images of type {@code TYPE_INT_ARGB} and {@code TYPE_INT_RGB} 
+ * (the types used by {@link ExportUtils}) are read from the raster one row
+ * at a time (without taking the raster's data array, so that Java2D can
+ * still accelerate the image), other image types are supported via 
+ * {@code BufferedImage.getRGB()}.  Images with an alpha channel are written
+ * as 8-bit RGBA, others as 8-bit RGB.
+ * <br><br>
+ * If an executor is supplied (see 
+ * {@link #setExecutor(java.util.concurrent.ExecutorService)}) the image is
+ * split into bands of rows that are filtered and compressed in parallel, 
+ * then joined into a single zlib stream.  This requires 
+ * {@code Deflater.SYNC_FLUSH}, which is looked up by reflection (it is not 
+ * available on Java 6) so there is no compile-time dependency on it; if it
+ * is not available the encoder falls back to compressing on the calling
+ * thread (see {@link #isParallelDeflateAvailable()}).
+ * <br><br>
+ * The encoder does not hold any state between calls to 
+ * {@link #encode(java.awt.image.BufferedImage, java.io.OutputStream)}, so a
+ * single (fully configured) instance can be shared between threads.
+ * 
+ * @since 1.8
+ */
+public class PNGEncoder {
+    
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = new byte[] { (byte) 137, 80, 78, 
+            71, 13, 10, 26, 10 };
+    
+    /** The maximum size of the data in a single IDAT chunk. */
+    private static final int MAX_CHUNK_SIZE = 65536;
+    
+    /** The {@code Deflater.deflate(byte[], int, int, int)} method, if any. */
+    private static final Method DEFLATE_WITH_FLUSH;
+    
+    /** The value of {@code Deflater.SYNC_FLUSH}. */
+    private static final int SYNC_FLUSH;
+    
+    static {
+        Method m = null;
+        int syncFlush = 0;
+        try {
+            syncFlush = Deflater.class.getField("SYNC_FLUSH").getInt(null);
+            m = Deflater.class.getMethod("deflate", byte[].class, int.class, 
+                    int.class, int.class);
+        } catch (Exception e) {
+            // not available (pre Java 7), m will be null
+        }
+        DEFLATE_WITH_FLUSH = m;
+        SYNC_FLUSH = syncFlush;
+    }
+    
+    /** The compression level (0-9). */
+    private int compressionLevel;
+    
+    /** The filter strategy. */
+    private PNGFilterStrategy filterStrategy;
+    
+    /** The executor for parallel compression ({@code null} permitted). */
+    private ExecutorService executor;
+    
+    /** The number of rows in each band for parallel compression. */
+    private int rowsPerBand;
+    
+    /**
+     * Creates a new encoder with compression level 6, the {@code SUB} 
+     * filter strategy and no parallel compression.
+     */
+    public PNGEncoder() {
+        this.compressionLevel = 6;
+        this.filterStrategy = PNGFilterStrategy.SUB;
+        this.executor = null;
+        this.rowsPerBand = 128;
+    }
+    
+    /**
+     * Returns {@code true} if the running JVM supports the flush mode 
+     * required for parallel compression, and {@code false} otherwise.
+     * 
+     * @return A boolean. 
+     */
+    public static boolean isParallelDeflateAvailable() {
+        return DEFLATE_WITH_FLUSH != null;
+    }
+    
+    /**
+     * Returns the compression level.
+     * 
+     * @return The compression level (in the range 0 to 9). 
+     */
+    public int getCompressionLevel() {
+        return this.compressionLevel;
+    }
+    
+    /**
+     * Sets the compression level, from 0 (no compression, fastest) to 9 
+     * (best compression, slowest).
+     * 
+     * @param level  the level (in the range 0 to 9). 
+     */
+    public void setCompressionLevel(int level) {
+        if (level < 0 || level > 9) {
+            throw new IllegalArgumentException(
+                    "Requires 'level' in the range 0 to 9.");
+        }
+        this.compressionLevel = level;
+    }
+    
+    /**
+     * Returns the filter strategy.
+     * 
+     * @return The filter strategy (never {@code null}).
+     */
+    public PNGFilterStrategy getFilterStrategy() {
+        return this.filterStrategy;
+    }
+    
+    /**
+     * Sets the filter strategy.
+     * 
+     * @param strategy  the strategy ({@code null} not permitted). 
+     */
+    public void setFilterStrategy(PNGFilterStrategy strategy) {
+        ArgChecks.nullNotPermitted(strategy, "strategy");
+        this.filterStrategy = strategy;
+    }
+    
+    /**
+     * Returns the executor used for parallel compression.
+     * 
+     * @return The executor (possibly {@code null}). 
+     */
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+    
+    /**
+     * Sets the executor used to filter and compress bands of rows in 
+     * parallel.  If {@code null}, all the work is done on the calling 
+     * thread.  The encoder does not shut down the executor.  Do not pass an
+     * executor whose threads may themselves be waiting on the encoder (for 
+     * example, a fixed pool that is also running the export jobs), since this
+     * can deadlock.
+     * 
+     * @param executor  the executor ({@code null} permitted). 
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+    
+    /**
+     * Returns the number of rows in each band when compressing in parallel.
+     * 
+     * @return The number of rows per band. 
+     */
+    public int getRowsPerBand() {
+        return this.rowsPerBand;
+    }
+    
+    /**
+     * Sets the number of rows in each band when compressing in parallel.
+     * Smaller bands give more parallelism but slightly worse compression 
+     * (the compressor starts afresh for each band).
+     * 
+     * @param rows  the number of rows (must be positive). 
+     */
+    public void setRowsPerBand(int rows) {
+        ArgChecks.positiveRequired(rows, "rows");
+        this.rowsPerBand = rows;
+    }
+    
+    /**
+     * Encodes the image in PNG format and writes it to the output stream.  
+     * The stream is flushed but not closed.
+     * 
+     * @param image  the image ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void encode(BufferedImage image, OutputStream out) 
+            throws IOException {
+        ArgChecks.nullNotPermitted(image, "image");
+        ArgChecks.nullNotPermitted(out, "out");
+        boolean alpha = image.getColorModel().hasAlpha();
+        writeHeader(out, image.getWidth(), image.getHeight(), alpha);
+        ChunkOutputStream idat = new ChunkOutputStream(out, "IDAT");
+        compress(image, alpha, idat);
+        idat.flushChunk();
+        writeChunk(out, "IEND", new byte[0], 0);
+        out.flush();
+    }
+    
+    /**
+     * Writes the PNG signature and the IHDR chunk.
+     * 
+     * @param out  the output stream.
+     * @param w  the image width.
+     * @param h  the image height.
+     * @param alpha  does the image have an alpha channel?
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    static void writeHeader(OutputStream out, int w, int h, boolean alpha) 
+            throws IOException {
+        out.write(SIGNATURE);
+        byte[] ihdr = new byte[13];
+        putInt(ihdr, 0, w);
+        putInt(ihdr, 4, h);
+        ihdr[8] = 8; // bit depth
+        ihdr[9] = (byte) (alpha ? 6 : 2); // colour type: RGBA or RGB
+        ihdr[10] = 0; // compression method
+        ihdr[11] = 0; // filter method
+        ihdr[12] = 0; // no interlace
+        writeChunk(out, "IHDR", ihdr, ihdr.length);
+    }
+    
+    /**
+     * Filters and compresses the image rows, writing a complete zlib stream
+     * to {@code out}.  This uses parallel compression if an executor has 
+     * been set and the image is tall enough to be split into bands.
+     * 
+     * @param image  the image.
+     * @param alpha  include the alpha channel?
+     * @param out  the output stream.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    void compress(BufferedImage image, boolean alpha, OutputStream out) 
+            throws IOException {
+        if (this.executor != null && DEFLATE_WITH_FLUSH != null 
+                && image.getHeight() > this.rowsPerBand) {
+            encodeParallel(image, alpha, out);
+        } else {
+            encodeSerial(image, alpha, out);
+        }
+    }
+
+    /**
+     * Filters and compresses all the rows on the calling thread.
+     * 
+     * @param image  the image.
+     * @param alpha  include the alpha channel?
+     * @param idat  the output for the compressed data.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private void encodeSerial(BufferedImage image, boolean alpha, 
+            OutputStream idat) throws IOException {
+        RowFilter filter = new RowFilter(image, alpha, this.filterStrategy, 0);
+        Deflater deflater = new Deflater(this.compressionLevel);
+        byte[] buffer = new byte[MAX_CHUNK_SIZE];
+        try {
+            for (int y = 0; y < image.getHeight(); y++) {
+                deflater.setInput(filter.filterRow(y));
+                while (!deflater.needsInput()) {
+                    int n = deflater.deflate(buffer);
+                    idat.write(buffer, 0, n);
+                }
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                idat.write(buffer, 0, n);
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    /**
+     * Filters and compresses bands of rows in parallel, then joins the 
+     * results into a single zlib stream.
+     * 
+     * @param image  the image.
+     * @param alpha  include the alpha channel?
+     * @param idat  the output for the compressed data.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private void encodeParallel(BufferedImage image, boolean alpha, 
+            OutputStream idat) throws IOException {
+        int h = image.getHeight();
+        List<Future<CompressedBand>> futures 
+                = new ArrayList<Future<CompressedBand>>();
+        for (int y0 = 0; y0 < h; y0 += this.rowsPerBand) {
+            int y1 = Math.min(y0 + this.rowsPerBand, h);
+            futures.add(this.executor.submit(new BandTask(image, alpha, y0, 
+                    y1, y1 == h)));
+        }
+        idat.write(zlibHeader(this.compressionLevel), 0, 2);
+        long adler = 1L;
+        try {
+            for (Future<CompressedBand> future : futures) {
+                CompressedBand band = future.get();
+                idat.write(band.data, 0, band.data.length);
+                adler = adler32Combine(adler, band.adler, band.length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while encoding PNG.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        byte[] trailer = new byte[4];
+        putInt(trailer, 0, (int) adler);
+        idat.write(trailer, 0, 4);
+    }
+    
+    /**
+     * Returns the two byte zlib stream header for the specified compression
+     * level.
+     * 
+     * @param level  the compression level.
+     * 
+     * @return The header. 
+     */
+    private static byte[] zlibHeader(int level) {
+        int cmf = 0x78; // deflate, 32K window
+        int flevel;
+        if (level < 2) {
+            flevel = 0;
+        } else if (level < 6) {
+            flevel = 1;
+        } else if (level == 6) {
+            flevel = 2;
+        } else {
+            flevel = 3;
+        }
+        int flg = flevel << 6;
+        flg += 31 - ((cmf * 256 + flg) % 31);
+        return new byte[] { (byte) cmf, (byte) flg };
+    }
+    
+    /**
+     * Combines the Adler-32 checksums for two consecutive blocks of data 
+     * (this is the algorithm used by {@code adler32_combine()} in zlib).
+     * 
+     * @param adler1  the checksum for the first block.
+     * @param adler2  the checksum for the second block.
+     * @param len2  the length of the second block.
+     * 
+     * @return The checksum for the combined data. 
+     */
+    static long adler32Combine(long adler1, long adler2, long len2) {
+        final long base = 65521L;
+        long rem = len2 % base;
+        long sum1 = adler1 & 0xFFFFL;
+        long sum2 = (rem * sum1) % base;
+        sum1 += (adler2 & 0xFFFFL) + base - 1;
+        sum2 += ((adler1 >> 16) & 0xFFFFL) + ((adler2 >> 16) & 0xFFFFL) 
+                + base - rem;
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum2 >= (base << 1)) {
+            sum2 -= (base << 1);
+        }
+        if (sum2 >= base) {
+            sum2 -= base;
+        }
+        return sum1 | (sum2 << 16);
+    }
+    
+    /**
+     * Writes a chunk to the output stream.
+     * 
+     * @param out  the output stream.
+     * @param type  the chunk type (four ASCII characters).
+     * @param data  the chunk data.
+     * @param length  the number of bytes of data to write.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    static void writeChunk(OutputStream out, String type, byte[] data, 
+            int length) throws IOException {
+        byte[] header = new byte[8];
+        putInt(header, 0, length);
+        for (int i = 0; i < 4; i++) {
+            header[4 + i] = (byte) type.charAt(i);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(header, 4, 4);
+        crc.update(data, 0, length);
+        out.write(header);
+        out.write(data, 0, length);
+        byte[] trailer = new byte[4];
+        putInt(trailer, 0, (int) crc.getValue());
+        out.write(trailer);
+    }
+    
+    static void putInt(byte[] b, int offset, int value) {
+        b[offset] = (byte) (value >>> 24);
+        b[offset + 1] = (byte) (value >>> 16);
+        b[offset + 2] = (byte) (value >>> 8);
+        b[offset + 3] = (byte) value;
+    }
+    
+    /**
+     * An output stream that buffers data and writes it as a sequence of 
+     * chunks of one type (normally IDAT).
+     */
+    static class ChunkOutputStream extends OutputStream {
+        
+        private final OutputStream out;
+        
+        private final String type;
+        
+        private final byte[] buffer;
+        
+        private final int start;
+        
+        private int count;
+        
+        /**
+         * Creates a stream that writes chunks of the specified type.
+         * 
+         * @param out  the underlying stream.
+         * @param type  the chunk type.
+         */
+        ChunkOutputStream(OutputStream out, String type) {
+            this(out, type, 0);
+        }
+        
+        /**
+         * Creates a stream that writes chunks of the specified type, 
+         * reserving {@code start} bytes at the beginning of each chunk 
+         * (these are filled in by {@link #beginChunk(byte[])}, for example 
+         * with a sequence number).
+         * 
+         * @param out  the underlying stream.
+         * @param type  the chunk type.
+         * @param start  the number of reserved bytes.
+         */
+        ChunkOutputStream(OutputStream out, String type, int start) {
+            this.out = out;
+            this.type = type;
+            this.buffer = new byte[MAX_CHUNK_SIZE];
+            this.start = start;
+            this.count = start;
+        }
+        
+        /**
+         * Called before a chunk is written so that subclasses can fill in 
+         * the reserved bytes at the start of the chunk.
+         * 
+         * @param buffer  the chunk data buffer.
+         */
+        void beginChunk(byte[] buffer) {
+            // nothing to do by default
+        }
+        
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+        
+        @Override
+        public void write(byte[] b, int offset, int length) 
+                throws IOException {
+            while (length > 0) {
+                int n = Math.min(length, this.buffer.length - this.count);
+                System.arraycopy(b, offset, this.buffer, this.count, n);
+                this.count += n;
+                offset += n;
+                length -= n;
+                if (this.count == this.buffer.length) {
+                    flushChunk();
+                }
+            }
+        }
+        
+        /**
+         * Writes any buffered data as a chunk.
+         * 
+         * @throws IOException if there is an I/O problem.
+         */
+        void flushChunk() throws IOException {
+            if (this.count > this.start) {
+                beginChunk(this.buffer);
+                writeChunk(this.out, this.type, this.buffer, this.count);
+                this.count = this.start;
+            }
+        }
+    }
+    
+    /**
+     * The compressed data for a band of rows.
+     */
+    private static class CompressedBand {
+        
+        /** The raw deflate data (ending on a byte boundary). */
+        final byte[] data;
+        
+        /** The Adler-32 checksum of the uncompressed (filtered) rows. */
+        final long adler;
+        
+        /** The number of bytes of uncompressed (filtered) rows. */
+        final long length;
+        
+        CompressedBand(byte[] data, long adler, long length) {
+            this.data = data;
+            this.adler = adler;
+            this.length = length;
+        }
+    }
+    
+    /**
+     * A task that filters and compresses one band of rows.
+     */
+    private class BandTask implements Callable<CompressedBand> {
+        
+        private final BufferedImage image;
+        
+        private final boolean alpha;
+        
+        private final int y0;
+        
+        private final int y1;
+        
+        private final boolean last;
+        
+        BandTask(BufferedImage image, boolean alpha, int y0, int y1, 
+                boolean last) {
+            this.image = image;
+            this.alpha = alpha;
+            this.y0 = y0;
+            this.y1 = y1;
+            this.last = last;
+        }
+
+        @Override
+        public CompressedBand call() throws Exception {
+            RowFilter filter = new RowFilter(this.image, this.alpha, 
+                    filterStrategy, this.y0);
+            Deflater deflater = new Deflater(compressionLevel, true);
+            Adler32 adler = new Adler32();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[MAX_CHUNK_SIZE];
+            long length = 0L;
+            try {
+                for (int y = this.y0; y < this.y1; y++) {
+                    byte[] row = filter.filterRow(y);
+                    adler.update(row);
+                    length += row.length;
+                    deflater.setInput(row);
+                    while (!deflater.needsInput()) {
+                        int n = deflater.deflate(buffer);
+                        out.write(buffer, 0, n);
+                    }
+                }
+                if (this.last) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        int n = deflater.deflate(buffer);
+                        out.write(buffer, 0, n);
+                    }
+                } else {
+                    int n;
+                    do {
+                        n = syncFlush(deflater, buffer);
+                        out.write(buffer, 0, n);
+                    } while (n == buffer.length);
+                }
+            } finally {
+                deflater.end();
+            }
+            return new CompressedBand(out.toByteArray(), adler.getValue(), 
+                    length);
+        }
+        
+        private int syncFlush(Deflater deflater, byte[] buffer) 
+                throws IllegalAccessException {
+            try {
+                return (Integer) DEFLATE_WITH_FLUSH.invoke(deflater, buffer, 
+                        0, buffer.length, SYNC_FLUSH);
+            } catch (InvocationTargetException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+    }
+    
+    /**
+     * Converts image rows to PNG pixel bytes and applies the row filters.
+     * An instance is used by a single thread to process consecutive rows.
+     */
+    private static class RowFilter {
+        
+        private final BufferedImage image;
+        
+        private final int width;
+        
+        /** Bytes per pixel (3 or 4). */
+        private final int bpp;
+        
+        private final PNGFilterStrategy strategy;
+        
+        /** 
+         * The raster, if the packed pixel values can be copied from it 
+         * directly (otherwise {@code null}).
+         */
+        private final Raster packed;
+        
+        /** A buffer for the pixel values of one row. */
+        private final int[] argb;
+        
+        private byte[] prev;
+        
+        private byte[] curr;
+        
+        /** Filtered output rows, one per filter type. */
+        private final byte[][] filtered;
+        
+        RowFilter(BufferedImage image, boolean alpha, 
+                PNGFilterStrategy strategy, int firstRow) {
+            this.image = image;
+            this.width = image.getWidth();
+            this.bpp = alpha ? 4 : 3;
+            this.strategy = strategy;
+            Raster raster = null;
+            int type = image.getType();
+            if (type == BufferedImage.TYPE_INT_ARGB 
+                    || type == BufferedImage.TYPE_INT_RGB) {
+                // getDataElements() copies the packed values without 
+                // taking the data array, which would stop Java2D from 
+                // accelerating the image
+                raster = image.getRaster();
+                if (!(raster.getSampleModel() 
+                        instanceof SinglePixelPackedSampleModel) 
+                        || raster.getTransferType() != DataBuffer.TYPE_INT) {
+                    raster = null;
+                }
+            }
+            this.packed = raster;
+            this.argb = new int[this.width];
+            int rowBytes = this.width * this.bpp;
+            this.prev = new byte[rowBytes];
+            this.curr = new byte[rowBytes];
+            this.filtered = new byte[5][rowBytes + 1];
+            if (firstRow > 0) {
+                // filterRow() swaps this into the 'prev' slot
+                readRow(firstRow - 1, this.curr);
+            }
+        }
+        
+        /**
+         * Returns the filtered bytes for row {@code y}, which must be the
+         * row following the one passed in the previous call (or the first 
+         * row specified in the constructor).  The returned array is reused
+         * by subsequent calls.
+         */
+        byte[] filterRow(int y) {
+            byte[] tmp = this.prev;
+            this.prev = this.curr;
+            this.curr = tmp;
+            readRow(y, this.curr);
+            if (this.strategy == PNGFilterStrategy.ADAPTIVE) {
+                int best = 0;
+                long bestScore = Long.MAX_VALUE;
+                for (int t = 0; t < 5; t++) {
+                    applyFilter(t, this.filtered[t]);
+                    long score = score(this.filtered[t], bestScore);
+                    if (score < bestScore) {
+                        bestScore = score;
+                        best = t;
+                    }
+                }
+                return this.filtered[best];
+            }
+            int t = this.strategy.ordinal();
+            applyFilter(t, this.filtered[t]);
+            return this.filtered[t];
+        }
+        
+        private void readRow(int y, byte[] dest) {
+            int[] pixels = this.argb;
+            if (this.packed != null) {
+                this.packed.getDataElements(0, y, this.width, 1, pixels);
+            } else {
+                this.image.getRGB(0, y, this.width, 1, pixels, 0, this.width);
+            }
+            int i = 0;
+            if (this.bpp == 4) {
+                for (int x = 0; x < this.width; x++) {
+                    int p = pixels[x];
+                    dest[i++] = (byte) (p >> 16);
+                    dest[i++] = (byte) (p >> 8);
+                    dest[i++] = (byte) p;
+                    dest[i++] = (byte) (p >>> 24);
+                }
+            } else {
+                for (int x = 0; x < this.width; x++) {
+                    int p = pixels[x];
+                    dest[i++] = (byte) (p >> 16);
+                    dest[i++] = (byte) (p >> 8);
+                    dest[i++] = (byte) p;
+                }
+            }
+        }
+        
+        private void applyFilter(int type, byte[] out) {
+            byte[] cur = this.curr;
+            byte[] up = this.prev;
+            int n = cur.length;
+            int bpp = this.bpp;
+            out[0] = (byte) type;
+            switch (type) {
+                case 0:
+                    System.arraycopy(cur, 0, out, 1, n);
+                    break;
+                case 1:
+                    for (int i = 0; i < bpp; i++) {
+                        out[i + 1] = cur[i];
+                    }
+                    for (int i = bpp; i < n; i++) {
+                        out[i + 1] = (byte) (cur[i] - cur[i - bpp]);
+                    }
+                    break;
+                case 2:
+                    for (int i = 0; i < n; i++) {
+                        out[i + 1] = (byte) (cur[i] - up[i]);
+                    }
+                    break;
+                case 3:
+                    for (int i = 0; i < bpp; i++) {
+                        out[i + 1] = (byte) (cur[i] - ((up[i] & 0xFF) >> 1));
+                    }
+                    for (int i = bpp; i < n; i++) {
+                        int avg = ((cur[i - bpp] & 0xFF) + (up[i] & 0xFF)) >> 1;
+                        out[i + 1] = (byte) (cur[i] - avg);
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < bpp; i++) {
+                        out[i + 1] = (byte) (cur[i] - up[i]);
+                    }
+                    for (int i = bpp; i < n; i++) {
+                        int p = paeth(cur[i - bpp] & 0xFF, up[i] & 0xFF, 
+                                up[i - bpp] & 0xFF);
+                        out[i + 1] = (byte) (cur[i] - p);
+                    }
+            }
+        }
+        
+        private static int paeth(int a, int b, int c) {
+            int p = a + b - c;
+            int pa = Math.abs(p - a);
+            int pb = Math.abs(p - b);
+            int pc = Math.abs(p - c);
+            if (pa <= pb && pa <= pc) {
+                return a;
+            }
+            return (pb <= pc) ? b : c;
+        }
+        
+        /**
+         * Returns the sum of the absolute values of the filtered bytes 
+         * (treated as signed), stopping early once {@code limit} is reached.
+         */
+        private static long score(byte[] row, long limit) {
+            long sum = 0L;
+            for (int i = 1; i < row.length; i++) {
+                sum += Math.abs((int) row[i]);
+                if (sum >= limit) {
+                    return sum;
+                }
+            }
+            return sum;
+        }
+    }
+    
+}
@@ -0,0 +1,69 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+/**
+ * The row filters that can be applied by the {@link PNGEncoder} before the
+ * image data is compressed.  The first five values correspond to the filter
+ * types defined in the PNG specification and apply the same filter to 
+ * every row.  {@code ADAPTIVE} chooses a filter for each row individually
+ * (using the minimum sum of absolute differences heuristic), which usually
+ * compresses best but takes longer.
+ * 
+ * @since 1.8
+ */
+public enum PNGFilterStrategy {
+    
+    /** No filtering. */
+    NONE,
+    
+    /** Each byte is stored as the difference from the byte to the left. */
+    SUB,
+    
+    /** Each byte is stored as the difference from the byte above. */
+    UP,
+    
+    /** 
+     * Each byte is stored as the difference from the average of the bytes 
+     * to the left and above.
+     */
+    AVERAGE,
+    
+    /** The Paeth predictor filter. */
+    PAETH,
+    
+    /** The filter is selected separately for each row. */
+    ADAPTIVE
+    
+}
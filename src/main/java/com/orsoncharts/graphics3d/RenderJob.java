@@ -0,0 +1,134 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.io.File;
+import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.util.ExportFormat;
+
+/**
+ * A request to render a {@link Drawable3D} to a file, for use with the
+ * {@link BatchRenderer} class.  Instances of this class are immutable.
+ * <br><br>
+ * Note that a drawable is generally not safe for concurrent use, so the
+ * same drawable should not appear in more than one job within a batch.
+ * 
+ * @since 1.8
+ */
+public final class RenderJob {
+    
+    /** The drawable. */
+    private final Drawable3D drawable;
+    
+    /** The width of the output. */
+    private final int width;
+    
+    /** The height of the output. */
+    private final int height;
+    
+    /** The output format. */
+    private final ExportFormat format;
+    
+    /** The output file. */
+    private final File file;
+    
+    /**
+     * Creates a new job.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param width  the output width (must be positive).
+     * @param height  the output height (must be positive).
+     * @param format  the output format ({@code null} not permitted).
+     * @param file  the output file ({@code null} not permitted).
+     */
+    public RenderJob(Drawable3D drawable, int width, int height, 
+            ExportFormat format, File file) {
+        ArgChecks.nullNotPermitted(drawable, "drawable");
+        ArgChecks.positiveRequired(width, "width");
+        ArgChecks.positiveRequired(height, "height");
+        ArgChecks.nullNotPermitted(format, "format");
+        ArgChecks.nullNotPermitted(file, "file");
+        this.drawable = drawable;
+        this.width = width;
+        this.height = height;
+        this.format = format;
+        this.file = file;
+    }
+
+    /**
+     * Returns the drawable.
+     * 
+     * @return The drawable (never {@code null}). 
+     */
+    public Drawable3D getDrawable() {
+        return this.drawable;
+    }
+
+    /**
+     * Returns the output width.
+     * 
+     * @return The output width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the output height.
+     * 
+     * @return The output height. 
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Returns the output format.
+     * 
+     * @return The output format (never {@code null}). 
+     */
+    public ExportFormat getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Returns the output file.
+     * 
+     * @return The output file (never {@code null}). 
+     */
+    public File getFile() {
+        return this.file;
+    }
+    
+}
@@ -0,0 +1,147 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * The outcome of a single {@link RenderJob} executed by a 
+ * {@link BatchRenderer}.  Instances of this class are immutable.
+ * 
+ * @since 1.8
+ */
+public final class RenderJobResult {
+    
+    /** The job. */
+    private final RenderJob job;
+    
+    /** The rendering info ({@code null} if the job failed). */
+    private final RenderingInfo info;
+    
+    /** The exception that caused the job to fail ({@code null} if none). */
+    private final Exception exception;
+    
+    /** The time spent waiting in the queue (in nanoseconds). */
+    private final long queueNanos;
+    
+    /** The time taken to draw and write the output (in nanoseconds). */
+    private final long renderNanos;
+    
+    /**
+     * Creates a new result.
+     * 
+     * @param job  the job ({@code null} not permitted).
+     * @param info  the rendering info ({@code null} permitted).
+     * @param exception  the exception ({@code null} permitted).
+     * @param queueNanos  the time the job waited for a worker (nanoseconds).
+     * @param renderNanos  the time taken to render the job (nanoseconds).
+     */
+    public RenderJobResult(RenderJob job, RenderingInfo info, 
+            Exception exception, long queueNanos, long renderNanos) {
+        ArgChecks.nullNotPermitted(job, "job");
+        this.job = job;
+        this.info = info;
+        this.exception = exception;
+        this.queueNanos = queueNanos;
+        this.renderNanos = renderNanos;
+    }
+
+    /**
+     * Returns the job.
+     * 
+     * @return The job (never {@code null}). 
+     */
+    public RenderJob getJob() {
+        return this.job;
+    }
+    
+    /**
+     * Returns {@code true} if the job completed without an exception, and
+     * {@code false} otherwise.
+     * 
+     * @return A boolean. 
+     */
+    public boolean isSuccess() {
+        return this.exception == null;
+    }
+
+    /**
+     * Returns the rendering info for the job.
+     * 
+     * @return The rendering info ({@code null} if the job failed). 
+     */
+    public RenderingInfo getRenderingInfo() {
+        return this.info;
+    }
+
+    /**
+     * Returns the exception that caused the job to fail, if any.
+     * 
+     * @return The exception (possibly {@code null}). 
+     */
+    public Exception getException() {
+        return this.exception;
+    }
+
+    /**
+     * Returns the time (in nanoseconds) that the job spent waiting for a 
+     * worker thread.
+     * 
+     * @return The queue time in nanoseconds. 
+     */
+    public long getQueueNanos() {
+        return this.queueNanos;
+    }
+
+    /**
+     * Returns the time (in nanoseconds) taken to draw the job and write the 
+     * output file.
+     * 
+     * @return The render time in nanoseconds. 
+     */
+    public long getRenderNanos() {
+        return this.renderNanos;
+    }
+    
+    /**
+     * Returns the total latency (queue time plus render time) for the job, 
+     * in nanoseconds.
+     * 
+     * @return The latency in nanoseconds. 
+     */
+    public long getLatencyNanos() {
+        return this.queueNanos + this.renderNanos;
+    }
+    
+}
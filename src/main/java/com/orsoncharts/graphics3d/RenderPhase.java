@@ -0,0 +1,87 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+
+package com.orsoncharts.graphics3d;
+
+/**
+ * The phases of chart rendering that are timed and recorded in 
+ * {@link RenderStats}.
+ * 
+ * @since 1.8
+ */
+public enum RenderPhase {
+    
+    /** Selection of the tick units for the axes. */
+    TICK_SEARCH,
+    
+    /** 
+     * Composition of the 3D world (or just the chart box when the rest of
+     * the world is cached). 
+     */
+    WORLD_COMPOSITION,
+    
+    /** 
+     * Filling of the chart background and calculation of the eye 
+     * coordinates and projected points. 
+     */
+    TRANSFORM,
+    
+    /** 
+     * Removal of the faces that cannot be seen (see {@link FaceCuller}). 
+     */
+    CULL,
+    
+    /** Sorting of the faces into paint order. */
+    SORT,
+    
+    /** 
+     * Removal of small faces that share a device pixel with a nearer small
+     * face (see {@link FaceDecimator}).  No time is recorded for this phase
+     * unless {@code Chart3D.setMinFaceArea()} has been set.
+     */
+    DECIMATE,
+    
+    /** Filling of the faces (including gridlines, markers and item labels). */
+    FACE_FILL,
+    
+    /** Drawing of the axes and their labels (or the pie section labels). */
+    AXES,
+    
+    /** Layout and drawing of the legend. */
+    LEGEND,
+    
+    /** Layout and drawing of the chart title. */
+    TITLE
+    
+}
@@ -0,0 +1,268 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+
+package com.orsoncharts.graphics3d;
+
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * Timings and counts recorded while a chart is drawn, available via 
+ * {@link RenderingInfo#getRenderStats()}.  The time for each 
+ * {@link RenderPhase} is measured with {@link System#nanoTime()}, so the
+ * values are only meaningful relative to one another.
+ * 
+ * @since 1.8
+ */
+public class RenderStats {
+    
+    /** The time spent in each phase (in nanoseconds), indexed by ordinal. */
+    private final long[] phaseNanos;
+    
+    /** The total time for the draw (in nanoseconds). */
+    private long totalNanos;
+    
+    /** The number of faces (polygons and lines) drawn. */
+    private int facesDrawn;
+    
+    /** 
+     * The number of faces skipped because they face away from the viewer, 
+     * lie outside the drawing area or are behind the eye.
+     */
+    private int facesCulled;
+    
+    /** 
+     * The number of small faces skipped because a nearer small face has its
+     * centre in the same device pixel.
+     */
+    private int facesMerged;
+    
+    /** The number of small faces that were filled as a single pixel. */
+    private int facesFilledAsPixels;
+    
+    /** The number of vertices in the world. */
+    private int vertexCount;
+    
+    /** The number of labels drawn (item, axis, tick and pie labels). */
+    private int labelCount;
+    
+    /**
+     * Creates a new instance with all timings and counts set to zero.
+     */
+    public RenderStats() {
+        this.phaseNanos = new long[RenderPhase.values().length];
+    }
+    
+    /**
+     * Returns the time spent in the specified phase.
+     * 
+     * @param phase  the phase ({@code null} not permitted).
+     * 
+     * @return The time (in nanoseconds). 
+     */
+    public long getPhaseNanos(RenderPhase phase) {
+        ArgChecks.nullNotPermitted(phase, "phase");
+        return this.phaseNanos[phase.ordinal()];
+    }
+    
+    /**
+     * Adds to the time recorded for the specified phase.
+     * 
+     * @param phase  the phase ({@code null} not permitted).
+     * @param nanos  the time to add (in nanoseconds).
+     */
+    public void addPhaseNanos(RenderPhase phase, long nanos) {
+        ArgChecks.nullNotPermitted(phase, "phase");
+        this.phaseNanos[phase.ordinal()] += nanos;
+    }
+    
+    /**
+     * Returns the total time for the draw, which includes work that is not
+     * attributed to any phase (for example, filling the background).
+     * 
+     * @return The total time (in nanoseconds). 
+     */
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+    
+    /**
+     * Sets the total time for the draw.
+     * 
+     * @param nanos  the time (in nanoseconds).
+     */
+    public void setTotalNanos(long nanos) {
+        this.totalNanos = nanos;
+    }
+    
+    /**
+     * Returns the number of faces drawn (polygons and lines, but not item 
+     * labels).
+     * 
+     * @return The number of faces drawn. 
+     */
+    public int getFacesDrawn() {
+        return this.facesDrawn;
+    }
+    
+    /**
+     * Sets the number of faces drawn.
+     * 
+     * @param count  the count.
+     */
+    public void setFacesDrawn(int count) {
+        this.facesDrawn = count;
+    }
+    
+    /**
+     * Returns the number of faces that were not drawn because they face 
+     * away from the viewer, lie outside the drawing area or are behind the
+     * eye (see {@link FaceCuller}).
+     * 
+     * @return The number of faces culled. 
+     */
+    public int getFacesCulled() {
+        return this.facesCulled;
+    }
+    
+    /**
+     * Sets the number of faces culled.
+     * 
+     * @param count  the count.
+     */
+    public void setFacesCulled(int count) {
+        this.facesCulled = count;
+    }
+    
+    /**
+     * Returns the number of small faces that were not drawn because a 
+     * nearer small face has its centre in the same device pixel (see 
+     * {@link FaceDecimator}).  These faces are not included in the 
+     * number of faces drawn.
+     * 
+     * @return The number of faces merged. 
+     */
+    public int getFacesMerged() {
+        return this.facesMerged;
+    }
+    
+    /**
+     * Sets the number of faces merged.
+     * 
+     * @param count  the count.
+     */
+    public void setFacesMerged(int count) {
+        this.facesMerged = count;
+    }
+    
+    /**
+     * Returns the number of small faces that were filled as a single device
+     * pixel instead of as a path (see {@link FaceDecimator}).  These faces
+     * are included in the number of faces drawn.
+     * 
+     * @return The number of faces filled as pixels. 
+     */
+    public int getFacesFilledAsPixels() {
+        return this.facesFilledAsPixels;
+    }
+    
+    /**
+     * Sets the number of faces filled as pixels.
+     * 
+     * @param count  the count.
+     */
+    public void setFacesFilledAsPixels(int count) {
+        this.facesFilledAsPixels = count;
+    }
+    
+    /**
+     * Returns the number of vertices transformed.
+     * 
+     * @return The vertex count. 
+     */
+    public int getVertexCount() {
+        return this.vertexCount;
+    }
+    
+    /**
+     * Sets the number of vertices transformed.
+     * 
+     * @param count  the count.
+     */
+    public void setVertexCount(int count) {
+        this.vertexCount = count;
+    }
+    
+    /**
+     * Returns the number of labels drawn.
+     * 
+     * @return The label count. 
+     */
+    public int getLabelCount() {
+        return this.labelCount;
+    }
+    
+    /**
+     * Sets the number of labels drawn.
+     * 
+     * @param count  the count.
+     */
+    public void setLabelCount(int count) {
+        this.labelCount = count;
+    }
+    
+    /**
+     * Returns a string containing the timings (in microseconds) and counts, 
+     * intended for logging.
+     * 
+     * @return A string. 
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("RenderStats[");
+        for (RenderPhase phase : RenderPhase.values()) {
+            sb.append(phase.name()).append('=');
+            sb.append(this.phaseNanos[phase.ordinal()] / 1000L);
+            sb.append("us, ");
+        }
+        sb.append("total=").append(this.totalNanos / 1000L).append("us, ");
+        sb.append("facesDrawn=").append(this.facesDrawn);
+        sb.append(", facesCulled=").append(this.facesCulled);
+        sb.append(", facesMerged=").append(this.facesMerged);
+        sb.append(", facesFilledAsPixels=").append(this.facesFilledAsPixels);
+        sb.append(", vertices=").append(this.vertexCount);
+        sb.append(", labels=").append(this.labelCount).append(']');
+        return sb.toString();
+    }
+    
+}
@@ -69,6 +69,13 @@ public class RenderingInfo {
 
     List<RenderedElement> otherOffsetElements;
     
+    /** 
+     * Timings and counts for the draw ({@code null} if not recorded). 
+     * 
+     * @since 1.8
+     */
+    private RenderStats renderStats;
+    
     /**
      * Creates a new instance.
      * 
@@ -128,6 +135,42 @@ public class RenderingInfo {
         return this.dy;
     }
     
+    /**
+     * Returns the number of offset elements (these are the labels drawn 
+     * relative to the 3D model, such as axis and tick labels).
+     * 
+     * @return The number of offset elements.
+     * 
+     * @since 1.8
+     */
+    public int getOffsetElementCount() {
+        return this.otherOffsetElements.size();
+    }
+    
+    /**
+     * Returns the timings and counts recorded while drawing, if any.  
+     * {@code Chart3D} always records these, other {@link Drawable3D} 
+     * implementations may not.
+     * 
+     * @return The render stats (possibly {@code null}).
+     * 
+     * @since 1.8
+     */
+    public RenderStats getRenderStats() {
+        return this.renderStats;
+    }
+    
+    /**
+     * Sets the timings and counts for the draw.
+     * 
+     * @param stats  the render stats ({@code null} permitted).
+     * 
+     * @since 1.8
+     */
+    public void setRenderStats(RenderStats stats) {
+        this.renderStats = stats;
+    }
+    
     /**
      * Adds a rendered element to the rendering info.
      * 
@@ -0,0 +1,161 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A cache of shaded colors for filling the faces of a 3D model.  The shade
+ * (the light intensity, in the range {@code 0.0} to {@code 1.0}) is 
+ * quantized to a fixed number of levels, so the faces with the same base
+ * color and a similar orientation share a single {@code Color} instance.
+ * This avoids allocating a new color for every face drawn and, because
+ * repeated colors are the same instance, lets the caller skip calls to 
+ * {@code Graphics2D.setPaint()} when the paint has not changed.
+ * <br><br>
+ * The cache has a fixed number of slots, each holding the most recently 
+ * requested color for the (base color, level) pairs that map to it, so the
+ * memory use stays bounded even for surface charts where almost every face
+ * has its own base color.  Instances are not thread-safe.
+ * 
+ * @since 1.8
+ */
+public class ShadedColorCache {
+    
+    /** The default number of shade levels. */
+    public static final int DEFAULT_LEVELS = 256;
+    
+    /** The number of slots in the cache (a power of 2). */
+    private static final int SLOTS = 4096;
+    
+    /** The number of shade levels. */
+    private final int levels;
+    
+    /** The keys (base ARGB value and level) for the cached colors. */
+    private final long[] keys;
+    
+    /** The cached colors ({@code null} for an empty slot). */
+    private final Color[] colors;
+    
+    /**
+     * Creates a new cache with the default number of shade levels (256).
+     */
+    public ShadedColorCache() {
+        this(DEFAULT_LEVELS);
+    }
+    
+    /**
+     * Creates a new cache.
+     * 
+     * @param levels  the number of shade levels (in the range 2 to 65536).
+     */
+    public ShadedColorCache(int levels) {
+        if (levels < 2 || levels > 65536) {
+            throw new IllegalArgumentException(
+                    "Requires 'levels' in the range 2 to 65536.");
+        }
+        this.levels = levels;
+        this.keys = new long[SLOTS];
+        this.colors = new Color[SLOTS];
+    }
+    
+    /**
+     * Returns the number of shade levels.
+     * 
+     * @return The number of shade levels. 
+     */
+    public int getLevels() {
+        return this.levels;
+    }
+    
+    /**
+     * Returns the base color scaled by the specified shade (the red, 
+     * green and blue components are multiplied by the shade after it has
+     * been quantized, the alpha component is unchanged).  Repeated calls 
+     * with the same base color and a shade that maps to the same level will
+     * usually return the same instance.
+     * 
+     * @param base  the base color ({@code null} not permitted).
+     * @param shade  the shade (values outside the range {@code 0.0} to 
+     *     {@code 1.0} are clipped to that range).
+     * 
+     * @return The shaded color (never {@code null}). 
+     */
+    public Color getShadedColor(Color base, double shade) {
+        ArgChecks.nullNotPermitted(base, "base");
+        int level;
+        if (shade >= 1.0) {
+            level = this.levels - 1;
+        } else if (shade > 0.0) {
+            level = (int) (shade * (this.levels - 1) + 0.5);
+        } else {
+            level = 0;  // includes NaN
+        }
+        long key = ((base.getRGB() & 0xFFFFFFFFL) << 16) | level;
+        int slot = slot(key);
+        Color result = this.colors[slot];
+        if (result != null && this.keys[slot] == key) {
+            return result;
+        }
+        double s = level / (this.levels - 1.0);
+        result = new Color((int) (base.getRed() * s), 
+                (int) (base.getGreen() * s), (int) (base.getBlue() * s), 
+                base.getAlpha());
+        this.keys[slot] = key;
+        this.colors[slot] = result;
+        return result;
+    }
+    
+    /**
+     * Removes all the colors from the cache.
+     */
+    public void clear() {
+        for (int i = 0; i < SLOTS; i++) {
+            this.colors[i] = null;
+        }
+    }
+    
+    /**
+     * Returns the slot for a key.
+     * 
+     * @param key  the key.
+     * 
+     * @return The slot index. 
+     */
+    private static int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 52) & (SLOTS - 1);
+    }
+    
+}
@@ -0,0 +1,364 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * The standard lighting model.  The shade for a face is the sum of:
+ * <ul>
+ * <li>an ambient term, the same for all faces;</li>
+ * <li>a diffuse term for each light, proportional to the light intensity 
+ *     and to {@code (n.l + wrap) / (1 + wrap)}, where {@code n.l} is the 
+ *     cosine of the angle between the face normal and the light direction
+ *     (with a {@code wrap} of {@code 0.0} this is the Lambert term, higher 
+ *     values let the light reach faces that are turned away from it);</li>
+ * <li>a specular term for each light, proportional to the light 
+ *     intensity and to {@code (n.h)^shininess}, where {@code h} is the 
+ *     direction halfway between the light and the viewer.</li>
+ * </ul>
+ * The result is clipped to the range {@code 0.0} to {@code 1.0}.  Since the
+ * shade scales the face color, highlights brighten a face up to its full 
+ * color.  If no lights are added, a single light with intensity 
+ * {@code 1.0} in the direction of the world's sun is used (see 
+ * {@link World#setSunSource(Point3D)}).  With the default settings (no 
+ * lights, no ambient or specular term and a wrap of {@code 1.0}) faces are
+ * shaded exactly as in earlier releases.
+ * <br><br>
+ * Instances of this class are immutable.  To change the lighting for a 
+ * chart, create a new model and pass it to 
+ * {@link com.orsoncharts.Chart3D#setLightingModel(LightingModel)}.
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class. 
+ * 
+ * @since 1.8
+ */
+@SuppressWarnings("serial")
+public class StandardLightingModel implements LightingModel, Serializable {
+    
+    /** The lights (if empty, the world's sun is used). */
+    private final List<Light> lights;
+    
+    /** The ambient term. */
+    private final double ambient;
+    
+    /** The wrap for the diffuse term. */
+    private final double wrap;
+    
+    /** The weight of the specular term. */
+    private final double specular;
+    
+    /** The exponent for the specular term. */
+    private final double shininess;
+    
+    /**
+     * Creates a new lighting model with the default settings, which shade 
+     * faces in the same way as earlier releases.
+     */
+    public StandardLightingModel() {
+        this(Collections.<Light>emptyList(), 0.0, 1.0, 0.0, 20.0);
+    }
+    
+    /**
+     * Creates a new lighting model.
+     * 
+     * @param lights  the lights ({@code null} not permitted, if empty the 
+     *     world's sun is used as the only light).
+     * @param ambient  the ambient term, which is added to the shade for 
+     *     every face (in the range {@code 0.0} to {@code 1.0}).
+     * @param wrap  the wrap for the diffuse term (must not be negative).  A 
+     *     value of {@code 0.0} gives the standard Lambert term (faces turned
+     *     away from a light receive no light from it), while higher values 
+     *     give softer lighting.
+     * @param specular  the weight of the specular term (must not be 
+     *     negative, {@code 0.0} for no highlights).
+     * @param shininess  the exponent for the specular term (must be 
+     *     positive), higher values give smaller highlights.
+     */
+    public StandardLightingModel(List<Light> lights, double ambient, 
+            double wrap, double specular, double shininess) {
+        ArgChecks.nullNotPermitted(lights, "lights");
+        for (Light light : lights) {
+            ArgChecks.nullNotPermitted(light, "light");
+        }
+        if (ambient < 0.0 || ambient > 1.0) {
+            throw new IllegalArgumentException(
+                    "Requires 'ambient' in the range 0.0 to 1.0.");
+        }
+        ArgChecks.negativeNotPermitted(wrap, "wrap");
+        ArgChecks.negativeNotPermitted(specular, "specular");
+        ArgChecks.positiveRequired(shininess, "shininess");
+        this.lights = new ArrayList<Light>(lights);
+        this.ambient = ambient;
+        this.wrap = wrap;
+        this.specular = specular;
+        this.shininess = shininess;
+    }
+    
+    /**
+     * Returns the lights for this model.  If the list is empty, the world's
+     * sun is used as the only light.
+     * 
+     * @return An unmodifiable list of lights (never {@code null}). 
+     */
+    public List<Light> getLights() {
+        return Collections.unmodifiableList(this.lights);
+    }
+    
+    /**
+     * Returns the ambient term, which is added to the shade for every face.
+     * The default value is {@code 0.0}.
+     * 
+     * @return The ambient term. 
+     */
+    public double getAmbient() {
+        return this.ambient;
+    }
+    
+    /**
+     * Returns the wrap for the diffuse term.  The default value is 
+     * {@code 1.0}.
+     * 
+     * @return The wrap. 
+     */
+    public double getWrap() {
+        return this.wrap;
+    }
+    
+    /**
+     * Returns the weight of the specular term.  The default value is 
+     * {@code 0.0} (no highlights).
+     * 
+     * @return The weight of the specular term. 
+     */
+    public double getSpecular() {
+        return this.specular;
+    }
+    
+    /**
+     * Returns the exponent for the specular term, higher values give 
+     * smaller highlights.  The default value is {@code 20.0}.
+     * 
+     * @return The exponent.
+     */
+    public double getShininess() {
+        return this.shininess;
+    }
+    
+    /**
+     * Creates a shader for the specified world and view point.  The light
+     * directions (and the halfway vectors for the specular term) are 
+     * transformed from eye coordinates to world coordinates here, so the 
+     * shader only has to calculate dot products with the face normals.
+     * 
+     * @param world  the world ({@code null} not permitted).
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * 
+     * @return The shader (never {@code null}). 
+     */
+    @Override
+    public FaceShader createShader(World world, ViewPoint3D viewPoint) {
+        ArgChecks.nullNotPermitted(world, "world");
+        ArgChecks.nullNotPermitted(viewPoint, "viewPoint");
+        List<Light> lightList = this.lights;
+        if (lightList.isEmpty()) {
+            lightList = Collections.singletonList(new Light(world.getSunX(), 
+                    world.getSunY(), world.getSunZ(), 1.0));
+        }
+        // the images of the world axes in eye coordinates are the columns of
+        // the rotation from world to eye coordinates, the dot products with 
+        // them apply the inverse (transposed) rotation 
+        Point3D o = viewPoint.worldToEye(Point3D.ORIGIN);
+        Point3D ex = viewPoint.worldToEye(Point3D.UNIT_X);
+        Point3D ey = viewPoint.worldToEye(Point3D.UNIT_Y);
+        Point3D ez = viewPoint.worldToEye(Point3D.UNIT_Z);
+        double[] r = new double[] {ex.x - o.x, ex.y - o.y, ex.z - o.z,
+                ey.x - o.x, ey.y - o.y, ey.z - o.z,
+                ez.x - o.x, ez.y - o.y, ez.z - o.z};
+        int n = lightList.size();
+        double[] l = new double[n * 3];
+        double[] h = new double[n * 3];
+        double[] intensity = new double[n];
+        for (int i = 0; i < n; i++) {
+            Light light = lightList.get(i);
+            toWorld(r, light.getX(), light.getY(), light.getZ(), l, i * 3);
+            // the viewer looks along the negative z-axis in eye coordinates
+            double hx = light.getX();
+            double hy = light.getY();
+            double hz = light.getZ() + 1.0;
+            double len = Math.sqrt(hx * hx + hy * hy + hz * hz);
+            if (len > 0.0) {
+                toWorld(r, hx / len, hy / len, hz / len, h, i * 3);
+            }
+            intensity[i] = light.getIntensity();
+        }
+        return new Shader(l, h, intensity, this.ambient, this.wrap, 
+                this.specular, this.shininess);
+    }
+    
+    /**
+     * Transforms a vector from eye to world coordinates.
+     * 
+     * @param r  the rotation from world to eye coordinates (column major).
+     * @param x  the x-component.
+     * @param y  the y-component.
+     * @param z  the z-component.
+     * @param result  the array for the result.
+     * @param index  the index for the result.
+     */
+    private static void toWorld(double[] r, double x, double y, double z, 
+            double[] result, int index) {
+        result[index] = r[0] * x + r[1] * y + r[2] * z;
+        result[index + 1] = r[3] * x + r[4] * y + r[5] * z;
+        result[index + 2] = r[6] * x + r[7] * y + r[8] * z;
+    }
+    
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     * 
+     * @param obj  the object ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StandardLightingModel)) {
+            return false;
+        }
+        StandardLightingModel that = (StandardLightingModel) obj;
+        if (!this.lights.equals(that.lights)) {
+            return false;
+        }
+        if (this.ambient != that.ambient) {
+            return false;
+        }
+        if (this.wrap != that.wrap) {
+            return false;
+        }
+        if (this.specular != that.specular) {
+            return false;
+        }
+        if (this.shininess != that.shininess) {
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Returns a hash code for this instance.
+     * 
+     * @return A hash code. 
+     */
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 29 * hash + this.lights.hashCode();
+        long bits = Double.doubleToLongBits(this.ambient);
+        hash = 29 * hash + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(this.wrap);
+        hash = 29 * hash + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(this.specular);
+        hash = 29 * hash + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(this.shininess);
+        hash = 29 * hash + (int) (bits ^ (bits >>> 32));
+        return hash;
+    }
+    
+    /**
+     * The shader created by the standard lighting model.
+     */
+    private static final class Shader implements FaceShader {
+        
+        /** The light directions (world coordinates). */
+        private final double[] l;
+        
+        /** The halfway vectors (world coordinates). */
+        private final double[] h;
+        
+        /** The light intensities. */
+        private final double[] intensity;
+        
+        private final double ambient;
+        
+        private final double wrap;
+        
+        private final double specular;
+        
+        private final double shininess;
+        
+        Shader(double[] l, double[] h, double[] intensity, double ambient, 
+                double wrap, double specular, double shininess) {
+            this.l = l;
+            this.h = h;
+            this.intensity = intensity;
+            this.ambient = ambient;
+            this.wrap = wrap;
+            this.specular = specular;
+            this.shininess = shininess;
+        }
+        
+        @Override
+        public double calculateShade(double nx, double ny, double nz) {
+            double result = this.ambient;
+            for (int i = 0; i < this.intensity.length; i++) {
+                int j = i * 3;
+                double nl = nx * this.l[j] + ny * this.l[j + 1] 
+                        + nz * this.l[j + 2];
+                double diffuse = (nl + this.wrap) / (1.0 + this.wrap);
+                if (diffuse > 0.0) {
+                    result += this.intensity[i] * diffuse;
+                }
+                if (this.specular > 0.0) {
+                    double nh = nx * this.h[j] + ny * this.h[j + 1] 
+                            + nz * this.h[j + 2];
+                    if (nh > 0.0) {
+                        result += this.intensity[i] * this.specular 
+                                * Math.pow(nh, this.shininess);
+                    }
+                }
+            }
+            return Math.min(result, 1.0);
+        }
+    }
+    
+}
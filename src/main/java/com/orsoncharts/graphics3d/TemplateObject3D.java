@@ -0,0 +1,268 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import java.awt.geom.Point2D;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A 3D object whose vertices and face topology come from a shared 
+ * {@link GeometryTemplate}.  Only an offset and a scale are stored for the
+ * object; the world coordinates of the vertices are calculated when they 
+ * are required (typically when the eye coordinates and projected points 
+ * are calculated for rendering).  The faces hold references to the index 
+ * arrays in the template rather than copies.  If a vertex is added to the
+ * object, the vertices of the template are first copied into the object 
+ * which, from then on, behaves like a regular {@link Object3D}.
+ * 
+ * @since 1.8
+ */
+public class TemplateObject3D extends Object3D {
+    
+    /** The template. */
+    private final GeometryTemplate template;
+    
+    /** The x-offset. */
+    private final double x;
+    
+    /** The y-offset. */
+    private final double y;
+    
+    /** The z-offset. */
+    private final double z;
+    
+    /** The scale factor along the x-axis. */
+    private final double xScale;
+
+    /** The scale factor along the y-axis. */
+    private final double yScale;
+
+    /** The scale factor along the z-axis. */
+    private final double zScale;
+    
+    /** 
+     * A flag that indicates whether the vertices have been copied from the
+     * template into the storage of the superclass (which happens when a
+     * vertex is added).
+     */
+    private boolean copied;
+    
+    /**
+     * Creates a new instance.
+     * 
+     * @param template  the template ({@code null} not permitted).
+     * @param x  the x-offset.
+     * @param y  the y-offset.
+     * @param z  the z-offset.
+     * @param xScale  the scale factor along the x-axis.
+     * @param yScale  the scale factor along the y-axis.
+     * @param zScale  the scale factor along the z-axis.
+     * @param color  the color ({@code null} not permitted).
+     */
+    public TemplateObject3D(GeometryTemplate template, double x, double y, 
+            double z, double xScale, double yScale, double zScale, 
+            Color color) {
+        super(color);
+        ArgChecks.nullNotPermitted(template, "template");
+        this.template = template;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.xScale = xScale;
+        this.yScale = yScale;
+        this.zScale = zScale;
+        template.addFaces(this);
+    }
+    
+    /**
+     * Returns the template for this object.
+     * 
+     * @return The template (never {@code null}). 
+     */
+    public GeometryTemplate getTemplate() {
+        return this.template;
+    }
+    
+    /**
+     * Returns the number of vertices for this object (the same as the number
+     * of vertices in the template).
+     * 
+     * @return The number of vertices. 
+     */
+    @Override
+    public int getVertexCount() {
+        if (this.copied) {
+            return super.getVertexCount();
+        }
+        return this.template.getVertexCount();
+    }
+
+    /**
+     * Returns a vertex for this object (in world coordinates).  Until a 
+     * vertex is added to this object, a new {@code Point3D} is created on 
+     * each call.
+     * 
+     * @param index  the vertex index.
+     * 
+     * @return The vertex (never {@code null}). 
+     */
+    @Override
+    public Point3D getVertex(int index) {
+        if (this.copied) {
+            return super.getVertex(index);
+        }
+        return new Point3D(worldX(index), worldY(index), worldZ(index));
+    }
+
+    /**
+     * Adds a new object vertex.  The first time this is called, the 
+     * vertices of the template are copied into this object (so that this 
+     * object no longer shares the template's vertex coordinates).
+     * 
+     * @param vertex  the vertex ({@code null} not permitted). 
+     */
+    @Override
+    public void addVertex(Point3D vertex) {
+        ArgChecks.nullNotPermitted(vertex, "vertex");
+        if (!this.copied) {
+            int vertexCount = this.template.getVertexCount();
+            for (int i = 0; i < vertexCount; i++) {
+                super.addVertex(new Point3D(worldX(i), worldY(i), worldZ(i)));
+            }
+            this.copied = true;
+        }
+        super.addVertex(vertex);
+    }
+    
+    /**
+     * Calculates the unit normal for a face without creating 
+     * {@code Point3D} instances for its vertices.
+     * 
+     * @param face  the vertex indices for the face.
+     * 
+     * @return The normal. 
+     */
+    @Override
+    double[] calculateNormal(int[] face) {
+        if (this.copied) {
+            return super.calculateNormal(face);
+        }
+        int a = face[0];
+        int b = face[1];
+        int c = face[2];
+        return unitNormal(worldX(a), worldY(a), worldZ(a), worldX(b), 
+                worldY(b), worldZ(b), worldX(c), worldY(c), worldZ(c));
+    }
+
+    /**
+     * Calculates the projected points for the object's vertices, for the
+     * given viewpoint.
+     *
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * @param d  the projection distance.
+     *
+     * @return The projected points.
+     */
+    @Override
+    public Point2D[] calculateProjectedPoints(ViewPoint3D viewPoint, 
+            double d) {
+        ArgChecks.nullNotPermitted(viewPoint, "viewPoint");
+        if (this.copied) {
+            return super.calculateProjectedPoints(viewPoint, d);
+        }
+        int vertexCount = this.template.getVertexCount();
+        Point2D[] result = new Point2D[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            result[i] = viewPoint.worldToScreen(worldX(i), worldY(i), 
+                    worldZ(i), d);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the eye coordinates of the object's vertices.
+     *
+     * @param viewPoint  the view point ({@code null} not permitted).
+     *
+     * @return The eye coordinates.
+     */
+    @Override
+    public Point3D[] calculateEyeCoordinates(ViewPoint3D viewPoint) {
+        ArgChecks.nullNotPermitted(viewPoint, "viewPoint");
+        if (this.copied) {
+            return super.calculateEyeCoordinates(viewPoint);
+        }
+        int vertexCount = this.template.getVertexCount();
+        Point3D[] result = new Point3D[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            result[i] = viewPoint.worldToEye(worldX(i), worldY(i), worldZ(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the x-coordinate of a vertex in world coordinates.
+     * 
+     * @param i  the vertex index.
+     * 
+     * @return The x-coordinate.
+     */
+    private double worldX(int i) {
+        return this.x + this.template.getX(i) * this.xScale;
+    }
+    
+    /**
+     * Returns the y-coordinate of a vertex in world coordinates.
+     * 
+     * @param i  the vertex index.
+     * 
+     * @return The y-coordinate.
+     */
+    private double worldY(int i) {
+        return this.y + this.template.getY(i) * this.yScale;
+    }
+    
+    /**
+     * Returns the z-coordinate of a vertex in world coordinates.
+     * 
+     * @param i  the vertex index.
+     * 
+     * @return The z-coordinate.
+     */
+    private double worldZ(int i) {
+        return this.z + this.template.getZ(i) * this.zScale;
+    }
+    
+}
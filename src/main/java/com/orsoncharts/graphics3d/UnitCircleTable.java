@@ -0,0 +1,162 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import java.util.HashMap;
+import java.util.Map;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A table of the sines and cosines for angles that divide the full circle
+ * into a fixed number of equal steps.  The tables are shared: 
+ * {@link #getInstance(int)} returns the same instance for the same number 
+ * of steps, so the values are calculated once and reused by all the 
+ * sections of a pie chart and across rebuilds of the 3D model.  Instances 
+ * are immutable.
+ * 
+ * @see Object3D#createPieSegment(double, double, double, double, double, 
+ *     double, UnitCircleTable, java.awt.Color) 
+ * @since 1.8
+ */
+public final class UnitCircleTable {
+    
+    /** 
+     * The maximum number of tables retained (the cache is cleared when it 
+     * grows beyond this).
+     */
+    private static final int MAX_CACHED_TABLES = 32;
+    
+    /** The shared instances, keyed by the number of steps. */
+    private static final Map<Integer, UnitCircleTable> INSTANCES 
+            = new HashMap<Integer, UnitCircleTable>();
+    
+    /**
+     * Returns a table for the specified number of steps around the circle.
+     * 
+     * @param steps  the number of steps (must be positive).
+     * 
+     * @return The table (never {@code null}). 
+     */
+    public static synchronized UnitCircleTable getInstance(int steps) {
+        ArgChecks.positiveRequired(steps, "steps");
+        UnitCircleTable result = INSTANCES.get(steps);
+        if (result == null) {
+            if (INSTANCES.size() >= MAX_CACHED_TABLES) {
+                INSTANCES.clear();
+            }
+            result = new UnitCircleTable(steps);
+            INSTANCES.put(steps, result);
+        }
+        return result;
+    }
+    
+    /** The angle between steps (in radians). */
+    private final double step;
+    
+    /** The cosines. */
+    private final double[] cos;
+    
+    /** The sines. */
+    private final double[] sin;
+    
+    /**
+     * Creates a new table.
+     * 
+     * @param steps  the number of steps. 
+     */
+    private UnitCircleTable(int steps) {
+        this.step = 2 * Math.PI / steps;
+        this.cos = new double[steps];
+        this.sin = new double[steps];
+        for (int k = 0; k < steps; k++) {
+            this.cos[k] = Math.cos(k * this.step);
+            this.sin[k] = Math.sin(k * this.step);
+        }
+    }
+    
+    /**
+     * Returns the number of steps around the circle.
+     * 
+     * @return The number of steps. 
+     */
+    public int getStepCount() {
+        return this.cos.length;
+    }
+    
+    /**
+     * Returns the angle between steps (in radians).
+     * 
+     * @return The angle. 
+     */
+    public double getStep() {
+        return this.step;
+    }
+    
+    /**
+     * Returns the cosine of the angle {@code k * getStep()}.  Any integer 
+     * is accepted, the angle wraps around the circle.
+     * 
+     * @param k  the step index.
+     * 
+     * @return The cosine. 
+     */
+    public double cos(int k) {
+        return this.cos[index(k)];
+    }
+    
+    /**
+     * Returns the sine of the angle {@code k * getStep()}.  Any integer is
+     * accepted, the angle wraps around the circle.
+     * 
+     * @param k  the step index.
+     * 
+     * @return The sine. 
+     */
+    public double sin(int k) {
+        return this.sin[index(k)];
+    }
+    
+    /**
+     * Returns the index into the tables for a step index.
+     * 
+     * @param k  the step index.
+     * 
+     * @return The table index. 
+     */
+    private int index(int k) {
+        int i = k % this.cos.length;
+        return i < 0 ? i + this.cos.length : i;
+    }
+    
+}
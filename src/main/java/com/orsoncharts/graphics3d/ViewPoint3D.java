@@ -347,9 +347,24 @@ public class ViewPoint3D implements Serializable {
      * @return The point in eye coordinates.
      */
     public Point3D worldToEye(Point3D p) {
-        double x = this.v11 * p.x + this.v21 * p.y;
-        double y = this.v12 * p.x + this.v22 * p.y + this.v32 * p.z;
-        double z = this.v13 * p.x + this.v23 * p.y + this.v33 * p.z + this.v43;
+        return worldToEye(p.x, p.y, p.z);
+    }
+    
+    /**
+     * Converts a point in world coordinates to a point in eye coordinates.
+     *
+     * @param px  the x-coordinate of the point in world coordinates.
+     * @param py  the y-coordinate of the point in world coordinates.
+     * @param pz  the z-coordinate of the point in world coordinates.
+     *
+     * @return The point in eye coordinates.
+     * 
+     * @since 1.8
+     */
+    public Point3D worldToEye(double px, double py, double pz) {
+        double x = this.v11 * px + this.v21 * py;
+        double y = this.v12 * px + this.v22 * py + this.v32 * pz;
+        double z = this.v13 * px + this.v23 * py + this.v33 * pz + this.v43;
         double[] rotated = this.rotation.applyRotation(x, y, z, this.workspace);
         return new Point3D(rotated[0], rotated[1], rotated[2]);
     }
@@ -364,9 +379,26 @@ public class ViewPoint3D implements Serializable {
      * @return The screen coordinate.
      */
     public Point2D worldToScreen(Point3D p, double d) {
-        double x = this.v11 * p.x + this.v21 * p.y;
-        double y = this.v12 * p.x + this.v22 * p.y + this.v32 * p.z;
-        double z = this.v13 * p.x + this.v23 * p.y + this.v33 * p.z + this.v43;
+        return worldToScreen(p.x, p.y, p.z, d);
+    }
+    
+    /**
+     * Calculates and returns the screen coordinates for the specified point
+     * in (world) 3D space.  
+     *
+     * @param px  the x-coordinate of the point.
+     * @param py  the y-coordinate of the point.
+     * @param pz  the z-coordinate of the point.
+     * @param d  the projection distance.
+     *
+     * @return The screen coordinate.
+     * 
+     * @since 1.8
+     */
+    public Point2D worldToScreen(double px, double py, double pz, double d) {
+        double x = this.v11 * px + this.v21 * py;
+        double y = this.v12 * px + this.v22 * py + this.v32 * pz;
+        double z = this.v13 * px + this.v23 * py + this.v33 * pz + this.v43;
         double[] rotated = this.rotation.applyRotation(x, y, z, this.workspace);        
         return new Point2D.Double(-d * rotated[0] / rotated[2], 
                 -d * rotated[1] / rotated[2]);
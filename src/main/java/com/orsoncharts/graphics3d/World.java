@@ -176,6 +176,31 @@ public class World {
         }
     }
 
+    /**
+     * Adds all the objects in another world to this world, keeping the 
+     * partition that each object belongs to.  The objects are not copied, 
+     * and the other world is not changed.
+     * 
+     * @param world  the world ({@code null} not permitted).
+     * 
+     * @since 1.8
+     */
+    public void addAll(World world) {
+        ArgChecks.nullNotPermitted(world, "world");
+        for (Entry<String, List<Object3D>> entry : world.objects.entrySet()) {
+            List<Object3D> objs = entry.getValue();
+            if (objs == null || objs.isEmpty()) {
+                continue;
+            }
+            List<Object3D> list = this.objects.get(entry.getKey());
+            if (list == null) {
+                list = new ArrayList<Object3D>();
+                this.objects.put(entry.getKey(), list);
+            }
+            list.addAll(objs);
+        }
+    }
+
     /**
      * Clears any objects belonging to the specified partition.
      * 
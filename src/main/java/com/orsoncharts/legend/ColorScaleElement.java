@@ -207,6 +207,19 @@ public class ColorScaleElement extends AbstractTableElement
         return preferredSize(g2, bounds, null); 
     }
 
+    /**
+     * Returns {@code true}, since the preferred size of this element only 
+     * changes when one of its attributes is changed.
+     * 
+     * @return {@code true}.
+     * 
+     * @since 1.8
+     */
+    @Override
+    protected boolean isPreferredSizeCacheable() {
+        return true;
+    }
+    
     /**
      * Returns the preferred size for this element.
      * 
@@ -356,10 +369,15 @@ public class ColorScaleElement extends AbstractTableElement
     private void drawHorizontalScale(ColorScale colorScale, Graphics2D g2, 
             Rectangle2D bounds) {
         g2.setStroke(new BasicStroke(1.0f));
+        Color current = null;
         for (int x = (int) bounds.getX(); x < bounds.getMaxX(); x++) {
             double p = (x - bounds.getX()) / bounds.getWidth();
             double value = colorScale.getRange().value(p);
-            g2.setColor(colorScale.valueToColor(value));
+            Color c = colorScale.valueToColor(value);
+            if (!c.equals(current)) {
+                g2.setColor(c);
+                current = c;
+            }
             g2.drawLine(x, (int) bounds.getMinY(), x, (int) bounds.getMaxY());
         }    
     }
@@ -374,10 +392,15 @@ public class ColorScaleElement extends AbstractTableElement
     private void drawVerticalScale(ColorScale colorScale, Graphics2D g2, 
             Rectangle2D bounds) {
         g2.setStroke(new BasicStroke(1.0f));
+        Color current = null;
         for (int y = (int) bounds.getY(); y < bounds.getMaxY(); y++) {
             double p = (y - bounds.getY()) / bounds.getHeight();
             double value = colorScale.getRange().value(1 - p);
-            g2.setColor(this.scale.valueToColor(value));
+            Color c = colorScale.valueToColor(value);
+            if (!c.equals(current)) {
+                g2.setColor(c);
+                current = c;
+            }
             g2.drawLine((int) bounds.getX(), y, (int) bounds.getMaxX(), y);
         }    
     }
@@ -0,0 +1,888 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+
+package com.orsoncharts.legend;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Dimension2D;
+import java.awt.geom.Rectangle2D;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.interaction.InteractiveElementType;
+import com.orsoncharts.table.AbstractTableElement;
+import com.orsoncharts.table.ElementDimension;
+import com.orsoncharts.table.HAlign;
+import com.orsoncharts.table.TableElement;
+import com.orsoncharts.table.TableElementOnDraw;
+import com.orsoncharts.table.TableElementVisitor;
+import com.orsoncharts.table.VAlign;
+import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.util.Fit2D;
+import com.orsoncharts.util.ObjectUtils;
+import com.orsoncharts.util.Orientation;
+import com.orsoncharts.util.TextAnchor;
+import com.orsoncharts.util.TextUtils;
+
+/**
+ * A {@link TableElement} that displays a list of legend items without 
+ * creating a sub-element for each item.  The items are arranged in the 
+ * same way as in a flow layout (rows for a horizontal legend, columns for 
+ * a vertical legend) but only up to a maximum number of lines.  When not 
+ * all the items fit, the last position shows a summary such as 
+ * "+25 more" instead.  Only the items that are displayed are measured,
+ * and the measurements are kept in an array so that legends for plots 
+ * with thousands of series can be laid out quickly.
+ * <br><br>
+ * This element is created by the {@link StandardLegendBuilder} when its
+ * {@code maxItemLines} attribute is set.
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class.
+ * 
+ * @since 1.8
+ */
+@SuppressWarnings("serial")
+public class LegendItemListElement extends AbstractTableElement 
+        implements TableElement {
+
+    /** The gap between items (in Java2D units). */
+    private static final int GAP = 2;
+    
+    /** 
+     * The padding around the shape and the text within an item (the same
+     * as the default insets of the elements in a standard legend item).
+     */
+    private static final int PAD = 2;
+    
+    /** The item labels. */
+    private String[] labels;
+    
+    /** The series keys. */
+    private Comparable<?>[] seriesKeys;
+    
+    /** The shapes for the items. */
+    private Shape[] shapes;
+    
+    /** The colors for the item shapes. */
+    private Color[] colors;
+    
+    /** The orientation. */
+    private Orientation orientation;
+    
+    /** The alignment of the rows (used for a horizontal orientation). */
+    private HAlign rowAlignment;
+    
+    /** The alignment of the columns (used for a vertical orientation). */
+    private VAlign columnAlignment;
+    
+    /** The maximum number of rows or columns. */
+    private int maxLines;
+    
+    /** The font for the item labels. */
+    private Font font;
+    
+    /** The text color. */
+    private Color textColor;
+    
+    /** The background color for each item. */
+    private Color itemBackgroundColor;
+    
+    /** 
+     * The pattern for the summary text, formatted with the number of items 
+     * that are not displayed.
+     */
+    private String moreItemsPattern;
+    
+    /** The font render context that the cached metrics were measured for. */
+    private transient FontRenderContext metricsFRC;
+    
+    /** The cached item widths (NaN for items not yet measured). */
+    private transient double[] itemWidths;
+    
+    /** The cached item height (the same for all items). */
+    private transient double itemHeight;
+    
+    /**
+     * Creates a new element.
+     * 
+     * @param items  the legend items ({@code null} not permitted).
+     * @param defaultShape  the shape for items that do not specify one
+     *     ({@code null} not permitted).
+     * @param font  the font for the item labels ({@code null} not 
+     *     permitted).
+     * @param textColor  the text color ({@code null} not permitted).
+     * @param itemBackgroundColor  the background color for the items 
+     *     ({@code null} not permitted).
+     * @param orientation  the orientation ({@code null} not permitted).
+     * @param maxLines  the maximum number of rows (for a horizontal 
+     *     orientation) or columns (for a vertical orientation), must be
+     *     at least 1.
+     */
+    public LegendItemListElement(List<LegendItemInfo> items, 
+            Shape defaultShape, Font font, Color textColor, 
+            Color itemBackgroundColor, Orientation orientation, int maxLines) {
+        super();
+        ArgChecks.nullNotPermitted(items, "items");
+        ArgChecks.nullNotPermitted(defaultShape, "defaultShape");
+        ArgChecks.nullNotPermitted(font, "font");
+        ArgChecks.nullNotPermitted(textColor, "textColor");
+        ArgChecks.nullNotPermitted(itemBackgroundColor, "itemBackgroundColor");
+        ArgChecks.nullNotPermitted(orientation, "orientation");
+        if (maxLines < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'maxLines' to be at least 1.");
+        }
+        int n = items.size();
+        this.labels = new String[n];
+        this.seriesKeys = new Comparable<?>[n];
+        this.shapes = new Shape[n];
+        this.colors = new Color[n];
+        for (int i = 0; i < n; i++) {
+            LegendItemInfo item = items.get(i);
+            this.labels[i] = item.getLabel();
+            this.seriesKeys[i] = item.getSeriesKey();
+            Shape shape = item.getShape();
+            this.shapes[i] = shape != null ? shape : defaultShape;
+            this.colors[i] = item.getColor();
+        }
+        this.font = font;
+        this.textColor = textColor;
+        this.itemBackgroundColor = itemBackgroundColor;
+        this.orientation = orientation;
+        this.rowAlignment = HAlign.CENTER;
+        this.columnAlignment = VAlign.MIDDLE;
+        this.maxLines = maxLines;
+        this.moreItemsPattern = "+{0} more";
+    }
+    
+    /**
+     * Returns the number of items in the legend (including any that are not
+     * displayed).
+     * 
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.labels.length;
+    }
+    
+    /**
+     * Returns the orientation.
+     * 
+     * @return The orientation (never {@code null}). 
+     */
+    public Orientation getOrientation() {
+        return this.orientation;
+    }
+    
+    /**
+     * Returns the maximum number of rows (for a horizontal orientation) or
+     * columns (for a vertical orientation).
+     * 
+     * @return The maximum number of lines.
+     */
+    public int getMaxLines() {
+        return this.maxLines;
+    }
+    
+    /**
+     * Returns the alignment of the rows of items within the element (used
+     * when the orientation is horizontal).  The default value is 
+     * {@link HAlign#CENTER}.
+     * 
+     * @return The alignment (never {@code null}). 
+     */
+    public HAlign getRowAlignment() {
+        return this.rowAlignment;
+    }
+    
+    /**
+     * Sets the alignment of the rows of items within the element (used
+     * when the orientation is horizontal).
+     * 
+     * @param alignment  the alignment ({@code null} not permitted). 
+     */
+    public void setRowAlignment(HAlign alignment) {
+        ArgChecks.nullNotPermitted(alignment, "alignment");
+        this.rowAlignment = alignment;
+    }
+    
+    /**
+     * Returns the alignment of the columns of items within the element 
+     * (used when the orientation is vertical).  The default value is 
+     * {@link VAlign#MIDDLE}.
+     * 
+     * @return The alignment (never {@code null}). 
+     */
+    public VAlign getColumnAlignment() {
+        return this.columnAlignment;
+    }
+    
+    /**
+     * Sets the alignment of the columns of items within the element (used
+     * when the orientation is vertical).
+     * 
+     * @param alignment  the alignment ({@code null} not permitted). 
+     */
+    public void setColumnAlignment(VAlign alignment) {
+        ArgChecks.nullNotPermitted(alignment, "alignment");
+        this.columnAlignment = alignment;
+    }
+    
+    /**
+     * Returns the pattern used for the summary text that is displayed when 
+     * not all items fit.  The default value is "+{0} more".
+     * 
+     * @return The pattern (never {@code null}). 
+     */
+    public String getMoreItemsPattern() {
+        return this.moreItemsPattern;
+    }
+    
+    /**
+     * Sets the pattern used for the summary text that is displayed when 
+     * not all items fit.  The pattern is formatted using 
+     * {@code java.text.MessageFormat} with the number of items that are not
+     * displayed as the only argument.
+     * 
+     * @param pattern  the pattern ({@code null} not permitted). 
+     */
+    public void setMoreItemsPattern(String pattern) {
+        ArgChecks.nullNotPermitted(pattern, "pattern");
+        this.moreItemsPattern = pattern;
+        invalidateLayout();
+    }
+    
+    /**
+     * Returns the number of items that are displayed when the element is 
+     * drawn within the specified bounds.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param bounds  the bounds ({@code null} not permitted).
+     * 
+     * @return The number of visible items.
+     */
+    public int getVisibleItemCount(Graphics2D g2, Rectangle2D bounds) {
+        return layout(g2, bounds).visibleCount;
+    }
+    
+    /**
+     * Receives a visitor.
+     * 
+     * @param visitor  the visitor ({@code null} not permitted). 
+     */
+    @Override
+    public void receive(TableElementVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    /**
+     * Returns {@code true}, since the preferred size of this element only 
+     * changes when one of its attributes is changed.
+     * 
+     * @return {@code true}.
+     * 
+     * @since 1.8
+     */
+    @Override
+    protected boolean isPreferredSizeCacheable() {
+        return true;
+    }
+    
+    /**
+     * Returns the preferred size for this element.
+     * 
+     * @param g2  the graphics target.
+     * @param bounds  the available drawing space.
+     * @param constraints  layout constraints (ignored here).
+     * 
+     * @return The preferred size (never {@code null}). 
+     */
+    @Override
+    public Dimension2D preferredSize(Graphics2D g2, Rectangle2D bounds, 
+            Map<String, Object> constraints) {
+        Layout layout = layout(g2, bounds);
+        Insets insets = getInsets();
+        return new ElementDimension(
+                Math.min(layout.width + insets.left + insets.right, 
+                bounds.getWidth()), 
+                Math.min(layout.height + insets.top + insets.bottom, 
+                bounds.getHeight()));
+    }
+
+    /**
+     * Returns the positions of the visible items (followed by the position 
+     * of the summary text, if there is one) when the element is drawn 
+     * within the specified bounds.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param bounds  the bounds ({@code null} not permitted).
+     * @param constraints  the constraints (ignored here).
+     * 
+     * @return A list of positions. 
+     */
+    @Override
+    public List<Rectangle2D> layoutElements(Graphics2D g2, Rectangle2D bounds,
+            Map<String, Object> constraints) {
+        Layout layout = layout(g2, bounds);
+        Rectangle2D dest = fit(layout, bounds);
+        int count = layout.visibleCount + (layout.moreText != null ? 1 : 0);
+        List<Rectangle2D> result = new ArrayList<Rectangle2D>(count);
+        Insets insets = getInsets();
+        if (this.orientation == Orientation.HORIZONTAL) {
+            double y = dest.getY() + insets.top;
+            for (int line = 0; line < layout.lineCount; line++) {
+                double x = dest.getX() + insets.left;
+                if (this.rowAlignment == HAlign.CENTER) {
+                    x = dest.getCenterX() - layout.lineExtents[line] / 2.0;
+                } else if (this.rowAlignment == HAlign.RIGHT) {
+                    x = dest.getMaxX() - insets.right 
+                            - layout.lineExtents[line];
+                }
+                for (int i = layout.lineStarts[line]; 
+                        i < layout.lineStarts[line + 1]; i++) {
+                    double w = itemWidth(g2, i);
+                    result.add(new Rectangle2D.Double(x, y, w, 
+                            this.itemHeight));
+                    x += w + GAP;
+                }
+                if (line == layout.lineCount - 1 && layout.moreText != null) {
+                    result.add(new Rectangle2D.Double(x, y, 
+                            layout.moreWidth, this.itemHeight));
+                }
+                y += this.itemHeight;
+            }
+        } else {
+            double x = dest.getX() + insets.left;
+            for (int line = 0; line < layout.lineCount; line++) {
+                double y = dest.getY() + insets.top;
+                if (this.columnAlignment == VAlign.MIDDLE) {
+                    y = dest.getCenterY() - layout.lineExtents[line] / 2.0;
+                } else if (this.columnAlignment == VAlign.BOTTOM) {
+                    y = dest.getMaxY() - insets.bottom 
+                            - layout.lineExtents[line];
+                }
+                double w = layout.lineBreadths[line];
+                for (int i = layout.lineStarts[line]; 
+                        i < layout.lineStarts[line + 1]; i++) {
+                    result.add(new Rectangle2D.Double(x, y, w, 
+                            this.itemHeight));
+                    y += this.itemHeight + GAP;
+                }
+                if (line == layout.lineCount - 1 && layout.moreText != null) {
+                    result.add(new Rectangle2D.Double(x, y, w, 
+                            this.itemHeight));
+                }
+                x += w + GAP;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Draws the element within the specified bounds.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param bounds  the bounds ({@code null} not permitted).
+     */
+    @Override
+    public void draw(Graphics2D g2, Rectangle2D bounds) {
+        draw(g2, bounds, null);
+    }
+    
+    /**
+     * Draws the element within the specified bounds.  The 
+     * {@code onDrawHandler} is notified before and after each visible item
+     * is drawn, in the same way as for the items in a standard legend.
+     * 
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param bounds  the bounds ({@code null} not permitted).
+     * @param onDrawHandler  receives notification before and after the 
+     *     element is drawn ({@code null} permitted).
+     */
+    @Override
+    public void draw(Graphics2D g2, Rectangle2D bounds, 
+            TableElementOnDraw onDrawHandler) {
+        if (onDrawHandler != null) {
+            onDrawHandler.beforeDraw(this, g2, bounds);
+        }
+        Shape savedClip = g2.getClip();
+        g2.clip(bounds);
+        Layout layout = layout(g2, bounds);
+        if (getBackground() != null) {
+            getBackground().fill(g2, fit(layout, bounds));
+        }
+        List<Rectangle2D> positions = layoutElements(g2, bounds, null);
+        ItemRef ref = onDrawHandler != null ? new ItemRef() : null;
+        for (int i = 0; i < layout.visibleCount; i++) {
+            Rectangle2D r = positions.get(i);
+            if (ref != null) {
+                ref.setProperty(Chart3D.SERIES_KEY, this.seriesKeys[i]);
+                onDrawHandler.beforeDraw(ref, g2, r);
+            }
+            drawItem(g2, i, r);
+            if (ref != null) {
+                onDrawHandler.afterDraw(ref, g2, r);
+            }
+        }
+        if (layout.moreText != null) {
+            Rectangle2D r = positions.get(layout.visibleCount);
+            g2.setPaint(this.itemBackgroundColor);
+            g2.fill(r);
+            g2.setPaint(this.textColor);
+            g2.setFont(this.font);
+            TextUtils.drawAlignedString(layout.moreText, g2, 
+                    (float) (r.getX() + 2 * PAD), (float) r.getCenterY(), 
+                    TextAnchor.CENTER_LEFT);
+        }
+        g2.setClip(savedClip);
+        if (onDrawHandler != null) {
+            onDrawHandler.afterDraw(this, g2, bounds);
+        }
+    }
+    
+    /**
+     * Draws one legend item (the shape followed by the label).
+     * 
+     * @param g2  the graphics target.
+     * @param item  the item index.
+     * @param r  the item bounds.
+     */
+    private void drawItem(Graphics2D g2, int item, Rectangle2D r) {
+        g2.setPaint(this.itemBackgroundColor);
+        g2.fill(r);
+        Rectangle2D sb = this.shapes[item].getBounds2D();
+        double cx = r.getX() + PAD + sb.getWidth() / 2.0 + PAD;
+        AffineTransform t = AffineTransform.getTranslateInstance(
+                cx - sb.getCenterX(), r.getCenterY() - sb.getCenterY());
+        g2.setPaint(this.colors[item]);
+        g2.fill(t.createTransformedShape(this.shapes[item]));
+        g2.setPaint(this.textColor);
+        g2.setFont(this.font);
+        TextUtils.drawAlignedString(this.labels[item], g2, 
+                (float) (r.getX() + sb.getWidth() + 4 * PAD), 
+                (float) r.getCenterY(), TextAnchor.CENTER_LEFT);
+    }
+    
+    /**
+     * Fits the area required by the layout into the bounds, according to 
+     * the element's reference point.
+     * 
+     * @param layout  the layout.
+     * @param bounds  the bounds.
+     * 
+     * @return The area for the element.
+     */
+    private Rectangle2D fit(Layout layout, Rectangle2D bounds) {
+        Insets insets = getInsets();
+        Dimension2D dim = new ElementDimension(
+                Math.min(layout.width + insets.left + insets.right, 
+                bounds.getWidth()), 
+                Math.min(layout.height + insets.top + insets.bottom, 
+                bounds.getHeight()));
+        return Fit2D.getNoScalingFitter(getRefPoint()).fit(dim, bounds);
+    }
+    
+    /**
+     * Ensures that the cached metrics are valid for the graphics target.
+     * 
+     * @param g2  the graphics target.
+     */
+    private void checkMetrics(Graphics2D g2) {
+        FontRenderContext frc = g2.getFontRenderContext();
+        if (this.itemWidths != null && frc.equals(this.metricsFRC)) {
+            return;
+        }
+        this.itemWidths = new double[this.labels.length];
+        Arrays.fill(this.itemWidths, Double.NaN);
+        double shapeHeight = 0.0;
+        for (Shape shape : this.shapes) {
+            shapeHeight = Math.max(shapeHeight, 
+                    shape.getBounds2D().getHeight());
+        }
+        double textHeight = TextUtils.getTextBounds("", this.font, g2)
+                .getHeight();
+        this.itemHeight = Math.max(shapeHeight, textHeight) + 4 * PAD;
+        this.metricsFRC = frc;
+    }
+    
+    /**
+     * Returns the width of an item, measuring it the first time it is 
+     * required.
+     * 
+     * @param g2  the graphics target.
+     * @param item  the item index.
+     * 
+     * @return The width of the item. 
+     */
+    private double itemWidth(Graphics2D g2, int item) {
+        double w = this.itemWidths[item];
+        if (Double.isNaN(w)) {
+            w = this.shapes[item].getBounds2D().getWidth() 
+                    + textWidth(g2, this.labels[item]) + 6 * PAD;
+            this.itemWidths[item] = w;
+        }
+        return w;
+    }
+    
+    /**
+     * Returns the width of the summary text item.
+     * 
+     * @param g2  the graphics target.
+     * @param text  the text.
+     * 
+     * @return The width.
+     */
+    private double moreWidth(Graphics2D g2, String text) {
+        return textWidth(g2, text) + 4 * PAD;
+    }
+    
+    /**
+     * Returns the width of the text in the item font.
+     * 
+     * @param g2  the graphics target.
+     * @param text  the text.
+     * 
+     * @return The width.
+     */
+    private double textWidth(Graphics2D g2, String text) {
+        return TextUtils.getTextBounds(text, this.font, g2).getWidth();
+    }
+    
+    /**
+     * Calculates the layout of the items within the specified bounds.
+     * 
+     * @param g2  the graphics target.
+     * @param bounds  the bounds.
+     * 
+     * @return The layout (never {@code null}). 
+     */
+    private Layout layout(Graphics2D g2, Rectangle2D bounds) {
+        checkMetrics(g2);
+        Insets insets = getInsets();
+        double availW = bounds.getWidth() - insets.left - insets.right;
+        double availH = bounds.getHeight() - insets.top - insets.bottom;
+        if (this.orientation == Orientation.HORIZONTAL) {
+            return layoutRows(g2, availW, availH);
+        } else {
+            return layoutColumns(g2, availH);
+        }
+    }
+    
+    /**
+     * Calculates a layout with the items in rows.
+     * 
+     * @param g2  the graphics target.
+     * @param availW  the available width.
+     * @param availH  the available height.
+     * 
+     * @return The layout.
+     */
+    private Layout layoutRows(Graphics2D g2, double availW, double availH) {
+        int n = this.labels.length;
+        int lines = Math.max(1, Math.min(this.maxLines, 
+                (int) (availH / this.itemHeight)));
+        int[] starts = new int[lines + 1];
+        double[] extents = new double[lines];
+        int i = 0;
+        int line = 0;
+        while (i < n && line < lines) {
+            starts[line] = i;
+            double w = itemWidth(g2, i);
+            i++;
+            while (i < n) {
+                double iw = itemWidth(g2, i);
+                if (w + GAP + iw > availW) {
+                    break;
+                }
+                w += GAP + iw;
+                i++;
+            }
+            extents[line] = w;
+            line++;
+        }
+        String moreText = null;
+        double moreWidth = 0.0;
+        if (i < n) {
+            // remove items from the last row until the summary fits
+            int lastStart = starts[line - 1];
+            double w = extents[line - 1];
+            while (true) {
+                moreText = MessageFormat.format(this.moreItemsPattern, n - i);
+                moreWidth = moreWidth(g2, moreText);
+                if (i == lastStart || w + GAP + moreWidth <= availW) {
+                    break;
+                }
+                i--;
+                w -= itemWidth(g2, i) + (i > lastStart ? GAP : 0);
+            }
+            extents[line - 1] = i == lastStart ? moreWidth 
+                    : w + GAP + moreWidth;
+        }
+        starts[line] = i;
+        double width = 0.0;
+        for (int k = 0; k < line; k++) {
+            width = Math.max(width, extents[k]);
+        }
+        return new Layout(i, line, starts, extents, null, moreText, moreWidth,
+                width, line * this.itemHeight);
+    }
+    
+    /**
+     * Calculates a layout with the items in columns.
+     * 
+     * @param g2  the graphics target.
+     * @param availH  the available height.
+     * 
+     * @return The layout.
+     */
+    private Layout layoutColumns(Graphics2D g2, double availH) {
+        int n = this.labels.length;
+        int perColumn = Math.max(1, 
+                (int) ((availH + GAP) / (this.itemHeight + GAP)));
+        int capacity = perColumn * this.maxLines;
+        int visible = n <= capacity ? n : capacity - 1;
+        String moreText = null;
+        double moreWidth = 0.0;
+        if (visible < n) {
+            moreText = MessageFormat.format(this.moreItemsPattern, 
+                    n - visible);
+            moreWidth = moreWidth(g2, moreText);
+        }
+        int slots = visible + (moreText != null ? 1 : 0);
+        int lines = Math.max(1, (slots + perColumn - 1) / perColumn);
+        int[] starts = new int[lines + 1];
+        double[] extents = new double[lines];
+        double[] breadths = new double[lines];
+        double width = 0.0;
+        double height = 0.0;
+        for (int line = 0; line < lines; line++) {
+            int first = line * perColumn;
+            int last = Math.min(first + perColumn, slots);
+            starts[line] = Math.min(first, visible);
+            double w = 0.0;
+            for (int i = first; i < last; i++) {
+                w = Math.max(w, i < visible ? itemWidth(g2, i) : moreWidth);
+            }
+            int count = last - first;
+            extents[line] = count * this.itemHeight 
+                    + Math.max(0, count - 1) * GAP;
+            breadths[line] = w;
+            width += w + (line > 0 ? GAP : 0);
+            height = Math.max(height, extents[line]);
+        }
+        starts[lines] = visible;
+        return new Layout(visible, lines, starts, extents, breadths, moreText, 
+                moreWidth, width, height);
+    }
+    
+    /**
+     * Tests this element for equality with an arbitrary object.
+     * 
+     * @param obj  the object ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof LegendItemListElement)) {
+            return false;
+        }
+        LegendItemListElement that = (LegendItemListElement) obj;
+        if (!Arrays.equals(this.labels, that.labels)) {
+            return false;
+        }
+        if (!Arrays.equals(this.seriesKeys, that.seriesKeys)) {
+            return false;
+        }
+        if (!Arrays.equals(this.shapes, that.shapes)) {
+            return false;
+        }
+        if (!Arrays.equals(this.colors, that.colors)) {
+            return false;
+        }
+        if (this.orientation != that.orientation) {
+            return false;
+        }
+        if (this.rowAlignment != that.rowAlignment) {
+            return false;
+        }
+        if (this.columnAlignment != that.columnAlignment) {
+            return false;
+        }
+        if (this.maxLines != that.maxLines) {
+            return false;
+        }
+        if (!this.font.equals(that.font)) {
+            return false;
+        }
+        if (!this.textColor.equals(that.textColor)) {
+            return false;
+        }
+        if (!ObjectUtils.equals(this.itemBackgroundColor, 
+                that.itemBackgroundColor)) {
+            return false;
+        }
+        if (!this.moreItemsPattern.equals(that.moreItemsPattern)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+    
+    /**
+     * Returns a hash code for this element.
+     * 
+     * @return A hash code. 
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 41 * hash + Arrays.hashCode(this.labels);
+        hash = 41 * hash + Arrays.hashCode(this.seriesKeys);
+        hash = 41 * hash + Arrays.hashCode(this.colors);
+        hash = 41 * hash + ObjectUtils.hashCode(this.orientation);
+        hash = 41 * hash + this.maxLines;
+        hash = 41 * hash + this.font.hashCode();
+        hash = 41 * hash + this.textColor.hashCode();
+        hash = 41 * hash + this.moreItemsPattern.hashCode();
+        return hash;
+    }
+    
+    /**
+     * The result of a layout calculation.  Items are arranged in lines 
+     * (rows or columns) and line {@code k} contains the items from 
+     * {@code lineStarts[k]} (inclusive) to {@code lineStarts[k + 1]} 
+     * (exclusive), followed on the last line by the summary text (if any).
+     */
+    private static final class Layout {
+        
+        /** The number of items displayed. */
+        final int visibleCount;
+        
+        /** The number of lines. */
+        final int lineCount;
+        
+        /** The index of the first item in each line. */
+        final int[] lineStarts;
+        
+        /** The length of each line (width of a row, height of a column). */
+        final double[] lineExtents;
+        
+        /** The width of each column ({@code null} for rows). */
+        final double[] lineBreadths;
+        
+        /** The summary text ({@code null} if all items are displayed). */
+        final String moreText;
+        
+        /** The width of the summary item. */
+        final double moreWidth;
+        
+        /** The width of the content (excluding insets). */
+        final double width;
+        
+        /** The height of the content (excluding insets). */
+        final double height;
+        
+        Layout(int visibleCount, int lineCount, int[] lineStarts, 
+                double[] lineExtents, double[] lineBreadths, String moreText,
+                double moreWidth, double width, double height) {
+            this.visibleCount = visibleCount;
+            this.lineCount = lineCount;
+            this.lineStarts = lineStarts;
+            this.lineExtents = lineExtents;
+            this.lineBreadths = lineBreadths;
+            this.moreText = moreText;
+            this.moreWidth = moreWidth;
+            this.width = width;
+            this.height = height;
+        }
+    }
+    
+    /**
+     * A lightweight element that carries the properties of one legend item 
+     * while the {@link TableElementOnDraw} handler is notified.  It is never
+     * laid out or drawn itself.
+     */
+    private static final class ItemRef extends AbstractTableElement 
+            implements TableElement {
+        
+        ItemRef() {
+            super();
+            setProperty(TableElement.CLASS, InteractiveElementType.LEGEND_ITEM);
+        }
+
+        @Override
+        public Dimension2D preferredSize(Graphics2D g2, Rectangle2D bounds, 
+                Map<String, Object> constraints) {
+            return new ElementDimension(0.0, 0.0);
+        }
+
+        @Override
+        public List<Rectangle2D> layoutElements(Graphics2D g2, 
+                Rectangle2D bounds, Map<String, Object> constraints) {
+            return new ArrayList<Rectangle2D>(0);
+        }
+
+        @Override
+        public void draw(Graphics2D g2, Rectangle2D bounds) {
+            // nothing to draw
+        }
+
+        @Override
+        public void draw(Graphics2D g2, Rectangle2D bounds, 
+                TableElementOnDraw onDrawHandler) {
+            // nothing to draw
+        }
+
+        @Override
+        public void receive(TableElementVisitor visitor) {
+            visitor.visit(this);
+        }
+    }
+    
+}
@@ -39,6 +39,7 @@ import java.util.List;
 import java.io.Serializable;
 
 import com.orsoncharts.Chart3D;
+import com.orsoncharts.Resources;
 import com.orsoncharts.interaction.InteractiveElementType;
 import com.orsoncharts.plot.Plot3D;
 import com.orsoncharts.plot.CategoryPlot3D;
@@ -69,7 +70,7 @@ import com.orsoncharts.util.Orientation;
  */
 @SuppressWarnings("serial")
 public final class StandardLegendBuilder implements LegendBuilder, 
-        Serializable {
+        Cloneable, Serializable {
 
     /** An optional header/title for the legend (can be {@code null}). */
     private String header;
@@ -95,6 +96,12 @@ public final class StandardLegendBuilder implements LegendBuilder,
      */
     private VAlign columnAlignment;
     
+    /**
+     * The maximum number of rows (or columns, for a vertical legend) of
+     * legend items, or zero for no limit.
+     */
+    private int maxItemLines;
+    
     /**
      * Creates a builder for a simple legend with no header and no footer.
      */
@@ -116,6 +123,7 @@ public final class StandardLegendBuilder implements LegendBuilder,
         this.footerAlignment = HAlign.RIGHT;
         this.rowAlignment = null;
         this.columnAlignment = null;
+        this.maxItemLines = 0;
     }
     
     /**
@@ -248,6 +256,39 @@ public final class StandardLegendBuilder implements LegendBuilder,
         this.columnAlignment = alignment;
     }
     
+    /**
+     * Returns the maximum number of rows (for a horizontal legend) or 
+     * columns (for a vertical legend) of legend items.  The default value
+     * is {@code 0}, which means there is no limit.
+     * 
+     * @return The maximum number of lines (zero for no limit).
+     * 
+     * @since 1.8
+     */
+    public int getMaxItemLines() {
+        return this.maxItemLines;
+    }
+    
+    /**
+     * Sets the maximum number of rows (for a horizontal legend) or columns
+     * (for a vertical legend) of legend items.  When this is greater than 
+     * zero, the legend items are displayed by a single 
+     * {@link LegendItemListElement} that only lays out as many items as 
+     * will fit, followed by a summary such as "+25 more" for the rest.  This
+     * is recommended for plots with a large number of series.
+     * 
+     * @param lines  the maximum number of lines (zero for no limit).
+     * 
+     * @since 1.8
+     */
+    public void setMaxItemLines(int lines) {
+        if (lines < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'lines' to be zero or more.");
+        }
+        this.maxItemLines = lines;
+    }
+    
     /**
      * Creates and returns a legend (instance of {@link TableElement}) that
      * provides a visual key for the data series in the specified plot.  The
@@ -314,6 +355,19 @@ public final class StandardLegendBuilder implements LegendBuilder,
             Anchor2D anchor, Orientation orientation, ChartStyle style) {
         ArgChecks.nullNotPermitted(items, "items");
         ArgChecks.nullNotPermitted(orientation, "orientation");
+        if (this.maxItemLines > 0) {
+            LegendItemListElement lile = new LegendItemListElement(items, 
+                    style.getLegendItemShape(), style.getLegendItemFont(), 
+                    style.getLegendItemColor(), 
+                    style.getLegendItemBackgroundColor(), orientation, 
+                    this.maxItemLines);
+            lile.setRefPoint(anchor.getRefPt());
+            lile.setRowAlignment(horizontalAlignment(anchor));
+            lile.setColumnAlignment(verticalAlignment(anchor));
+            lile.setMoreItemsPattern(Resources.localString(
+                    "LEGEND_MORE_ITEMS"));
+            return lile;
+        }
         ContainerElement legend;
         if (orientation == Orientation.HORIZONTAL) {
             FlowElement fe = new FlowElement(horizontalAlignment(anchor), 2);
@@ -438,7 +492,33 @@ public final class StandardLegendBuilder implements LegendBuilder,
         if (this.footerAlignment != that.footerAlignment) {
             return false;
         }
+        if (this.rowAlignment != that.rowAlignment) {
+            return false;
+        }
+        if (this.columnAlignment != that.columnAlignment) {
+            return false;
+        }
+        if (this.maxItemLines != that.maxItemLines) {
+            return false;
+        }
         return true;
     }
+    
+    /**
+     * Returns a clone of this legend builder.
+     * 
+     * @return A clone (never {@code null}).
+     * 
+     * @since 1.8
+     */
+    @Override
+    public StandardLegendBuilder clone() {
+        try {
+            return (StandardLegendBuilder) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(
+                    "If we get here, a bug needs fixing.");
+        }
+    }
 
 }
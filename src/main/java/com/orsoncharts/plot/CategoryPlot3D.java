@@ -63,6 +63,7 @@ import com.orsoncharts.legend.LegendItemInfo;
 import com.orsoncharts.legend.StandardLegendItemInfo;
 import com.orsoncharts.renderer.Renderer3DChangeEvent;
 import com.orsoncharts.renderer.Renderer3DChangeListener;
+import com.orsoncharts.renderer.category.AbstractCategoryRenderer3D;
 import com.orsoncharts.renderer.category.CategoryRenderer3D;
 import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.util.ObjectUtils;
@@ -674,6 +675,12 @@ public class CategoryPlot3D extends AbstractPlot3D
     @Override
     public void compose(World world, double xOffset, double yOffset, 
             double zOffset) {
+        if (this.renderer instanceof AbstractCategoryRenderer3D) {
+            ((AbstractCategoryRenderer3D) this.renderer).composeAll(
+                    this.dataset, world, getDimensions(), xOffset, yOffset, 
+                    zOffset);
+            return;
+        }
         for (int series = 0; series < this.dataset.getSeriesCount(); series++) {
             for (int row = 0; row < this.dataset.getRowCount(); row++) {
                 for (int column = 0; column < this.dataset.getColumnCount(); 
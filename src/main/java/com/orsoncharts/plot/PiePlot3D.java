@@ -44,6 +44,7 @@ import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.Dot3D;
 import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.UnitCircleTable;
 import com.orsoncharts.graphics3d.World;
 import com.orsoncharts.legend.LegendItemInfo;
 import com.orsoncharts.legend.StandardLegendItemInfo;
@@ -76,6 +77,10 @@ public class PiePlot3D extends AbstractPlot3D implements Serializable {
     public static final Font DEFAULT_SECTION_LABEL_FONT 
             = new Font("Dialog", Font.PLAIN, 14);
     
+    /** The segment counts available in adaptive mode. */
+    private static final int[] ADAPTIVE_SEGMENT_COUNTS = {8, 12, 16, 24, 32, 
+            48, 64, 96, 128, 192, 256};
+    
     /** The dataset. */
     private PieDataset3D<? extends Comparable> dataset;
 
@@ -113,6 +118,12 @@ public class PiePlot3D extends AbstractPlot3D implements Serializable {
      * number will give better output but slower performance.
      */
     private int segments = 40;
+    
+    /** 
+     * A flag that controls whether the number of segments is chosen 
+     * according to the size of the pie on screen. 
+     */
+    private boolean adaptiveSegmentCount;
   
     /**
      * Creates a new pie plot in 3D.
@@ -395,6 +406,70 @@ public class PiePlot3D extends AbstractPlot3D implements Serializable {
         fireChangeEvent(true);
     }
     
+    /**
+     * Returns the flag that controls whether the number of segments is 
+     * chosen automatically according to the size of the pie on screen.  
+     * The default value is {@code false}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    public boolean getAdaptiveSegmentCount() {
+        return this.adaptiveSegmentCount;
+    }
+    
+    /**
+     * Sets the flag that controls whether the number of segments is chosen 
+     * automatically according to the size of the pie on screen, and sends a
+     * {@link Plot3DChangeEvent} to all registered listeners.  When the flag
+     * is set, the segment count attribute is ignored, small pies (for 
+     * example, thumbnails) are composed with fewer faces and large pies 
+     * (for example, high resolution prints) with smoother arcs.  The 3D 
+     * model is rebuilt when the size of the pie changes enough to require
+     * a different number of segments (see 
+     * {@link #calculateSegmentCount(double)}).
+     * 
+     * @param adaptive  the new flag value.
+     * 
+     * @since 1.8
+     */
+    public void setAdaptiveSegmentCount(boolean adaptive) {
+        this.adaptiveSegmentCount = adaptive;
+        fireChangeEvent(true);
+    }
+    
+    /**
+     * Returns the number of segments (per half circle, the same unit as 
+     * {@link #getSegmentCount()}) that keeps the straight edges of the pie
+     * within half a pixel of the true arc for a pie with the specified 
+     * radius on screen.  The result is rounded up to one of a fixed set of
+     * values (from 8 to 256), so that small changes in size, for example
+     * when zooming, don't require the 3D model to be rebuilt.
+     * 
+     * @param screenRadius  the radius on screen (in pixels).
+     * 
+     * @return The number of segments.
+     * 
+     * @since 1.8
+     */
+    public static int calculateSegmentCount(double screenRadius) {
+        int[] levels = ADAPTIVE_SEGMENT_COUNTS;
+        if (!(screenRadius > 1.0)) {
+            return levels[0];
+        }
+        // the largest angle for which the gap between a chord and the arc 
+        // (the sagitta) is no more than half a pixel
+        double angle = 2.0 * Math.acos(1.0 - 0.5 / screenRadius);
+        double required = Math.PI / angle;
+        for (int count : levels) {
+            if (count >= required) {
+                return count;
+            }
+        }
+        return levels[levels.length - 1];
+    }
+    
     /**
      * Returns a list containing legend item info, typically one item for
      * each series in the chart.  This is intended for use in the construction
@@ -428,11 +503,34 @@ public class PiePlot3D extends AbstractPlot3D implements Serializable {
      * @param zOffset  the z-offset.
      */
     @Override
-    @SuppressWarnings("unchecked")
     public void compose(World world, double xOffset, double yOffset, 
             double zOffset) {
+        compose(world, xOffset, yOffset, zOffset, this.segments);
+    }
+    
+    /**
+     * Adds 3D objects representing the current data for the plot to the 
+     * specified world, using the specified number of segments (in place of
+     * the segment count attribute).  The {@link Chart3D} class calls this 
+     * method, with a count from {@link #calculateSegmentCount(double)}, when
+     * the adaptive segment count flag is set.
+     * 
+     * @param world  the world ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * @param segmentCount  the number of segments (the same unit as 
+     *     {@link #getSegmentCount()}).
+     * 
+     * @since 1.8
+     */
+    @SuppressWarnings("unchecked")
+    public void compose(World world, double xOffset, double yOffset, 
+            double zOffset, int segmentCount) {
         double total = DataUtils.total(this.dataset);
         double r = 0.0;
+        // one shared table of the arc angles for all the sections
+        UnitCircleTable table = UnitCircleTable.getInstance(2 * segmentCount);
         int count = this.dataset.getItemCount();
         for (int i = 0; i < count; i++) {
             Comparable<?> key = this.dataset.getKey(i);
@@ -442,8 +540,7 @@ public class PiePlot3D extends AbstractPlot3D implements Serializable {
                 Color c = this.sectionColorSource.getColor(
                         this.dataset.getKey(i));
                 Object3D segment = Object3D.createPieSegment(this.radius, 0.0, 
-                        yOffset, this.depth, r, r + angle, 
-                        Math.PI / this.segments, c);
+                        yOffset, this.depth, r, r + angle, table, c);
                 segment.setProperty(Object3D.ITEM_KEY, 
                         new KeyedValuesItemKey(key));
                 world.add(segment);
@@ -558,6 +655,9 @@ public class PiePlot3D extends AbstractPlot3D implements Serializable {
         if (this.segments != that.segments) {
             return false;
         }
+        if (this.adaptiveSegmentCount != that.adaptiveSegmentCount) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -42,6 +42,10 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.orsoncharts.ChartElementVisitor;
 import com.orsoncharts.axis.Axis3DChangeEvent;
@@ -84,6 +88,12 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
             BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 1f, 
             new float[] { 3f, 3f }, 0f);
 
+    /** 
+     * The maximum number of items composed by each task when composing in 
+     * parallel.
+     */
+    private static final int ITEMS_PER_COMPOSE_TASK = 8192;
+
     /** The dataset. */
     private XYZDataset dataset;
 
@@ -132,6 +142,12 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
     /** The tool tip generator (if null there will be no tooltips). */
     private XYZItemLabelGenerator toolTipGenerator;
     
+    /** 
+     * The executor used to compose the world in parallel ({@code null} 
+     * permitted).
+     */
+    private transient ExecutorService composeExecutor;
+    
     /**
      * Creates a new plot with the specified axes.
      * 
@@ -525,6 +541,40 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
         fireChangeEvent(false);
     }
     
+    /**
+     * Returns the executor used to compose the world in parallel.  The 
+     * default value is {@code null}.
+     * 
+     * @return The executor (possibly {@code null}).
+     * 
+     * @since 1.8
+     */
+    public ExecutorService getComposeExecutor() {
+        return this.composeExecutor;
+    }
+    
+    /**
+     * Sets the executor used to compose the world in parallel.  When an 
+     * executor is set and the renderer composes items individually (see 
+     * {@link ComposeType#PER_ITEM}), the items are split into blocks that 
+     * are composed by separate tasks, and the results are added to the 
+     * world in the original item order (so the world is the same as for
+     * sequential composition).  If {@code null}, all the work is done on 
+     * the calling thread.  The renderer's {@code composeItem()} method must
+     * be safe to call from several threads at once (this is the case for 
+     * the renderers in Orson Charts).  The plot does not shut down the 
+     * executor, and the executor is not serialized.  Do not pass an executor
+     * whose threads may themselves be waiting for the chart to be drawn, 
+     * since this can deadlock.
+     * 
+     * @param executor  the executor ({@code null} permitted).
+     * 
+     * @since 1.8
+     */
+    public void setComposeExecutor(ExecutorService executor) {
+        this.composeExecutor = executor;
+    }
+    
     /**
      * Returns a list containing legend item info, typically one item for
      * each series in the chart.  This is intended for use in the construction
@@ -565,6 +615,11 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
             this.renderer.composeAll(this, world, this.dimensions, xOffset, 
                     yOffset, zOffset);
         } else if (this.renderer.getComposeType() == ComposeType.PER_ITEM) {
+            if (this.composeExecutor != null 
+                    && getItemCount() > ITEMS_PER_COMPOSE_TASK) {
+                composeInParallel(world, xOffset, yOffset, zOffset);
+                return;
+            }
             // for each data point in the dataset figure out if the composed 
             // shape intersects with the visible 
             // subset of the world, and if so add the object
@@ -583,6 +638,78 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
         }
     }
 
+    /**
+     * Returns the total number of items in the dataset.
+     * 
+     * @return The item count.
+     */
+    private int getItemCount() {
+        int count = 0;
+        for (int series = 0; series < this.dataset.getSeriesCount(); series++) {
+            count += this.dataset.getItemCount(series);
+        }
+        return count;
+    }
+    
+    /**
+     * Composes the items in the dataset using tasks run by the compose 
+     * executor.  Each task composes a block of items from one series into a
+     * separate world, and the objects are then added to {@code world} in 
+     * task order.
+     * 
+     * @param world  the world.
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     */
+    private void composeInParallel(World world, final double xOffset, 
+            final double yOffset, final double zOffset) {
+        List<Future<World>> futures = new ArrayList<Future<World>>();
+        try {
+            for (int s = 0; s < this.dataset.getSeriesCount(); s++) {
+                int itemCount = this.dataset.getItemCount(s);
+                for (int i = 0; i < itemCount; i += ITEMS_PER_COMPOSE_TASK) {
+                    final int series = s;
+                    final int start = i;
+                    final int end = Math.min(i + ITEMS_PER_COMPOSE_TASK, 
+                            itemCount);
+                    futures.add(this.composeExecutor.submit(
+                            new Callable<World>() {
+                        @Override
+                        public World call() {
+                            World part = new World();
+                            for (int item = start; item < end; item++) {
+                                renderer.composeItem(dataset, series, item, 
+                                        part, dimensions, xOffset, yOffset, 
+                                        zOffset);
+                            }
+                            return part;
+                        }
+                    }));
+                }
+            }
+            for (Future<World> future : futures) {
+                world.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while composing.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            for (Future<World> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
     @Override
     public String generateToolTipText(ItemKey itemKey) {
         if (!(itemKey instanceof XYZItemKey)) {
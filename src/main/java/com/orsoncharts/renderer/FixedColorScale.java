@@ -51,7 +51,7 @@ import com.orsoncharts.util.ArgChecks;
  * @since 1.1
  */
 @SuppressWarnings("serial")
-public class FixedColorScale implements ColorScale, Serializable {
+public class FixedColorScale implements ARGBColorScale, Serializable {
     
     /** The fixed color. */
     private Color color;
@@ -96,6 +96,20 @@ public class FixedColorScale implements ColorScale, Serializable {
         return this.color;
     }
     
+    /**
+     * Returns the ARGB value for the fixed color, for all values.
+     * 
+     * @param value  the value.
+     * 
+     * @return The ARGB value for the fixed color.
+     * 
+     * @since 1.8
+     */
+    @Override
+    public int valueToARGB(double value) {
+        return this.color.getRGB();
+    }
+    
     /**
      * Tests this instance for equality with an arbitrary object.
      * 
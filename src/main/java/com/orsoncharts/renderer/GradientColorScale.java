@@ -38,7 +38,10 @@ import com.orsoncharts.Range;
 import com.orsoncharts.util.ArgChecks;
 
 /**
- * A color scale that runs a linear gradient between two colors.
+ * A color scale that runs a linear gradient between two colors.  The 
+ * scale is sampled when it is created (255 samples) and the samples are 
+ * never modified after that, so instances can be used safely by multiple 
+ * threads.
  * <br><br>
  * NOTE: This class is serializable, but the serialization format is subject 
  * to change in future releases and should not be relied upon for persisting 
@@ -48,7 +51,7 @@ import com.orsoncharts.util.ArgChecks;
  */
 @SuppressWarnings("serial")
 public class GradientColorScale extends AbstractColorScale 
-        implements ColorScale {
+        implements ARGBColorScale {
 
     /** The color at the low end of the value range. */
     private Color lowColor;
@@ -56,8 +59,11 @@ public class GradientColorScale extends AbstractColorScale
     /** The color at the high end of the value range. */
     private Color highColor;
     
-    /** Storage for the color samples. */
-    private Color[] colors;
+    /** The color samples. */
+    private final Color[] colors;
+    
+    /** The color samples as packed ARGB values. */
+    private final int[] argb;
 
     /**
      * Creates a new instance with the specified value range and colors.
@@ -75,6 +81,17 @@ public class GradientColorScale extends AbstractColorScale
         this.lowColor = lowColor;
         this.highColor = highColor;
         this.colors = new Color[255];
+        this.argb = new int[this.colors.length];
+        float[] lrgba = this.lowColor.getRGBComponents(null);
+        float[] hrgba = this.highColor.getRGBComponents(null);
+        for (int i = 0; i < this.colors.length; i++) {
+            float p = i / (this.colors.length - 1.0f);
+            this.colors[i] = new Color(lrgba[0] * (1 - p) + hrgba[0] * p,
+                    lrgba[1] * (1 - p) + hrgba[1] * p,
+                    lrgba[2] * (1 - p) + hrgba[2] * p,
+                    lrgba[3] * (1 - p) + hrgba[3] * p);
+            this.argb[i] = this.colors[i].getRGB();
+        }
     }
 
     /**
@@ -105,7 +122,9 @@ public class GradientColorScale extends AbstractColorScale
     }
 
     /**
-     * Returns the color corresponding to the specified data value.  If this
+     * Returns the color corresponding to the specified data value.  Values
+     * outside the range of the scale are given the color for the nearest 
+     * end of the range.
      * 
      * @param value  the data value.
      * 
@@ -113,26 +132,41 @@ public class GradientColorScale extends AbstractColorScale
      */
     @Override
     public Color valueToColor(double value) {
+        return this.colors[sampleIndex(value)];
+    }
+    
+    /**
+     * Returns the color corresponding to the specified data value as a 
+     * packed ARGB value.
+     * 
+     * @param value  the data value.
+     * 
+     * @return The ARGB value.
+     * 
+     * @since 1.8
+     */
+    @Override
+    public int valueToARGB(double value) {
+        return this.argb[sampleIndex(value)];
+    }
+    
+    /**
+     * Returns the index of the sample for the specified data value.
+     * 
+     * @param value  the data value.
+     * 
+     * @return The sample index. 
+     */
+    private int sampleIndex(double value) {
         Range r = getRange();
-        if (value < r.getMin()) {
-            return valueToColor(r.getMin());
+        if (!(value > r.getMin())) {  // also catches NaN
+            return 0;
         }
-        if (value > r.getMax()) {
-            return valueToColor(r.getMax());
+        if (value >= r.getMax()) {
+            return this.colors.length - 1;
         }
-        double fraction = getRange().percent(value);
-        int i = Math.min((int) (fraction * this.colors.length), 
+        return Math.min((int) (r.percent(value) * this.colors.length), 
                 this.colors.length - 1);
-        if (this.colors[i] == null) {
-            float[] lrgba = this.lowColor.getRGBComponents(null);
-            float[] hrgba = this.highColor.getRGBComponents(null);
-            float p = (float) fraction;
-            this.colors[i] = new Color(lrgba[0] * (1 - p) + hrgba[0] * p,
-                    lrgba[1] * (1 - p) + hrgba[1] * p,
-                    lrgba[2] * (1 - p) + hrgba[2] * p,
-                    lrgba[3] * (1 - p) + hrgba[3] * p);
-        }
-        return this.colors[i];
     }
     
     /**
@@ -39,7 +39,9 @@ import com.orsoncharts.util.ArgChecks;
 
 /**
  * A color scale that returns all the colors of the rainbow.  Instances of 
- * this class are immutable and serializable.
+ * this class are immutable and serializable (the color samples are created
+ * along with the scale, so instances can be used safely by multiple 
+ * threads).
  * <br><br>
  * NOTE: This class is serializable, but the serialization format is subject 
  * to change in future releases and should not be relied upon for persisting 
@@ -48,7 +50,8 @@ import com.orsoncharts.util.ArgChecks;
  * @since 1.1
  */
 @SuppressWarnings("serial")
-public class RainbowScale extends AbstractColorScale implements ColorScale {
+public class RainbowScale extends AbstractColorScale 
+        implements ARGBColorScale {
     
     /** 
      * A range to include all hues.  This can be used for the 
@@ -62,8 +65,11 @@ public class RainbowScale extends AbstractColorScale implements ColorScale {
      */
     public static final Range BLUE_TO_RED_RANGE = new Range(0.0, 0.6666);
     
-    /** Storage for the color samples. */
-    private Color[] colors;
+    /** The color samples. */
+    private final Color[] colors;
+    
+    /** The color samples as packed ARGB values. */
+    private final int[] argb;
     
     /** 
      * The subrange of hues (useful to restrict the scale to the range from
@@ -86,14 +92,21 @@ public class RainbowScale extends AbstractColorScale implements ColorScale {
      * given number of samples and hues restricted to the specified range.
      * 
      * @param range  the range ({@code null} not permitted).
-     * @param samples  the number of samples.
+     * @param samples  the number of samples (must be positive).
      * @param hueSubrange  the hue sub-range.
      */
     public RainbowScale(Range range, int samples, Range hueSubrange) {
         super(range);
+        ArgChecks.positiveRequired(samples, "samples");
         ArgChecks.nullNotPermitted(hueSubrange, "hueSubrange");
         this.colors = new Color[samples];
+        this.argb = new int[samples];
         this.hueSubrange = hueSubrange;
+        for (int i = 0; i < samples; i++) {
+            double fraction = samples > 1 ? i / (samples - 1.0) : 0.0;
+            this.colors[i] = createRainbowColor(fraction);
+            this.argb[i] = this.colors[i].getRGB();
+        }
     }
 
     /**
@@ -123,19 +136,40 @@ public class RainbowScale extends AbstractColorScale implements ColorScale {
      */
     @Override
     public Color valueToColor(double value) {
+        return this.colors[sampleIndex(value)];
+    }
+    
+    /**
+     * Converts a value to a color on the scale, returned as a packed ARGB 
+     * value.
+     * 
+     * @param value  the value.
+     * 
+     * @return The ARGB value.
+     * 
+     * @since 1.8
+     */
+    @Override
+    public int valueToARGB(double value) {
+        return this.argb[sampleIndex(value)];
+    }
+    
+    /**
+     * Returns the index of the sample for the specified value.
+     * 
+     * @param value  the value.
+     * 
+     * @return The sample index. 
+     */
+    private int sampleIndex(double value) {
         Range r = getRange();
-        if (value < r.getMin()) {
-            return valueToColor(r.getMin());
+        if (!(value > r.getMin())) {  // also catches NaN
+            return 0;
         }
-        if (value > r.getMax()) {
-            return valueToColor(r.getMax());
-        }
-        double fraction = getRange().percent(value);
-        int i = (int) (fraction * (this.colors.length - 1));
-        if (this.colors[i] == null) {
-            this.colors[i] = createRainbowColor(fraction);
+        if (value >= r.getMax()) {
+            return this.colors.length - 1;
         }
-        return this.colors[i];
+        return (int) (r.percent(value) * (this.colors.length - 1));
     }
     
     /**
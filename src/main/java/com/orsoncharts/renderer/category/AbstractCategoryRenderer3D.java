@@ -36,9 +36,13 @@ import java.awt.Color;
 import java.io.Serializable;
 import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.Range;
+import com.orsoncharts.axis.CategoryAxis3D;
 import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.Values3D;
+import com.orsoncharts.data.category.CategoryDataset3D;
+import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.Offset3D;
+import com.orsoncharts.graphics3d.World;
 import com.orsoncharts.label.CategoryItemLabelGenerator;
 import com.orsoncharts.plot.CategoryPlot3D;
 import com.orsoncharts.renderer.AbstractRenderer3D;
@@ -203,6 +207,144 @@ public abstract class AbstractCategoryRenderer3D extends AbstractRenderer3D
         return DataUtils.findValueRange(data);
     }
     
+    /**
+     * Constructs and places all the items from the specified dataset into 
+     * the given world.  This implementation calls 
+     * {@link #composeItem(CategoryDataset3D, int, int, int, World, 
+     * Dimension3D, double, double, double)} for each item (by series, then 
+     * row, then column), subclasses can override it to share the 
+     * per-dataset work between items as long as the result is the same.
+     * <br><br>
+     * The {@link CategoryPlot3D} class calls this method once each time the
+     * world is composed (for renderers that do not extend this class, the
+     * plot calls {@code composeItem()} for each item instead).
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param world  the world ({@code null} not permitted).
+     * @param dimensions  the plot dimensions ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * 
+     * @since 1.8
+     */
+    public void composeAll(CategoryDataset3D dataset, World world, 
+            Dimension3D dimensions, double xOffset, double yOffset, 
+            double zOffset) {
+        for (int series = 0; series < dataset.getSeriesCount(); series++) {
+            for (int row = 0; row < dataset.getRowCount(); row++) {
+                for (int column = 0; column < dataset.getColumnCount(); 
+                        column++) {
+                    composeItem(dataset, series, row, column, world, 
+                            dimensions, xOffset, yOffset, zOffset);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns {@code true} if the class of this renderer inherits the
+     * specified method from {@code declaringClass}, and {@code false} if
+     * a subclass overrides it.  Renderers that override
+     * {@code composeAll()} use this to fall back to the per-item loop when
+     * a subclass has customised {@code composeItem()}, since the bulk path
+     * does not call that method.
+     *
+     * @param declaringClass  the class that declares the method
+     *     ({@code null} not permitted).
+     * @param name  the method name ({@code null} not permitted).
+     * @param parameterTypes  the parameter types.
+     *
+     * @return A boolean.
+     *
+     * @since 1.8
+     */
+    protected boolean inheritsMethod(Class<?> declaringClass, String name,
+            Class<?>... parameterTypes) {
+        for (Class<?> c = getClass(); c != null && c != declaringClass;
+                c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, parameterTypes);
+                return false;
+            } catch (NoSuchMethodException e) {
+                // not declared at this level, check the superclass
+            } catch (SecurityException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the class of this renderer inherits the
+     * {@link #composeItem(CategoryDataset3D, int, int, int, World,
+     * Dimension3D, double, double, double)} method from
+     * {@code declaringClass}.
+     *
+     * @param declaringClass  the class that declares the method
+     *     ({@code null} not permitted).
+     *
+     * @return A boolean.
+     *
+     * @since 1.8
+     */
+    protected boolean inheritsComposeItem(Class<?> declaringClass) {
+        return inheritsMethod(declaringClass, "composeItem",
+                CategoryDataset3D.class, int.class, int.class, int.class,
+                World.class, Dimension3D.class, double.class, double.class,
+                double.class);
+    }
+
+    /**
+     * Returns the x-coordinates in the world for the columns in the dataset
+     * (with {@code xOffset} added).  The coordinates are calculated using 
+     * the column axis for the plot.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param width  the width of the plot in world units.
+     * @param xOffset  the x-offset.
+     * 
+     * @return The coordinates, indexed by column.
+     * 
+     * @since 1.8
+     */
+    protected double[] calculateColumnCoordinates(CategoryDataset3D dataset, 
+            double width, double xOffset) {
+        CategoryAxis3D columnAxis = getPlot().getColumnAxis();
+        double[] result = new double[dataset.getColumnCount()];
+        for (int column = 0; column < result.length; column++) {
+            double value = columnAxis.getCategoryValue(
+                    dataset.getColumnKey(column));
+            result[column] = columnAxis.translateToWorld(value, width) 
+                    + xOffset;
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the z-coordinates in the world for the rows in the dataset
+     * (with {@code zOffset} added).  The coordinates are calculated using 
+     * the row axis for the plot.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param depth  the depth of the plot in world units.
+     * @param zOffset  the z-offset.
+     * 
+     * @return The coordinates, indexed by row.
+     * 
+     * @since 1.8
+     */
+    protected double[] calculateRowCoordinates(CategoryDataset3D dataset, 
+            double depth, double zOffset) {
+        CategoryAxis3D rowAxis = getPlot().getRowAxis();
+        double[] result = new double[dataset.getRowCount()];
+        for (int row = 0; row < result.length; row++) {
+            double value = rowAxis.getCategoryValue(dataset.getRowKey(row));
+            result[row] = rowAxis.translateToWorld(value, depth) + zOffset;
+        }
+        return result;
+    }
+    
     /**
      * Tests this renderer for equality with an arbitrary object.
      * 
@@ -286,9 +286,11 @@ public class BarRenderer3D extends AbstractCategoryRenderer3D
     }
     
     /**
-     * Performs the actual work of composing a bar to represent one item in the
-     * dataset.  This method is reused by the {@link StackedBarRenderer3D}
-     * subclass.
+     * Composes a bar to represent one item in the dataset, looking up the 
+     * world coordinates for the item's row and column then calling 
+     * {@link #composeBar(double, double, CategoryDataset3D, int, int, int, 
+     * World, Dimension3D, double, double, double)}.  This method is reused 
+     * by the {@link StackedBarRenderer3D} subclass.
      * 
      * @param value  the data value (top of the bar).
      * @param barBase  the base value for the bar.
@@ -302,22 +304,117 @@ public class BarRenderer3D extends AbstractCategoryRenderer3D
      * @param yOffset  the y-offset.
      * @param zOffset  the z-offset.
      */
-    @SuppressWarnings("unchecked")
     protected void composeItem(double value, double barBase, 
             CategoryDataset3D dataset, int series, int row, int column,
             World world, Dimension3D dimensions, double xOffset, 
             double yOffset, double zOffset) {
+        CategoryPlot3D plot = getPlot();
+        CategoryAxis3D rowAxis = plot.getRowAxis();
+        CategoryAxis3D columnAxis = plot.getColumnAxis();
+        double rowValue = rowAxis.getCategoryValue(dataset.getRowKey(row));
+        double columnValue = columnAxis.getCategoryValue(
+                dataset.getColumnKey(column));
+        double xx = columnAxis.translateToWorld(columnValue, 
+                dimensions.getWidth()) + xOffset;
+        double zz = rowAxis.translateToWorld(rowValue, dimensions.getDepth()) 
+                + zOffset;
+        composeBar(value, barBase, dataset, series, row, column, world, 
+                dimensions, xx, zz, yOffset);
+    }
+    
+    /**
+     * Constructs and places all the items from the specified dataset into 
+     * the given world.  The world coordinates for the rows and columns are 
+     * calculated once for the whole dataset.
+     * <br><br>
+     * If a subclass overrides {@code composeItem()}, this method calls it
+     * for each item instead, so that the override is respected.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param world  the world ({@code null} not permitted).
+     * @param dimensions  the plot dimensions ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * 
+     * @since 1.8
+     */
+    @Override
+    public void composeAll(CategoryDataset3D dataset, World world, 
+            Dimension3D dimensions, double xOffset, double yOffset, 
+            double zOffset) {
+        if (!isBulkComposeSupported(BarRenderer3D.class)) {
+            super.composeAll(dataset, world, dimensions, xOffset, yOffset, 
+                    zOffset);
+            return;
+        }
+        double[] xx = calculateColumnCoordinates(dataset, 
+                dimensions.getWidth(), xOffset);
+        double[] zz = calculateRowCoordinates(dataset, dimensions.getDepth(), 
+                zOffset);
+        for (int series = 0; series < dataset.getSeriesCount(); series++) {
+            for (int row = 0; row < zz.length; row++) {
+                for (int column = 0; column < xx.length; column++) {
+                    double value = dataset.getDoubleValue(series, row, column);
+                    if (Double.isNaN(value)) {
+                        continue;
+                    }
+                    composeBar(value, this.base, dataset, series, row, column, 
+                            world, dimensions, xx[column], zz[row], yOffset);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns {@code true} if this renderer inherits both 
+     * {@code composeItem()} methods from {@code declaringClass}, in which 
+     * case {@code composeAll()} can call {@code composeBar()} directly.  If a
+     * subclass overrides either method, the items are composed one at a 
+     * time so that the override is called.
+     * 
+     * @param declaringClass  the class that overrides {@code composeAll()}.
+     * 
+     * @return A boolean.
+     */
+    boolean isBulkComposeSupported(Class<?> declaringClass) {
+        return inheritsComposeItem(declaringClass) 
+                && inheritsMethod(BarRenderer3D.class, "composeItem", 
+                double.class, double.class, CategoryDataset3D.class, 
+                int.class, int.class, int.class, World.class, 
+                Dimension3D.class, double.class, double.class, double.class);
+    }
+    
+    /**
+     * Composes a bar to represent one item in the dataset, given the world 
+     * coordinates for the item's column and row.  This method is used by 
+     * both {@code composeItem()} and {@code composeAll()}, and by the 
+     * {@link StackedBarRenderer3D} subclass.
+     * 
+     * @param value  the data value (top of the bar).
+     * @param barBase  the base value for the bar.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param row  the row index.
+     * @param column  the column index.
+     * @param world  the world.
+     * @param dimensions  the plot dimensions.
+     * @param xx  the x-coordinate for the center of the bar (in the world).
+     * @param zz  the z-coordinate for the center of the bar (in the world).
+     * @param yOffset  the y-offset.
+     * 
+     * @since 1.8
+     */
+    @SuppressWarnings("unchecked")
+    protected void composeBar(double value, double barBase, 
+            CategoryDataset3D dataset, int series, int row, int column,
+            World world, Dimension3D dimensions, double xx, double zz, 
+            double yOffset) {
 
-        Comparable<?> seriesKey = dataset.getSeriesKey(series);
-        Comparable<?> rowKey = dataset.getRowKey(row);
-        Comparable<?> columnKey = dataset.getColumnKey(column);
-        
         double vlow = Math.min(barBase, value);
         double vhigh = Math.max(barBase, value);
 
         CategoryPlot3D plot = getPlot();
-        CategoryAxis3D rowAxis = plot.getRowAxis();
-        CategoryAxis3D columnAxis = plot.getColumnAxis();
         ValueAxis3D valueAxis = plot.getValueAxis();
         Range range = valueAxis.getRange();
         if (!range.intersects(vlow, vhigh)) {
@@ -328,20 +425,15 @@ public class BarRenderer3D extends AbstractCategoryRenderer3D
         double vtop = range.peggedValue(vhigh);
         boolean inverted = barBase > value;
         
-        double rowValue = rowAxis.getCategoryValue(rowKey);
-        double columnValue = columnAxis.getCategoryValue(columnKey);
-
-        double width = dimensions.getWidth();
+        CategoryAxis3D rowAxis = plot.getRowAxis();
+        CategoryAxis3D columnAxis = plot.getColumnAxis();
         double height = dimensions.getHeight();
-        double depth = dimensions.getDepth();
-        double xx = columnAxis.translateToWorld(columnValue, width) + xOffset;
         double yy = valueAxis.translateToWorld(vtop, height) + yOffset;
-        double zz = rowAxis.translateToWorld(rowValue, depth) + zOffset;
 
         double xw = this.barXWidth * columnAxis.getCategoryWidth();
         double zw = this.barZWidth * rowAxis.getCategoryWidth();
-        double xxw = columnAxis.translateToWorld(xw, width);
-        double xzw = rowAxis.translateToWorld(zw, depth);
+        double xxw = columnAxis.translateToWorld(xw, dimensions.getWidth());
+        double xzw = rowAxis.translateToWorld(zw, dimensions.getDepth());
         double basew = valueAxis.translateToWorld(vbase, height) + yOffset;
     
         Color color = getColorSource().getColor(series, row, column);
@@ -362,8 +454,9 @@ public class BarRenderer3D extends AbstractCategoryRenderer3D
         }
         Object3D bar = Object3D.createBar(xxw, xzw, xx, yy, zz, basew, 
                 color, baseColor, topColor, inverted);
-        KeyedValues3DItemKey itemKey = new KeyedValues3DItemKey(seriesKey, 
-                rowKey, columnKey);
+        KeyedValues3DItemKey itemKey = new KeyedValues3DItemKey(
+                dataset.getSeriesKey(series), dataset.getRowKey(row), 
+                dataset.getColumnKey(column));
         bar.setProperty(Object3D.ITEM_KEY, itemKey);
         world.add(bar);
         drawItemLabels(world, dataset, itemKey, xx, yy, zz, basew, inverted);   
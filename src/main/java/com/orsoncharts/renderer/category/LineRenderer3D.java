@@ -70,6 +70,10 @@ import com.orsoncharts.util.ObjectUtils;
  * {@link Chart3DFactory#createLineChart(String, String, CategoryDataset3D, 
  * String, String, String)}.
  * <br><br> 
+ * A {@code null} or {@code Double.NaN} value in the dataset is treated as a 
+ * missing value, so the line is broken at that item.  (Since version 1.8; 
+ * earlier versions treated only {@code null} as missing.)
+ * <br><br>
  * NOTE: This class is serializable, but the serialization format is subject 
  * to change in future releases and should not be relied upon for persisting 
  * instances of this class.
@@ -200,7 +204,8 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
     /**
      * Constructs and places one item from the specified dataset into the given 
      * world.  This method will be called by the {@link CategoryPlot3D} class
-     * while iterating over the items in the dataset.
+     * while iterating over the items in the dataset.  A {@code null} or
+     * {@code Double.NaN} value in the dataset is treated as a missing value.
      * 
      * @param dataset  the dataset ({@code null} not permitted).
      * @param series  the series index.
@@ -213,7 +218,6 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      * @param zOffset  the z-offset.
      */
     @Override
-    @SuppressWarnings("unchecked")
     public void composeItem(CategoryDataset3D dataset, int series, int row, 
             int column, World world, Dimension3D dimensions, 
             double xOffset, double yOffset, double zOffset) {
@@ -221,18 +225,117 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
         // there is a lot of brute force code underneath this compose method
         // because I haven't seen the pattern yet that will let me reduce it
         // to something more elegant...probably I'm not smart enough.
-        Number y = (Number) dataset.getValue(series, row, column);
-        Number yprev = null;
+        double y = dataset.getDoubleValue(series, row, column);
+        double yprev = Double.NaN;
+        double prevColumnX = Double.NaN;
+        CategoryAxis3D columnAxis = getPlot().getColumnAxis();
+        double ww = dimensions.getWidth();
         if (column > 0) {
-            yprev = (Number) dataset.getValue(series, row, column - 1);
+            yprev = dataset.getDoubleValue(series, row, column - 1);
+            prevColumnX = columnAxis.translateToWorld(
+                    columnAxis.getCategoryValue(
+                    dataset.getColumnKey(column - 1)), ww) + xOffset;
         }
-        Number ynext = null;
+        double ynext = Double.NaN;
+        double nextColumnX = Double.NaN;
         if (column < dataset.getColumnCount() - 1) {
-            ynext = (Number) dataset.getValue(series, row, column + 1);
+            ynext = dataset.getDoubleValue(series, row, column + 1);
+            nextColumnX = columnAxis.translateToWorld(
+                    columnAxis.getCategoryValue(
+                    dataset.getColumnKey(column + 1)), ww) + xOffset;
         }
+        double xw = columnAxis.translateToWorld(columnAxis.getCategoryValue(
+                dataset.getColumnKey(column)), ww) + xOffset;
+        CategoryAxis3D rowAxis = getPlot().getRowAxis();
+        double zw = rowAxis.translateToWorld(rowAxis.getCategoryValue(
+                dataset.getRowKey(row)), dimensions.getDepth()) + zOffset;
+        composeLineItem(dataset, series, row, column, y, yprev, ynext, world, 
+                dimensions, xw, prevColumnX, nextColumnX, zw, yOffset);
+    }
+    
+    /**
+     * Constructs and places all the items from the specified dataset into 
+     * the given world.  The world coordinates for the rows and columns are 
+     * calculated once for the whole dataset, and the values for each series
+     * and row are read once (rather than up to three times).
+     * <br><br>
+     * If a subclass overrides {@code composeItem()}, this method calls it
+     * for each item instead, so that the override is respected.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param world  the world ({@code null} not permitted).
+     * @param dimensions  the plot dimensions ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * 
+     * @since 1.8
+     */
+    @Override
+    public void composeAll(CategoryDataset3D dataset, World world, 
+            Dimension3D dimensions, double xOffset, double yOffset, 
+            double zOffset) {
+        if (!inheritsComposeItem(LineRenderer3D.class)) {
+            super.composeAll(dataset, world, dimensions, xOffset, yOffset, 
+                    zOffset);
+            return;
+        }
+        double[] xx = calculateColumnCoordinates(dataset, 
+                dimensions.getWidth(), xOffset);
+        double[] zz = calculateRowCoordinates(dataset, dimensions.getDepth(), 
+                zOffset);
+        int columnCount = xx.length;
+        double[] values = new double[columnCount];
+        for (int series = 0; series < dataset.getSeriesCount(); series++) {
+            for (int row = 0; row < zz.length; row++) {
+                for (int column = 0; column < columnCount; column++) {
+                    values[column] = dataset.getDoubleValue(series, row, 
+                            column);
+                }
+                for (int column = 0; column < columnCount; column++) {
+                    boolean first = (column == 0);
+                    boolean last = (column == columnCount - 1);
+                    composeLineItem(dataset, series, row, column, 
+                            values[column], 
+                            first ? Double.NaN : values[column - 1],
+                            last ? Double.NaN : values[column + 1], world, 
+                            dimensions, xx[column], 
+                            first ? Double.NaN : xx[column - 1], 
+                            last ? Double.NaN : xx[column + 1], zz[row], 
+                            yOffset);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Constructs and places one item into the given world, given the item's
+     * value, the values of the adjacent items and the world coordinates for
+     * the item.  Missing values are represented by {@code Double.NaN}.
+     * 
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param row  the row index.
+     * @param column  the column index.
+     * @param y  the value for the item.
+     * @param yprev  the value for the previous column.
+     * @param ynext  the value for the next column.
+     * @param world  the world.
+     * @param dimensions  the plot dimensions.
+     * @param xw  the x-coordinate for the item's column (in the world).
+     * @param prevColumnX  the x-coordinate for the previous column.
+     * @param nextColumnX  the x-coordinate for the next column.
+     * @param zw  the z-coordinate for the item's row (in the world).
+     * @param yOffset  the y-offset.
+     */
+    @SuppressWarnings("unchecked")
+    private void composeLineItem(CategoryDataset3D dataset, int series, 
+            int row, int column, double y, double yprev, double ynext, 
+            World world, Dimension3D dimensions, double xw, 
+            double prevColumnX, double nextColumnX, double zw, 
+            double yOffset) {
 
         CategoryPlot3D plot = getPlot();
-        CategoryAxis3D rowAxis = plot.getRowAxis();
         CategoryAxis3D columnAxis = plot.getColumnAxis();
         ValueAxis3D valueAxis = plot.getValueAxis();
         Range r = valueAxis.getRange();
@@ -240,11 +343,11 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
         Comparable<?> seriesKey = dataset.getSeriesKey(series);
         Comparable<?> rowKey = dataset.getRowKey(row);
         Comparable<?> columnKey = dataset.getColumnKey(column);
-        double rowValue = rowAxis.getCategoryValue(rowKey);
-        double columnValue = columnAxis.getCategoryValue(columnKey);
         double ww = dimensions.getWidth();
         double hh = dimensions.getHeight();
-        double dd = dimensions.getDepth();
+        boolean hasY = !Double.isNaN(y);
+        boolean hasPrev = !Double.isNaN(yprev);
+        boolean hasNext = !Double.isNaN(ynext);
 
         // for any data value, we'll try to create two line segments, one to
         // the left of the value and one to the right of the value (each 
@@ -263,38 +366,35 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
             createLeftSegment = false;  // never for first item
             if (dataset.getColumnCount() == 1) {
                 createRightSegment = false; 
-                createIsolatedSegment = (y != null);
+                createIsolatedSegment = hasY;
             } else {
-                createRightSegment = (y != null && ynext != null);
+                createRightSegment = (hasY && hasNext);
                 rightOpen = true;
                 rightClose = false;
-                createIsolatedSegment = (y != null && ynext == null);
+                createIsolatedSegment = (hasY && !hasNext);
             }
         } else if (column == dataset.getColumnCount() - 1) { // last column
             createRightSegment = false; // never for the last item
-            createLeftSegment = (y != null && yprev != null);
+            createLeftSegment = (hasY && hasPrev);
             leftOpen = false;
             leftClose = true;
-            createIsolatedSegment = (y != null && yprev == null);
+            createIsolatedSegment = (hasY && !hasPrev);
         } else { // this is the general case
-            createLeftSegment = (y != null && yprev != null);
+            createLeftSegment = (hasY && hasPrev);
             leftOpen = false;
-            leftClose = (createLeftSegment && ynext == null);
-            createRightSegment = (y != null && ynext != null);
-            rightOpen = (createRightSegment && yprev == null);
+            leftClose = (createLeftSegment && !hasNext);
+            createRightSegment = (hasY && hasNext);
+            rightOpen = (createRightSegment && !hasPrev);
             rightClose = false;
-            createIsolatedSegment = (y != null 
-                    && yprev == null && ynext == null);
+            createIsolatedSegment = (hasY && !hasPrev && !hasNext);
         }
 
         // now that we know what we have to create, we'll need some info 
         // for the construction
-        double xw = columnAxis.translateToWorld(columnValue, ww) + xOffset;
         double yw = Double.NaN;
-        if (y != null) {
-            yw = valueAxis.translateToWorld(y.doubleValue(), hh) + yOffset; 
+        if (hasY) {
+            yw = valueAxis.translateToWorld(y, hh) + yOffset; 
         }
-        double zw = rowAxis.translateToWorld(rowValue, dd) + zOffset;
         double ywmin = valueAxis.translateToWorld(r.getMin(), hh) + yOffset;
         double ywmax = valueAxis.translateToWorld(r.getMax(), hh) + yOffset;
         Color color = getColorSource().getColor(series, row, column);
@@ -308,12 +408,8 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
         KeyedValues3DItemKey itemKey = new KeyedValues3DItemKey(seriesKey, 
                 rowKey, columnKey);
         if (createLeftSegment) {
-            Comparable<?> prevColumnKey = dataset.getColumnKey(column - 1);
-            double prevColumnValue = columnAxis.getCategoryValue(prevColumnKey);
-            double prevColumnX = columnAxis.translateToWorld(prevColumnValue, 
-                    ww) + xOffset;
             double xl = (prevColumnX + xw) / 2.0;
-            double yprevw = valueAxis.translateToWorld(yprev.doubleValue(), hh) 
+            double yprevw = valueAxis.translateToWorld(yprev, hh) 
                     + yOffset; 
             double yl = (yprevw + yw) / 2.0;
             Object3D left = createSegment(xl, yl, xw, yw, zw, this.lineWidth, 
@@ -325,12 +421,8 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
             }
         }
         if (createRightSegment) {
-            Comparable<?> nextColumnKey = dataset.getColumnKey(column + 1);
-            double nextColumnValue = columnAxis.getCategoryValue(nextColumnKey);
-            double nextColumnX = columnAxis.translateToWorld(nextColumnValue, 
-                    ww) + xOffset;
             double xr = (nextColumnX + xw) / 2.0;
-            double ynextw = valueAxis.translateToWorld(ynext.doubleValue(), hh) 
+            double ynextw = valueAxis.translateToWorld(ynext, hh) 
                     + yOffset; 
             double yr = (ynextw + yw) / 2.0;
             Object3D right = createSegment(xw, yw, xr, yr, zw, this.lineWidth, 
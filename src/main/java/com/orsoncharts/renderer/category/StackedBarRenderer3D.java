@@ -32,6 +32,8 @@
 
 package com.orsoncharts.renderer.category;
 
+import java.util.Arrays;
+
 import com.orsoncharts.Range;
 import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.data.DataUtils;
@@ -128,6 +130,67 @@ public class StackedBarRenderer3D extends BarRenderer3D {
         
     }
     
+    /**
+     * Constructs and places all the items from the specified dataset into 
+     * the given world.  The stacking subtotals for each row and column are 
+     * accumulated while iterating over the series, rather than being 
+     * recalculated from the first series for every item.
+     * <br><br>
+     * If a subclass overrides {@code composeItem()}, this method calls it
+     * for each item instead, so that the override is respected.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param world  the world ({@code null} not permitted).
+     * @param dimensions  the plot dimensions ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * 
+     * @since 1.8
+     */
+    @Override
+    public void composeAll(CategoryDataset3D dataset, World world, 
+            Dimension3D dimensions, double xOffset, double yOffset, 
+            double zOffset) {
+        if (!isBulkComposeSupported(StackedBarRenderer3D.class)) {
+            super.composeAll(dataset, world, dimensions, xOffset, yOffset, 
+                    zOffset);
+            return;
+        }
+        double[] xx = calculateColumnCoordinates(dataset, 
+                dimensions.getWidth(), xOffset);
+        double[] zz = calculateRowCoordinates(dataset, dimensions.getDepth(), 
+                zOffset);
+        double[][] neg = new double[zz.length][xx.length];
+        double[][] pos = new double[zz.length][xx.length];
+        for (int row = 0; row < zz.length; row++) {
+            Arrays.fill(neg[row], getBase());
+            Arrays.fill(pos[row], getBase());
+        }
+        for (int series = 0; series < dataset.getSeriesCount(); series++) {
+            for (int row = 0; row < zz.length; row++) {
+                for (int column = 0; column < xx.length; column++) {
+                    double value = dataset.getDoubleValue(series, row, column);
+                    if (value > 0.0) {
+                        composeBar(pos[row][column] + value, pos[row][column],
+                                dataset, series, row, column, world, 
+                                dimensions, xx[column], zz[row], yOffset);
+                        pos[row][column] += value;
+                    } else if (value < 0.0) {
+                        composeBar(neg[row][column] + value, neg[row][column],
+                                dataset, series, row, column, world, 
+                                dimensions, xx[column], zz[row], yOffset);
+                        neg[row][column] += value;
+                    } else if (value == 0.0) {
+                        composeBar(pos[row][column], pos[row][column], 
+                                dataset, series, row, column, world, 
+                                dimensions, xx[column], zz[row], yOffset);
+                    }
+                }
+            }
+        }
+    }
+    
     @Override
     protected void drawItemLabels(World world, CategoryDataset3D dataset, 
             KeyedValues3DItemKey itemKey, double xw, double yw, double zw, 
@@ -43,6 +43,7 @@ import com.orsoncharts.data.function.Function3D;
 import com.orsoncharts.data.function.Function3DUtils;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.Face;
 import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.Point3D;
 import com.orsoncharts.graphics3d.World;
@@ -96,6 +97,13 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
      */
     private boolean drawFaceOutlines;
     
+    /**
+     * A flag that controls whether the faces are shaded using normals 
+     * averaged from the surface normals at their vertices (giving a smooth
+     * appearance) rather than their own normals.
+     */
+    private boolean smoothShading;
+    
     /**
      * Creates a new renderer for the specified function.  By default, the 
      * renderer will take 30 samples along the x-axis and 30 samples along the 
@@ -110,6 +118,7 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
         this.zSamples = 30;
         this.colorScale = new FixedColorScale(Color.YELLOW);
         this.drawFaceOutlines = true;
+        this.smoothShading = false;
     }
     
     /**
@@ -228,6 +237,37 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
         fireChangeEvent(true);
     }
     
+    /**
+     * Returns the flag that controls whether or not the surface is shaded 
+     * smoothly.  The default value is {@code false}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    public boolean getSmoothShading() {
+        return this.smoothShading;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not the surface is shaded 
+     * smoothly and sends a {@link Renderer3DChangeEvent} to all registered
+     * listeners.  When the flag is set, the surface normal is estimated at
+     * each sample point, and each face is shaded using the average of the
+     * normals at its corners instead of its own normal.  This is a 
+     * Gouraud-style approximation (each face is still filled with a single
+     * color) that hides the facets of the surface without increasing the
+     * number of samples.
+     * 
+     * @param smooth  the new flag value.
+     * 
+     * @since 1.8
+     */
+    public void setSmoothShading(boolean smooth) {
+        this.smoothShading = smooth;
+        fireChangeEvent(true);
+    }
+    
     /**
      * Composes the entire representation of the function in the supplied
      * {@code world}.
@@ -252,6 +292,11 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
         double ylen = dim.getHeight();
         double zlen = dim.getDepth();
         Range yRange = new Range(yOffset, -yOffset);
+        double[] normals = null;
+        if (this.smoothShading) {
+            normals = calculateVertexNormals(xAxis, yAxis, zAxis, xlen, ylen, 
+                    zlen);
+        }
         for (int xIndex = 0; xIndex < this.xSamples; xIndex++) {
             double xfrac0 = xIndex / (double) this.xSamples;
             double xfrac1 = (xIndex + 1) / (double) this.xSamples;
@@ -311,12 +356,101 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
                     obj.addDoubleSidedFace(new int[] {count1, count1 + 1, 
                         count1 + 2, count1 + 3, count1 + 4});                    
                 }
+                if (normals != null) {
+                    List<Face> faces = obj.getFaces();
+                    int f = 0;
+                    if (count1 >= 3 && count1 <= 5) {
+                        setSmoothNormal(faces.get(f), normals, xIndex, zIndex,
+                                xIndex, zIndex + 1, xIndex + 1, zIndex + 1);
+                        f++;
+                    }
+                    if (count2 >= 3 && count2 <= 5) {
+                        setSmoothNormal(faces.get(f), normals, xIndex, zIndex,
+                                xIndex + 1, zIndex + 1, xIndex + 1, zIndex);
+                    }
+                }
                 world.add(obj);
             }
             
         }        
     }
     
+    /**
+     * Estimates the (unit) surface normal, in world coordinates, at each 
+     * sample point using central differences (one-sided at the edges).  The
+     * offsets are not needed since they don't change the normals.
+     * 
+     * @return An array containing the x, y and z components of the normal 
+     *     for each sample point, the point {@code (xIndex, zIndex)} starting 
+     *     at index {@code (xIndex * (zSamples + 1) + zIndex) * 3}.
+     */
+    private double[] calculateVertexNormals(ValueAxis3D xAxis, 
+            ValueAxis3D yAxis, ValueAxis3D zAxis, double xlen, double ylen, 
+            double zlen) {
+        int nx = this.xSamples + 1;
+        int nz = this.zSamples + 1;
+        double[] wx = new double[nx];
+        double[] wz = new double[nz];
+        double[] wy = new double[nx * nz];
+        for (int i = 0; i < nx; i++) {
+            double x = xAxis.getRange().value(i / (double) this.xSamples);
+            wx[i] = xAxis.translateToWorld(x, xlen);
+            for (int j = 0; j < nz; j++) {
+                double z = zAxis.getRange().value(j / (double) this.zSamples);
+                if (i == 0) {
+                    wz[j] = zAxis.translateToWorld(z, zlen);
+                }
+                wy[i * nz + j] = yAxis.translateToWorld(
+                        this.function.getValue(x, z), ylen);
+            }
+        }
+        double[] result = new double[nx * nz * 3];
+        for (int i = 0; i < nx; i++) {
+            int i0 = Math.max(i - 1, 0);
+            int i1 = Math.min(i + 1, nx - 1);
+            for (int j = 0; j < nz; j++) {
+                int j0 = Math.max(j - 1, 0);
+                int j1 = Math.min(j + 1, nz - 1);
+                // tangents along the x and z directions
+                double ux = wx[i1] - wx[i0];
+                double uy = wy[i1 * nz + j] - wy[i0 * nz + j];
+                double vy = wy[i * nz + j1] - wy[i * nz + j0];
+                double vz = wz[j1] - wz[j0];
+                // cross product of (ux, uy, 0) and (0, vy, vz)
+                double a = uy * vz;
+                double b = -ux * vz;
+                double c = ux * vy;
+                double len = Math.sqrt(a * a + b * b + c * c);
+                int k = (i * nz + j) * 3;
+                result[k] = a / len;
+                result[k + 1] = b / len;
+                result[k + 2] = c / len;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Sets the normal for a face to the average of the normals at three
+     * sample points.  If any of the normals is undefined (for example, 
+     * because the function is not defined at the sample point) the face 
+     * keeps its own normal.
+     */
+    private void setSmoothNormal(Face face, double[] normals, int i0, int j0,
+            int i1, int j1, int i2, int j2) {
+        int nz = this.zSamples + 1;
+        int k0 = (i0 * nz + j0) * 3;
+        int k1 = (i1 * nz + j1) * 3;
+        int k2 = (i2 * nz + j2) * 3;
+        double x = normals[k0] + normals[k1] + normals[k2];
+        double y = normals[k0 + 1] + normals[k1 + 1] + normals[k2 + 1];
+        double z = normals[k0 + 2] + normals[k1 + 2] + normals[k2 + 2];
+        double len = Math.sqrt(x * x + y * y + z * z);
+        if (len > 0.0) {  // false for NaN
+            face.setNormal(x, y, z);
+        }
+    }
+    
     private Point3D intersectPoint(double x0, double y0, double z0, double x1, 
                 double y1, double z1, double yy) {
         double p = (yy - y0) / (y1 - y0);
@@ -584,6 +718,9 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
         if (this.drawFaceOutlines != that.drawFaceOutlines) {
             return false;
         }
+        if (this.smoothShading != that.smoothShading) {
+            return false;
+        }
         return super.equals(obj);
     }
 }
@@ -67,6 +67,12 @@ public class ChartStyler implements ChartElementVisitor {
     /** The chart style. */
     private ChartStyle style;
     
+    /** 
+     * A flag that is set when a property that is part of the 3D model of the
+     * chart (such as the series colors) has been styled.
+     */
+    private boolean worldStyled;
+    
     /**
      * Creates a new instance.
      * 
@@ -74,6 +80,22 @@ public class ChartStyler implements ChartElementVisitor {
      */
     public ChartStyler(ChartStyle style) {
         this.style = style;
+        this.worldStyled = false;
+    }
+    
+    /**
+     * Returns {@code true} if this styler has modified a property that is 
+     * part of the 3D model of the chart (the series colors used by 
+     * renderers and pie plots), in which case the chart must rebuild its 
+     * model before it is next drawn.  Other properties (fonts, gridlines, 
+     * markers, titles and backgrounds) are applied when the chart is drawn.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    public boolean requiresWorldUpdate() {
+        return this.worldStyled;
     }
 
     /**
@@ -149,6 +171,7 @@ public class ChartStyler implements ChartElementVisitor {
                     this.style.getSectionLabelColor());
             p.getSectionColorSource().style(
                     this.style.getStandardColors());
+            this.worldStyled = true;
         }
         if (plot instanceof CategoryPlot3D) {
             CategoryPlot3D p = (CategoryPlot3D) plot;
@@ -208,6 +231,7 @@ public class ChartStyler implements ChartElementVisitor {
     }
     
     protected void styleRenderer(Renderer3D renderer) {
+        this.worldStyled = true;
         if (renderer instanceof CategoryRenderer3D) {
             styleCategoryRenderer3D((CategoryRenderer3D) renderer);
         }
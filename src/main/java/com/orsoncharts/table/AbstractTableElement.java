@@ -35,11 +35,13 @@ package com.orsoncharts.table;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Insets;
+import java.awt.font.FontRenderContext;
 import java.awt.geom.Dimension2D;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.util.ObjectUtils;
@@ -74,6 +76,18 @@ public abstract class AbstractTableElement implements Serializable {
     /** Stores properties for the element. */
     private HashMap<String, Object> properties;
     
+    /** 
+     * A counter that is incremented whenever an attribute that affects the
+     * size of any table element changes (see {@link #invalidateLayout()}).
+     */
+    private static final AtomicLong LAYOUT_VERSION = new AtomicLong();
+    
+    /** The most recent size measured by {@link #measure}. */
+    private transient MeasuredSize lastSize;
+    
+    /** The size measured before {@code lastSize}. */
+    private transient MeasuredSize previousSize;
+    
     /**
      * Creates a new instance.
      */
@@ -128,6 +142,7 @@ public abstract class AbstractTableElement implements Serializable {
     public void setInsets(Insets insets) {
         ArgChecks.nullNotPermitted(insets, "insets");
         this.insets = insets;
+        invalidateLayout();
     }
 
     /**
@@ -239,6 +254,114 @@ public abstract class AbstractTableElement implements Serializable {
     public abstract Dimension2D preferredSize(Graphics2D g2, Rectangle2D bounds, 
             Map<String, Object> constraints);
     
+    /**
+     * Returns {@code true} if the preferred size of this element can be 
+     * reused by {@link #measure} until {@link #invalidateLayout()} is 
+     * called, and {@code false} otherwise.  The default implementation 
+     * returns {@code false}; subclasses that return {@code true} must call 
+     * {@link #invalidateLayout()} whenever an attribute that affects their 
+     * size changes.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    protected boolean isPreferredSizeCacheable() {
+        return false;
+    }
+    
+    /**
+     * Returns {@code true} if the preferred size of the specified element 
+     * can be reused by {@link #measure}, and {@code false} otherwise.
+     * Container elements can use this to check their sub-elements.
+     * 
+     * @param element  the element ({@code null} not permitted).
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    protected static boolean isCacheable(TableElement element) {
+        return element instanceof AbstractTableElement 
+                && ((AbstractTableElement) element).isPreferredSizeCacheable();
+    }
+    
+    /**
+     * Signals that an attribute affecting the size of a table element has
+     * changed, so that sizes measured earlier by {@link #measure} are not 
+     * reused.  Since a change to one element also changes the size of the
+     * elements that contain it, this discards all measured sizes.
+     * 
+     * @since 1.8
+     */
+    protected static void invalidateLayout() {
+        LAYOUT_VERSION.incrementAndGet();
+    }
+    
+    /**
+     * Returns a value that changes whenever an attribute affecting the size
+     * of the specified element (or of any other table element) changes, so
+     * that callers can tell whether a layout calculated earlier for the 
+     * element is still valid.  If the size of the element cannot be cached
+     * (see {@link #isPreferredSizeCacheable()}), this method returns 
+     * {@code -1} and any earlier layout should be discarded.
+     * 
+     * @param element  the element ({@code null} not permitted).
+     * 
+     * @return The layout version, or {@code -1}.
+     * 
+     * @since 1.8
+     */
+    public static long getLayoutVersion(TableElement element) {
+        ArgChecks.nullNotPermitted(element, "element");
+        if (!isCacheable(element)) {
+            return -1L;
+        }
+        return LAYOUT_VERSION.get();
+    }
+    
+    /**
+     * Returns the preferred size of an element.  Container elements use 
+     * this method to measure their sub-elements, so that each sub-element 
+     * is measured once for a given graphics context, bounds and constraints
+     * rather than once for each of the {@code preferredSize()}, 
+     * {@code layoutElements()} and {@code draw()} calls on the container.
+     * The last two sizes measured for each element are kept.
+     * 
+     * @param element  the element ({@code null} not permitted).
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param bounds  the bounds ({@code null} not permitted).
+     * @param constraints  the constraints ({@code null} permitted).
+     * 
+     * @return The preferred size (never {@code null}).
+     * 
+     * @since 1.8
+     */
+    protected static Dimension2D measure(TableElement element, Graphics2D g2, 
+            Rectangle2D bounds, Map<String, Object> constraints) {
+        if (!isCacheable(element)) {
+            return element.preferredSize(g2, bounds, constraints);
+        }
+        AbstractTableElement ate = (AbstractTableElement) element;
+        long version = LAYOUT_VERSION.get();
+        FontRenderContext frc = g2.getFontRenderContext();
+        MeasuredSize size = ate.lastSize;
+        if (size == null || !size.isValidFor(version, frc, bounds, 
+                constraints)) {
+            MeasuredSize previous = ate.previousSize;
+            if (previous != null && previous.isValidFor(version, frc, bounds, 
+                    constraints)) {
+                size = previous;
+            } else {
+                size = new MeasuredSize(version, frc, bounds, constraints, 
+                        element.preferredSize(g2, bounds, constraints));
+            }
+            ate.previousSize = ate.lastSize;
+            ate.lastSize = size;
+        }
+        return new ElementDimension(size.width, size.height);
+    }
+    
     /**
      * Tests this instance for equality with an arbitrary object.
      * 
@@ -264,4 +387,47 @@ public abstract class AbstractTableElement implements Serializable {
         return true;
     }
    
+    /**
+     * A preferred size measured for a given layout version, font render
+     * context, bounds and constraints.
+     */
+    private static final class MeasuredSize {
+        
+        /** The layout version. */
+        private final long version;
+        
+        /** The font render context. */
+        private final FontRenderContext frc;
+        
+        /** The bounds (a copy). */
+        private final Rectangle2D bounds;
+        
+        /** The constraints (possibly {@code null}). */
+        private final Map<String, Object> constraints;
+        
+        /** The preferred width. */
+        private final double width;
+        
+        /** The preferred height. */
+        private final double height;
+        
+        MeasuredSize(long version, FontRenderContext frc, Rectangle2D bounds, 
+                Map<String, Object> constraints, Dimension2D size) {
+            this.version = version;
+            this.frc = frc;
+            this.bounds = bounds.getFrame();
+            this.constraints = constraints == null ? null 
+                    : new HashMap<String, Object>(constraints);
+            this.width = size.getWidth();
+            this.height = size.getHeight();
+        }
+        
+        boolean isValidFor(long version, FontRenderContext frc, 
+                Rectangle2D bounds, Map<String, Object> constraints) {
+            return this.version == version && this.frc.equals(frc) 
+                    && this.bounds.equals(bounds) 
+                    && ObjectUtils.equals(this.constraints, constraints);
+        }
+    }
+   
 }
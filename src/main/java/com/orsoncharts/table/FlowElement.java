@@ -110,6 +110,7 @@ public class FlowElement extends AbstractTableElement
      */
     public void setHGap(int gap) {
         this.hgap = gap;
+        invalidateLayout();
     }
     
     /**
@@ -155,6 +156,7 @@ public class FlowElement extends AbstractTableElement
     public void addElement(TableElement element) {
         ArgChecks.nullNotPermitted(element, "element");
         this.elements.add(element);
+        invalidateLayout();
     }
 
     /**
@@ -189,7 +191,7 @@ public class FlowElement extends AbstractTableElement
         double w = getInsets().left + getInsets().right;
         while (index < this.elements.size() && !full) {
             TableElement element = this.elements.get(index);
-            Dimension2D dim = element.preferredSize(g2, bounds);
+            Dimension2D dim = measure(element, g2, bounds, null);
             if (w + dim.getWidth() <= bounds.getWidth() || index == first) {
                 result.add(new ElementInfo(element, dim));
                 w += dim.getWidth() + this.hgap;
@@ -237,6 +239,24 @@ public class FlowElement extends AbstractTableElement
         return result;
     }
     
+    /**
+     * Returns {@code true} if the preferred sizes of all the sub-elements 
+     * can be reused, and {@code false} otherwise.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    @Override
+    protected boolean isPreferredSizeCacheable() {
+        for (TableElement element : this.elements) {
+            if (!isCacheable(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     /**
      * Returns the preferred size of the element (including insets).
      * 
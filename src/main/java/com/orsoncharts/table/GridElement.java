@@ -80,6 +80,7 @@ public class GridElement<R extends Comparable<R>, C extends Comparable<C>>
     public void setElement(TableElement element, R rowKey, C columnKey) {
         // defer argument checking
         this.elements.setValue(element, rowKey, columnKey);
+        invalidateLayout();
     }
     
     /**
@@ -124,7 +125,7 @@ public class GridElement<R extends Comparable<R>, C extends Comparable<C>>
                 if (element == null) {
                     continue;
                 }
-                Dimension2D dim = element.preferredSize(g2, bounds);
+                Dimension2D dim = measure(element, g2, bounds, null);
                 widths[c] = Math.max(widths[c], dim.getWidth());
                 heights[r] = Math.max(heights[r], dim.getHeight());
             }
@@ -133,6 +134,27 @@ public class GridElement<R extends Comparable<R>, C extends Comparable<C>>
     }
     
 
+    /**
+     * Returns {@code true} if the preferred sizes of all the sub-elements 
+     * can be reused, and {@code false} otherwise.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    @Override
+    protected boolean isPreferredSizeCacheable() {
+        for (int r = 0; r < this.elements.getRowCount(); r++) {
+            for (int c = 0; c < this.elements.getColumnCount(); c++) {
+                TableElement element = this.elements.getValue(r, c);
+                if (element != null && !isCacheable(element)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
     /**
      * Returns the preferred size of the element (including insets).
      * 
@@ -183,8 +205,6 @@ public class GridElement<R extends Comparable<R>, C extends Comparable<C>>
             double x = bounds.getX() + getInsets().left;
             for (int c = 0; c < this.elements.getColumnCount(); c++) {
                 Rectangle2D cellBounds = new Rectangle2D.Double(x, y, widths[c], heights[r]);
-                TableElement element = this.elements.getValue(r, c);
-                element.layoutElements(g2, cellBounds, null);
                 result.add(cellBounds);
                 x += widths[c];
             }
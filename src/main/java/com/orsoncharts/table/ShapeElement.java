@@ -101,6 +101,19 @@ public class ShapeElement extends AbstractTableElement
         this.fillColor = color;
     }
     
+    /**
+     * Returns {@code true}, since the preferred size of this element only 
+     * changes when one of its attributes is changed.
+     * 
+     * @return {@code true}.
+     * 
+     * @since 1.8
+     */
+    @Override
+    protected boolean isPreferredSizeCacheable() {
+        return true;
+    }
+    
     @Override
     public Dimension2D preferredSize(Graphics2D g2, Rectangle2D bounds, 
             Map<String, Object> constraints) {
@@ -121,6 +121,7 @@ public class TextElement extends AbstractTableElement
     public void setFont(Font font) {
         ArgChecks.nullNotPermitted(font, "font");
         this.font = font;
+        invalidateLayout();
     }
     
     public Color getColor() {
@@ -152,6 +153,19 @@ public class TextElement extends AbstractTableElement
         this.alignment = align;
     }
 
+    /**
+     * Returns {@code true}, since the preferred size of this element only 
+     * changes when one of its attributes is changed.
+     * 
+     * @return {@code true}.
+     * 
+     * @since 1.8
+     */
+    @Override
+    protected boolean isPreferredSizeCacheable() {
+        return true;
+    }
+    
     /**
      * Returns the preferred size of the element (including insets).
      * 
@@ -166,7 +180,7 @@ public class TextElement extends AbstractTableElement
             Map<String, Object> constraints) {
         g2.setFont(this.font);
         Rectangle2D textBounds = TextUtils.getTextBounds(this.text, 
-                g2.getFontMetrics(this.font));
+                this.font, g2);
         Insets insets = getInsets();
         double w = Math.min(textBounds.getWidth() + insets.left + insets.right, 
                 bounds.getWidth());
@@ -191,7 +205,7 @@ public class TextElement extends AbstractTableElement
             Map<String, Object> constraints) {
         g2.setFont(this.font);
         Rectangle2D textBounds = TextUtils.getTextBounds(this.text, 
-                g2.getFontMetrics(this.font));
+                this.font, g2);
         Insets insets = getInsets();
         double width = textBounds.getWidth() + insets.left + insets.right;
         double x = bounds.getX();
@@ -128,6 +128,7 @@ public class VerticalFlowElement extends AbstractTableElement
      */
     public void setVGap(int vgap) {
         this.vgap = vgap;
+        invalidateLayout();
     }
     
     /**
@@ -149,6 +150,7 @@ public class VerticalFlowElement extends AbstractTableElement
     public void addElement(TableElement element) {
         ArgChecks.nullNotPermitted(element, "element");
         this.elements.add(element);
+        invalidateLayout();
     }
 
     /**
@@ -166,6 +168,24 @@ public class VerticalFlowElement extends AbstractTableElement
         }
     }
 
+    /**
+     * Returns {@code true} if the preferred sizes of all the sub-elements 
+     * can be reused, and {@code false} otherwise.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.8
+     */
+    @Override
+    protected boolean isPreferredSizeCacheable() {
+        for (TableElement element : this.elements) {
+            if (!isCacheable(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     /**
      * Returns the preferred size for the element.
      * 
@@ -215,7 +235,7 @@ public class VerticalFlowElement extends AbstractTableElement
         double h = getInsets().top + getInsets().bottom;
         while (index < this.elements.size() && !full) {
             TableElement element = this.elements.get(index);
-            Dimension2D dim = element.preferredSize(g2, bounds);
+            Dimension2D dim = measure(element, g2, bounds, null);
             if (h + dim.getHeight() <= bounds.getHeight() || index == first) {
                 result.add(new ElementInfo(element, dim));
                 h += dim.getHeight() + this.vgap;
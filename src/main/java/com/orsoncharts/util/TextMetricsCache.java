@@ -0,0 +1,205 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.util;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded least-recently-used cache of text measurements, keyed by font, 
+ * font render context and string.  Tick labels, item labels, legend items
+ * and titles are mostly the same from one frame to the next, so 
+ * {@link TextUtils} looks up the measurements here rather than querying 
+ * the font metrics each time.  The cache is safe for use by multiple 
+ * threads.
+ */
+final class TextMetricsCache {
+    
+    /** The default maximum number of entries. */
+    static final int DEFAULT_MAX_ENTRIES = 4096;
+    
+    /** The maximum number of entries. */
+    private final int maxEntries;
+    
+    /** The measurements, in access order. */
+    private final Map<Key, TextMetrics> entries;
+    
+    /**
+     * Creates a new cache.
+     * 
+     * @param maxEntries  the maximum number of entries (must be positive).
+     */
+    @SuppressWarnings("serial")
+    TextMetricsCache(int maxEntries) {
+        ArgChecks.positiveRequired(maxEntries, "maxEntries");
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<Key, TextMetrics>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<Key, TextMetrics> eldest) {
+                return size() > TextMetricsCache.this.maxEntries;
+            }
+        };
+    }
+    
+    /**
+     * Returns the measurements for {@code text} drawn in {@code font} on 
+     * the graphics target, measuring the text if it is not already in the 
+     * cache.
+     * 
+     * @param text  the text ({@code null} not permitted).
+     * @param font  the font ({@code null} not permitted).
+     * @param g2  the graphics target ({@code null} not permitted).
+     * 
+     * @return The measurements (never {@code null}). 
+     */
+    TextMetrics get(String text, Font font, Graphics2D g2) {
+        FontRenderContext frc = g2.getFontRenderContext();
+        Key key = new Key(text, font, frc);
+        TextMetrics result;
+        synchronized (this) {
+            result = this.entries.get(key);
+        }
+        if (result == null) {
+            FontMetrics fm = g2.getFontMetrics(font);
+            LineMetrics lm = font.getLineMetrics(text, frc);
+            result = new TextMetrics(fm.stringWidth(text), fm.getHeight(), 
+                    fm.getAscent(), lm.getAscent(), lm.getDescent(), 
+                    lm.getLeading());
+            synchronized (this) {
+                this.entries.put(key, result);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the number of entries in the cache.
+     * 
+     * @return The number of entries. 
+     */
+    synchronized int size() {
+        return this.entries.size();
+    }
+    
+    /**
+     * Removes all entries from the cache.
+     */
+    synchronized void clear() {
+        this.entries.clear();
+    }
+    
+    /**
+     * The measurements for a string.  Instances are immutable.
+     */
+    static final class TextMetrics {
+        
+        /** The advance width from the font metrics. */
+        final double width;
+        
+        /** The line height from the font metrics. */
+        final double height;
+        
+        /** The ascent from the font metrics. */
+        final double fontAscent;
+        
+        /** The ascent from the line metrics. */
+        final float ascent;
+        
+        /** The descent from the line metrics. */
+        final float descent;
+        
+        /** The leading from the line metrics. */
+        final float leading;
+        
+        TextMetrics(double width, double height, double fontAscent, 
+                float ascent, float descent, float leading) {
+            this.width = width;
+            this.height = height;
+            this.fontAscent = fontAscent;
+            this.ascent = ascent;
+            this.descent = descent;
+            this.leading = leading;
+        }
+    }
+    
+    /**
+     * The cache key.
+     */
+    private static final class Key {
+        
+        private final String text;
+        
+        private final Font font;
+        
+        private final FontRenderContext frc;
+        
+        private final int hash;
+        
+        Key(String text, Font font, FontRenderContext frc) {
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            int h = text.hashCode();
+            h = 31 * h + font.hashCode();
+            h = 31 * h + frc.hashCode();
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.hash == that.hash && this.text.equals(that.text) 
+                    && this.font.equals(that.font) 
+                    && this.frc.equals(that.frc);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+    
+}
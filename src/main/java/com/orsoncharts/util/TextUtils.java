@@ -36,8 +36,6 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Shape;
-import java.awt.font.FontRenderContext;
-import java.awt.font.LineMetrics;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
@@ -48,6 +46,10 @@ import java.text.AttributedString;
  */
 public class TextUtils {
 
+    /** Measurements for recently drawn strings. */
+    private static final TextMetricsCache METRICS_CACHE 
+            = new TextMetricsCache(TextMetricsCache.DEFAULT_MAX_ENTRIES);
+    
     private TextUtils() {
         // no need to instantiate this
     }
@@ -121,15 +123,13 @@ public class TextUtils {
             String text, TextAnchor anchor) {
 
         float[] result = new float[2];
-        FontRenderContext frc = g2.getFontRenderContext();
-        Font f = g2.getFont();
-        FontMetrics fm = g2.getFontMetrics(f);
-        Rectangle2D bounds = getTextBounds(text, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
-        float ascent = metrics.getAscent();
+        TextMetricsCache.TextMetrics metrics = METRICS_CACHE.get(text, 
+                g2.getFont(), g2);
+        Rectangle2D bounds = boundsFor(metrics, 0.0, 0.0);
+        float ascent = metrics.ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = metrics.descent;
+        float leading = metrics.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
@@ -148,7 +148,7 @@ public class TextUtils {
         } else if (anchor.isBaseline()) {
             yAdj = 0.0f;
         } else if (anchor.isBottom()) {
-            yAdj = -metrics.getDescent() - metrics.getLeading();
+            yAdj = -metrics.descent - metrics.leading;
         }
         result[0] = xAdj;
         result[1] = yAdj;
@@ -175,16 +175,14 @@ public class TextUtils {
             String text, TextAnchor anchor, Rectangle2D textBounds) {
 
         float[] result = new float[3];
-        FontRenderContext frc = g2.getFontRenderContext();
-        Font f = g2.getFont();
-        FontMetrics fm = g2.getFontMetrics(f);
-        Rectangle2D bounds = getTextBounds(text, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
-        float ascent = metrics.getAscent();
+        TextMetricsCache.TextMetrics metrics = METRICS_CACHE.get(text, 
+                g2.getFont(), g2);
+        Rectangle2D bounds = boundsFor(metrics, 0.0, 0.0);
+        float ascent = metrics.ascent;
         result[2] = -ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = metrics.descent;
+        float leading = metrics.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
@@ -203,7 +201,7 @@ public class TextUtils {
         } else if (anchor.isBaseline()) {
             yAdj = 0.0f;
         } else if (anchor.isBottom()) {
-            yAdj = -metrics.getDescent() - metrics.getLeading();
+            yAdj = -metrics.descent - metrics.leading;
         }
         if (textBounds != null) {
             textBounds.setRect(bounds);
@@ -247,6 +245,75 @@ public class TextUtils {
         return new Rectangle2D.Double(x, y - fm.getAscent(), width, height);
     }
     
+    /**
+     * Returns the bounds for the specified text when it is drawn in the 
+     * current font of the graphics target with the left-baseline aligned to
+     * the point {@code (0, 0)}.  This gives the same result as 
+     * {@link #getTextBounds(String, FontMetrics)}, but the measurements are 
+     * cached (by font, font render context and text) so that labels that 
+     * are drawn on every frame are only measured once.
+     * 
+     * @param text  the text ({@code null} not permitted).
+     * @param g2  the graphics target ({@code null} not permitted).
+     * 
+     * @return The text bounds (never {@code null}).
+     * 
+     * @since 1.8
+     */
+    public static Rectangle2D getTextBounds(String text, Graphics2D g2) {
+        ArgChecks.nullNotPermitted(g2, "g2");
+        return getTextBounds(text, g2.getFont(), g2);
+    }
+    
+    /**
+     * Returns the bounds for the specified text when it is drawn in the 
+     * specified font with the left-baseline aligned to the point 
+     * {@code (0, 0)}.  The measurements are cached, as for 
+     * {@link #getTextBounds(String, Graphics2D)}.
+     * 
+     * @param text  the text ({@code null} not permitted).
+     * @param font  the font ({@code null} not permitted).
+     * @param g2  the graphics target ({@code null} not permitted).
+     * 
+     * @return The text bounds (never {@code null}).
+     * 
+     * @since 1.8
+     */
+    public static Rectangle2D getTextBounds(String text, Font font, 
+            Graphics2D g2) {
+        ArgChecks.nullNotPermitted(text, "text");
+        ArgChecks.nullNotPermitted(font, "font");
+        ArgChecks.nullNotPermitted(g2, "g2");
+        return boundsFor(METRICS_CACHE.get(text, font, g2), 0.0, 0.0);
+    }
+    
+    /**
+     * Clears the cache of text measurements used by this class.  The cache 
+     * is bounded, so there is normally no need to call this method.
+     * 
+     * @since 1.8
+     */
+    public static void clearTextMetricsCache() {
+        METRICS_CACHE.clear();
+    }
+    
+    /**
+     * Returns the text bounds for the measurements with the left-baseline
+     * at {@code (x, y)} (matching {@link #getTextBounds(String, double, 
+     * double, FontMetrics)}).
+     * 
+     * @param metrics  the text measurements.
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     * 
+     * @return The bounds. 
+     */
+    private static Rectangle2D boundsFor(TextMetricsCache.TextMetrics metrics,
+            double x, double y) {
+        return new Rectangle2D.Double(x, y - metrics.fontAscent, 
+                metrics.width, metrics.height);
+    }
+    
     /**
      * Draws a string that is aligned by one anchor point and rotated about
      * another anchor point.
@@ -298,6 +365,77 @@ public class TextUtils {
                 y + textAdj[1] + rotateAdj[1]);
     }
 
+    /**
+     * Returns the bounds of a string that is aligned by one anchor point and
+     * rotated about another anchor point, without drawing it.  The result is
+     * the same shape that {@link #drawRotatedString(String, Graphics2D, 
+     * float, float, TextAnchor, double, TextAnchor)} returns.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param x  the x-coordinate for positioning the text.
+     * @param y  the y-coordinate for positioning the text.
+     * @param textAnchor  the text anchor ({@code null} not permitted).
+     * @param angle  the rotation angle (in radians).
+     * @param rotationAnchor  the rotation anchor ({@code null} not permitted).
+     * 
+     * @return A bounding shape for the text.
+     * 
+     * @since 1.8
+     */
+    public static Shape calcRotatedStringBounds(String text, Graphics2D g2,
+            float x, float y, TextAnchor textAnchor, double angle, 
+            TextAnchor rotationAnchor) {
+        ArgChecks.nullNotPermitted(text, "text");
+        float[] textAdj = deriveTextBoundsAnchorOffsets(g2, text, textAnchor);
+        float[] rotateAdj = deriveRotationAnchorOffsets(g2, text,
+                rotationAnchor);
+        float textX = x + textAdj[0];
+        float textY = y + textAdj[1];
+        Rectangle2D rect = boundsFor(METRICS_CACHE.get(text, g2.getFont(), 
+                g2), textX, textY);
+        AffineTransform rotate = AffineTransform.getRotateInstance(angle, 
+                textX + rotateAdj[0], textY + rotateAdj[1]);
+        return rotate.createTransformedShape(rect);
+    }
+
+    /**
+     * Returns the bounds of an attributed string that is aligned by one 
+     * anchor point and rotated about another anchor point, without drawing
+     * it.
+     *
+     * @param text  the attributed string ({@code null} not permitted).
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param x  the x-coordinate for positioning the text.
+     * @param y  the y-coordinate for positioning the text.
+     * @param textAnchor  the text anchor ({@code null} not permitted).
+     * @param angle  the rotation angle (in radians).
+     * @param rotationAnchor  the rotation anchor ({@code null} not permitted).
+     * 
+     * @return A bounding shape for the text.
+     * 
+     * @since 1.8
+     */
+    public static Shape calcRotatedStringBounds(AttributedString text, 
+            Graphics2D g2, float x, float y, TextAnchor textAnchor, 
+            double angle, TextAnchor rotationAnchor) {
+        ArgChecks.nullNotPermitted(text, "text");
+        float[] textAdj = deriveTextBoundsAnchorOffsets(g2, text, textAnchor, 
+                null);
+        float[] rotateAdj = deriveRotationAnchorOffsets(g2, text, 
+                rotationAnchor);
+        float textX = x + textAdj[0];
+        float textY = y + textAdj[1];
+        TextLayout layout = new TextLayout(text.getIterator(), 
+                g2.getFontRenderContext());
+        Rectangle2D b = layout.getBounds();
+        Rectangle2D rect = new Rectangle2D.Double(textX + b.getX(), 
+                textY + b.getY(), b.getWidth(), b.getHeight());
+        AffineTransform rotate = AffineTransform.getRotateInstance(angle, 
+                textX + rotateAdj[0], textY + rotateAdj[1]);
+        return rotate.createTransformedShape(rect);
+    }
+
     /**
      * A utility method that calculates the rotation anchor offsets for a
      * string.  These offsets are relative to the text starting coordinate
@@ -313,14 +451,13 @@ public class TextUtils {
             String text, TextAnchor anchor) {
 
         float[] result = new float[2];
-        FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics metrics = g2.getFont().getLineMetrics(text, frc);
-        FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D bounds = TextUtils.getTextBounds(text, fm);
-        float ascent = metrics.getAscent();
+        TextMetricsCache.TextMetrics metrics = METRICS_CACHE.get(text, 
+                g2.getFont(), g2);
+        Rectangle2D bounds = boundsFor(metrics, 0.0, 0.0);
+        float ascent = metrics.ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = metrics.descent;
+        float leading = metrics.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
@@ -341,7 +478,7 @@ public class TextUtils {
         } else if (anchor.isBaseline()) {
             yAdj = 0.0f;
         } else if (anchor.isBottom()) {
-            yAdj = metrics.getDescent() + metrics.getLeading();
+            yAdj = metrics.descent + metrics.leading;
         }
         result[0] = xAdj;
         result[1] = yAdj;
@@ -388,8 +525,8 @@ public class TextUtils {
             float rotateX, float rotateY) {
         ArgChecks.nullNotPermitted(text, "text");
         AffineTransform saved = g2.getTransform();
-        Rectangle2D rect = TextUtils.getTextBounds(text, textX, textY, 
-                g2.getFontMetrics());
+        Rectangle2D rect = boundsFor(METRICS_CACHE.get(text, g2.getFont(), 
+                g2), textX, textY);
         AffineTransform rotate = AffineTransform.getRotateInstance(
                 angle, rotateX, rotateY);
         Shape bounds = rotate.createTransformedShape(rect);
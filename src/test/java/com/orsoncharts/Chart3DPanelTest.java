@@ -0,0 +1,180 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+package com.orsoncharts;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.SwingUtilities;
+import org.junit.Test;
+import com.orsoncharts.data.StandardPieDataset3D;
+
+/**
+ * Tests for the {@link Chart3DPanel} class.
+ */
+public class Chart3DPanelTest {
+
+    /** The maximum time (in milliseconds) to wait for a repaint. */
+    private static final long TIMEOUT = 5000L;
+
+    /**
+     * A panel that counts the repaints requested via {@code repaint()}.
+     */
+    static class CountingPanel extends Chart3DPanel {
+
+        /** The number of repaints requested. */
+        final AtomicInteger repaints = new AtomicInteger();
+
+        CountingPanel(Chart3D chart) {
+            super(chart);
+        }
+
+        @Override
+        public void repaint() {
+            // the superclass constructor repaints before the field is set
+            if (this.repaints != null) {
+                this.repaints.incrementAndGet();
+            }
+            super.repaint();
+        }
+    }
+
+    /**
+     * With no maximum repaint rate (the default), each change event
+     * repaints the panel straight away.
+     */
+    @Test
+    public void testRepaintWithoutRateLimit() {
+        CountingPanel panel = new CountingPanel(createChart());
+        assertEquals(0, panel.getMaxRepaintRate());
+        panel.repaints.set(0);
+        panel.chartChanged(new Chart3DChangeEvent(panel.getChart()));
+        assertEquals(1, panel.repaints.get());
+        panel.chartChanged(new Chart3DChangeEvent(panel.getChart()));
+        assertEquals(2, panel.repaints.get());
+    }
+
+    /**
+     * A burst of change events is coalesced into a single repaint, and the
+     * next burst is repainted no sooner than the rate allows.
+     */
+    @Test
+    public void testBurstIsCoalesced() throws Exception {
+        final CountingPanel panel = new CountingPanel(createChart());
+        panel.setMaxRepaintRate(2);
+        panel.repaints.set(0);
+        fireBurstOnEventThread(panel, 100);
+        waitForRepaints(panel, 1);
+
+        // the repaint for the second burst waits for the rest of the
+        // 500ms interval
+        fireBurstOnEventThread(panel, 100);
+        Thread.sleep(100L);
+        assertEquals(1, panel.repaints.get());
+        waitForRepaints(panel, 2);
+        Thread.sleep(600L);
+        assertEquals(2, panel.repaints.get());
+    }
+
+    /**
+     * A negative maximum repaint rate is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeRepaintRate() {
+        CountingPanel panel = new CountingPanel(createChart());
+        panel.setMaxRepaintRate(-1);
+    }
+
+    /**
+     * The coalesced repaints still work after the panel has been
+     * serialized and deserialized.
+     */
+    @Test
+    public void testRepaintAfterDeserialization() throws Exception {
+        CountingPanel p1 = new CountingPanel(createChart());
+        p1.setMaxRepaintRate(10);
+        final CountingPanel p2 = (CountingPanel) TestUtils.serialized(p1);
+        assertEquals(10, p2.getMaxRepaintRate());
+        p2.repaints.set(0);
+        fireBurstOnEventThread(p2, 10);
+        waitForRepaints(p2, 1);
+
+        // a change to the deserialized chart reaches the panel
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                p2.getChart().setTitle("New title");
+            }
+        });
+        waitForRepaints(p2, 2);
+    }
+
+    /**
+     * Sends change events to the panel on the event dispatch thread, where
+     * the repaint timer cannot fire until all the events have been sent.
+     */
+    private void fireBurstOnEventThread(final Chart3DPanel panel,
+            final int count) throws Exception {
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < count; i++) {
+                    panel.chartChanged(new Chart3DChangeEvent(
+                            panel.getChart()));
+                }
+            }
+        });
+    }
+
+    /**
+     * Waits until the panel has requested the given number of repaints, and
+     * checks that it has not requested more.
+     */
+    private void waitForRepaints(CountingPanel panel, int expected)
+            throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (panel.repaints.get() < expected
+                && System.currentTimeMillis() < end) {
+            Thread.sleep(10L);
+        }
+        assertEquals(expected, panel.repaints.get());
+    }
+
+    private Chart3D createChart() {
+        StandardPieDataset3D<String> dataset
+                = new StandardPieDataset3D<String>();
+        dataset.add("A", 1.0);
+        dataset.add("B", 2.0);
+        return Chart3DFactory.createPieChart("title", "subtitle", dataset);
+    }
+
+}
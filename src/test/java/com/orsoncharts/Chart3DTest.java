@@ -32,14 +32,32 @@
 
 package com.orsoncharts;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.Rectangle;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import com.orsoncharts.axis.NumberAxis3D;
+import com.orsoncharts.axis.TickSelectionSupport;
+import com.orsoncharts.axis.ValueAxis3D;
 import com.orsoncharts.data.StandardPieDataset3D;
 import com.orsoncharts.data.PieDataset3D;
 import com.orsoncharts.data.category.CategoryDataset3D;
@@ -48,17 +66,45 @@ import com.orsoncharts.data.DefaultKeyedValues;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.data.xyz.XYZSeriesCollection;
+import com.orsoncharts.data.function.Function3D;
+import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.Face;
+import com.orsoncharts.graphics3d.FaceRasterizer;
+import com.orsoncharts.graphics3d.LabelFace;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.Point3D;
+import com.orsoncharts.graphics3d.RenderPhase;
+import com.orsoncharts.graphics3d.RenderStats;
+import com.orsoncharts.graphics3d.RenderingInfo;
+import com.orsoncharts.graphics3d.ViewPoint3D;
+import com.orsoncharts.graphics3d.World;
+import com.orsoncharts.label.StandardCategoryItemLabelGenerator;
 import com.orsoncharts.legend.LegendAnchor;
+import com.orsoncharts.legend.LegendBuilder;
 import com.orsoncharts.legend.StandardLegendBuilder;
+import com.orsoncharts.plot.CategoryPlot3D;
+import com.orsoncharts.plot.PiePlot3D;
+import com.orsoncharts.plot.Plot3D;
+import com.orsoncharts.plot.XYZPlot;
+import com.orsoncharts.renderer.category.BarRenderer3D;
+import com.orsoncharts.renderer.xyz.SurfaceRenderer;
 import com.orsoncharts.style.ChartStyles;
+import com.orsoncharts.style.StandardChartStyle;
+import com.orsoncharts.style.ChartStyle;
 import com.orsoncharts.util.Orientation;
+import com.orsoncharts.util.Anchor2D;
 import com.orsoncharts.table.StandardRectanglePainter;
+import com.orsoncharts.table.TableElement;
+import com.orsoncharts.table.TextElement;
 
 /**
  * Tests for the {@link Chart3D} class.
  */
 public class Chart3DTest {
  
+    /** Tolerance for comparing normals. */
+    private static final double EPSILON = 0.0000001;
+    
     /**
      * Checks for the equals() method.
      */
@@ -138,6 +184,18 @@ public class Chart3DTest {
         assertFalse(c1.equals(c2));
         c2.setStyle(ChartStyles.createIceCubeStyle());
         assertTrue(c1.equals(c2));
+        
+        // label overlap culling
+        c1.setLabelOverlapCulling(true);
+        assertFalse(c1.equals(c2));
+        c2.setLabelOverlapCulling(true);
+        assertTrue(c1.equals(c2));
+        
+        // min face area
+        c1.setMinFaceArea(2.5);
+        assertFalse(c1.equals(c2));
+        c2.setMinFaceArea(2.5);
+        assertTrue(c1.equals(c2));
     }
     
     /**
@@ -243,6 +301,548 @@ public class Chart3DTest {
         
     }
 
+    /**
+     * Drawing a chart records timings and counts in the rendering info.
+     */
+    @Test
+    public void testDrawRecordsRenderStats() {
+        Chart3D chart = Chart3DFactory.createBarChart("title", "subtitle",
+                createCategoryDataset(), "rowAxis", "columnAxis", "valueAxis");
+        RenderingInfo info = draw(chart, 400, 300, 1.0);
+        RenderStats stats = info.getRenderStats();
+        assertNotNull(stats);
+        assertTrue(stats.getFacesDrawn() > 0);
+        assertTrue(stats.getFacesCulled() > 0);
+        assertEquals(info.getProjectedPoints().length, stats.getVertexCount());
+        assertTrue(stats.getLabelCount() > 0);
+        long sum = 0L;
+        for (RenderPhase phase : RenderPhase.values()) {
+            assertTrue(stats.getPhaseNanos(phase) >= 0L);
+            sum += stats.getPhaseNanos(phase);
+        }
+        assertTrue(stats.getTotalNanos() >= sum);
+    }
+
+    /**
+     * A value axis that does not implement {@link TickSelectionSupport} is
+     * still drawn, using the tick size from {@code selectTick()}.
+     */
+    @Test
+    public void testValueAxisWithoutTickSelectionSupport() {
+        final NumberAxis3D delegate = new NumberAxis3D("Value");
+        final List<String> calls = new ArrayList<String>();
+        ValueAxis3D axis = (ValueAxis3D) Proxy.newProxyInstance(
+                ValueAxis3D.class.getClassLoader(), 
+                new Class<?>[] { ValueAxis3D.class }, 
+                new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) 
+                    throws Throwable {
+                calls.add(method.getName());
+                return method.invoke(delegate, args);
+            }
+        });
+        assertFalse(axis instanceof TickSelectionSupport);
+        Chart3D chart = Chart3DFactory.createBarChart("title", "subtitle",
+                createCategoryDataset(), "rowAxis", "columnAxis", "valueAxis");
+        CategoryPlot3D plot = (CategoryPlot3D) chart.getPlot();
+        plot.setValueAxis(axis);
+        drawToImage(chart, 300, 200);
+        assertTrue(calls.contains("selectTick"));
+        assertTrue(calls.contains("generateTickData"));
+    }
+
+    /**
+     * With label overlap culling switched on, a chart that is too small for
+     * its item labels draws fewer labels than without it.
+     */
+    @Test
+    public void testLabelOverlapCulling() {
+        Chart3D chart = createLabelledBarChart();
+        CategoryPlot3D plot = (CategoryPlot3D) chart.getPlot();
+        int all = draw(chart, 120, 90, 1.0).getRenderStats()
+                .getLabelCount();
+        chart.setLabelOverlapCulling(true);
+        ((NumberAxis3D) plot.getValueAxis()).setTickLabelOverlapCulling(true);
+        int culled = draw(chart, 120, 90, 1.0).getRenderStats()
+                .getLabelCount();
+        assertTrue(culled > 0);
+        assertTrue(culled < all);
+    }
+    
+    /**
+     * An item label that is hidden by overlap culling loses the bounds 
+     * recorded when it was drawn in an earlier frame, so that it is not 
+     * found by {@code RenderingInfo.fetchObjectAt()}.
+     */
+    @Test
+    public void testCulledLabelHasNoBounds() {
+        Chart3D chart = createLabelledBarChart();
+        List<Object3D> owners = new ArrayList<Object3D>();
+        for (Face f : draw(chart, 120, 90, 1.0).getFaces()) {
+            if (f instanceof LabelFace) {
+                assertNotNull(f.getOwner().getProperty("labelBounds"));
+                owners.add(f.getOwner());
+            }
+        }
+        assertFalse(owners.isEmpty());
+        
+        chart.setLabelOverlapCulling(true);
+        draw(chart, 120, 90, 1.0);
+        int hidden = 0;
+        for (Object3D owner : owners) {
+            if (owner.getProperty("labelBounds") == null) {
+                hidden++;
+            }
+        }
+        assertTrue(hidden > 0);
+        assertTrue(hidden < owners.size());
+    }
+    
+    /**
+     * The legend is built once and reused until something it depends on
+     * changes.
+     */
+    @Test
+    public void testLegendIsCachedBetweenFrames() {
+        final int[] count = new int[1];
+        Chart3D chart = Chart3DFactory.createBarChart("title", "subtitle",
+                createCategoryDataset(), "rowAxis", "columnAxis", "valueAxis");
+        final LegendBuilder builder = new StandardLegendBuilder();
+        chart.setLegendBuilder(new LegendBuilder() {
+            @Override
+            public TableElement createLegend(Plot3D plot, Anchor2D anchor, 
+                    Orientation orientation, ChartStyle style) {
+                count[0]++;
+                return builder.createLegend(plot, anchor, orientation, style);
+            }
+        });
+        drawToImage(chart, 400, 300);
+        chart.setViewPoint(ViewPoint3D.createAboveLeftViewPoint(40.0));
+        drawToImage(chart, 400, 300);
+        drawToImage(chart, 500, 300);
+        assertEquals(1, count[0]);
+        
+        chart.setLegendAnchor(LegendAnchor.TOP_LEFT);
+        drawToImage(chart, 400, 300);
+        assertEquals(2, count[0]);
+        
+        CategoryPlot3D plot = (CategoryPlot3D) chart.getPlot();
+        ((NumberAxis3D) plot.getValueAxis()).setLabel("New label");
+        drawToImage(chart, 400, 300);
+        assertEquals(3, count[0]);
+        
+        chart.setStyle(ChartStyles.createIceCubeStyle());
+        drawToImage(chart, 400, 300);
+        assertEquals(4, count[0]);
+    }
+    
+    /**
+     * Applying a chart style sends a single change event, however many 
+     * chart components it modifies.
+     */
+    @Test
+    public void testStyleChangeSendsOneEvent() {
+        final int[] count = new int[1];
+        Chart3D chart = Chart3DFactory.createBarChart("title", "subtitle",
+                createCategoryDataset(), "rowAxis", "columnAxis", "valueAxis");
+        chart.addChangeListener(new Chart3DChangeListener() {
+            @Override
+            public void chartChanged(Chart3DChangeEvent event) {
+                count[0]++;
+            }
+        });
+        StandardChartStyle style 
+                = (StandardChartStyle) ChartStyles.createIceCubeStyle();
+        chart.setStyle(style);
+        assertEquals(1, count[0]);
+        
+        style.setTitleFont(new Font(Font.SERIF, Font.BOLD, 20));
+        assertEquals(2, count[0]);
+        
+        // the chart still passes on other events once the style is applied
+        chart.setChartBoxColor(Color.RED);
+        assertEquals(3, count[0]);
+    }
+    
+    /**
+     * Changes made to the chart and its components during an update are
+     * reported with a single event when the outermost update ends.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdateSendsOneEvent() {
+        final int[] count = new int[1];
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = (StandardCategoryDataset3D<String, String, String>) 
+                createCategoryDataset();
+        Chart3D chart = Chart3DFactory.createBarChart("title", "subtitle",
+                dataset, "rowAxis", "columnAxis", "valueAxis");
+        chart.addChangeListener(new Chart3DChangeListener() {
+            @Override
+            public void chartChanged(Chart3DChangeEvent event) {
+                count[0]++;
+            }
+        });
+        CategoryPlot3D plot = (CategoryPlot3D) chart.getPlot();
+        BarRenderer3D renderer = (BarRenderer3D) plot.getRenderer();
+        
+        chart.beginUpdate();
+        chart.beginUpdate();
+        assertTrue(chart.isUpdating());
+        chart.setTitle("New Title");
+        plot.getRowAxis().setVisible(false);
+        ((NumberAxis3D) plot.getValueAxis()).setLabel("New Label");
+        renderer.setColors(Color.RED, Color.BLUE);
+        dataset.addValue(9.0, "S1", "R1", "C1");
+        chart.endUpdate();
+        assertTrue(chart.isUpdating());
+        assertEquals(0, count[0]);
+        chart.endUpdate();
+        assertFalse(chart.isUpdating());
+        assertEquals(1, count[0]);
+        
+        // an update without changes sends no event
+        chart.beginUpdate();
+        chart.endUpdate();
+        assertEquals(1, count[0]);
+        
+        // and events are passed on as usual afterwards
+        chart.setChartBoxColor(Color.RED);
+        assertEquals(2, count[0]);
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testEndUpdateWithoutBeginUpdate() {
+        Chart3D chart = Chart3DFactory.createPieChart("title", "subtitle", 
+                createPieDataset());
+        chart.endUpdate();
+    }
+    
+    /**
+     * Smooth shading changes the shade of a surface face but not its 
+     * geometric normal, and does not change the faces drawn.
+     */
+    @Test
+    public void testSurfaceSmoothShading() {
+        Chart3D chart = createSurfaceChart();
+        XYZPlot plot = (XYZPlot) chart.getPlot();
+        plot.getXAxis().setRange(-3.0, 3.0);
+        plot.getZAxis().setRange(-3.0, 3.0);
+        SurfaceRenderer renderer = (SurfaceRenderer) plot.getRenderer();
+        Dimension3D d = plot.getDimensions();
+        RenderingInfo info1 = draw(chart, 200, 150, 1.0);
+        World flat = new World();
+        plot.compose(flat, -d.getWidth() / 2, -d.getHeight() / 2, 
+                -d.getDepth() / 2);
+        
+        renderer.setSmoothShading(true);
+        RenderingInfo info2 = draw(chart, 200, 150, 1.0);
+        World smooth = new World();
+        plot.compose(smooth, -d.getWidth() / 2, -d.getHeight() / 2, 
+                -d.getDepth() / 2);
+        assertEquals(info1.getRenderStats().getFacesDrawn(), 
+                info2.getRenderStats().getFacesDrawn());
+        
+        // the first face of a cell near the middle of the surface
+        int index = flat.getObjects().size() / 2;
+        Object3D flatObj = flat.getObjects().get(index);
+        Object3D smoothObj = smooth.getObjects().get(index);
+        Face flatFace = flatObj.getFaces().get(0);
+        Face smoothFace = smoothObj.getFaces().get(0);
+        Point3D[] flatPts = new Point3D[flatObj.getVertexCount()];
+        Point3D[] smoothPts = new Point3D[smoothObj.getVertexCount()];
+        for (int v = 0; v < flatPts.length; v++) {
+            flatPts[v] = flatObj.getVertex(v);
+            smoothPts[v] = smoothObj.getVertex(v);
+        }
+        double[] geometric = flatFace.calculateNormal(flatPts);
+        assertArrayEquals(geometric, smoothFace.calculateNormal(smoothPts), 
+                EPSILON);
+        assertArrayEquals(geometric, flatFace.getNormal(), EPSILON);
+        
+        double[] n1 = flatFace.getNormal();
+        double[] n2 = smoothFace.getNormal();
+        double shade1 = chart.getLightingModel().createShader(flat, 
+                chart.getViewPoint()).calculateShade(n1[0], n1[1], n1[2]);
+        double shade2 = chart.getLightingModel().createShader(smooth, 
+                chart.getViewPoint()).calculateShade(n2[0], n2[1], n2[2]);
+        assertTrue(Math.abs(shade1 - shade2) > 0.001);
+    }
+    
+    /**
+     * With an adaptive segment count, a pie drawn at a large scale has more 
+     * faces than the same pie drawn at a small scale, and drawing the chart
+     * does not change the plot.
+     */
+    @Test
+    public void testAdaptivePieSegmentCount() {
+        Chart3D chart = Chart3DFactory.createPieChart("title", "subtitle", 
+                createPieDataset());
+        PiePlot3D plot = (PiePlot3D) chart.getPlot();
+        plot.setAdaptiveSegmentCount(true);
+        World before = new World();
+        plot.compose(before, 0.0, 0.0, 0.0);
+        
+        RenderStats small = draw(chart, 300, 200, 0.1).getRenderStats();
+        RenderStats large = draw(chart, 300, 200, 4.0).getRenderStats();
+        int smallCount = small.getFacesDrawn() + small.getFacesCulled();
+        int largeCount = large.getFacesDrawn() + large.getFacesCulled();
+        assertTrue(smallCount < largeCount);
+        RenderStats again = draw(chart, 300, 200, 0.1).getRenderStats();
+        assertEquals(smallCount, again.getFacesDrawn() 
+                + again.getFacesCulled());
+        
+        World after = new World();
+        plot.compose(after, 0.0, 0.0, 0.0);
+        assertEquals(before.getFaces().size(), after.getFaces().size());
+    }
+    
+    /**
+     * A dense surface drawn as a thumbnail has many faces smaller than a 
+     * pixel, and with a minimum face area set most of them are merged.
+     */
+    @Test
+    public void testMinFaceArea() {
+        Chart3D chart = createSurfaceChart();
+        XYZPlot plot = (XYZPlot) chart.getPlot();
+        SurfaceRenderer renderer = (SurfaceRenderer) plot.getRenderer();
+        renderer.setXSamples(120);
+        renderer.setZSamples(120);
+        RenderStats all = draw(chart, 120, 90, 1.0).getRenderStats();
+        assertEquals(0, all.getFacesMerged());
+        assertEquals(0, all.getFacesFilledAsPixels());
+        assertEquals(0L, all.getPhaseNanos(RenderPhase.DECIMATE));
+        
+        chart.setMinFaceArea(1.0);
+        assertEquals(1.0, chart.getMinFaceArea(), 0.0);
+        RenderStats decimated = draw(chart, 120, 90, 1.0).getRenderStats();
+        assertTrue(decimated.getFacesMerged() > 0);
+        assertTrue(decimated.getFacesFilledAsPixels() > 0);
+        assertTrue(decimated.getFacesFilledAsPixels() 
+                <= decimated.getFacesDrawn());
+        assertEquals(all.getFacesDrawn(), decimated.getFacesDrawn() 
+                + decimated.getFacesMerged());
+    }
+    
+    /**
+     * Drawing with a rasterizer fills the same faces as drawing via the
+     * {@code Graphics2D} target, and gives a similar image.
+     */
+    @Test
+    public void testFaceRasterizer() {
+        Chart3D chart = createSurfaceChart();
+        BufferedImage expected = new BufferedImage(200, 150, 
+                BufferedImage.TYPE_INT_RGB);
+        RenderStats stats1 = draw(chart, expected, 1.0).getRenderStats();
+        
+        FaceRasterizer rasterizer = new FaceRasterizer();
+        rasterizer.setSamplesPerPixel(4);
+        chart.setFaceRasterizer(rasterizer);
+        assertSame(rasterizer, chart.getFaceRasterizer());
+        BufferedImage actual = new BufferedImage(200, 150, 
+                BufferedImage.TYPE_INT_RGB);
+        RenderStats stats2 = draw(chart, actual, 1.0).getRenderStats();
+        assertEquals(stats1.getFacesDrawn(), stats2.getFacesDrawn());
+        int same = 0;
+        for (int x = 0; x < 200; x++) {
+            for (int y = 0; y < 150; y++) {
+                if (expected.getRGB(x, y) == actual.getRGB(x, y)) {
+                    same++;
+                }
+            }
+        }
+        assertTrue(same > 200 * 150 / 2);
+        assertTrue(same < 200 * 150);
+    }
+    
+    /**
+     * A change made directly to the chart's {@link StandardLegendBuilder} 
+     * after the chart has been drawn is shown the next time the chart is 
+     * drawn.
+     */
+    @Test
+    public void testLegendAfterInPlaceBuilderChange() {
+        Chart3D chart = Chart3DFactory.createBarChart(null, null,
+                createCategoryDataset(), "rowAxis", "columnAxis", "valueAxis");
+        BufferedImage before = drawToImage(chart, 300, 200);
+        ((StandardLegendBuilder) chart.getLegendBuilder()).setHeader(
+                "Legend header");
+        BufferedImage changed = drawToImage(chart, 300, 200);
+        
+        Chart3D fresh = Chart3DFactory.createBarChart(null, null,
+                createCategoryDataset(), "rowAxis", "columnAxis", "valueAxis");
+        ((StandardLegendBuilder) fresh.getLegendBuilder()).setHeader(
+                "Legend header");
+        BufferedImage expected = drawToImage(fresh, 300, 200);
+        int differences = 0;
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(expected.getRGB(x, y), changed.getRGB(x, y));
+                if (before.getRGB(x, y) != changed.getRGB(x, y)) {
+                    differences++;
+                }
+            }
+        }
+        assertTrue(differences > 0);
+    }
+    
+    /**
+     * The rasterizer is not used when the chart is drawn to a target that is
+     * not an image (SVG, PDF or a printer), and the faces are filled via 
+     * the {@code Graphics2D} target instead.
+     */
+    @Test
+    public void testFaceRasterizerNotUsedForVectorTarget() {
+        Chart3D chart = createSurfaceChart();
+        BufferedImage expected = drawToImage(chart, 200, 150);
+        final int[] count = new int[1];
+        chart.setFaceRasterizer(new FaceRasterizer() {
+            @Override
+            public void begin(Graphics2D g2, Rectangle2D area, 
+                    Point3D[] eyePts, Point2D[] pts) {
+                count[0]++;
+                super.begin(g2, area, eyePts, pts);
+            }
+        });
+        BufferedImage actual = new BufferedImage(200, 150, 
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = actual.createGraphics();
+        chart.draw(new DeviceTypeGraphics2D(g2, GraphicsDevice.TYPE_PRINTER),
+                new Rectangle(200, 150));
+        g2.dispose();
+        assertEquals(0, count[0]);
+        for (int x = 0; x < 200; x++) {
+            for (int y = 0; y < 150; y++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+            }
+        }
+        
+        // the same chart drawn to an image uses the rasterizer
+        drawToImage(chart, 200, 150);
+        assertEquals(1, count[0]);
+    }
+    
+    /**
+     * A title element changed in place after the chart has been drawn is 
+     * laid out again the next time the chart is drawn.
+     */
+    @Test
+    public void testTitleLayoutAfterInPlaceChange() {
+        TextElement title = new TextElement("Title", 
+                new Font(Font.SANS_SERIF, Font.PLAIN, 8));
+        Chart3D chart = Chart3DFactory.createBarChart(null, null,
+                createCategoryDataset(), "rowAxis", "columnAxis", "valueAxis");
+        chart.setTitle(title);
+        drawToImage(chart, 300, 200);
+        title.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 30));
+        BufferedImage changed = drawToImage(chart, 300, 200);
+        
+        Chart3D fresh = Chart3DFactory.createBarChart(null, null,
+                createCategoryDataset(), "rowAxis", "columnAxis", "valueAxis");
+        fresh.setTitle(new TextElement("Title", 
+                new Font(Font.SANS_SERIF, Font.BOLD, 30)));
+        BufferedImage expected = drawToImage(fresh, 300, 200);
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(expected.getRGB(x, y), changed.getRGB(x, y));
+            }
+        }
+    }
+    
+    /**
+     * Draws the chart to a new image with the specified size.
+     * 
+     * @param chart  the chart.
+     * @param w  the image width.
+     * @param h  the image height.
+     * 
+     * @return The image. 
+     */
+    private BufferedImage drawToImage(Chart3D chart, int w, int h) {
+        BufferedImage image = new BufferedImage(w, h, 
+                BufferedImage.TYPE_INT_RGB);
+        draw(chart, image, 1.0);
+        return image;
+    }
+    
+    /**
+     * Draws the chart to a new image with the specified size, at the given
+     * scale.
+     * 
+     * @param chart  the chart.
+     * @param w  the image width.
+     * @param h  the image height.
+     * @param scale  the scale factor.
+     * 
+     * @return The rendering info. 
+     */
+    private RenderingInfo draw(Chart3D chart, int w, int h, double scale) {
+        return draw(chart, new BufferedImage(w, h, 
+                BufferedImage.TYPE_INT_RGB), scale);
+    }
+    
+    /**
+     * Draws the chart to fill the image, at the given scale.
+     * 
+     * @param chart  the chart.
+     * @param image  the image.
+     * @param scale  the scale factor.
+     * 
+     * @return The rendering info. 
+     */
+    private RenderingInfo draw(Chart3D chart, BufferedImage image, 
+            double scale) {
+        Graphics2D g2 = image.createGraphics();
+        g2.scale(scale, scale);
+        RenderingInfo info = chart.draw(g2, new Rectangle(
+                (int) (image.getWidth() / scale), 
+                (int) (image.getHeight() / scale)));
+        g2.dispose();
+        return info;
+    }
+    
+    /**
+     * Returns a surface chart for the function {@code sin(x) * cos(z)}.
+     * 
+     * @return The chart. 
+     */
+    private Chart3D createSurfaceChart() {
+        Function3D f = new Function3D() {
+            @Override
+            public double getValue(double x, double z) {
+                return Math.sin(x) * Math.cos(z);
+            }
+        };
+        return Chart3DFactory.createSurfaceChart("title", "subtitle", f, 
+                "X", "Y", "Z");
+    }
+    
+    /**
+     * Returns a bar chart with item labels that are too long to fit 
+     * without overlapping when the chart is drawn at 120 x 90.
+     * 
+     * @return The chart. 
+     */
+    private Chart3D createLabelledBarChart() {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        DefaultKeyedValues<String, Number> s1 
+                = new DefaultKeyedValues<String, Number>();
+        s1.put("Q1", 5.0);
+        s1.put("Q2", 5.0);
+        s1.put("Q3", 5.0);
+        s1.put("Q4", 5.0);
+        dataset.addSeriesAsRow("S1", s1);
+        Chart3D chart = Chart3DFactory.createBarChart("title", "subtitle",
+                dataset, "rowAxis", "columnAxis", "valueAxis");
+        CategoryPlot3D plot = (CategoryPlot3D) chart.getPlot();
+        ((BarRenderer3D) plot.getRenderer()).setItemLabelGenerator(
+                new StandardCategoryItemLabelGenerator(
+                "%4$s is a fairly long item label"));
+        return chart;
+    }
+    
     private PieDataset3D<String> createPieDataset() {
         StandardPieDataset3D<String> dataset 
                 = new StandardPieDataset3D<String>();
@@ -0,0 +1,488 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ColorModel;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+/**
+ * A {@code Graphics2D} that draws via another {@code Graphics2D} but reports
+ * a device of the specified type, so that tests can stand in for a vector
+ * target (SVG, PDF or a printer) while still drawing to an image.
+ */
+public class DeviceTypeGraphics2D extends Graphics2D {
+    
+    /** The graphics target that drawing is passed on to. */
+    private final Graphics2D g2;
+    
+    /** The device configuration reported by this graphics target. */
+    private final GraphicsConfiguration configuration;
+    
+    /**
+     * Creates a new instance.
+     * 
+     * @param g2  the graphics target that drawing is passed on to.
+     * @param deviceType  the device type (for example, 
+     *     {@code GraphicsDevice.TYPE_PRINTER}).
+     */
+    public DeviceTypeGraphics2D(Graphics2D g2, final int deviceType) {
+        this.g2 = g2;
+        final GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        this.configuration = new GraphicsConfiguration() {
+            private final GraphicsDevice device = new GraphicsDevice() {
+                @Override
+                public int getType() {
+                    return deviceType;
+                }
+                @Override
+                public String getIDstring() {
+                    return "test";
+                }
+                @Override
+                public GraphicsConfiguration[] getConfigurations() {
+                    return new GraphicsConfiguration[] { 
+                            getDefaultConfiguration() };
+                }
+                @Override
+                public GraphicsConfiguration getDefaultConfiguration() {
+                    return DeviceTypeGraphics2D.this.configuration;
+                }
+            };
+            @Override
+            public GraphicsDevice getDevice() {
+                return this.device;
+            }
+            @Override
+            public ColorModel getColorModel() {
+                return gc.getColorModel();
+            }
+            @Override
+            public ColorModel getColorModel(int transparency) {
+                return gc.getColorModel(transparency);
+            }
+            @Override
+            public AffineTransform getDefaultTransform() {
+                return gc.getDefaultTransform();
+            }
+            @Override
+            public AffineTransform getNormalizingTransform() {
+                return gc.getNormalizingTransform();
+            }
+            @Override
+            public Rectangle getBounds() {
+                return gc.getBounds();
+            }
+        };
+    }
+
+    @Override
+    public void scale(double a0, double a1) {
+        this.g2.scale(a0, a1);
+    }
+
+    @Override
+    public void fill(Shape a0) {
+        this.g2.fill(a0);
+    }
+
+    @Override
+    public void transform(AffineTransform a0) {
+        this.g2.transform(a0);
+    }
+
+    @Override
+    public void rotate(double a0, double a1, double a2) {
+        this.g2.rotate(a0, a1, a2);
+    }
+
+    @Override
+    public void rotate(double a0) {
+        this.g2.rotate(a0);
+    }
+
+    @Override
+    public boolean hit(Rectangle a0, Shape a1, boolean a2) {
+        return this.g2.hit(a0, a1, a2);
+    }
+
+    @Override
+    public Paint getPaint() {
+        return this.g2.getPaint();
+    }
+
+    @Override
+    public void setPaint(Paint a0) {
+        this.g2.setPaint(a0);
+    }
+
+    @Override
+    public void draw(Shape a0) {
+        this.g2.draw(a0);
+    }
+
+    @Override
+    public boolean drawImage(Image a0, AffineTransform a1, ImageObserver a2) {
+        return this.g2.drawImage(a0, a1, a2);
+    }
+
+    @Override
+    public void drawImage(BufferedImage a0, BufferedImageOp a1, int a2, 
+            int a3) {
+        this.g2.drawImage(a0, a1, a2, a3);
+    }
+
+    @Override
+    public void drawRenderedImage(RenderedImage a0, AffineTransform a1) {
+        this.g2.drawRenderedImage(a0, a1);
+    }
+
+    @Override
+    public void drawRenderableImage(RenderableImage a0, AffineTransform a1) {
+        this.g2.drawRenderableImage(a0, a1);
+    }
+
+    @Override
+    public void drawString(String a0, float a1, float a2) {
+        this.g2.drawString(a0, a1, a2);
+    }
+
+    @Override
+    public void drawString(String a0, int a1, int a2) {
+        this.g2.drawString(a0, a1, a2);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator a0, float a1, float a2) {
+        this.g2.drawString(a0, a1, a2);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator a0, int a1, int a2) {
+        this.g2.drawString(a0, a1, a2);
+    }
+
+    @Override
+    public void drawGlyphVector(GlyphVector a0, float a1, float a2) {
+        this.g2.drawGlyphVector(a0, a1, a2);
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return this.configuration;
+    }
+
+    @Override
+    public void setComposite(Composite a0) {
+        this.g2.setComposite(a0);
+    }
+
+    @Override
+    public void setStroke(Stroke a0) {
+        this.g2.setStroke(a0);
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.Key a0, Object a1) {
+        this.g2.setRenderingHint(a0, a1);
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key a0) {
+        return this.g2.getRenderingHint(a0);
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> a0) {
+        this.g2.setRenderingHints(a0);
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> a0) {
+        this.g2.addRenderingHints(a0);
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return this.g2.getRenderingHints();
+    }
+
+    @Override
+    public void translate(double a0, double a1) {
+        this.g2.translate(a0, a1);
+    }
+
+    @Override
+    public void translate(int a0, int a1) {
+        this.g2.translate(a0, a1);
+    }
+
+    @Override
+    public void shear(double a0, double a1) {
+        this.g2.shear(a0, a1);
+    }
+
+    @Override
+    public void setTransform(AffineTransform a0) {
+        this.g2.setTransform(a0);
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return this.g2.getTransform();
+    }
+
+    @Override
+    public Composite getComposite() {
+        return this.g2.getComposite();
+    }
+
+    @Override
+    public void setBackground(Color a0) {
+        this.g2.setBackground(a0);
+    }
+
+    @Override
+    public Color getBackground() {
+        return this.g2.getBackground();
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return this.g2.getStroke();
+    }
+
+    @Override
+    public void clip(Shape a0) {
+        this.g2.clip(a0);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        return this.g2.getFontRenderContext();
+    }
+
+    @Override
+    public Graphics create() {
+        return new DeviceTypeGraphics2D((Graphics2D) this.g2.create(), 
+                this.configuration.getDevice().getType());
+    }
+
+    @Override
+    public void setColor(Color a0) {
+        this.g2.setColor(a0);
+    }
+
+    @Override
+    public void dispose() {
+        this.g2.dispose();
+    }
+
+    @Override
+    public Color getColor() {
+        return this.g2.getColor();
+    }
+
+    @Override
+    public void fillRect(int a0, int a1, int a2, int a3) {
+        this.g2.fillRect(a0, a1, a2, a3);
+    }
+
+    @Override
+    public boolean drawImage(Image a0, int a1, int a2, int a3, int a4, int a5, 
+            int a6, int a7, int a8, ImageObserver a9) {
+        return this.g2.drawImage(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    @Override
+    public boolean drawImage(Image a0, int a1, int a2, ImageObserver a3) {
+        return this.g2.drawImage(a0, a1, a2, a3);
+    }
+
+    @Override
+    public boolean drawImage(Image a0, int a1, int a2, Color a3, 
+            ImageObserver a4) {
+        return this.g2.drawImage(a0, a1, a2, a3, a4);
+    }
+
+    @Override
+    public boolean drawImage(Image a0, int a1, int a2, int a3, int a4, 
+            ImageObserver a5) {
+        return this.g2.drawImage(a0, a1, a2, a3, a4, a5);
+    }
+
+    @Override
+    public boolean drawImage(Image a0, int a1, int a2, int a3, int a4, int a5, 
+            int a6, int a7, int a8, Color a9, ImageObserver a10) {
+        return this.g2.drawImage(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+    }
+
+    @Override
+    public boolean drawImage(Image a0, int a1, int a2, int a3, int a4, 
+            Color a5, ImageObserver a6) {
+        return this.g2.drawImage(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    @Override
+    public void clipRect(int a0, int a1, int a2, int a3) {
+        this.g2.clipRect(a0, a1, a2, a3);
+    }
+
+    @Override
+    public Font getFont() {
+        return this.g2.getFont();
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font a0) {
+        return this.g2.getFontMetrics(a0);
+    }
+
+    @Override
+    public void drawLine(int a0, int a1, int a2, int a3) {
+        this.g2.drawLine(a0, a1, a2, a3);
+    }
+
+    @Override
+    public void drawPolygon(int[] a0, int[] a1, int a2) {
+        this.g2.drawPolygon(a0, a1, a2);
+    }
+
+    @Override
+    public void fillPolygon(int[] a0, int[] a1, int a2) {
+        this.g2.fillPolygon(a0, a1, a2);
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        return this.g2.getClipBounds();
+    }
+
+    @Override
+    public void setPaintMode() {
+        this.g2.setPaintMode();
+    }
+
+    @Override
+    public void setXORMode(Color a0) {
+        this.g2.setXORMode(a0);
+    }
+
+    @Override
+    public void setFont(Font a0) {
+        this.g2.setFont(a0);
+    }
+
+    @Override
+    public void setClip(int a0, int a1, int a2, int a3) {
+        this.g2.setClip(a0, a1, a2, a3);
+    }
+
+    @Override
+    public void setClip(Shape a0) {
+        this.g2.setClip(a0);
+    }
+
+    @Override
+    public Shape getClip() {
+        return this.g2.getClip();
+    }
+
+    @Override
+    public void copyArea(int a0, int a1, int a2, int a3, int a4, int a5) {
+        this.g2.copyArea(a0, a1, a2, a3, a4, a5);
+    }
+
+    @Override
+    public void clearRect(int a0, int a1, int a2, int a3) {
+        this.g2.clearRect(a0, a1, a2, a3);
+    }
+
+    @Override
+    public void drawRoundRect(int a0, int a1, int a2, int a3, int a4, int a5) {
+        this.g2.drawRoundRect(a0, a1, a2, a3, a4, a5);
+    }
+
+    @Override
+    public void fillRoundRect(int a0, int a1, int a2, int a3, int a4, int a5) {
+        this.g2.fillRoundRect(a0, a1, a2, a3, a4, a5);
+    }
+
+    @Override
+    public void drawOval(int a0, int a1, int a2, int a3) {
+        this.g2.drawOval(a0, a1, a2, a3);
+    }
+
+    @Override
+    public void fillOval(int a0, int a1, int a2, int a3) {
+        this.g2.fillOval(a0, a1, a2, a3);
+    }
+
+    @Override
+    public void drawArc(int a0, int a1, int a2, int a3, int a4, int a5) {
+        this.g2.drawArc(a0, a1, a2, a3, a4, a5);
+    }
+
+    @Override
+    public void fillArc(int a0, int a1, int a2, int a3, int a4, int a5) {
+        this.g2.fillArc(a0, a1, a2, a3, a4, a5);
+    }
+
+    @Override
+    public void drawPolyline(int[] a0, int[] a1, int a2) {
+        this.g2.drawPolyline(a0, a1, a2);
+    }
+
+}
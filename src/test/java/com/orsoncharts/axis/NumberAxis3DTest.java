@@ -45,7 +45,12 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
+import java.text.Format;
+import java.util.List;
 import com.orsoncharts.Range;
 import com.orsoncharts.TestUtils;
 
@@ -131,6 +136,17 @@ public class NumberAxis3DTest implements Axis3DChangeListener {
         this.lastEvent = null;
     }  
 
+    @Test
+    public void checkSetTickLabelOverlapCullingFiresChangeEvent() {
+        NumberAxis3D axis1 = new NumberAxis3D("X");
+        axis1.addChangeListener(this);
+        assertNull(this.lastEvent);
+    
+        axis1.setTickLabelOverlapCulling(true);
+        assertNotNull(this.lastEvent);
+        this.lastEvent = null;
+    }  
+
     @Test
     public void checkSetTickLabelFontFiresChangeEvent() {
         NumberAxis3D axis1 = new NumberAxis3D("X");
@@ -203,6 +219,11 @@ public class NumberAxis3DTest implements Axis3DChangeListener {
         axis2.setDefaultAutoRange(new Range(5, 10));
         assertTrue(axis1.equals(axis2));
         
+        axis1.setTickLabelOverlapCulling(true);
+        assertFalse(axis1.equals(axis2));
+        axis2.setTickLabelOverlapCulling(true);
+        assertTrue(axis1.equals(axis2));
+        
         axis1.setTickSelector(new NumberTickSelector(true));
         assertFalse(axis1.equals(axis2));
         axis2.setTickSelector(new NumberTickSelector(true));
@@ -289,6 +310,66 @@ public class NumberAxis3DTest implements Axis3DChangeListener {
         assertTrue(axis1.equals(axis2));
     }
     
+    /**
+     * Tick selection results are reused for a similar axis length and 
+     * discarded when the axis changes.
+     */
+    @Test
+    public void testSelectTickIsCached() {
+        NumberAxis3D axis = new NumberAxis3D("X", new Range(0.0, 100.0));
+        BufferedImage image = new BufferedImage(10, 10, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        double t1 = axis.selectTick(g2, new Point2D.Double(0.0, 0.0), 
+                new Point2D.Double(300.0, 0.0), new Point2D.Double(0, 10));
+        assertEquals(1, axis.getTickSelectionCache().size());
+        double t2 = axis.selectTick(g2, new Point2D.Double(0.0, 0.0), 
+                new Point2D.Double(300.5, 0.0), new Point2D.Double(0, 10));
+        assertEquals(t1, t2, 0.0);
+        assertEquals(1, axis.getTickSelectionCache().size());
+        
+        axis.setTickLabelFont(new Font(Font.SERIF, Font.PLAIN, 30));
+        assertEquals(0, axis.getTickSelectionCache().size());
+        double t3 = axis.selectTick(g2, new Point2D.Double(0.0, 0.0), 
+                new Point2D.Double(300.0, 0.0), new Point2D.Double(0, 10));
+        assertTrue(t3 > t1);
+        g2.dispose();
+    }
+    
+    /**
+     * Finding a tick selection does not change the axis, and the tick data
+     * generated from it carries its own formatter.
+     */
+    @Test
+    public void testFindTickSelection() {
+        NumberAxis3D axis = new NumberAxis3D("X", new Range(0.0, 100.0));
+        BufferedImage image = new BufferedImage(10, 10, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        double tickSize = axis.getTickSize();
+        TickSelection ts = axis.findTickSelection(g2, 
+                new Point2D.Double(0.0, 0.0), new Point2D.Double(300.0, 0.0), 
+                new Point2D.Double(0, 10));
+        g2.dispose();
+        assertEquals(tickSize, axis.getTickSize(), 0.0);
+        assertNotEquals(tickSize, ts.getTickSize(), 0.0);
+        
+        List<TickData> ticks = axis.generateTickData(ts);
+        assertFalse(ticks.isEmpty());
+        Format f = ticks.get(0).getTickLabelFormatter();
+        assertNotNull(f);
+        assertTrue(f != ts.getTickLabelFormatter());
+        assertEquals(ts.getTickLabelFormatter(), f);
+        for (TickData t : ticks) {
+            assertTrue(t.getTickLabelFormatter() == f);
+        }
+        
+        // with no formatter in the selection, the axis formatter is used
+        ticks = axis.generateTickData(new TickSelection(ts.getTickSize(), 
+                null));
+        assertFalse(ticks.isEmpty());
+        assertNull(ticks.get(0).getTickLabelFormatter());
+    }
     
     private Axis3DChangeEvent lastEvent;
 
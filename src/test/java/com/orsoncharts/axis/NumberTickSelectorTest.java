@@ -66,6 +66,23 @@ public class NumberTickSelectorTest {
         assertTrue(s1.equals(s2));
     }
     
+    /**
+     * A clone has its own cursor and formatters.
+     */
+    @Test
+    public void testCloning() {
+        NumberTickSelector s1 = new NumberTickSelector();
+        s1.select(0.05);
+        NumberTickSelector s2 = s1.clone();
+        assertTrue(s1.equals(s2));
+        assertEquals(s1.getCurrentTickSize(), s2.getCurrentTickSize(), 0.0);
+        assertTrue(s1.getCurrentTickLabelFormat() 
+                != s2.getCurrentTickLabelFormat());
+        s2.next();
+        assertEquals(0.1, s1.getCurrentTickSize(), EPSILON);
+        assertEquals(0.2, s2.getCurrentTickSize(), EPSILON);
+    }
+    
     public static final double EPSILON = 0.0000001;
     
     @Test
@@ -0,0 +1,146 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.imageio.ImageIO;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import com.orsoncharts.util.ExportFormat;
+
+/**
+ * Tests for the {@link BatchRenderer} class.
+ */
+public class BatchRendererTest {
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    /**
+     * A batch rendered on several threads gives one result per job, in the
+     * order of the jobs, with each file written at the requested size.
+     */
+    @Test
+    public void testRenderOnSeveralThreads() throws Exception {
+        final Set<String> threads 
+                = Collections.synchronizedSet(new HashSet<String>());
+        BatchRenderer renderer = new BatchRenderer(3) {
+            @Override
+            protected RenderingInfo renderJob(RenderJob job) 
+                    throws IOException {
+                threads.add(Thread.currentThread().getName());
+                try {
+                    // give the other workers a chance to pick up jobs
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.renderJob(job);
+            }
+        };
+        try {
+            List<RenderJob> jobs = new ArrayList<RenderJob>();
+            for (int i = 0; i < 9; i++) {
+                ExportFormat format = (i % 3 == 2) ? ExportFormat.JPEG 
+                        : ExportFormat.PNG;
+                File file = this.folder.newFile("job" + i + "." 
+                        + (format == ExportFormat.JPEG ? "jpg" : "png"));
+                jobs.add(new RenderJob(new DefaultDrawable3D(createWorld()), 
+                        40 + i * 10, 30 + (i % 2) * 10, format, file));
+            }
+            BatchRenderResult result = renderer.render(jobs);
+            assertEquals(0, result.getFailureCount());
+            assertEquals(jobs.size(), result.getResults().size());
+            for (int i = 0; i < jobs.size(); i++) {
+                RenderJob job = jobs.get(i);
+                RenderJobResult r = result.getResults().get(i);
+                assertSame(job, r.getJob());
+                assertTrue(r.isSuccess());
+                assertNotNull(r.getRenderingInfo());
+                BufferedImage image = ImageIO.read(job.getFile());
+                assertEquals(job.getWidth(), image.getWidth());
+                assertEquals(job.getHeight(), image.getHeight());
+            }
+            assertTrue(threads.size() > 1);
+            assertTrue(renderer.getImagePool().getIdleImageCount() > 0);
+        } finally {
+            renderer.shutdown();
+        }
+    }
+    
+    /**
+     * A failing job is reported in its result without affecting the 
+     * others.
+     */
+    @Test
+    public void testFailure() throws Exception {
+        BatchRenderer renderer = new BatchRenderer(2);
+        try {
+            List<RenderJob> jobs = new ArrayList<RenderJob>();
+            jobs.add(new RenderJob(new DefaultDrawable3D(createWorld()), 50, 
+                    50, ExportFormat.PNG, new File(this.folder.getRoot(), 
+                    "missing/job.png")));
+            jobs.add(new RenderJob(new DefaultDrawable3D(createWorld()), 50, 
+                    50, ExportFormat.PNG, this.folder.newFile("ok.png")));
+            BatchRenderResult result = renderer.render(jobs);
+            assertEquals(1, result.getFailureCount());
+            assertTrue(result.getResults().get(0).getException() 
+                    instanceof IOException);
+            assertTrue(result.getResults().get(1).isSuccess());
+        } finally {
+            renderer.shutdown();
+        }
+    }
+    
+    private static World createWorld() {
+        World world = new World();
+        world.add(Object3D.createCube(2.0, 0.0, 0.0, 0.0, Color.RED));
+        return world;
+    }
+    
+}
@@ -0,0 +1,132 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link FaceCuller} class.
+ */
+public class FaceCullerTest {
+    
+    private static final ViewPoint3D VIEW_POINT = new ViewPoint3D(
+            -Math.PI / 3, Math.PI / 5, 30.0, 0.0);
+    
+    private static final double PROJ_DIST = 1500.0;
+
+    @Test
+    public void testBackFacing() {
+        World world = new World();
+        world.add(Object3D.createCube(2.0, 0.0, 0.0, 0.0, Color.RED));
+        Object3D sheet = new Object3D(Color.BLUE);
+        sheet.addVertex(-1.0, -1.0, 3.0);
+        sheet.addVertex(1.0, -1.0, 3.0);
+        sheet.addVertex(1.0, 1.0, 3.0);
+        sheet.addDoubleSidedFace(new int[] {0, 1, 2});
+        sheet.addDoubleSidedFace(new int[] {2, 1, 0});
+        world.add(sheet);
+        Point3D[] eyePts = world.calculateEyeCoordinates(VIEW_POINT);
+        Point2D[] pts = world.calculateProjectedPoints(VIEW_POINT, PROJ_DIST);
+        List<Face> faces = world.getFaces();
+        List<Face> result = FaceCuller.cull(faces, eyePts, pts, null);
+        
+        int front = 0;
+        for (Face f : faces) {
+            if (!(f instanceof DoubleSidedFace) && f.isFrontFacing(pts)) {
+                front++;
+            }
+        }
+        assertTrue(front > 0 && front < 6);
+        assertEquals(front + 2, result.size());
+        for (Face f : result) {
+            assertTrue(f instanceof DoubleSidedFace || f.isFrontFacing(pts));
+        }
+    }
+    
+    @Test
+    public void testClip() {
+        World world = new World();
+        world.add(Object3D.createCube(2.0, 0.0, 0.0, 0.0, Color.RED));
+        world.add(Object3D.createLabelObject("A", new Font("Dialog", 
+                Font.PLAIN, 10), Color.BLACK, Color.WHITE, 0.0, 0.0, 0.0, 
+                false, true));
+        Point3D[] eyePts = world.calculateEyeCoordinates(VIEW_POINT);
+        Point2D[] pts = world.calculateProjectedPoints(VIEW_POINT, PROJ_DIST);
+        List<Face> faces = world.getFaces();
+        
+        // a clip rectangle containing the whole cube keeps the visible faces
+        List<Face> all = FaceCuller.cull(faces, eyePts, pts, null);
+        List<Face> clipped = FaceCuller.cull(faces, eyePts, pts, 
+                new Rectangle2D.Double(-500.0, -500.0, 1000.0, 1000.0));
+        assertEquals(all, clipped);
+        
+        // a clip rectangle away from the cube leaves only the label faces
+        clipped = FaceCuller.cull(faces, eyePts, pts, 
+                new Rectangle2D.Double(5000.0, 5000.0, 100.0, 100.0));
+        assertEquals(2, clipped.size());
+        for (Face f : clipped) {
+            assertTrue(f instanceof LabelFace);
+        }
+    }
+    
+    @Test
+    public void testBehindEye() {
+        World world = new World();
+        Point3D eye = VIEW_POINT.getPoint();
+        // a cube around the eye point, and one at twice the distance from the
+        // origin (so behind the eye)
+        world.add(Object3D.createCube(2.0, eye.getX(), eye.getY(), 
+                eye.getZ(), Color.RED));
+        world.add(Object3D.createCube(2.0, 2 * eye.getX(), 2 * eye.getY(), 
+                2 * eye.getZ(), Color.RED));
+        world.add(Object3D.createCube(2.0, 0.0, 0.0, 0.0, Color.BLUE));
+        Point3D[] eyePts = world.calculateEyeCoordinates(VIEW_POINT);
+        Point2D[] pts = world.calculateProjectedPoints(VIEW_POINT, PROJ_DIST);
+        List<Face> result = FaceCuller.cull(world.getFaces(), eyePts, pts, 
+                null);
+        assertTrue(result.size() > 0);
+        for (Face f : result) {
+            assertEquals(Color.BLUE, f.getColor());
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link FaceDecimator} class.
+ */
+public class FaceDecimatorTest {
+    
+    private static final double EPSILON = 0.000001;
+    
+    /**
+     * Creates a triangle with its projected points at the specified 
+     * positions.
+     */
+    private static Face createTriangle(Object3D owner, List<Point2D> pts, 
+            double x, double y, double size) {
+        int index = pts.size();
+        pts.add(new Point2D.Double(x, y));
+        pts.add(new Point2D.Double(x + size, y));
+        pts.add(new Point2D.Double(x, y + size));
+        return new Face(owner, new int[] {index, index + 1, index + 2});
+    }
+    
+    @Test
+    public void testCalculateProjectedArea() {
+        Object3D owner = new Object3D(Color.RED);
+        List<Point2D> list = new ArrayList<Point2D>();
+        Face f = createTriangle(owner, list, 1.0, 1.0, 4.0);
+        Point2D[] pts = list.toArray(new Point2D[list.size()]);
+        assertEquals(8.0, f.calculateProjectedArea(pts), 0.000001);
+        Face reversed = new Face(owner, new int[] {2, 1, 0});
+        assertEquals(8.0, reversed.calculateProjectedArea(pts), 0.000001);
+    }
+    
+    @Test
+    public void testIsSmall() {
+        Object3D owner = new Object3D(Color.RED);
+        List<Point2D> list = new ArrayList<Point2D>();
+        Face small = createTriangle(owner, list, 0.0, 0.0, 0.5);
+        Face large = createTriangle(owner, list, 0.0, 0.0, 10.0);
+        Face line = new Face(owner, new int[] {0, 1});
+        LabelFace label = new LabelFace(owner, new int[] {0, 1, 2}, "A", 
+                new Font(Font.SANS_SERIF, Font.PLAIN, 10), Color.BLACK, 
+                Color.WHITE);
+        Point2D[] pts = list.toArray(new Point2D[list.size()]);
+        assertTrue(FaceDecimator.isSmall(small, pts, 1.0));
+        assertFalse(FaceDecimator.isSmall(large, pts, 1.0));
+        assertFalse(FaceDecimator.isSmall(line, pts, 1.0));
+        assertFalse(FaceDecimator.isSmall(label, pts, 1.0));
+    }
+    
+    /**
+     * Only the last small face in each cell survives, large faces are 
+     * always kept and the paint order is unchanged.
+     */
+    @Test
+    public void testDecimate() {
+        Object3D owner = new Object3D(Color.RED);
+        List<Point2D> list = new ArrayList<Point2D>();
+        List<Face> faces = new ArrayList<Face>();
+        Face a = createTriangle(owner, list, 0.1, 0.1, 0.3);
+        Face b = createTriangle(owner, list, 0.2, 0.2, 0.3);
+        Face c = createTriangle(owner, list, 5.1, 0.1, 0.3);
+        Face big = createTriangle(owner, list, 0.0, 0.0, 20.0);
+        faces.add(a);
+        faces.add(big);
+        faces.add(c);
+        faces.add(b);
+        Point2D[] pts = list.toArray(new Point2D[list.size()]);
+        AffineTransform identity = new AffineTransform();
+        List<Face> result = FaceDecimator.decimate(faces, pts, 1.0, identity);
+        assertEquals(3, result.size());
+        assertSame(big, result.get(0));
+        assertSame(c, result.get(1));
+        assertSame(b, result.get(2));
+        
+        // the retained small faces are reported to the caller
+        Set<Face> small = new HashSet<Face>();
+        FaceDecimator.decimate(faces, pts, 1.0, identity, small);
+        assertEquals(2, small.size());
+        assertTrue(small.contains(b));
+        assertTrue(small.contains(c));
+        
+        // with a smaller threshold nothing is removed
+        assertEquals(4, FaceDecimator.decimate(faces, pts, 0.01, identity)
+                .size());
+        
+        // when scaled up, the small faces no longer share a device pixel
+        AffineTransform scale = AffineTransform.getScaleInstance(4.0, 4.0);
+        assertEquals(4, FaceDecimator.decimate(faces, pts, 1.0, scale)
+                .size());
+    }
+    
+    /**
+     * The cell is the device pixel containing the centre of the face, 
+     * mapped back to user space.
+     */
+    @Test
+    public void testCalculateCell() {
+        Object3D owner = new Object3D(Color.RED);
+        List<Point2D> list = new ArrayList<Point2D>();
+        Face f = createTriangle(owner, list, -2.9, 3.2, 0.3);
+        Point2D[] pts = list.toArray(new Point2D[list.size()]);
+        Rectangle2D cell = new Rectangle2D.Double();
+        
+        // the centre (-2.8, 3.3) is in device pixel (-3, 3)
+        assertSame(cell, FaceDecimator.calculateCell(f, pts, 
+                new AffineTransform(), cell));
+        assertEquals(new Rectangle2D.Double(-3.0, 3.0, 1.0, 1.0), cell);
+        
+        // with a translation of (100.5, 50.25) the centre is at device 
+        // (97.7, 53.55), in pixel (97, 53)
+        AffineTransform t = AffineTransform.getTranslateInstance(100.5, 50.25);
+        FaceDecimator.calculateCell(f, pts, t, cell);
+        assertEquals(-3.5, cell.getX(), EPSILON);
+        assertEquals(2.75, cell.getY(), EPSILON);
+        assertEquals(1.0, cell.getWidth(), EPSILON);
+        
+        // with a scale of 2 the centre is at device (-5.6, 6.6), in pixel 
+        // (-6, 6), which is half a unit wide in user space
+        t = AffineTransform.getScaleInstance(2.0, 2.0);
+        FaceDecimator.calculateCell(f, pts, t, cell);
+        assertEquals(new Rectangle2D.Double(-3.0, 3.0, 0.5, 0.5), cell);
+        
+        // with a rotation, the pixel is not a rectangle in user space
+        t = AffineTransform.getRotateInstance(Math.PI / 4);
+        Shape s = FaceDecimator.calculateCell(f, pts, t, cell);
+        assertNotSame(cell, s);
+        assertEquals(1.0, area(s.getBounds2D()) / 2.0, EPSILON);
+    }
+    
+    private static double area(Rectangle2D r) {
+        return r.getWidth() * r.getHeight();
+    }
+    
+}
@@ -0,0 +1,194 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link FaceRasterizer} class.
+ */
+public class FaceRasterizerTest {
+    
+    private static final ViewPoint3D VIEW_POINT = new ViewPoint3D(
+            -Math.PI / 3, Math.PI / 5, 30.0, 0.0);
+    
+    private static final double PROJ_DIST = 1500.0;
+    
+    /**
+     * Creates a square sheet in the plane z = {@code z}, with a single 
+     * double-sided face.
+     */
+    private static Object3D createSheet(double size, double z, Color c) {
+        Object3D sheet = new Object3D(c);
+        sheet.addVertex(-size, -size, z);
+        sheet.addVertex(size, -size, z);
+        sheet.addVertex(size, size, z);
+        sheet.addVertex(-size, size, z);
+        sheet.addDoubleSidedFace(new int[] {0, 1, 2, 3});
+        return sheet;
+    }
+    
+    /**
+     * Draws the world to a new 200 x 200 image (with the origin at the 
+     * centre), adding faces to the rasterizer in the order given by the 
+     * world.
+     */
+    private static BufferedImage draw(World world, FaceRasterizer rasterizer, 
+            ViewPoint3D vp) {
+        BufferedImage image = new BufferedImage(200, 200, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.translate(100, 100);
+        Point3D[] eyePts = world.calculateEyeCoordinates(vp);
+        Point2D[] pts = world.calculateProjectedPoints(vp, PROJ_DIST);
+        rasterizer.begin(g2, new Rectangle2D.Double(-100, -100, 200, 200), 
+                eyePts, pts);
+        for (Face f : world.getFaces()) {
+            rasterizer.add(f, f.getColor());
+        }
+        rasterizer.end(g2);
+        g2.dispose();
+        return image;
+    }
+    
+    private static int[] getPixels(BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 
+                0, image.getWidth());
+    }
+    
+    @Test
+    public void testFill() {
+        World world = new World();
+        world.add(createSheet(0.5, 0.0, Color.RED));
+        BufferedImage image = draw(world, new FaceRasterizer(), 
+                new ViewPoint3D(0.0, 0.0, 30.0, 0.0));
+        assertEquals(Color.RED.getRGB(), image.getRGB(100, 100));
+        assertEquals(0, image.getRGB(0, 0));
+        assertEquals(0, image.getRGB(199, 199));
+    }
+    
+    /**
+     * A face added after a nearer face does not cover it.
+     */
+    @Test
+    public void testDepthBuffer() {
+        World world = new World();
+        world.add(createSheet(1.0, 5.0, Color.RED));
+        world.add(createSheet(3.0, 0.0, Color.BLUE));
+        ViewPoint3D vp = new ViewPoint3D(0.0, 0.0, 30.0, 0.0);
+        BufferedImage image = draw(world, new FaceRasterizer(), vp);
+        
+        // the red sheet is in front of the blue one, whichever way we look
+        Point3D[] eyePts = world.calculateEyeCoordinates(vp);
+        assertTrue(eyePts[0].z > eyePts[4].z);
+        assertEquals(Color.RED.getRGB(), image.getRGB(100, 100));
+    }
+    
+    /**
+     * With several samples per pixel, the edge pixels are partly 
+     * transparent.
+     */
+    @Test
+    public void testSamplesPerPixel() {
+        World world = new World();
+        world.add(Object3D.createCube(2.0, 0.0, 0.0, 0.0, Color.RED));
+        FaceRasterizer rasterizer = new FaceRasterizer();
+        int[] aliased = getPixels(draw(world, rasterizer, VIEW_POINT));
+        rasterizer.setSamplesPerPixel(4);
+        int[] smooth = getPixels(draw(world, rasterizer, VIEW_POINT));
+        int partial = 0;
+        for (int p : aliased) {
+            int alpha = p >>> 24;
+            assertTrue(alpha == 0 || alpha == 255);
+        }
+        for (int p : smooth) {
+            int alpha = p >>> 24;
+            if (alpha > 0 && alpha < 255) {
+                partial++;
+            }
+        }
+        assertTrue(partial > 0);
+    }
+    
+    /**
+     * Filling tiles in parallel gives the same result as filling on the 
+     * calling thread.
+     */
+    @Test
+    public void testExecutor() {
+        World world = new World();
+        world.add(Object3D.createCube(2.0, 0.0, 0.0, 0.0, Color.RED));
+        world.add(Object3D.createSphere(1.5, 12, 2.0, 0.0, 0.0, Color.BLUE,
+                Color.BLUE));
+        FaceRasterizer rasterizer = new FaceRasterizer();
+        rasterizer.setSamplesPerPixel(4);
+        int[] expected = getPixels(draw(world, rasterizer, VIEW_POINT));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            rasterizer.setExecutor(executor);
+            rasterizer.setRowsPerTile(7);
+            int[] actual = getPixels(draw(world, rasterizer, VIEW_POINT));
+            assertArrayEquals(expected, actual);
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    public void testSetSamplesPerPixel() {
+        FaceRasterizer rasterizer = new FaceRasterizer();
+        assertEquals(1, rasterizer.getSamplesPerPixel());
+        rasterizer.setSamplesPerPixel(9);
+        assertEquals(9, rasterizer.getSamplesPerPixel());
+        try {
+            rasterizer.setSamplesPerPixel(2);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+    
+}
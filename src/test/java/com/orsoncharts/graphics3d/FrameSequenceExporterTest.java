@@ -0,0 +1,145 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for the {@link FrameSequenceExporter} class.
+ */
+public class FrameSequenceExporterTest {
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    private DefaultDrawable3D createDrawable() {
+        World world = new World();
+        world.add(Object3D.createCube(2.0, 0.0, 0.0, 0.0, Color.RED));
+        return new DefaultDrawable3D(world);
+    }
+    
+    @Test
+    public void testNumberedPNGs() throws IOException {
+        DefaultDrawable3D drawable = createDrawable();
+        ViewPoint3D vp = drawable.getViewPoint();
+        FrameSequenceExporter exporter = new FrameSequenceExporter(drawable, 
+                60, 40);
+        exporter.setThreadCount(2);
+        exporter.setMaxFramesInFlight(2);
+        List<ViewPoint3D> vps = FrameSequenceExporter.createPanSequence(vp, 5,
+                Math.PI);
+        List<File> files = exporter.writeNumberedPNGs(vps, folder.getRoot(), 
+                "frame-%02d.png");
+        assertEquals(5, files.size());
+        assertEquals("frame-04.png", files.get(4).getName());
+        for (File f : files) {
+            BufferedImage image = ImageIO.read(f);
+            assertNotNull(image);
+            assertEquals(60, image.getWidth());
+        }
+        // the original view point is restored
+        assertSame(vp, drawable.getViewPoint());
+    }
+    
+    @Test
+    public void testAPNG() throws IOException {
+        DefaultDrawable3D drawable = createDrawable();
+        FrameSequenceExporter exporter = new FrameSequenceExporter(drawable, 
+                50, 30);
+        exporter.setMaxFramesInFlight(3);
+        List<ViewPoint3D> vps = FrameSequenceExporter.createPanSequence(
+                drawable.getViewPoint(), 7, 2 * Math.PI);
+        File file = folder.newFile("anim.png");
+        exporter.writeAPNG(vps, file, 40, 0);
+        
+        // viewers without APNG support see the first frame
+        BufferedImage image = ImageIO.read(file);
+        assertEquals(50, image.getWidth());
+        assertEquals(30, image.getHeight());
+        
+        // check the chunk sequence
+        int fctl = 0;
+        int fdat = 0;
+        int expectedSequence = 0;
+        DataInputStream in = new DataInputStream(new FileInputStream(file));
+        try {
+            in.skipBytes(8);
+            while (true) {
+                int length = in.readInt();
+                byte[] type = new byte[4];
+                in.readFully(type);
+                String t = new String(type, "US-ASCII");
+                byte[] data = new byte[length];
+                in.readFully(data);
+                in.readInt(); // crc
+                if (t.equals("acTL")) {
+                    assertEquals(7, readInt(data, 0));
+                } else if (t.equals("fcTL") || t.equals("fdAT")) {
+                    assertEquals(expectedSequence++, readInt(data, 0));
+                    if (t.equals("fcTL")) {
+                        fctl++;
+                    } else {
+                        fdat++;
+                    }
+                } else if (t.equals("IEND")) {
+                    break;
+                }
+            }
+        } finally {
+            in.close();
+        }
+        assertEquals(7, fctl);
+        assertTrue(fdat >= 6);
+    }
+    
+    private static int readInt(byte[] b, int offset) {
+        return ((b[offset] & 0xFF) << 24) | ((b[offset + 1] & 0xFF) << 16) 
+                | ((b[offset + 2] & 0xFF) << 8) | (b[offset + 3] & 0xFF);
+    }
+    
+}
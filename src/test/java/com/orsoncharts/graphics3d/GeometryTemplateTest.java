@@ -0,0 +1,157 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.geom.Point2D;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link GeometryTemplate} class.
+ */
+public class GeometryTemplateTest {
+    
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    public void testBox() {
+        Object3D box = Object3D.createBox(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 
+                Color.RED);
+        assertTrue(box instanceof TemplateObject3D);
+        assertEquals(8, box.getVertexCount());
+        assertEquals(6, box.getFaceCount());
+        Point3D v0 = box.getVertex(0);
+        assertEquals(0.0, v0.getX(), EPSILON);
+        assertEquals(1.0, v0.getY(), EPSILON);
+        assertEquals(2.0, v0.getZ(), EPSILON);
+        Point3D v6 = box.getVertex(6);
+        assertEquals(2.0, v6.getX(), EPSILON);
+        assertEquals(5.0, v6.getY(), EPSILON);
+        assertEquals(8.0, v6.getZ(), EPSILON);
+    }
+    
+    @Test
+    public void testBar() {
+        Object3D bar = Object3D.createBar(2.0, 4.0, 10.0, 3.0, 20.0, 1.0, 
+                Color.RED, Color.BLUE, null, false);
+        assertEquals(8, bar.getVertexCount());
+        assertEquals(12, bar.getFaceCount());
+        assertEquals(1.0, bar.getVertex(0).getY(), EPSILON);
+        assertEquals(3.0, bar.getVertex(4).getY(), EPSILON);
+        assertEquals(9.0, bar.getVertex(0).getX(), EPSILON);
+        assertEquals(22.0, bar.getVertex(6).getZ(), EPSILON);
+        
+        // the base takes the base color, the top falls back to the bar color
+        Face top = bar.getFaces().get(10);
+        Face base = bar.getFaces().get(11);
+        assertEquals(Color.RED, top.getColor());
+        assertEquals(Color.BLUE, base.getColor());
+    }
+    
+    @Test
+    public void testSphere() {
+        assertSame(GeometryTemplate.getSphere(6), 
+                GeometryTemplate.getSphere(6));
+        Object3D sphere = Object3D.createSphere(2.0, 6, 1.0, 1.0, 1.0, 
+                Color.RED, Color.BLUE);
+        assertEquals(72, sphere.getVertexCount());
+        assertEquals(2 * 12 * 4, sphere.getFaceCount());
+        for (int i = 0; i < sphere.getVertexCount(); i++) {
+            Point3D v = sphere.getVertex(i);
+            double dx = v.getX() - 1.0;
+            double dy = v.getY() - 1.0;
+            double dz = v.getZ() - 1.0;
+            assertEquals(2.0, Math.sqrt(dx * dx + dy * dy + dz * dz), 1e-9);
+        }
+        assertEquals(Color.BLUE, sphere.getFaces().get(1).getColor());
+    }
+    
+    /**
+     * The projected and eye coordinates match those for an object with the 
+     * same vertices stored explicitly.
+     */
+    @Test
+    public void testProjection() {
+        Object3D box = Object3D.createBox(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 
+                Color.RED);
+        Object3D copy = new Object3D(Color.RED);
+        for (int i = 0; i < box.getVertexCount(); i++) {
+            copy.addVertex(box.getVertex(i));
+        }
+        ViewPoint3D vp = new ViewPoint3D(-Math.PI / 3, Math.PI / 4, 30.0, 
+                0.0);
+        Point3D[] eye = box.calculateEyeCoordinates(vp);
+        Point3D[] expectedEye = copy.calculateEyeCoordinates(vp);
+        Point2D[] pts = box.calculateProjectedPoints(vp, 1500.0);
+        Point2D[] expectedPts = copy.calculateProjectedPoints(vp, 1500.0);
+        for (int i = 0; i < eye.length; i++) {
+            assertEquals(expectedEye[i], eye[i]);
+            assertEquals(expectedPts[i], pts[i]);
+        }
+    }
+    
+    /**
+     * Adding a vertex to an object created from a template copies the 
+     * template's vertices first.
+     */
+    @Test
+    public void testAddVertex() {
+        Object3D box = Object3D.createCube(2.0, 1.0, 1.0, 1.0, Color.RED);
+        Point3D v6 = box.getVertex(6);
+        box.addVertex(1.0, 2.0, 3.0);
+        assertEquals(9, box.getVertexCount());
+        assertEquals(v6, box.getVertex(6));
+        assertEquals(new Point3D(1.0, 2.0, 3.0), box.getVertex(8));
+        box.addFace(new int[] {8, 6, 5});
+        assertEquals(7, box.getFaceCount());
+        
+        ViewPoint3D vp = new ViewPoint3D(-Math.PI / 3, Math.PI / 4, 30.0, 
+                0.0);
+        assertEquals(9, box.calculateEyeCoordinates(vp).length);
+        assertEquals(9, box.calculateProjectedPoints(vp, 1500.0).length);
+        
+        // the normals are unchanged by the copy
+        Object3D other = Object3D.createCube(2.0, 1.0, 1.0, 1.0, Color.RED);
+        for (int i = 0; i < 6; i++) {
+            assertArrayEquals(other.getFaces().get(i).getNormal(), 
+                    box.getFaces().get(i).getNormal(), EPSILON);
+        }
+    }
+
+}
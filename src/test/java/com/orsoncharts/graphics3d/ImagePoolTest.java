@@ -0,0 +1,116 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import java.awt.image.BufferedImage;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ImagePool} class.
+ */
+public class ImagePoolTest {
+    
+    @Test
+    public void testReuse() {
+        ImagePool pool = new ImagePool(2);
+        BufferedImage img1 = pool.acquire(10, 20, BufferedImage.TYPE_INT_ARGB);
+        img1.setRGB(3, 4, 0xFF00FF00);
+        pool.release(img1);
+        assertEquals(1, pool.getIdleImageCount());
+        
+        // a different size or type must not reuse the image
+        BufferedImage img2 = pool.acquire(20, 10, BufferedImage.TYPE_INT_ARGB);
+        assertNotSame(img1, img2);
+        BufferedImage img3 = pool.acquire(10, 20, BufferedImage.TYPE_INT_RGB);
+        assertNotSame(img1, img3);
+        
+        // the same size and type reuses the image, cleared
+        BufferedImage img4 = pool.acquire(10, 20, BufferedImage.TYPE_INT_ARGB);
+        assertSame(img1, img4);
+        assertEquals(0, img4.getRGB(3, 4));
+        assertEquals(0, pool.getIdleImageCount());
+    }
+    
+    @Test
+    public void testMaxImagesPerSize() {
+        ImagePool pool = new ImagePool(1);
+        pool.release(new BufferedImage(5, 5, BufferedImage.TYPE_INT_ARGB));
+        pool.release(new BufferedImage(5, 5, BufferedImage.TYPE_INT_ARGB));
+        assertEquals(1, pool.getIdleImageCount());
+        pool.clear();
+        assertEquals(0, pool.getIdleImageCount());
+    }
+    
+    /**
+     * When the pool holds images for the maximum number of sizes, the least
+     * recently used size is discarded.
+     */
+    @Test
+    public void testMaxSizes() {
+        ImagePool pool = new ImagePool(1, 2);
+        assertEquals(2, pool.getMaxSizes());
+        BufferedImage a = new BufferedImage(5, 5, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage b = new BufferedImage(6, 6, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage c = new BufferedImage(7, 7, BufferedImage.TYPE_INT_ARGB);
+        pool.release(a);
+        pool.release(b);
+        
+        // using the first size makes the second the least recently used
+        assertSame(a, pool.acquire(5, 5, BufferedImage.TYPE_INT_ARGB));
+        pool.release(a);
+        pool.release(c);
+        assertEquals(2, pool.getIdleImageCount());
+        assertSame(a, pool.acquire(5, 5, BufferedImage.TYPE_INT_ARGB));
+        assertSame(c, pool.acquire(7, 7, BufferedImage.TYPE_INT_ARGB));
+        assertNotSame(b, pool.acquire(6, 6, BufferedImage.TYPE_INT_ARGB));
+    }
+    
+    /**
+     * Images of other types are cleared too.
+     */
+    @Test
+    public void testClearByteImage() {
+        ImagePool pool = new ImagePool(1);
+        BufferedImage img = new BufferedImage(4, 4, 
+                BufferedImage.TYPE_4BYTE_ABGR);
+        img.setRGB(1, 2, 0xFF123456);
+        pool.release(img);
+        assertSame(img, pool.acquire(4, 4, BufferedImage.TYPE_4BYTE_ABGR));
+        assertEquals(0, img.getRGB(1, 2));
+    }
+    
+}
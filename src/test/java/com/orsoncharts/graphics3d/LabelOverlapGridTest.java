@@ -0,0 +1,100 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link LabelOverlapGrid} class.
+ */
+public class LabelOverlapGridTest {
+
+    @Test
+    public void testOverlappingRectangles() {
+        LabelOverlapGrid grid = new LabelOverlapGrid(20.0);
+        assertTrue(grid.add(new Rectangle2D.Double(0.0, 0.0, 50.0, 10.0)));
+        assertFalse(grid.add(new Rectangle2D.Double(40.0, 5.0, 50.0, 10.0)));
+        assertTrue(grid.add(new Rectangle2D.Double(0.0, 20.0, 50.0, 10.0)));
+        assertEquals(2, grid.getCount());
+    }
+    
+    @Test
+    public void testTouchingRectangles() {
+        LabelOverlapGrid grid = new LabelOverlapGrid(20.0);
+        assertTrue(grid.add(new Rectangle2D.Double(0.0, 0.0, 50.0, 10.0)));
+        assertTrue(grid.add(new Rectangle2D.Double(50.0, 0.0, 50.0, 10.0)));
+        assertTrue(grid.add(new Rectangle2D.Double(0.0, 10.0, 50.0, 10.0)));
+    }
+    
+    /**
+     * Two rotated labels whose bounding boxes intersect but whose outlines
+     * do not.
+     */
+    @Test
+    public void testRotatedShapes() {
+        LabelOverlapGrid grid = new LabelOverlapGrid(20.0);
+        Rectangle2D r = new Rectangle2D.Double(0.0, -2.0, 100.0, 4.0);
+        AffineTransform t = AffineTransform.getRotateInstance(Math.PI / 4);
+        Shape s1 = t.createTransformedShape(r);
+        t = AffineTransform.getTranslateInstance(20.0, 0.0);
+        t.rotate(Math.PI / 4);
+        Shape s2 = t.createTransformedShape(r);
+        assertTrue(s1.getBounds2D().intersects(s2.getBounds2D()));
+        assertTrue(grid.add(s1));
+        assertTrue(grid.add(s2));
+        
+        // a horizontal label crossing both
+        assertFalse(grid.add(new Rectangle2D.Double(0.0, 30.0, 100.0, 4.0)));
+    }
+    
+    @Test
+    public void testClear() {
+        LabelOverlapGrid grid = new LabelOverlapGrid(20.0);
+        Rectangle2D r = new Rectangle2D.Double(0.0, 0.0, 50.0, 10.0);
+        assertTrue(grid.add(r));
+        assertFalse(grid.add(r));
+        grid.clear();
+        assertEquals(0, grid.getCount());
+        assertTrue(grid.add(r));
+    }
+    
+}
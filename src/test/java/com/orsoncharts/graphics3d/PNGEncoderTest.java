@@ -0,0 +1,217 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Adler32;
+import javax.imageio.ImageIO;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link PNGEncoder} class.
+ */
+public class PNGEncoderTest {
+    
+    private BufferedImage createImage(int type) {
+        BufferedImage image = new BufferedImage(97, 301, type);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(new GradientPaint(0f, 0f, new Color(255, 0, 0, 40), 97f, 
+                301f, Color.BLUE));
+        g2.fillRect(0, 0, 97, 301);
+        g2.setColor(Color.GREEN);
+        g2.fillOval(10, 20, 60, 200);
+        g2.dispose();
+        return image;
+    }
+    
+    private BufferedImage roundTrip(BufferedImage image, PNGEncoder encoder) 
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encode(image, out);
+        return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+    
+    private void assertSamePixels(BufferedImage expected, 
+            BufferedImage actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int e = expected.getRGB(x, y);
+                if (!expected.getColorModel().hasAlpha()) {
+                    e = e | 0xFF000000;
+                }
+                assertEquals(e, actual.getRGB(x, y));
+            }
+        }
+    }
+    
+    @Test
+    public void testAllFilters() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB);
+        PNGEncoder encoder = new PNGEncoder();
+        for (PNGFilterStrategy strategy : PNGFilterStrategy.values()) {
+            encoder.setFilterStrategy(strategy);
+            assertSamePixels(image, roundTrip(image, encoder));
+        }
+    }
+    
+    @Test
+    public void testImageTypes() throws IOException {
+        PNGEncoder encoder = new PNGEncoder();
+        encoder.setFilterStrategy(PNGFilterStrategy.PAETH);
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_RGB);
+        assertSamePixels(image, roundTrip(image, encoder));
+        image = createImage(BufferedImage.TYPE_3BYTE_BGR);
+        assertSamePixels(image, roundTrip(image, encoder));
+    }
+    
+    @Test
+    public void testParallel() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            PNGEncoder encoder = new PNGEncoder();
+            encoder.setExecutor(executor);
+            encoder.setRowsPerBand(16);
+            encoder.setFilterStrategy(PNGFilterStrategy.ADAPTIVE);
+            BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB);
+            assertSamePixels(image, roundTrip(image, encoder));
+            encoder.setCompressionLevel(0);
+            assertSamePixels(image, roundTrip(image, encoder));
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    /**
+     * An image whose data buffer cannot be accessed, to check that the 
+     * encoder doesn't take the data array (which would stop Java2D from
+     * accelerating the image).
+     */
+    private static class GuardedImage extends BufferedImage {
+        
+        private final WritableRaster guarded;
+        
+        GuardedImage(int width, int height) {
+            super(width, height, BufferedImage.TYPE_INT_ARGB);
+            WritableRaster raster = super.getRaster();
+            this.guarded = new WritableRaster(raster.getSampleModel(), 
+                    raster.getDataBuffer(), new Point(0, 0)) {
+                @Override
+                public DataBuffer getDataBuffer() {
+                    throw new AssertionError("Data buffer accessed.");
+                }
+            };
+        }
+        
+        @Override
+        public WritableRaster getRaster() {
+            return this.guarded;
+        }
+    }
+    
+    @Test
+    public void testDataArrayNotTaken() throws IOException {
+        BufferedImage source = createImage(BufferedImage.TYPE_INT_ARGB);
+        BufferedImage image = new GuardedImage(source.getWidth(), 
+                source.getHeight());
+        int w = source.getWidth();
+        int h = source.getHeight();
+        image.setRGB(0, 0, w, h, source.getRGB(0, 0, w, h, null, 0, w), 0, w);
+        PNGEncoder encoder = new PNGEncoder();
+        assertSamePixels(source, roundTrip(image, encoder));
+    }
+    
+    /**
+     * An image from an {@link ImagePool} can be encoded, released, acquired
+     * again and redrawn, and is encoded correctly each time.
+     */
+    @Test
+    public void testPooledImage() throws IOException {
+        ImagePool pool = new ImagePool(1);
+        PNGEncoder encoder = new PNGEncoder();
+        BufferedImage image = pool.acquire(97, 301, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.drawImage(createImage(BufferedImage.TYPE_INT_ARGB), 0, 0, null);
+        g2.dispose();
+        assertSamePixels(image, roundTrip(image, encoder));
+        pool.release(image);
+        
+        BufferedImage again = pool.acquire(97, 301, 
+                BufferedImage.TYPE_INT_ARGB);
+        assertSame(image, again);
+        assertEquals(0, again.getRGB(50, 150));
+        g2 = again.createGraphics();
+        g2.setColor(Color.ORANGE);
+        g2.fillRect(10, 10, 40, 40);
+        g2.dispose();
+        BufferedImage result = roundTrip(again, encoder);
+        assertSamePixels(again, result);
+        assertEquals(Color.ORANGE.getRGB(), result.getRGB(20, 20));
+        assertEquals(0, result.getRGB(80, 200));
+    }
+    
+    @Test
+    public void testAdler32Combine() {
+        byte[] data = new byte[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 31);
+        }
+        Adler32 all = new Adler32();
+        all.update(data);
+        Adler32 a = new Adler32();
+        a.update(data, 0, 300);
+        Adler32 b = new Adler32();
+        b.update(data, 300, 700);
+        assertEquals(all.getValue(), PNGEncoder.adler32Combine(a.getValue(), 
+                b.getValue(), 700));
+        assertTrue(PNGEncoder.isParallelDeflateAvailable());
+    }
+    
+}
@@ -0,0 +1,101 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.awt.Color;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ShadedColorCache} class.
+ */
+public class ShadedColorCacheTest {
+
+    @Test
+    public void testSameInstanceForSameLevel() {
+        ShadedColorCache cache = new ShadedColorCache();
+        Color c1 = cache.getShadedColor(Color.RED, 0.5);
+        // 0.5001 maps to the same one of the 256 levels
+        Color c2 = cache.getShadedColor(new Color(255, 0, 0), 0.5001);
+        assertSame(c1, c2);
+        assertNotSame(c1, cache.getShadedColor(Color.RED, 0.6));
+        assertNotSame(c1, cache.getShadedColor(Color.BLUE, 0.5));
+    }
+    
+    @Test
+    public void testShadedComponents() {
+        ShadedColorCache cache = new ShadedColorCache();
+        Color c = cache.getShadedColor(new Color(200, 100, 50, 128), 1.0);
+        assertEquals(new Color(200, 100, 50, 128), c);
+        c = cache.getShadedColor(new Color(200, 100, 50, 128), 0.0);
+        assertEquals(new Color(0, 0, 0, 128), c);
+        
+        // the components are within one unit of the exact values
+        c = cache.getShadedColor(new Color(200, 100, 50, 128), 0.3);
+        assertEquals(60, c.getRed(), 1);
+        assertEquals(30, c.getGreen(), 1);
+        assertEquals(15, c.getBlue(), 1);
+        assertEquals(128, c.getAlpha());
+    }
+    
+    @Test
+    public void testShadeIsClipped() {
+        ShadedColorCache cache = new ShadedColorCache(16);
+        assertEquals(Color.RED, cache.getShadedColor(Color.RED, 1.5));
+        assertEquals(Color.BLACK, cache.getShadedColor(Color.RED, -0.5));
+        assertEquals(Color.BLACK, cache.getShadedColor(Color.RED, 
+                Double.NaN));
+    }
+    
+    @Test
+    public void testManyColors() {
+        // more (base color, level) pairs than there are slots
+        ShadedColorCache cache = new ShadedColorCache();
+        for (int i = 0; i < 10000; i++) {
+            Color base = new Color(i * 7919 & 0xFFFFFF);
+            double shade = (i % 100) / 100.0;
+            Color c = cache.getShadedColor(base, shade);
+            assertEquals((int) (base.getGreen() * shade), c.getGreen(), 1);
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooFewLevels() {
+        new ShadedColorCache(1);
+    }
+
+}
@@ -0,0 +1,215 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.orsoncharts.TestUtils;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link StandardLightingModel} class.
+ */
+public class StandardLightingModelTest {
+
+    /**
+     * The default model, working with the cached world space normals, gives
+     * the same shades as the calculation from eye coordinates that it 
+     * replaces.
+     */
+    @Test
+    public void testDefaultMatchesEyeSpaceShading() {
+        World world = new World();
+        world.add(Object3D.createBox(1.0, 2.0, -1.0, 3.0, 0.5, 1.5, 
+                Color.RED));
+        world.add(Object3D.createSphere(2.0, 12, 0.0, 0.0, 0.0, Color.BLUE, 
+                Color.BLUE));
+        StandardLightingModel model = new StandardLightingModel();
+        double[][] angles = {{0.3, 0.2, 0.0}, {2.1, -0.7, 0.4}, 
+                {4.5, 1.1, -2.0}};
+        for (double[] a : angles) {
+            ViewPoint3D vp = new ViewPoint3D(a[0], a[1], 25.0, a[2]);
+            Point3D[] eyePts = world.calculateEyeCoordinates(vp);
+            FaceShader shader = model.createShader(world, vp);
+            for (Face f : world.getFaces()) {
+                double[] p = f.calculateNormal(eyePts);
+                double expected = (p[0] * world.getSunX() 
+                        + p[1] * world.getSunY() 
+                        + p[2] * world.getSunZ() + 1) / 2.0;
+                double[] n = f.getNormal();
+                assertEquals(expected, shader.calculateShade(n[0], n[1], n[2]),
+                        1e-5);
+            }
+        }
+    }
+    
+    @Test
+    public void testLightsAndTerms() {
+        World world = new World();
+        ViewPoint3D vp = new ViewPoint3D(0.3, 0.2, 25.0, 0.0);
+        // a light behind the viewer
+        Light front = new Light(0.0, 0.0, 5.0, 1.0);
+        StandardLightingModel model = new StandardLightingModel(
+                Arrays.asList(front), 0.0, 0.0, 0.0, 20.0);
+        Point3D towardsViewer = eyeToWorld(vp, 0.0, 0.0, 1.0);
+        Point3D away = eyeToWorld(vp, 0.0, 0.0, -1.0);
+        FaceShader shader = model.createShader(world, vp);
+        assertEquals(1.0, shade(shader, towardsViewer), 1e-6);
+        assertEquals(0.0, shade(shader, away), 1e-6);
+        
+        model = new StandardLightingModel(Arrays.asList(front), 0.25, 0.0, 
+                0.0, 20.0);
+        shader = model.createShader(world, vp);
+        assertEquals(0.25, shade(shader, away), 1e-6);
+        
+        // a second light from the back, at half intensity
+        model = new StandardLightingModel(Arrays.asList(front, 
+                new Light(0.0, 0.0, -1.0, 0.5)), 0.25, 0.0, 0.0, 20.0);
+        shader = model.createShader(world, vp);
+        assertEquals(0.75, shade(shader, away), 1e-6);
+        assertEquals(1.0, shade(shader, towardsViewer), 1e-6);
+        
+        // the specular term brightens faces pointing halfway between the 
+        // light and the viewer, but not faces turned away
+        List<Light> side = Arrays.asList(new Light(1.0, 0.0, 1.0, 0.5));
+        model = new StandardLightingModel(side, 0.0, 0.0, 0.0, 20.0);
+        Point3D halfway = eyeToWorld(vp, Math.sin(Math.PI / 8), 0.0, 
+                Math.cos(Math.PI / 8));
+        double diffuseOnly = shade(model.createShader(world, vp), halfway);
+        model = new StandardLightingModel(side, 0.0, 0.0, 0.4, 20.0);
+        shader = model.createShader(world, vp);
+        assertEquals(diffuseOnly + 0.5 * 0.4, shade(shader, halfway), 1e-6);
+        assertEquals(0.0, shade(shader, away), 1e-6);
+    }
+    
+    /**
+     * The model keeps its own copy of the lights.
+     */
+    @Test
+    public void testLightsCopied() {
+        List<Light> lights = new ArrayList<Light>();
+        lights.add(new Light(1.0, 2.0, 3.0, 0.8));
+        StandardLightingModel model = new StandardLightingModel(lights, 0.0, 
+                1.0, 0.0, 20.0);
+        lights.clear();
+        assertEquals(1, model.getLights().size());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testAmbientOutOfRange() {
+        new StandardLightingModel(new ArrayList<Light>(), 1.5, 1.0, 0.0, 
+                20.0);
+    }
+    
+    @Test
+    public void testSmoothNormal() {
+        Object3D obj = new Object3D(Color.RED);
+        obj.addVertex(0.0, 0.0, 0.0);
+        obj.addVertex(1.0, 0.0, 0.0);
+        obj.addVertex(0.0, 1.0, 0.0);
+        obj.addFace(new int[] {0, 1, 2});
+        Face f = obj.getFaces().get(0);
+        assertEquals(1.0, f.getNormal()[2], 1e-9);
+        // the normal is normalised and points to the same side as the face
+        f.setNormal(0.0, -1.0, -1.0);
+        assertEquals(Math.sqrt(0.5), f.getNormal()[1], 1e-9);
+        assertEquals(Math.sqrt(0.5), f.getNormal()[2], 1e-9);
+    }
+    
+    @Test
+    public void testEquals() {
+        StandardLightingModel m1 = new StandardLightingModel();
+        StandardLightingModel m2 = new StandardLightingModel();
+        assertTrue(m1.equals(m2));
+        assertEquals(m1.hashCode(), m2.hashCode());
+        
+        List<Light> lights = Arrays.asList(new Light(1.0, 2.0, 3.0, 0.8));
+        List<Light> none = new ArrayList<Light>();
+        m1 = new StandardLightingModel(lights, 0.0, 1.0, 0.0, 20.0);
+        assertFalse(m1.equals(m2));
+        m2 = new StandardLightingModel(lights, 0.0, 1.0, 0.0, 20.0);
+        assertTrue(m1.equals(m2));
+        assertEquals(m1.hashCode(), m2.hashCode());
+        
+        // each attribute in turn
+        StandardLightingModel[] models = {
+            new StandardLightingModel(none, 0.0, 1.0, 0.0, 20.0), 
+            new StandardLightingModel(lights, 0.1, 1.0, 0.0, 20.0), 
+            new StandardLightingModel(lights, 0.0, 0.5, 0.0, 20.0), 
+            new StandardLightingModel(lights, 0.0, 1.0, 0.3, 20.0), 
+            new StandardLightingModel(lights, 0.0, 1.0, 0.0, 8.0)
+        };
+        for (StandardLightingModel m : models) {
+            assertFalse(m1.equals(m));
+            assertFalse(m1.hashCode() == m.hashCode());
+        }
+    }
+    
+    @Test
+    public void testSerialization() {
+        StandardLightingModel m1 = new StandardLightingModel(
+                Arrays.asList(new Light(1.0, 2.0, 3.0, 0.8)), 0.0, 1.0, 0.3, 
+                20.0);
+        StandardLightingModel m2 = (StandardLightingModel) 
+                TestUtils.serialized(m1);
+        assertEquals(m1, m2);
+    }
+    
+    private static double shade(FaceShader shader, Point3D n) {
+        return shader.calculateShade(n.x, n.y, n.z);
+    }
+    
+    /**
+     * Returns the world direction that the view point maps to the specified
+     * direction in eye coordinates.
+     */
+    private static Point3D eyeToWorld(ViewPoint3D vp, double x, double y, 
+            double z) {
+        Point3D o = vp.worldToEye(Point3D.ORIGIN);
+        Point3D ex = vp.worldToEye(Point3D.UNIT_X);
+        Point3D ey = vp.worldToEye(Point3D.UNIT_Y);
+        Point3D ez = vp.worldToEye(Point3D.UNIT_Z);
+        return new Point3D(
+                (ex.x - o.x) * x + (ex.y - o.y) * y + (ex.z - o.z) * z,
+                (ey.x - o.x) * x + (ey.y - o.y) * y + (ey.z - o.z) * z,
+                (ez.x - o.x) * x + (ez.y - o.y) * y + (ez.z - o.z) * z);
+    }
+
+}
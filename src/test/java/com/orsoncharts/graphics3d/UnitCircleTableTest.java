@@ -0,0 +1,95 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link UnitCircleTable} class.
+ */
+public class UnitCircleTableTest {
+
+    @Test
+    public void testGetInstance() {
+        UnitCircleTable t = UnitCircleTable.getInstance(80);
+        assertSame(t, UnitCircleTable.getInstance(80));
+        assertEquals(80, t.getStepCount());
+        assertEquals(Math.PI / 40, t.getStep(), 1e-12);
+    }
+    
+    @Test
+    public void testValues() {
+        UnitCircleTable t = UnitCircleTable.getInstance(12);
+        for (int k = -30; k <= 30; k++) {
+            assertEquals(Math.cos(k * Math.PI / 6), t.cos(k), 1e-12);
+            assertEquals(Math.sin(k * Math.PI / 6), t.sin(k), 1e-12);
+        }
+    }
+    
+    /**
+     * The arc vertices of a pie segment lie on the table steps, except for
+     * the end points.
+     */
+    @Test
+    public void testPieSegment() {
+        UnitCircleTable t = UnitCircleTable.getInstance(16);
+        double a1 = 0.1;
+        double a2 = 2.2;
+        Object3D segment = Object3D.createPieSegment(1.0, 0.0, 0.0, 0.5, 
+                a1, a2, t, Color.RED);
+        // 2 center vertices, then pairs for a1, steps 1 to 5, and a2
+        assertEquals(2 + 2 * 7, segment.getVertexCount());
+        assertEquals(Math.cos(a1), segment.getVertex(2).getX(), 1e-12);
+        for (int k = 1; k <= 5; k++) {
+            Point3D v = segment.getVertex(2 + 2 * k);
+            assertEquals(t.cos(k), v.getX(), 1e-12);
+            assertEquals(t.sin(k), v.getZ(), 1e-12);
+        }
+        assertEquals(Math.sin(a2), segment.getVertex(14).getZ(), 1e-12);
+        
+        // a step within a quarter step of an end point is skipped
+        segment = Object3D.createPieSegment(1.0, 0.0, 0.0, 0.5, 
+                t.getStep() * 0.9, t.getStep() * 3.1, t, Color.RED);
+        assertEquals(2 + 2 * 3, segment.getVertexCount());
+        for (Face f : segment.getFaces()) {
+            assertTrue(f.getVertexCount() >= 3);
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+
+package com.orsoncharts.legend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.geom.Dimension2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import com.orsoncharts.TestUtils;
+import com.orsoncharts.table.HAlign;
+import com.orsoncharts.util.Orientation;
+
+/**
+ * Tests for the {@link LegendItemListElement} class.
+ */
+public class LegendItemListElementTest {
+    
+    private static final Font FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 10);
+    
+    private static List<LegendItemInfo> createItems(int count) {
+        List<LegendItemInfo> result = new ArrayList<LegendItemInfo>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new StandardLegendItemInfo("S" + i, "Series " + i, 
+                    Color.RED));
+        }
+        return result;
+    }
+    
+    private static LegendItemListElement createElement(int count, 
+            Orientation orientation) {
+        return new LegendItemListElement(createItems(count), 
+                new Rectangle2D.Double(-4, -4, 8, 8), FONT, Color.BLACK, 
+                Color.WHITE, orientation, 2);
+    }
+    
+    @Test
+    public void testEquals() {
+        LegendItemListElement e1 = createElement(3, Orientation.HORIZONTAL);
+        LegendItemListElement e2 = createElement(3, Orientation.HORIZONTAL);
+        assertTrue(e1.equals(e2));
+        assertFalse(e1.equals(null));
+        
+        e1.setRowAlignment(HAlign.LEFT);
+        assertFalse(e1.equals(e2));
+        e2.setRowAlignment(HAlign.LEFT);
+        assertTrue(e1.equals(e2));
+        
+        e1.setMoreItemsPattern("{0} hidden");
+        assertFalse(e1.equals(e2));
+        e2.setMoreItemsPattern("{0} hidden");
+        assertTrue(e1.equals(e2));
+        
+        assertFalse(e1.equals(createElement(4, Orientation.HORIZONTAL)));
+        assertFalse(e1.equals(createElement(3, Orientation.VERTICAL)));
+    }
+    
+    /**
+     * Two equal elements have the same hash code.
+     */
+    @Test
+    public void testHashCode() {
+        LegendItemListElement e1 = createElement(3, Orientation.HORIZONTAL);
+        LegendItemListElement e2 = createElement(3, Orientation.HORIZONTAL);
+        assertTrue(e1.equals(e2));
+        assertEquals(e1.hashCode(), e2.hashCode());
+        
+        e1.setMoreItemsPattern("{0} hidden");
+        e2.setMoreItemsPattern("{0} hidden");
+        assertTrue(e1.equals(e2));
+        assertEquals(e1.hashCode(), e2.hashCode());
+    }
+    
+    @Test
+    public void testSerialization() {
+        LegendItemListElement e1 = createElement(3, Orientation.HORIZONTAL);
+        LegendItemListElement e2 = (LegendItemListElement) 
+                TestUtils.serialized(e1);
+        assertTrue(e1.equals(e2));
+    }
+    
+    /**
+     * When all the items fit, they are all displayed with no summary.
+     */
+    @Test
+    public void testAllItemsFit() {
+        BufferedImage image = new BufferedImage(10, 10, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D bounds = new Rectangle2D.Double(0, 0, 600, 400);
+        LegendItemListElement e = createElement(3, Orientation.HORIZONTAL);
+        assertEquals(3, e.getVisibleItemCount(g2, bounds));
+        assertEquals(3, e.layoutElements(g2, bounds, null).size());
+        e = createElement(3, Orientation.VERTICAL);
+        assertEquals(3, e.getVisibleItemCount(g2, bounds));
+        assertEquals(3, e.layoutElements(g2, bounds, null).size());
+        g2.dispose();
+    }
+    
+    /**
+     * With thousands of items only a few lines are laid out, the last 
+     * position is used for the summary and the element stays within the 
+     * bounds.
+     */
+    @Test
+    public void testManyItems() {
+        BufferedImage image = new BufferedImage(10, 10, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D bounds = new Rectangle2D.Double(0, 0, 600, 400);
+        for (Orientation orientation : Orientation.values()) {
+            LegendItemListElement e = createElement(2000, orientation);
+            int visible = e.getVisibleItemCount(g2, bounds);
+            assertTrue(visible > 0);
+            assertTrue(visible < 2000);
+            List<Rectangle2D> positions = e.layoutElements(g2, bounds, null);
+            assertEquals(visible + 1, positions.size());
+            for (Rectangle2D r : positions) {
+                assertTrue(bounds.contains(r));
+            }
+            Dimension2D size = e.preferredSize(g2, bounds);
+            assertTrue(size.getWidth() <= bounds.getWidth());
+            assertTrue(size.getHeight() <= bounds.getHeight());
+            e.draw(g2, bounds);
+        }
+        g2.dispose();
+    }
+    
+}
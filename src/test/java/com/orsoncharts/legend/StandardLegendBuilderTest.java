@@ -33,12 +33,14 @@
 package com.orsoncharts.legend;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import com.orsoncharts.TestUtils;
 import com.orsoncharts.table.HAlign;
+import com.orsoncharts.table.VAlign;
 
 /**
  * Tests for the {@link StandardLegendBuilder} class.
@@ -74,6 +76,34 @@ public class StandardLegendBuilderTest {
         assertFalse(lb1.equals(lb2));
         lb2.setFooterAlignment(HAlign.CENTER);
         assertTrue(lb1.equals(lb2));
+
+        lb1.setRowAlignment(HAlign.RIGHT);
+        assertFalse(lb1.equals(lb2));
+        lb2.setRowAlignment(HAlign.RIGHT);
+        assertTrue(lb1.equals(lb2));
+
+        lb1.setColumnAlignment(VAlign.BOTTOM);
+        assertFalse(lb1.equals(lb2));
+        lb2.setColumnAlignment(VAlign.BOTTOM);
+        assertTrue(lb1.equals(lb2));
+
+        lb1.setMaxItemLines(2);
+        assertFalse(lb1.equals(lb2));
+        lb2.setMaxItemLines(2);
+        assertTrue(lb1.equals(lb2));
+    }
+    
+    /**
+     * Checks that a clone is equal to the original, and independent of it.
+     */
+    @Test
+    public void testClone() {
+        StandardLegendBuilder lb1 = new StandardLegendBuilder("A", "B");
+        StandardLegendBuilder lb2 = lb1.clone();
+        assertNotSame(lb1, lb2);
+        assertTrue(lb1.equals(lb2));
+        lb1.setHeader("C");
+        assertFalse(lb1.equals(lb2));
     }
     
     /**
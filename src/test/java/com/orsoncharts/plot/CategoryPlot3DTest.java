@@ -32,6 +32,7 @@
 
 package com.orsoncharts.plot;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
@@ -39,12 +40,21 @@ import org.junit.Test;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import com.orsoncharts.axis.StandardCategoryAxis3D;
 import com.orsoncharts.axis.NumberAxis3D;
 import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.graphics3d.World;
+import com.orsoncharts.renderer.category.AbstractCategoryRenderer3D;
 import com.orsoncharts.renderer.category.BarRenderer3D;
+import com.orsoncharts.renderer.category.CategoryRenderer3D;
 import com.orsoncharts.TestUtils;
 import com.orsoncharts.label.StandardCategoryLabelGenerator;
 
@@ -136,6 +146,41 @@ public class CategoryPlot3DTest {
         assertTrue(p1.equals(p2));
     }
 
+    /**
+     * A renderer that implements {@link CategoryRenderer3D} but does not 
+     * extend {@link AbstractCategoryRenderer3D} is called once per item.
+     */
+    @Test
+    public void testComposeWithRendererInterfaceOnly() {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(2.0, "S1", "R1", "C2");
+        dataset.addValue(3.0, "S2", "R1", "C1");
+        final BarRenderer3D delegate = new BarRenderer3D();
+        final List<String> calls = new ArrayList<String>();
+        CategoryRenderer3D renderer = (CategoryRenderer3D) 
+                Proxy.newProxyInstance(
+                CategoryRenderer3D.class.getClassLoader(), 
+                new Class<?>[] { CategoryRenderer3D.class }, 
+                new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) 
+                    throws Throwable {
+                calls.add(method.getName());
+                return method.invoke(delegate, args);
+            }
+        });
+        CategoryPlot3D plot = new CategoryPlot3D(dataset, renderer, 
+                new StandardCategoryAxis3D("Row"), 
+                new StandardCategoryAxis3D("Column"), 
+                new NumberAxis3D("Value"));
+        World world = new World();
+        plot.compose(world, 0.0, 0.0, 0.0);
+        assertEquals(3, world.getObjects().size());
+        assertEquals(4, Collections.frequency(calls, "composeItem"));
+    }
+
     private CategoryPlot3D createCategory3DPlot() {
         CategoryDataset3D dataset = new StandardCategoryDataset3D();
         BarRenderer3D renderer = new BarRenderer3D();
@@ -47,6 +47,7 @@ import com.orsoncharts.data.StandardPieDataset3D;
 import com.orsoncharts.Chart3D;
 import com.orsoncharts.Chart3DFactory;
 import com.orsoncharts.TestUtils;
+import com.orsoncharts.graphics3d.World;
 import com.orsoncharts.label.StandardPieLabelGenerator;
 
 /** 
@@ -166,6 +167,66 @@ public class PiePlot3DTest implements Plot3DChangeListener {
         assertFalse(p1.equals(p2));
         p2.setSegmentCount(123);
         assertTrue(p1.equals(p2));
+        
+        // adaptive segment count
+        p1.setAdaptiveSegmentCount(true);
+        assertFalse(p1.equals(p2));
+        p2.setAdaptiveSegmentCount(true);
+        assertTrue(p1.equals(p2));
+    }
+    
+    @Test
+    public void testCalculateSegmentCount() {
+        assertEquals(8, PiePlot3D.calculateSegmentCount(0.0));
+        assertEquals(8, PiePlot3D.calculateSegmentCount(Double.NaN));
+        assertEquals(8, PiePlot3D.calculateSegmentCount(5.0));
+        assertEquals(256, PiePlot3D.calculateSegmentCount(1.0E6));
+        int last = 0;
+        for (double r = 1.0; r < 20000.0; r *= 1.5) {
+            int count = PiePlot3D.calculateSegmentCount(r);
+            assertTrue(count >= last);
+            // the chord error stays within half a pixel (until the cap)
+            if (count < 256) {
+                double sagitta = r * (1.0 - Math.cos(Math.PI / count / 2.0));
+                assertTrue(sagitta <= 0.5);
+            }
+            last = count;
+        }
+    }
+    
+    @Test
+    public void testComposeWithSegmentCount() {
+        PiePlot3D plot = createPiePlot3D();
+        int fixed = composedFaceCount(plot, 0);
+        
+        // the flag is applied by the chart, the plot's own compose method
+        // always uses the segment count attribute
+        plot.setAdaptiveSegmentCount(true);
+        assertEquals(fixed, composedFaceCount(plot, 0));
+        
+        int small = composedFaceCount(plot, 8);
+        int large = composedFaceCount(plot, 256);
+        assertTrue(small < fixed);
+        assertTrue(fixed < large);
+    }
+    
+    /**
+     * Composes the plot and returns the number of faces.
+     * 
+     * @param plot  the plot.
+     * @param segmentCount  the segment count (zero for the plot's own 
+     *     count).
+     * 
+     * @return The face count.
+     */
+    private int composedFaceCount(PiePlot3D plot, int segmentCount) {
+        World world = new World();
+        if (segmentCount > 0) {
+            plot.compose(world, 0.0, 0.0, 0.0, segmentCount);
+        } else {
+            plot.compose(world, 0.0, 0.0, 0.0);
+        }
+        return world.getFaces().size();
     }
     
     /**
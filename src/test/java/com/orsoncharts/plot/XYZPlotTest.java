@@ -44,13 +44,19 @@ import org.junit.Test;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import com.orsoncharts.axis.NumberAxis3D;
 import com.orsoncharts.Range;
 import com.orsoncharts.TestUtils;
 import com.orsoncharts.axis.ValueAxis3D;
 import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.data.xyz.XYZSeriesCollection;
 import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.World;
 import com.orsoncharts.label.StandardXYZLabelGenerator;
 import com.orsoncharts.renderer.xyz.ScatterXYZRenderer;
 import com.orsoncharts.renderer.xyz.XYZRenderer;
@@ -170,6 +176,51 @@ public class XYZPlotTest implements Plot3DChangeListener {
         assertTrue(p1.equals(p2));
     }
     
+    /**
+     * Composing with an executor gives the same world as composing on the 
+     * calling thread.
+     */
+    @Test
+    public void testComposeInParallel() {
+        XYZPlot plot = createXYZPlot();
+        XYZSeriesCollection<String> dataset 
+                = new XYZSeriesCollection<String>();
+        for (int s = 0; s < 3; s++) {
+            XYZSeries<String> series = new XYZSeries<String>("S" + s);
+            for (int i = 0; i < 10000; i++) {
+                series.add(i % 11, (i * 7) % 13 - 1, s + (i % 5) * 0.5);
+            }
+            dataset.add(series);
+        }
+        plot.setDataset(dataset);
+        World expected = new World();
+        plot.compose(expected, -1.0, -2.0, -3.0);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            plot.setComposeExecutor(executor);
+            World actual = new World();
+            plot.compose(actual, -1.0, -2.0, -3.0);
+            List<Object3D> expectedObjs = expected.getObjects();
+            List<Object3D> actualObjs = actual.getObjects();
+            assertTrue(expectedObjs.size() > 0);
+            assertEquals(expectedObjs.size(), actualObjs.size());
+            for (int i = 0; i < expectedObjs.size(); i++) {
+                Object3D e = expectedObjs.get(i);
+                Object3D a = actualObjs.get(i);
+                assertEquals(e.getProperty(Object3D.ITEM_KEY), 
+                        a.getProperty(Object3D.ITEM_KEY));
+                assertEquals(e.getFaceCount(), a.getFaceCount());
+                assertEquals(e.getVertexCount(), a.getVertexCount());
+                for (int v = 0; v < e.getVertexCount(); v++) {
+                    assertEquals(e.getVertex(v), a.getVertex(v));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
     /**
      * Returns a new dataset.
      * 
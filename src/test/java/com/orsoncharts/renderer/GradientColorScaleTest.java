@@ -54,6 +54,22 @@ public class GradientColorScaleTest {
         assertEquals(Color.RED, gcs.valueToColor(1.0));
     }
     
+    @Test
+    public void testValueToARGB() {
+        GradientColorScale gcs = new GradientColorScale(new Range(0.0, 1.0), 
+                Color.YELLOW, Color.RED);
+        assertEquals(Color.YELLOW.getRGB(), gcs.valueToARGB(-1.0));
+        assertEquals(Color.YELLOW.getRGB(), gcs.valueToARGB(Double.NaN));
+        assertEquals(Color.RED.getRGB(), gcs.valueToARGB(2.0));
+        for (double v = 0.0; v <= 1.0; v += 0.01) {
+            assertEquals(gcs.valueToColor(v).getRGB(), gcs.valueToARGB(v));
+        }
+        // the samples are fixed, not dependent on the first value looked up
+        GradientColorScale gcs2 = new GradientColorScale(new Range(0.0, 1.0),
+                Color.YELLOW, Color.RED);
+        assertEquals(gcs2.valueToColor(0.5), gcs.valueToColor(0.501));
+    }
+    
     @Test
     public void testEquals() {
         GradientColorScale gcs1 = new GradientColorScale(new Range(0.0, 1.0), 
@@ -32,10 +32,12 @@
 
 package com.orsoncharts.renderer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
+import java.awt.Color;
 import com.orsoncharts.Range;
 import com.orsoncharts.TestUtils;
 
@@ -53,6 +55,21 @@ public class RainbowScaleTest {
         
     }    
     
+    @Test
+    public void testValueToARGB() {
+        RainbowScale rs = new RainbowScale(new Range(5.0, 10.0));
+        assertEquals(rs.valueToColor(5.0).getRGB(), rs.valueToARGB(4.0));
+        assertEquals(rs.valueToColor(10.0).getRGB(), rs.valueToARGB(11.0));
+        for (double v = 5.0; v <= 10.0; v += 0.05) {
+            assertEquals(rs.valueToColor(v).getRGB(), rs.valueToARGB(v));
+        }
+        // blue at the low end, red at the high end
+        Color low = new Color(rs.valueToARGB(5.0), true);
+        assertEquals(255, low.getBlue());
+        assertEquals(0, low.getGreen());
+        assertEquals(Color.RED.getRGB(), rs.valueToARGB(10.0));
+    }
+    
     @Test
     public void testSerialization() {
         RainbowScale rs1 = new RainbowScale(new Range(5.0, 10.0));
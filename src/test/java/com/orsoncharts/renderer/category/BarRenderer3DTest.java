@@ -32,11 +32,17 @@
 
 package com.orsoncharts.renderer.category;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 import java.awt.Color;
+import java.util.List;
 import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.category.CategoryDataset3D;
+import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.World;
 
 /**
  * Tests for the {@link BarRenderer3D} class.
@@ -100,5 +106,77 @@ public class BarRenderer3DTest {
         BarRenderer3D r2 = (BarRenderer3D) TestUtils.serialized(r1);
         assertTrue(r1.equals(r2));
     }
+    
+    /**
+     * The bulk compose method should give the same result as composing each
+     * item in turn.
+     */
+    @Test
+    public void testComposeAll() {
+        CategoryRendererTestUtils.checkComposeAll(new BarRenderer3D());
+    }
+    
+    /**
+     * Checks the bars created for a small dataset.  The {@code Double.NaN} 
+     * and {@code null} values do not create a bar.
+     */
+    @Test
+    public void testComposeAllSmallDataset() {
+        List<Object3D> objs = CategoryRendererTestUtils.composeAll(
+                CategoryRendererTestUtils.createSmallDataset(), 
+                new BarRenderer3D());
+        assertEquals(4, objs.size());
+        CategoryRendererTestUtils.checkObject(objs.get(0), "S1", "C1", 
+                0.8, 3.2, 0.0, 2.0, 2.75, 7.25);
+        CategoryRendererTestUtils.checkObject(objs.get(1), "S1", "C3", 
+                6.8, 9.2, 0.0, 4.0, 2.75, 7.25);
+        CategoryRendererTestUtils.checkObject(objs.get(2), "S2", "C1", 
+                0.8, 3.2, 0.0, 1.0, 2.75, 7.25);
+        CategoryRendererTestUtils.checkObject(objs.get(3), "S2", "C2", 
+                3.8, 6.2, 0.0, 3.0, 2.75, 7.25);
+    }
+    
+    /**
+     * When a subclass overrides {@code composeItem()}, the bulk compose 
+     * method must call it for every item.
+     */
+    @Test
+    public void testComposeAllWithComposeItemOverride() {
+        final int[] calls = new int[1];
+        BarRenderer3D r = new BarRenderer3D() {
+            @Override
+            public void composeItem(CategoryDataset3D dataset, int series, 
+                    int row, int column, World world, Dimension3D dimensions, 
+                    double xOffset, double yOffset, double zOffset) {
+                calls[0]++;
+            }
+        };
+        List<Object3D> objs = CategoryRendererTestUtils.composeAll(
+                CategoryRendererTestUtils.createSmallDataset(), r);
+        assertEquals(6, calls[0]);
+        assertTrue(objs.isEmpty());
+    }
+    
+    /**
+     * When a subclass overrides the protected {@code composeItem()} method, 
+     * the bulk compose method must call it for every non-missing item.
+     */
+    @Test
+    public void testComposeAllWithProtectedComposeItemOverride() {
+        final int[] calls = new int[1];
+        BarRenderer3D r = new BarRenderer3D() {
+            @Override
+            protected void composeItem(double value, double barBase, 
+                    CategoryDataset3D dataset, int series, int row, 
+                    int column, World world, Dimension3D dimensions, 
+                    double xOffset, double yOffset, double zOffset) {
+                calls[0]++;
+            }
+        };
+        List<Object3D> objs = CategoryRendererTestUtils.composeAll(
+                CategoryRendererTestUtils.createSmallDataset(), r);
+        assertEquals(4, calls[0]);
+        assertTrue(objs.isEmpty());
+    }
 
 }
\ No newline at end of file
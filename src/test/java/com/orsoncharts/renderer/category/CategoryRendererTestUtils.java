@@ -0,0 +1,229 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.renderer.category;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import com.orsoncharts.axis.NumberAxis3D;
+import com.orsoncharts.axis.StandardCategoryAxis3D;
+import com.orsoncharts.data.KeyedValues3DItemKey;
+import com.orsoncharts.data.category.CategoryDataset3D;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.Point3D;
+import com.orsoncharts.graphics3d.World;
+import com.orsoncharts.plot.CategoryPlot3D;
+
+/**
+ * Utility methods for the category renderer tests.
+ */
+public class CategoryRendererTestUtils {
+    
+    /** Tolerance for comparing world coordinates. */
+    static final double EPSILON = 0.0000001;
+    
+    /**
+     * Creates a small dataset with positive, negative, zero and missing 
+     * values.
+     * 
+     * @return The dataset. 
+     */
+    static CategoryDataset3D<String, String, String> createDataset() {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        double[] values = {3.0, -2.0, Double.NaN, 5.0, 0.0, 7.0, 1.0, 
+                Double.NaN, -4.0, 2.0, 6.0, -1.0};
+        int i = 0;
+        for (String series : new String[] {"S1", "S2", "S3"}) {
+            for (String row : new String[] {"R1", "R2"}) {
+                for (String column : new String[] {"C1", "C2", "C3"}) {
+                    double v = values[i++ % values.length];
+                    dataset.addValue(Double.isNaN(v) ? null : v, series, row, 
+                            column);
+                }
+            }
+        }
+        dataset.addValue(null, "S1", "R1", "C4");
+        return dataset;
+    }
+    
+    /**
+     * Creates a dataset with one series, one row and three columns where the
+     * middle value is stored as {@code Double.NaN}, plus a second series 
+     * where the last value is stored as {@code null}:
+     * <pre>
+     *   S1/R1: C1 = 2.0, C2 = NaN, C3 = 4.0
+     *   S2/R1: C1 = 1.0, C2 = 3.0, C3 = null
+     * </pre>
+     * 
+     * @return The dataset. 
+     */
+    static CategoryDataset3D<String, String, String> createSmallDataset() {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        dataset.addValue(2.0, "S1", "R1", "C1");
+        dataset.addValue(Double.NaN, "S1", "R1", "C2");
+        dataset.addValue(4.0, "S1", "R1", "C3");
+        dataset.addValue(1.0, "S2", "R1", "C1");
+        dataset.addValue(3.0, "S2", "R1", "C2");
+        dataset.addValue(null, "S2", "R1", "C3");
+        return dataset;
+    }
+    
+    /**
+     * Creates a plot for the dataset and renderer with fixed dimensions of
+     * 10 x 10 x 10 and a value axis range of 0.0 to 10.0, so that a data 
+     * value maps directly to the same y-coordinate in world units.  With 
+     * three columns, the column centres are at x = 2.0, 5.0 and 8.0.
+     * 
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     * 
+     * @return The plot. 
+     */
+    static CategoryPlot3D createPlot(CategoryDataset3D dataset, 
+            CategoryRenderer3D renderer) {
+        NumberAxis3D valueAxis = new NumberAxis3D("Y");
+        CategoryPlot3D plot = new CategoryPlot3D(dataset, renderer, 
+                new StandardCategoryAxis3D("Row"), 
+                new StandardCategoryAxis3D("Column"), valueAxis);
+        valueAxis.setRange(0.0, 10.0);
+        plot.setDimensions(new Dimension3D(10.0, 10.0, 10.0));
+        return plot;
+    }
+    
+    /**
+     * Composes the dataset with the renderer's {@code composeAll()} method, 
+     * using the plot from {@link #createPlot(CategoryDataset3D, 
+     * CategoryRenderer3D)}.
+     * 
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     * 
+     * @return The objects added to the world.
+     */
+    static List<Object3D> composeAll(CategoryDataset3D dataset, 
+            AbstractCategoryRenderer3D renderer) {
+        CategoryPlot3D plot = createPlot(dataset, renderer);
+        World world = new World();
+        renderer.composeAll(dataset, world, plot.getDimensions(), 0.0, 0.0, 
+                0.0);
+        return world.getObjects();
+    }
+    
+    /**
+     * Checks the item key and the bounds (in world coordinates) of an 
+     * object created by a renderer.
+     * 
+     * @param obj  the object.
+     * @param series  the expected series key.
+     * @param column  the expected column key (the row key is always "R1").
+     * @param xmin  the expected minimum x-coordinate.
+     * @param xmax  the expected maximum x-coordinate.
+     * @param ymin  the expected minimum y-coordinate.
+     * @param ymax  the expected maximum y-coordinate.
+     * @param zmin  the expected minimum z-coordinate.
+     * @param zmax  the expected maximum z-coordinate.
+     */
+    static void checkObject(Object3D obj, String series, String column, 
+            double xmin, double xmax, double ymin, double ymax, double zmin, 
+            double zmax) {
+        assertEquals(new KeyedValues3DItemKey<String, String, String>(series, 
+                "R1", column), obj.getProperty(Object3D.ITEM_KEY));
+        double[] bounds = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (int v = 0; v < obj.getVertexCount(); v++) {
+            Point3D p = obj.getVertex(v);
+            bounds[0] = Math.min(bounds[0], p.getX());
+            bounds[1] = Math.max(bounds[1], p.getX());
+            bounds[2] = Math.min(bounds[2], p.getY());
+            bounds[3] = Math.max(bounds[3], p.getY());
+            bounds[4] = Math.min(bounds[4], p.getZ());
+            bounds[5] = Math.max(bounds[5], p.getZ());
+        }
+        assertEquals(xmin, bounds[0], EPSILON);
+        assertEquals(xmax, bounds[1], EPSILON);
+        assertEquals(ymin, bounds[2], EPSILON);
+        assertEquals(ymax, bounds[3], EPSILON);
+        assertEquals(zmin, bounds[4], EPSILON);
+        assertEquals(zmax, bounds[5], EPSILON);
+    }
+    
+    /**
+     * Checks that composing a dataset with the renderer's 
+     * {@code composeAll()} method gives the same objects as calling 
+     * {@code composeItem()} for each item.
+     * 
+     * @param renderer  the renderer. 
+     */
+    static void checkComposeAll(AbstractCategoryRenderer3D renderer) {
+        CategoryDataset3D<String, String, String> dataset = createDataset();
+        CategoryPlot3D plot = new CategoryPlot3D(dataset, renderer, 
+                new StandardCategoryAxis3D("Row"), 
+                new StandardCategoryAxis3D("Column"), new NumberAxis3D("Y"));
+        Dimension3D dimensions = plot.getDimensions();
+        World expected = new World();
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            for (int r = 0; r < dataset.getRowCount(); r++) {
+                for (int c = 0; c < dataset.getColumnCount(); c++) {
+                    renderer.composeItem(dataset, s, r, c, expected, 
+                            dimensions, -1.0, -2.0, -3.0);
+                }
+            }
+        }
+        World actual = new World();
+        renderer.composeAll(dataset, actual, dimensions, -1.0, -2.0, -3.0);
+        
+        List<Object3D> expectedObjs = expected.getObjects();
+        List<Object3D> actualObjs = actual.getObjects();
+        assertTrue(expectedObjs.size() > 0);
+        assertEquals(expectedObjs.size(), actualObjs.size());
+        for (int i = 0; i < expectedObjs.size(); i++) {
+            Object3D e = expectedObjs.get(i);
+            Object3D a = actualObjs.get(i);
+            assertEquals(e.getProperty(Object3D.ITEM_KEY), 
+                    a.getProperty(Object3D.ITEM_KEY));
+            assertEquals(e.getFaceCount(), a.getFaceCount());
+            assertEquals(e.getVertexCount(), a.getVertexCount());
+            for (int v = 0; v < e.getVertexCount(); v++) {
+                assertEquals(e.getVertex(v), a.getVertex(v));
+            }
+        }
+    }
+
+}
@@ -32,11 +32,17 @@
 
 package com.orsoncharts.renderer.category;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
+import java.util.List;
 import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.category.CategoryDataset3D;
+import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.World;
 import java.awt.Color;
 
 /**
@@ -79,5 +85,57 @@ public class LineRenderer3DTest {
         LineRenderer3D r2 = (LineRenderer3D) TestUtils.serialized(r1);
         assertTrue(r1.equals(r2));
     }
+    
+    /**
+     * The bulk compose method should give the same result as composing each
+     * item in turn.
+     */
+    @Test
+    public void testComposeAll() {
+        CategoryRendererTestUtils.checkComposeAll(new LineRenderer3D());
+    }
+    
+    /**
+     * Checks the objects created for a small dataset.  The 
+     * {@code Double.NaN} value in the first series is treated as missing, so 
+     * its neighbours are drawn as isolated items.  In the second series the 
+     * {@code null} value ends the line at the midpoint between C1 and C2.
+     */
+    @Test
+    public void testComposeAllSmallDataset() {
+        List<Object3D> objs = CategoryRendererTestUtils.composeAll(
+                CategoryRendererTestUtils.createSmallDataset(), 
+                new LineRenderer3D());
+        assertEquals(4, objs.size());
+        CategoryRendererTestUtils.checkObject(objs.get(0), "S1", "C1", 
+                1.625, 2.375, 1.9, 2.1, 4.8, 5.2);
+        CategoryRendererTestUtils.checkObject(objs.get(1), "S1", "C3", 
+                7.625, 8.375, 3.9, 4.1, 4.8, 5.2);
+        CategoryRendererTestUtils.checkObject(objs.get(2), "S2", "C1", 
+                2.0, 3.5, 0.9, 2.1, 4.8, 5.2);
+        CategoryRendererTestUtils.checkObject(objs.get(3), "S2", "C2", 
+                3.5, 5.0, 1.9, 3.1, 4.8, 5.2);
+    }
+    
+    /**
+     * When a subclass overrides {@code composeItem()}, the bulk compose 
+     * method must call it for every item.
+     */
+    @Test
+    public void testComposeAllWithComposeItemOverride() {
+        final int[] calls = new int[1];
+        LineRenderer3D r = new LineRenderer3D() {
+            @Override
+            public void composeItem(CategoryDataset3D dataset, int series, 
+                    int row, int column, World world, Dimension3D dimensions, 
+                    double xOffset, double yOffset, double zOffset) {
+                calls[0]++;
+            }
+        };
+        List<Object3D> objs = CategoryRendererTestUtils.composeAll(
+                CategoryRendererTestUtils.createSmallDataset(), r);
+        assertEquals(6, calls[0]);
+        assertTrue(objs.isEmpty());
+    }
 
 }
\ No newline at end of file
@@ -32,10 +32,16 @@
 
 package com.orsoncharts.renderer.category;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
+import java.util.List;
 import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.category.CategoryDataset3D;
+import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.World;
 
 /**
  * Tests for the {@link StackedBarRenderer3D} class.
@@ -72,5 +78,56 @@ public class StackedBarRenderer3DTest {
                 TestUtils.serialized(r1);
         assertTrue(r1.equals(r2));
     }
+    
+    /**
+     * The bulk compose method should give the same result as composing each
+     * item in turn.
+     */
+    @Test
+    public void testComposeAll() {
+        CategoryRendererTestUtils.checkComposeAll(new StackedBarRenderer3D());
+    }
+    
+    /**
+     * Checks the bars created for a small dataset.  The second series is 
+     * stacked on the first, and the {@code Double.NaN} and {@code null} 
+     * values neither create a bar nor add to the stack.
+     */
+    @Test
+    public void testComposeAllSmallDataset() {
+        List<Object3D> objs = CategoryRendererTestUtils.composeAll(
+                CategoryRendererTestUtils.createSmallDataset(), 
+                new StackedBarRenderer3D());
+        assertEquals(4, objs.size());
+        CategoryRendererTestUtils.checkObject(objs.get(0), "S1", "C1", 
+                0.8, 3.2, 0.0, 2.0, 2.75, 7.25);
+        CategoryRendererTestUtils.checkObject(objs.get(1), "S1", "C3", 
+                6.8, 9.2, 0.0, 4.0, 2.75, 7.25);
+        CategoryRendererTestUtils.checkObject(objs.get(2), "S2", "C1", 
+                0.8, 3.2, 2.0, 3.0, 2.75, 7.25);
+        CategoryRendererTestUtils.checkObject(objs.get(3), "S2", "C2", 
+                3.8, 6.2, 0.0, 3.0, 2.75, 7.25);
+    }
+    
+    /**
+     * When a subclass overrides {@code composeItem()}, the bulk compose 
+     * method must call it for every item.
+     */
+    @Test
+    public void testComposeAllWithComposeItemOverride() {
+        final int[] calls = new int[1];
+        StackedBarRenderer3D r = new StackedBarRenderer3D() {
+            @Override
+            public void composeItem(CategoryDataset3D dataset, int series, 
+                    int row, int column, World world, Dimension3D dimensions, 
+                    double xOffset, double yOffset, double zOffset) {
+                calls[0]++;
+            }
+        };
+        List<Object3D> objs = CategoryRendererTestUtils.composeAll(
+                CategoryRendererTestUtils.createSmallDataset(), r);
+        assertEquals(6, calls[0]);
+        assertTrue(objs.isEmpty());
+    }
 
 }
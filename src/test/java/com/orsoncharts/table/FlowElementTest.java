@@ -42,6 +42,8 @@ import java.awt.Graphics2D;
 import java.awt.Insets;
 import java.awt.Rectangle;
 import java.awt.geom.Dimension2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Map;
 import java.awt.image.BufferedImage;
 
 import com.orsoncharts.TestUtils;
@@ -124,4 +126,58 @@ public class FlowElementTest {
         assertEquals(24.0, dim.getWidth(), EPSILON);
         assertEquals(14.0, dim.getHeight(), EPSILON);
     }
+    /**
+     * A text element that counts the calls to preferredSize().
+     */
+    @SuppressWarnings("serial")
+    static class CountingTextElement extends TextElement {
+        
+        int count;
+        
+        CountingTextElement(String text) {
+            super(text);
+        }
+        
+        @Override
+        public Dimension2D preferredSize(Graphics2D g2, Rectangle2D bounds, 
+                Map<String, Object> constraints) {
+            this.count++;
+            return super.preferredSize(g2, bounds, constraints);
+        }
+    }
+    
+    /**
+     * Sub-elements are not measured again for repeated layout and drawing 
+     * with the same bounds, but are after an attribute changes.
+     */
+    @Test
+    public void testSubElementsMeasuredOnce() {
+        FlowElement fe = new FlowElement(HAlign.LEFT, 2);
+        CountingTextElement e1 = new CountingTextElement("ABC");
+        CountingTextElement e2 = new CountingTextElement("DEF");
+        fe.addElement(e1);
+        fe.addElement(e2);
+        BufferedImage image = new BufferedImage(100, 50, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle bounds = new Rectangle(0, 0, 100, 50);
+        fe.draw(g2, bounds);
+        // measured once for the available bounds and once for the area
+        // that the flow is fitted into
+        int count = e1.count;
+        assertTrue(count <= 2);
+        fe.preferredSize(g2, bounds);
+        fe.layoutElements(g2, bounds, null);
+        fe.draw(g2, bounds);
+        fe.draw(g2, bounds);
+        assertEquals(count, e1.count);
+        assertEquals(count, e2.count);
+        
+        e2.setInsets(new Insets(3, 3, 3, 3));
+        fe.draw(g2, bounds);
+        assertTrue(e1.count > count);
+        assertTrue(e2.count > count);
+        g2.dispose();
+    }
+    
 }
@@ -0,0 +1,91 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+
+package com.orsoncharts.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link TextMetricsCache} class.
+ */
+public class TextMetricsCacheTest {
+    
+    /**
+     * The cached bounds match those calculated from the font metrics.
+     */
+    @Test
+    public void testBoundsMatchFontMetrics() {
+        BufferedImage image = new BufferedImage(10, 10, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Font font = new Font(Font.SANS_SERIF, Font.PLAIN, 14);
+        FontMetrics fm = g2.getFontMetrics(font);
+        Rectangle2D expected = TextUtils.getTextBounds("Label 123", fm);
+        assertEquals(expected, TextUtils.getTextBounds("Label 123", font, g2));
+        // and again, from the cache
+        assertEquals(expected, TextUtils.getTextBounds("Label 123", font, g2));
+        g2.dispose();
+    }
+    
+    /**
+     * Repeated lookups return the same measurements, and the least recently
+     * used entries are discarded when the cache is full.
+     */
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        BufferedImage image = new BufferedImage(10, 10, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Font font = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+        TextMetricsCache cache = new TextMetricsCache(2);
+        TextMetricsCache.TextMetrics a = cache.get("A", font, g2);
+        assertSame(a, cache.get("A", font, g2));
+        cache.get("B", font, g2);
+        cache.get("A", font, g2);
+        cache.get("C", font, g2);  // evicts "B"
+        assertEquals(2, cache.size());
+        assertSame(a, cache.get("A", font, g2));
+        cache.clear();
+        assertEquals(0, cache.size());
+        g2.dispose();
+    }
+    
+}